@@ -68,6 +68,10 @@ public class Arbitraries {
 
 		public abstract StringArbitrary strings();
 
+		public abstract ByteArrayArbitrary byteArrays();
+
+		public abstract ByteBufferArbitrary byteBuffers();
+
 		public abstract CharacterArbitrary chars();
 
 		public abstract <T> Arbitrary<T> defaultFor(Class<T> type, Class<?>[] typeParameters);
@@ -423,6 +427,27 @@ public class Arbitraries {
 		return ArbitrariesFacade.implementation.strings();
 	}
 
+	/**
+	 * Create an arbitrary that generates arrays of bytes.
+	 * Unlike {@code bytes().array(byte[].class)} the bytes are filled in bulk and never boxed.
+	 *
+	 * @return a new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.5")
+	public static ByteArrayArbitrary byteArrays() {
+		return ArbitrariesFacade.implementation.byteArrays();
+	}
+
+	/**
+	 * Create an arbitrary that generates instances of {@linkplain java.nio.ByteBuffer}.
+	 *
+	 * @return a new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.5")
+	public static ByteBufferArbitrary byteBuffers() {
+		return ArbitrariesFacade.implementation.byteBuffers();
+	}
+
 	/**
 	 * Create an arbitrary that generates values of type Character.
 	 *
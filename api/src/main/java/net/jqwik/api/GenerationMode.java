@@ -29,6 +29,20 @@ public enum GenerationMode {
 	 */
 	DATA_DRIVEN,
 
+	/**
+	 * Use randomized value generation but steer it towards samples that reach new parts
+	 * of the code under test: A try that reaches a {@linkplain net.jqwik.api.coverage.Coverage coverage probe}
+	 * which no try has reached before keeps its sample in a corpus. Later tries
+	 * either generate new samples or mutate samples from the corpus.
+	 *
+	 * <p>
+	 * Without any calls to {@linkplain net.jqwik.api.coverage.Coverage#reached(Object)}
+	 * guided generation behaves like {@linkplain #RANDOMIZED}.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.5")
+	GUIDED,
+
 	/**
 	 * Let jqwik choose which generation mode it prefers:
 	 * <ul>
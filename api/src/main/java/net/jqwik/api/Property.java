@@ -38,6 +38,7 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	int PARALLELISM_NOT_SET = 0;
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +93,21 @@ public @interface Property {
 	 */
 	@API(status = EXPERIMENTAL, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The number of workers that run a property's tries concurrently.
+	 * Each worker uses its own random source derived from the property's seed
+	 * so that a run can be reproduced with the same seed and the same parallelism.
+	 * <p>
+	 * Parallel tries are only used with {@linkplain GenerationMode#RANDOMIZED} generation.
+	 * Only use it for properties whose tries are independent of each other;
+	 * e.g. stores with {@code Lifespan.TRY} are shared by all workers.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.tries.parallelism}
+	 * configuration property, which is 1.
+	 *
+	 * @return the number of workers
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.5")
+	int parallelism() default PARALLELISM_NOT_SET;
 }
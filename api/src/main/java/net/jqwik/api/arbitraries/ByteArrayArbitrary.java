@@ -0,0 +1,51 @@
+package net.jqwik.api.arbitraries;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Fluent interface to configure arbitraries that generate arrays of bytes.
+ * Bytes are generated by bulk random fills and are not boxed.
+ */
+@API(status = EXPERIMENTAL, since = "1.5.5")
+public interface ByteArrayArbitrary extends SizableArbitrary<byte[]> {
+
+	/**
+	 * Fix the size to {@code size}.
+	 *
+	 * @param size The size of the generated array
+	 * @return new arbitrary instance
+	 */
+	@Override
+	default ByteArrayArbitrary ofSize(int size) {
+		return ofMinSize(size).ofMaxSize(size);
+	}
+
+	/**
+	 * Set lower size boundary {@code minSize} (included).
+	 *
+	 * @param minSize The minimum size of the generated array
+	 * @return new arbitrary instance
+	 */
+	@Override
+	ByteArrayArbitrary ofMinSize(int minSize);
+
+	/**
+	 * Set upper size boundary {@code maxSize} (included).
+	 *
+	 * @param maxSize The maximum size of the generated array
+	 * @return new arbitrary instance
+	 */
+	@Override
+	ByteArrayArbitrary ofMaxSize(int maxSize);
+
+	/**
+	 * Set random distribution {@code distribution} of size of generated array.
+	 * The distribution's center is the minimum size of the generated array.
+	 */
+	@Override
+	ByteArrayArbitrary withSizeDistribution(RandomDistribution distribution);
+}
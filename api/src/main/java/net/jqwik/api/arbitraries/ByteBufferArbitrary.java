@@ -0,0 +1,61 @@
+package net.jqwik.api.arbitraries;
+
+import java.nio.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Fluent interface to configure arbitraries that generate instances of {@linkplain ByteBuffer}.
+ * Generated buffers are ready to be read, i.e. their position is 0 and their limit is their size.
+ */
+@API(status = EXPERIMENTAL, since = "1.5.5")
+public interface ByteBufferArbitrary extends SizableArbitrary<ByteBuffer> {
+
+	/**
+	 * Fix the size to {@code size}.
+	 *
+	 * @param size The size of the generated buffer
+	 * @return new arbitrary instance
+	 */
+	@Override
+	default ByteBufferArbitrary ofSize(int size) {
+		return ofMinSize(size).ofMaxSize(size);
+	}
+
+	/**
+	 * Set lower size boundary {@code minSize} (included).
+	 *
+	 * @param minSize The minimum size of the generated buffer
+	 * @return new arbitrary instance
+	 */
+	@Override
+	ByteBufferArbitrary ofMinSize(int minSize);
+
+	/**
+	 * Set upper size boundary {@code maxSize} (included).
+	 *
+	 * @param maxSize The maximum size of the generated buffer
+	 * @return new arbitrary instance
+	 */
+	@Override
+	ByteBufferArbitrary ofMaxSize(int maxSize);
+
+	/**
+	 * Set random distribution {@code distribution} of size of generated buffer.
+	 * The distribution's center is the minimum size of the generated buffer.
+	 */
+	@Override
+	ByteBufferArbitrary withSizeDistribution(RandomDistribution distribution);
+
+	/**
+	 * Generate direct buffers, i.e. buffers whose content lives outside of the Java heap.
+	 *
+	 * @return new arbitrary instance
+	 * @see ByteBuffer#allocateDirect(int)
+	 */
+	ByteBufferArbitrary direct();
+}
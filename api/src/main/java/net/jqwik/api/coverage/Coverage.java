@@ -0,0 +1,61 @@
+package net.jqwik.api.coverage;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * This class serves as a container for static methods to report which parts of the code under test
+ * a try has reached. Properties with {@linkplain GenerationMode#GUIDED guided generation}
+ * use this information to steer generation towards samples that reach new parts of the code.
+ *
+ * <p>
+ * Probes can be reached by explicit calls in the code under test or in the property method.
+ * jqwik does not instrument code by itself. A separate instrumenting agent
+ * could call {@linkplain #reached(Object)} for every edge it has counted.
+ * Only probes reached on the thread of a try are taken into account.
+ * </p>
+ *
+ * <p>
+ * Simple example:
+ * </p>
+ *
+ * <pre>
+ * &#064;Property(generation = GenerationMode.GUIDED)
+ * void parseAnything(&#064;ForAll String input) {
+ * 	Parser parser = new Parser(branch -&gt; Coverage.reached(branch));
+ * 	parser.parse(input);
+ * }
+ * </pre>
+ */
+@API(status = EXPERIMENTAL, since = "1.5.5")
+public class Coverage {
+
+	@API(status = INTERNAL)
+	public static abstract class CoverageFacade {
+		private static final CoverageFacade implementation;
+
+		static {
+			implementation = FacadeLoader.load(CoverageFacade.class);
+		}
+
+		public abstract void reached(Object probe);
+	}
+
+	private Coverage() {
+	}
+
+	/**
+	 * Record that the current try has reached a probe.
+	 * Outside of a property method calling this method has no effect.
+	 *
+	 * @param probe Identifies a part of the code under test, e.g. a branch.
+	 *              Probes are compared by equality and should therefore
+	 *              be cheap to compare and to hash, like strings or enum values.
+	 */
+	public static void reached(Object probe) {
+		CoverageFacade.implementation.reached(probe);
+	}
+}
@@ -107,6 +107,16 @@ public interface PropertyAttributes {
 	@API(status = EXPERIMENTAL, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The number of workers to run tries of the property at hand concurrently.
+	 * Only present when set explicitly through {@linkplain Property#parallelism()}
+	 * or {@linkplain #setParallelism(Integer)}.
+	 *
+	 * @return optional number of workers
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.5")
+	Optional<Integer> parallelism();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +135,7 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.5.5")
+	void setParallelism(Integer parallelism);
+
 }
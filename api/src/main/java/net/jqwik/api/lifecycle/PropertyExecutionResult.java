@@ -73,7 +73,8 @@ public interface PropertyExecutionResult {
 	 * The number of tries for which parameters were created
 	 * and the property method run.
 	 *
-	 * @return an number equal to or greater than 0
+	 * @return an number equal to or greater than 0. Saturates at {@code Integer.MAX_VALUE}
+	 * if exhaustive generation runs more tries.
 	 */
 	int countChecks();
 
@@ -81,7 +82,8 @@ public interface PropertyExecutionResult {
 	 * The number of tries for which parameters were created and the property method run
 	 * and which were not aborted, e.g. through a failing assumption.
 	 *
-	 * @return an number equal to or greater than 0
+	 * @return an number equal to or greater than 0. Saturates at {@code Integer.MAX_VALUE}
+	 * if exhaustive generation runs more tries.
 	 */
 	int countTries();
 
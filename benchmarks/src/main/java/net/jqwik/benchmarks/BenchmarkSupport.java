@@ -0,0 +1,37 @@
+package net.jqwik.benchmarks;
+
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.support.descriptor.*;
+
+import net.jqwik.engine.execution.lifecycle.*;
+
+import static org.junit.platform.engine.TestDescriptor.Type.*;
+
+/**
+ * Some generators - e.g. of flat mapped or lazy arbitraries - need a current
+ * test descriptor to memoize their inner generators.
+ */
+class BenchmarkSupport {
+
+	static final long SEED = 42L;
+	static final int GEN_SIZE = 1000;
+
+	private static final TestDescriptor BENCHMARK_DESCRIPTOR = new AbstractTestDescriptor(
+		UniqueId.root("jqwik", "benchmarks"),
+		"Running benchmarks outside jqwik engine"
+	) {
+		@Override
+		public Type getType() {
+			return TEST;
+		}
+	};
+
+	private BenchmarkSupport() {
+	}
+
+	static <T> T inDescriptor(Supplier<T> code) {
+		return CurrentTestDescriptor.runWithDescriptor(BENCHMARK_DESCRIPTOR, code);
+	}
+}
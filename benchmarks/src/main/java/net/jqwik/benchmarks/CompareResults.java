@@ -0,0 +1,151 @@
+package net.jqwik.benchmarks;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Compares two JMH result files in CSV format and reports the relative change of each benchmark.
+ *
+ * <p>
+ * Arguments: {@code <baseline.csv> <results.csv> <report.txt> <threshold percent> <fail on regression>}
+ * </p>
+ */
+public class CompareResults {
+
+	private static final String BENCHMARKS_PACKAGE = CompareResults.class.getPackage().getName() + ".";
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 5) {
+			throw new IllegalArgumentException("Usage: CompareResults <baseline.csv> <results.csv> <report.txt> <threshold> <failOnRegression>");
+		}
+		Path baselinePath = Paths.get(args[0]);
+		Path resultsPath = Paths.get(args[1]);
+		Path reportPath = Paths.get(args[2]);
+		double threshold = Double.parseDouble(args[3]);
+		boolean failOnRegression = Boolean.parseBoolean(args[4]);
+
+		if (!Files.exists(resultsPath)) {
+			throw new IllegalStateException(String.format("No benchmark results in [%s]. Run 'jmh' task first.", resultsPath));
+		}
+		if (!Files.exists(baselinePath)) {
+			System.out.printf("No baseline in [%s]. Run 'jmhBaseline' task to create one.%n", baselinePath);
+			return;
+		}
+
+		Map<String, Score> baseline = readScores(baselinePath);
+		Map<String, Score> results = readScores(resultsPath);
+
+		List<String> lines = new ArrayList<>();
+		int regressions = 0;
+		lines.add(String.format("%-60s %15s %15s %9s", "Benchmark", "Baseline", "Current", "Change"));
+		for (Map.Entry<String, Score> entry : results.entrySet()) {
+			Score current = entry.getValue();
+			Score before = baseline.get(entry.getKey());
+			if (before == null) {
+				lines.add(String.format("%-60s %15s %15.3f %9s", entry.getKey(), "-", current.value, "new"));
+				continue;
+			}
+			double improvement = current.improvementOver(before);
+			String marker = "";
+			if (improvement < -threshold) {
+				regressions++;
+				marker = "  <-- regression";
+			}
+			lines.add(String.format(
+				"%-60s %15.3f %15.3f %+8.1f%%%s",
+				entry.getKey(), before.value, current.value, improvement, marker
+			));
+		}
+		lines.add(String.format("%d regression(s) above %.1f%% (unit: %s)", regressions, threshold, unitsOf(results)));
+
+		lines.forEach(System.out::println);
+		Files.createDirectories(reportPath.toAbsolutePath().getParent());
+		Files.write(reportPath, lines, StandardCharsets.UTF_8);
+
+		if (failOnRegression && regressions > 0) {
+			throw new IllegalStateException(String.format("%d benchmark(s) regressed by more than %.1f%%", regressions, threshold));
+		}
+	}
+
+	private static String unitsOf(Map<String, Score> scores) {
+		Set<String> units = new TreeSet<>();
+		scores.values().forEach(score -> units.add(score.unit));
+		return String.join(", ", units);
+	}
+
+	private static Map<String, Score> readScores(Path csvFile) throws IOException {
+		List<String> lines = Files.readAllLines(csvFile, StandardCharsets.UTF_8);
+		if (lines.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		List<String> header = parseLine(lines.get(0));
+		int benchmarkColumn = header.indexOf("Benchmark");
+		int modeColumn = header.indexOf("Mode");
+		int scoreColumn = header.indexOf("Score");
+		int unitColumn = header.indexOf("Unit");
+
+		Map<String, Score> scores = new LinkedHashMap<>();
+		for (String line : lines.subList(1, lines.size())) {
+			if (line.trim().isEmpty()) {
+				continue;
+			}
+			List<String> values = parseLine(line);
+			StringBuilder key = new StringBuilder(values.get(benchmarkColumn).replace(BENCHMARKS_PACKAGE, ""));
+			for (int i = 0; i < header.size(); i++) {
+				if (header.get(i).startsWith("Param: ")) {
+					key.append(String.format(" [%s=%s]", header.get(i).substring("Param: ".length()), values.get(i)));
+				}
+			}
+			scores.put(key.toString(), new Score(
+				values.get(modeColumn),
+				Double.parseDouble(values.get(scoreColumn)),
+				values.get(unitColumn)
+			));
+		}
+		return scores;
+	}
+
+	private static List<String> parseLine(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		boolean quoted = false;
+		for (char c : line.toCharArray()) {
+			if (c == '"') {
+				quoted = !quoted;
+			} else if (c == ',' && !quoted) {
+				values.add(current.toString());
+				current.setLength(0);
+			} else {
+				current.append(c);
+			}
+		}
+		values.add(current.toString());
+		return values;
+	}
+
+	private static class Score {
+		private final String mode;
+		private final double value;
+		private final String unit;
+
+		private Score(String mode, double value, String unit) {
+			this.mode = mode;
+			this.value = value;
+			this.unit = unit;
+		}
+
+		/**
+		 * @return Positive percentage if this score is better than the other one
+		 */
+		private double improvementOver(Score other) {
+			if (other.value == 0) {
+				return 0;
+			}
+			double change = (value - other.value) / other.value * 100;
+			// Only for throughput a higher score is better. Adding 0.0 avoids reporting -0.0
+			return (mode.equals("thrpt") ? change : -change) + 0.0;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+
+import static net.jqwik.benchmarks.BenchmarkSupport.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EdgeCasesBenchmarks {
+
+	private static final int MAX_EDGE_CASES = 1000;
+
+	private Arbitrary<Integer> integers;
+	private Arbitrary<String> strings;
+	private Arbitrary<List<Integer>> lists;
+	private Arbitrary<String> combined;
+
+	@Setup
+	public void setup() {
+		integers = Arbitraries.integers();
+		strings = Arbitraries.strings().alpha().ofMaxLength(50);
+		lists = Arbitraries.integers().list().ofMaxSize(50);
+		combined = Combinators.combine(integers, strings, lists).as((i, s, l) -> i + s + l.size());
+	}
+
+	@Benchmark
+	public void integerEdgeCases(Blackhole blackhole) {
+		consumeAll(integers.edgeCases(MAX_EDGE_CASES), blackhole);
+	}
+
+	@Benchmark
+	public void stringEdgeCases(Blackhole blackhole) {
+		consumeAll(strings.edgeCases(MAX_EDGE_CASES), blackhole);
+	}
+
+	@Benchmark
+	public void listEdgeCases(Blackhole blackhole) {
+		consumeAll(lists.edgeCases(MAX_EDGE_CASES), blackhole);
+	}
+
+	@Benchmark
+	public void combinedEdgeCases(Blackhole blackhole) {
+		consumeAll(combined.edgeCases(MAX_EDGE_CASES), blackhole);
+	}
+
+	@Benchmark
+	public Integer generatorWithEmbeddedEdgeCases() {
+		return inDescriptor(() -> integers.generatorWithEmbeddedEdgeCases(GEN_SIZE).next(new Random(SEED)).value());
+	}
+
+	private <T> void consumeAll(EdgeCases<T> edgeCases, Blackhole blackhole) {
+		for (Shrinkable<T> edgeCase : edgeCases) {
+			blackhole.consume(edgeCase.value());
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+import static net.jqwik.benchmarks.BenchmarkSupport.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmarks {
+
+	private Random random;
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<String> strings;
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<List<Integer>> uniqueLists;
+	private RandomGenerator<Integer> filtered;
+	private RandomGenerator<List<String>> flatMapped;
+	private RandomGenerator<Integer> lazyOf;
+	private RandomGenerator<Person> typeArbitrary;
+	private RandomGenerator<Person> combined;
+	private Function<String, Integer> function;
+
+	@Setup
+	public void setup() {
+		random = SourceOfRandomness.newRandom(SEED);
+		inDescriptor(() -> {
+			integers = Arbitraries.integers().generator(GEN_SIZE);
+			strings = Arbitraries.strings().alpha().ofMaxLength(50).generator(GEN_SIZE);
+			lists = Arbitraries.integers().list().ofMaxSize(50).generator(GEN_SIZE);
+			uniqueLists = Arbitraries.integers().between(0, 10000).list().ofMaxSize(50).uniqueElements().generator(GEN_SIZE);
+			filtered = Arbitraries.integers().filter(i -> i % 3 == 0).generator(GEN_SIZE);
+			flatMapped = Arbitraries.integers().between(0, 20)
+									.flatMap(size -> Arbitraries.strings().alpha().ofLength(5).list().ofSize(size))
+									.generator(GEN_SIZE);
+			lazyOf = lazyIntegers().generator(GEN_SIZE);
+			typeArbitrary = Arbitraries.forType(Person.class).generator(GEN_SIZE);
+			combined = Combinators.combine(Arbitraries.strings(), Arbitraries.integers())
+								  .as(Person::new)
+								  .generator(GEN_SIZE);
+			Arbitrary<Function<String, Integer>> functions = Functions.function(Function.class).returns(Arbitraries.integers());
+			function = functions.generator(GEN_SIZE).next(random).value();
+			return null;
+		});
+	}
+
+	private Arbitrary<Integer> lazyIntegers() {
+		return Arbitraries.lazyOf(
+			() -> Arbitraries.integers().between(0, 100),
+			() -> lazyIntegers().map(i -> i + 1)
+		);
+	}
+
+	@Benchmark
+	public Integer integers() {
+		return integers.next(random).value();
+	}
+
+	@Benchmark
+	public String strings() {
+		return strings.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> lists() {
+		return lists.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> uniqueLists() {
+		return uniqueLists.next(random).value();
+	}
+
+	@Benchmark
+	public Integer filtered() {
+		return filtered.next(random).value();
+	}
+
+	@Benchmark
+	public List<String> flatMapped() {
+		return inDescriptor(() -> flatMapped.next(random).value());
+	}
+
+	@Benchmark
+	public Integer lazyOf() {
+		return inDescriptor(() -> lazyOf.next(random).value());
+	}
+
+	@Benchmark
+	public Person typeArbitrary() {
+		return inDescriptor(() -> typeArbitrary.next(random).value());
+	}
+
+	@Benchmark
+	public Person combined() {
+		return combined.next(random).value();
+	}
+
+	@Benchmark
+	public Integer functionCall() {
+		return function.apply("a string");
+	}
+
+	public static class Person {
+		private final String name;
+		private final int age;
+
+		public Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import static net.jqwik.benchmarks.BenchmarkSupport.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShrinkingBenchmarks {
+
+	@Param({"10", "100"})
+	public int listSize;
+
+	private Shrinkable<List<Integer>> listShrinkable;
+
+	@Setup
+	public void setup() {
+		Random random = SourceOfRandomness.newRandom(SEED);
+		listShrinkable = inDescriptor(() -> {
+			RandomGenerator<List<Integer>> generator =
+				Arbitraries.integers().between(0, 10000).list().ofSize(listSize).generator(GEN_SIZE);
+			return generator.next(random);
+		});
+	}
+
+	@Benchmark
+	public void shrinkableListCandidates(Blackhole blackhole) {
+		listShrinkable.shrink().limit(1000).forEach(candidate -> blackhole.consume(candidate.value()));
+	}
+
+	@Benchmark
+	public List<Object> propertyShrinkerFullShrinking() {
+		Shrinkable<Object> shrinkable = listShrinkable.asGeneric();
+		FalsifiedSample originalSample = new FalsifiedSampleImpl(
+			Collections.singletonList(shrinkable.value()),
+			Collections.singletonList(shrinkable),
+			Optional.empty()
+		);
+		PropertyShrinker shrinker = new PropertyShrinker(originalSample, ShrinkingMode.FULL, 10, sample -> {}, null);
+		return shrinker.shrink(ShrinkingBenchmarks::sumIsBelow1000).parameters();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static TryExecutionResult sumIsBelow1000(List<Object> parameters) {
+		List<Integer> list = (List<Integer>) parameters.get(0);
+		int sum = list.stream().collect(Collectors.summingInt(i -> i));
+		return sum < 1000 ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+	}
+}
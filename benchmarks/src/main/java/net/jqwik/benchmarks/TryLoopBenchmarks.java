@@ -0,0 +1,120 @@
+package net.jqwik.benchmarks;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.hooks.lifecycle.*;
+import net.jqwik.engine.properties.*;
+
+import static net.jqwik.benchmarks.BenchmarkSupport.*;
+
+/**
+ * Measures the engine's overhead per try for a property whose body does nothing.
+ * Results are reported per single try.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TryLoopBenchmarks {
+
+	private static final int TRIES = 10_000;
+
+	private PropertyMethodDescriptor descriptor;
+	private CheckedProperty property;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		Method propertyMethod = Properties.class.getMethod("emptyProperty", boolean.class);
+		UniqueId uniqueId = UniqueId.root("jqwik", "benchmarks").append("property", propertyMethod.getName());
+		descriptor = new PropertyMethodDescriptor(uniqueId, propertyMethod, Properties.class, configuration());
+
+		PropertyLifecycleContext propertyLifecycleContext = new DefaultPropertyLifecycleContext(
+			descriptor,
+			new Properties(),
+			new NoReporter(),
+			ResolveParameterHook.DO_NOT_RESOLVE
+		);
+		// Every property method has this hook
+		AroundTryHook aroundTry = HookSupport.combineAroundTryHooks(Collections.singletonList(new TryLifecycleMethodsHook()));
+		property = new CheckedPropertyFactory().fromDescriptor(
+			descriptor,
+			propertyLifecycleContext,
+			aroundTry,
+			ResolveParameterHook.DO_NOT_RESOLVE
+		);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRIES)
+	public PropertyCheckResult emptyPropertyPerTry() {
+		return CurrentTestDescriptor.runWithDescriptor(descriptor, () -> property.check(new Reporting[0]));
+	}
+
+	private static PropertyConfiguration configuration() {
+		PropertyAttributes attributes = new DefaultPropertyAttributes(
+			TRIES,
+			null,
+			null,
+			GenerationMode.RANDOMIZED,
+			null,
+			EdgeCasesMode.NONE,
+			null,
+			Long.toString(SEED),
+			null,
+			null
+		);
+		PropertyAttributesDefaults defaults = PropertyAttributesDefaults.with(
+			TRIES,
+			5,
+			AfterFailureMode.RANDOM_SEED,
+			GenerationMode.RANDOMIZED,
+			EdgeCasesMode.NONE,
+			ShrinkingMode.BOUNDED,
+			10,
+			FixedSeedMode.ALLOW,
+			1,
+			1,
+			0,
+			"",
+			60
+		);
+		return new PropertyConfiguration(attributes, defaults, null, null, null, null, null);
+	}
+
+	public static class Properties {
+		public void emptyProperty(@ForAll boolean aBoolean) {
+		}
+	}
+
+	private static class NoReporter implements Reporter {
+		@Override
+		public void publishValue(String key, String value) {
+		}
+
+		@Override
+		public void publishReport(String key, Object object) {
+		}
+
+		@Override
+		public void publishReports(String key, Map<String, Object> objects) {
+		}
+
+		@Override
+		public void publishValueOnFailure(String key, String value) {
+		}
+	}
+}
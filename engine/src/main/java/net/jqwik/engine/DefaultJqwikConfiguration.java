@@ -34,7 +34,12 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
-			properties.fixedSeedMode()
+			properties.fixedSeedMode(),
+			properties.triesParallelism(),
+			properties.shrinkingParallelism(),
+			properties.shrinkingCacheSize(),
+			properties.campaignCheckpointsPath(),
+			properties.campaignCheckpointSeconds()
 		);
 	}
 
@@ -56,6 +61,24 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public int executionParallelism() {
+		if (!properties.executionParallel()) {
+			return 1;
+		}
+		return Math.max(1, properties.executionParallelism());
+	}
+
+	@Override
+	public int arbitrariesCacheSize() {
+		return properties.arbitrariesCacheSize();
+	}
+
+	@Override
+	public boolean filterFailFast() {
+		return properties.filterFailFast();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
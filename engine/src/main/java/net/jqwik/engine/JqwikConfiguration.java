@@ -8,4 +8,22 @@ public interface JqwikConfiguration {
 	boolean useJunitPlatformReporter();
 
 	boolean reportOnlyFailures();
+
+	/**
+	 * Number of properties that can be executed concurrently.
+	 * A value of 1 means sequential execution.
+	 */
+	int executionParallelism();
+
+	/**
+	 * Max number of resolved arbitraries shared between properties.
+	 * A value of 0 switches sharing off.
+	 */
+	int arbitrariesCacheSize();
+
+	/**
+	 * Whether filters that accept almost no generated values fail early
+	 * instead of only failing after too many misses for a single value.
+	 */
+	boolean filterFailFast();
 }
@@ -9,6 +9,7 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.config.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 
 public class JqwikProperties {
 
@@ -45,6 +46,14 @@ public class JqwikProperties {
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final boolean DEFAULT_EXECUTION_PARALLEL = false;
+	private static final int DEFAULT_TRIES_PARALLELISM = 1;
+	private static final int DEFAULT_SHRINKING_PARALLELISM = 1;
+	private static final int DEFAULT_SHRINKING_CACHE_SIZE = 100_000;
+	private static final String DEFAULT_CAMPAIGN_CHECKPOINTS_PATH = "";
+	private static final int DEFAULT_CAMPAIGN_CHECKPOINT_SECONDS = 60;
+	private static final int DEFAULT_ARBITRARIES_CACHE_SIZE = ArbitraryResolutionCache.DEFAULT_MAX_SIZE;
+	private static final boolean DEFAULT_FILTER_FAIL_FAST = false;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -62,6 +71,15 @@ public class JqwikProperties {
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
 	private final FixedSeedMode fixedSeedMode;
+	private final boolean executionParallel;
+	private final int executionParallelism;
+	private final int triesParallelism;
+	private final int shrinkingParallelism;
+	private final int shrinkingCacheSize;
+	private final String campaignCheckpointsPath;
+	private final int campaignCheckpointSeconds;
+	private final int arbitrariesCacheSize;
+	private final boolean filterFailFast;
 
 	public String databasePath() {
 		return databasePath;
@@ -111,6 +129,42 @@ public class JqwikProperties {
 		return fixedSeedMode;
 	}
 
+	public boolean executionParallel() {
+		return executionParallel;
+	}
+
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
+	public int triesParallelism() {
+		return triesParallelism;
+	}
+
+	public int shrinkingParallelism() {
+		return shrinkingParallelism;
+	}
+
+	public int shrinkingCacheSize() {
+		return shrinkingCacheSize;
+	}
+
+	public String campaignCheckpointsPath() {
+		return campaignCheckpointsPath;
+	}
+
+	public int campaignCheckpointSeconds() {
+		return campaignCheckpointSeconds;
+	}
+
+	public int arbitrariesCacheSize() {
+		return arbitrariesCacheSize;
+	}
+
+	public boolean filterFailFast() {
+		return filterFailFast;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
@@ -124,6 +178,15 @@ public class JqwikProperties {
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		executionParallel = parameters.getBoolean("execution.parallel").orElse(DEFAULT_EXECUTION_PARALLEL);
+		executionParallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(Runtime.getRuntime().availableProcessors());
+		triesParallelism = parameters.get("tries.parallelism", Integer::parseInt).orElse(DEFAULT_TRIES_PARALLELISM);
+		shrinkingParallelism = parameters.get("shrinking.parallelism", Integer::parseInt).orElse(DEFAULT_SHRINKING_PARALLELISM);
+		shrinkingCacheSize = parameters.get("shrinking.cache.size", Integer::parseInt).orElse(DEFAULT_SHRINKING_CACHE_SIZE);
+		campaignCheckpointsPath = parameters.get("campaign.checkpoints").orElse(DEFAULT_CAMPAIGN_CHECKPOINTS_PATH);
+		campaignCheckpointSeconds = parameters.get("campaign.checkpoint.seconds", Integer::parseInt).orElse(DEFAULT_CAMPAIGN_CHECKPOINT_SECONDS);
+		arbitrariesCacheSize = parameters.get("arbitraries.cache.size", Integer::parseInt).orElse(DEFAULT_ARBITRARIES_CACHE_SIZE);
+		filterFailFast = parameters.getBoolean("filter.failfast").orElse(DEFAULT_FILTER_FAIL_FAST);
 	}
 
 	static JqwikProperties loadWithBackwardsCompatibility(ConfigurationParameters fromJunit) {
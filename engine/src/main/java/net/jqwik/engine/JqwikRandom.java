@@ -0,0 +1,242 @@
+package net.jqwik.engine;
+
+import java.util.*;
+
+/**
+ * jqwik's source of randomness. It is a faster but not thread safe implementation
+ * of {@linkplain java.util.Random} based on a 64 bit xorshift generator
+ * with a period of 2^64 - 1 and better statistical randomness.
+ *
+ * See for details: https://www.javamex.com/tutorials/random_numbers/xorshift.shtml
+ *
+ * <p>
+ * Methods that generators use a lot - bounded ints, doubles, bytes and gaussians -
+ * are overridden to avoid the overhead of {@linkplain java.util.Random}'s implementations.
+ * In addition there are bounded longs and two ways to derive independent instances
+ * for parallel use: {@linkplain #split()} and {@linkplain #jumped(long)}.
+ * </p>
+ */
+public class JqwikRandom extends Random {
+
+	private static final int STATE_BITS = 64;
+	private static final long[] STEP_MATRIX = stepMatrix();
+
+	private long seed;
+
+	private double nextNextGaussian;
+	private boolean haveNextNextGaussian = false;
+
+	JqwikRandom() {
+		this(System.nanoTime());
+	}
+
+	JqwikRandom(long seed) {
+		// A fixed seed for the superclass avoids its synchronized seed uniquifier
+		super(0L);
+		if (seed == 0L) {
+			throw new IllegalArgumentException("0L is not an allowed seed value");
+		}
+		this.seed = seed;
+	}
+
+	@Override
+	protected int next(int nbits) {
+		long x = nextLong();
+		x &= ((1L << nbits) - 1);
+		return (int) x;
+	}
+
+	/**
+	 * Will never generate 0L
+	 */
+	@Override
+	public long nextLong() {
+		long x = this.seed;
+		x ^= (x << 21);
+		x ^= (x >>> 35);
+		x ^= (x << 4);
+		this.seed = x;
+		return x;
+	}
+
+	/**
+	 * Unbiased bounded int with usually a single multiplication and no division.
+	 *
+	 * See for details: Daniel Lemire, Fast Random Integer Generation in an Interval, 2019
+	 */
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		long product = (nextLong() & 0xFFFFFFFFL) * bound;
+		long low = product & 0xFFFFFFFFL;
+		if (low < bound) {
+			long threshold = (0x100000000L - bound) % bound;
+			while (low < threshold) {
+				product = (nextLong() & 0xFFFFFFFFL) * bound;
+				low = product & 0xFFFFFFFFL;
+			}
+		}
+		return (int) (product >>> 32);
+	}
+
+	/**
+	 * @return an unbiased long value between 0 (inclusive) and {@code bound} (exclusive)
+	 */
+	public long nextLong(long bound) {
+		return nextLong(this, bound);
+	}
+
+	/**
+	 * Bounded long for any implementation of {@linkplain Random}.
+	 *
+	 * @return an unbiased long value between 0 (inclusive) and {@code bound} (exclusive)
+	 */
+	public static long nextLong(Random random, long bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		long mask = bound - 1;
+		if ((bound & mask) == 0L) {
+			return random.nextLong() & mask;
+		}
+		long unsigned = random.nextLong() >>> 1;
+		long result = unsigned % bound;
+		while (unsigned + mask - result < 0L) {
+			unsigned = random.nextLong() >>> 1;
+			result = unsigned % bound;
+		}
+		return result;
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	@Override
+	public float nextFloat() {
+		return (nextLong() >>> 40) * 0x1.0p-24f;
+	}
+
+	@Override
+	public void nextBytes(byte[] bytes) {
+		int i = 0;
+		while (i < bytes.length) {
+			long random = nextLong();
+			for (int n = Math.min(bytes.length - i, Long.BYTES); n-- > 0; random >>>= Byte.SIZE) {
+				bytes[i++] = (byte) random;
+			}
+		}
+	}
+
+	/**
+	 * Same algorithm as {@linkplain Random#nextGaussian()} but not synchronized.
+	 */
+	@Override
+	public double nextGaussian() {
+		if (haveNextNextGaussian) {
+			haveNextNextGaussian = false;
+			return nextNextGaussian;
+		}
+		double v1, v2, s;
+		do {
+			v1 = 2 * nextDouble() - 1;
+			v2 = 2 * nextDouble() - 1;
+			s = v1 * v1 + v2 * v2;
+		} while (s >= 1 || s == 0);
+		double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+		nextNextGaussian = v2 * multiplier;
+		haveNextNextGaussian = true;
+		return v1 * multiplier;
+	}
+
+	/**
+	 * The current state of this instance. An instance created with
+	 * {@linkplain SourceOfRandomness#newRandom(long)} from this state continues this instance's sequence.
+	 */
+	public long state() {
+		return seed;
+	}
+
+	/**
+	 * Create a new instance whose sequence is statistically independent of this one.
+	 * This instance is advanced by one step.
+	 */
+	public JqwikRandom split() {
+		long splitSeed = mix64(nextLong());
+		return new JqwikRandom(splitSeed == 0L ? 0x9E3779B97F4A7C15L : splitSeed);
+	}
+
+	/**
+	 * Create a new instance that starts where this one would be after {@code steps} calls of {@linkplain #nextLong()}.
+	 * Instances jumped by multiples of a large distance produce non overlapping sequences.
+	 * This instance is not changed.
+	 */
+	public JqwikRandom jumped(long steps) {
+		JqwikRandom jumped = new JqwikRandom(seed);
+		jumped.advance(steps);
+		return jumped;
+	}
+
+	/**
+	 * Advance this instance's state by {@code steps} calls of {@linkplain #nextLong()} in O(log(steps)).
+	 */
+	public void advance(long steps) {
+		if (steps < 0) {
+			throw new IllegalArgumentException("steps must not be negative");
+		}
+		long[] power = STEP_MATRIX;
+		long state = seed;
+		while (steps != 0) {
+			if ((steps & 1L) != 0) {
+				state = multiply(power, state);
+			}
+			steps >>>= 1;
+			if (steps != 0) {
+				power = multiply(power, power);
+			}
+		}
+		this.seed = state;
+	}
+
+	// Variant 13 of David Stafford's mixing functions, also used in SplittableRandom
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	// One xorshift step is a linear function over GF(2)^64.
+	// Column i of the matrix is the image of bit i.
+	private static long[] stepMatrix() {
+		long[] columns = new long[STATE_BITS];
+		for (int i = 0; i < STATE_BITS; i++) {
+			long x = 1L << i;
+			x ^= (x << 21);
+			x ^= (x >>> 35);
+			x ^= (x << 4);
+			columns[i] = x;
+		}
+		return columns;
+	}
+
+	private static long multiply(long[] matrix, long vector) {
+		long result = 0L;
+		for (int i = 0; vector != 0; i++, vector >>>= 1) {
+			if ((vector & 1L) != 0) {
+				result ^= matrix[i];
+			}
+		}
+		return result;
+	}
+
+	private static long[] multiply(long[] left, long[] right) {
+		long[] columns = new long[STATE_BITS];
+		for (int i = 0; i < STATE_BITS; i++) {
+			columns[i] = multiply(left, right[i]);
+		}
+		return columns;
+	}
+}
@@ -9,6 +9,7 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -60,14 +61,19 @@ public class JqwikTestEngine implements TestEngine {
 
 	private void executeTests(JqwikEngineDescriptor root, EngineExecutionListener listener) {
 		JqwikConfiguration configuration = root.getConfiguration();
+		ArbitraryResolutionCache.global().resize(configuration.arbitrariesCacheSize());
+		FilterStatistics.failFast(configuration.filterFailFast());
 		try (TestRunRecorder recorder = configuration.testEngineConfiguration().recorder()) {
 			new JqwikExecutor(
 				lifecycleRegistry,
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.executionParallelism()
 			).execute(root, listener);
+		} finally {
+			LOG.fine(() -> ArbitraryResolutionCache.global().toString());
 		}
 	}
 
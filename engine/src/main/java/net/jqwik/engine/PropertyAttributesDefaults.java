@@ -15,10 +15,23 @@ public interface PropertyAttributesDefaults {
 	EdgeCasesMode edgeCases();
 	String stereotype();
 	FixedSeedMode whenFixedSeed();
+	int parallelism();
 
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	int shrinkingParallelism();
+
+	// This is currently a global parameter
+	int shrinkingCacheSize();
+
+	// This is currently a global parameter
+	String campaignCheckpointsPath();
+
+	// This is currently a global parameter
+	int campaignCheckpointSeconds();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -27,7 +40,12 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		int parallelism,
+		int shrinkingParallelism,
+		int shrinkingCacheSize,
+		String campaignCheckpointsPath,
+		int campaignCheckpointSeconds
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -74,6 +92,31 @@ public interface PropertyAttributesDefaults {
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public int parallelism() {
+				return parallelism;
+			}
+
+			@Override
+			public int shrinkingParallelism() {
+				return shrinkingParallelism;
+			}
+
+			@Override
+			public int shrinkingCacheSize() {
+				return shrinkingCacheSize;
+			}
+
+			@Override
+			public String campaignCheckpointsPath() {
+				return campaignCheckpointsPath;
+			}
+
+			@Override
+			public int campaignCheckpointSeconds() {
+				return campaignCheckpointSeconds;
+			}
 		};
 	}
 }
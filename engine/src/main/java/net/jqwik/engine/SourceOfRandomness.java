@@ -13,15 +13,15 @@ public class SourceOfRandomness {
 
 	private static final Supplier<Random> RNG = ThreadLocalRandom::current;
 
-	private static final ThreadLocal<Random> current = ThreadLocal.withInitial(SourceOfRandomness::newRandom);
+	private static final ThreadLocal<JqwikRandom> current = ThreadLocal.withInitial(SourceOfRandomness::newRandom);
 
 	public static String createRandomSeed() {
 		return Long.toString(RNG.get().nextLong());
 	}
 
-	public static Random create(String seed) {
+	public static JqwikRandom create(String seed) {
 		try {
-			Random random = newRandom(Long.parseLong(seed));
+			JqwikRandom random = newRandom(Long.parseLong(seed));
 			current.set(random);
 			return random;
 		} catch (NumberFormatException nfe) {
@@ -29,63 +29,24 @@ public class SourceOfRandomness {
 		}
 	}
 
-	public static Random newRandom() {
-		return new XORShiftRandom();
+	/**
+	 * Continue a sequence of random values from a state that has been taken with {@linkplain JqwikRandom#state()}.
+	 */
+	public static JqwikRandom restore(long state) {
+		JqwikRandom random = newRandom(state);
+		current.set(random);
+		return random;
 	}
 
-	public static Random newRandom(final long seed) {
-		return new XORShiftRandom(seed);
+	public static JqwikRandom newRandom() {
+		return new JqwikRandom();
 	}
 
-	public static Random current() {
-		return current.get();
+	public static JqwikRandom newRandom(final long seed) {
+		return new JqwikRandom(seed);
 	}
 
-	/**
-	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
-	 * It also has a period of 2^n - 1 and better statistical randomness.
-	 *
-	 * See for details: https://www.javamex.com/tutorials/random_numbers/xorshift.shtml
-	 *
-	 * <p>
-	 * For further performance improvements within jqwik, consider to override:
-	 * <ul>
-	 *     <li>nextDouble()</li>
-	 *     <li>nextBytes(int)</li>
-	 * </ul>
-	 */
-	private static class XORShiftRandom extends Random {
-		private long seed;
-
-		private XORShiftRandom() {
-			this(System.nanoTime());
-		}
-
-		private XORShiftRandom(long seed) {
-			if (seed == 0l) {
-				throw new IllegalArgumentException("0L is not an allowed seed value");
-			}
-			this.seed = seed;
-		}
-
-		@Override
-		protected int next(int nbits) {
-			long x = nextLong();
-			x &= ((1L << nbits) - 1);
-			return (int) x;
-		}
-
-		/**
-		 * Will never generate 0L
-		 */
-		@Override
-		public long nextLong() {
-			long x = this.seed;
-			x ^= (x << 21);
-			x ^= (x >>> 35);
-			x ^= (x << 4);
-			this.seed = x;
-			return x;
-		}
+	public static JqwikRandom current() {
+		return current.get();
 	}
 }
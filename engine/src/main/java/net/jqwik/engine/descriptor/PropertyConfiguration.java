@@ -145,7 +145,31 @@ public class PropertyConfiguration {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
 
+	// This is currently a global value and not property specific
+	public int shrinkingParallelism() {
+		return propertyAttributesDefaults.shrinkingParallelism();
+	}
+
+	// This is currently a global value and not property specific
+	public int shrinkingCacheSize() {
+		return propertyAttributesDefaults.shrinkingCacheSize();
+	}
+
+	// This is currently a global value and not property specific
+	public String campaignCheckpointsPath() {
+		return propertyAttributesDefaults.campaignCheckpointsPath();
+	}
+
+	// This is currently a global value and not property specific
+	public int campaignCheckpointSeconds() {
+		return propertyAttributesDefaults.campaignCheckpointSeconds();
+	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
+
+	public int getParallelism() {
+		return propertyAttributes.parallelism().orElse(propertyAttributesDefaults.parallelism());
+	}
 }
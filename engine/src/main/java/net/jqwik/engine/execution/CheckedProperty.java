@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution;
 
+import java.nio.file.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.logging.*;
@@ -11,12 +12,16 @@ import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
 public class CheckedProperty {
 
 	private static final Logger LOG = Logger.getLogger(CheckedProperty.class.getName());
 
+	// Random streams of parallel workers start this many steps apart so that they cannot overlap
+	private static final long WORKER_STREAM_DISTANCE = 1L << 48;
+
 	public final String propertyName;
 	public final TryLifecycleExecutor tryLifecycleExecutor;
 	public final List<MethodParameter> propertyParameters;
@@ -131,48 +136,163 @@ public class CheckedProperty {
 
 		if (configuration.getGenerationMode() == GenerationMode.RANDOMIZED) {
 			ensureValidRandomizedMode();
+		} else if (configuration.getGenerationMode() == GenerationMode.GUIDED) {
+			ensureValidGuidedMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.DATA_DRIVEN) {
 			ensureValidDataDrivenMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
 			ensureValidExhaustiveMode();
-			configuration = configuration.withTries(
-					Math.toIntExact(getOptionalExhaustive().get().maxCount())
-			);
+			// The number of tries only saturates here. Exhaustive generation itself is not limited to int.
+			long maxCount = getOptionalExhaustive().get().maxCount();
+			configuration = configuration.withTries((int) Math.min(maxCount, Integer.MAX_VALUE));
 		} else if (configuration.getGenerationMode() == GenerationMode.AUTO) {
 			configuration = chooseGenerationMode(configuration);
 		}
-		ForAllParametersGenerator shrinkablesGenerator = createShrinkablesGenerator(configuration);
-		ResolvingParametersGenerator parametersGenerator = new ResolvingParametersGenerator(
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> new DefaultTryLifecycleContext(propertyLifecycleContext);
+		if (runTriesInParallel(configuration)) {
+			// Only exhaustive generation can be resumed with parallel tries
+			Campaign campaign = configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE
+									? createCampaign(configuration) : Campaign.NONE;
+			List<ParametersGenerator> parametersGenerators = createParallelParametersGenerators(configuration, campaign);
+			return new GenericProperty(propertyName, configuration, parametersGenerators, tryLifecycleExecutor, tryLifecycleContextSupplier, campaign);
+		}
+		Campaign campaign = createCampaign(configuration);
+		if (campaign.resumeFrom().isPresent() && !fixedSeed().isPresent()) {
+			// Only a random seed is replaced by the seed of the resumed run
+			configuration = configuration.withSeed(campaign.resumeFrom().get().seed());
+		}
+		ForAllParametersGenerator shrinkablesGenerator = createShrinkablesGenerator(configuration, campaign);
+		ResolvingParametersGenerator parametersGenerator = createResolvingParametersGenerator(shrinkablesGenerator);
+		return new GenericProperty(propertyName, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier, campaign);
+	}
+
+	private Campaign createCampaign(PropertyConfiguration configuration) {
+		String checkpointsPath = configuration.campaignCheckpointsPath();
+		if (checkpointsPath == null || checkpointsPath.trim().isEmpty()) {
+			return Campaign.NONE;
+		}
+		GenerationMode generationMode = configuration.getGenerationMode();
+		if (!isRandomized(generationMode) && generationMode != GenerationMode.EXHAUSTIVE) {
+			return Campaign.NONE;
+		}
+		long maxTries = generationMode == GenerationMode.EXHAUSTIVE
+							? getOptionalExhaustive().get().maxCount() : configuration.getTries();
+		if (maxTries <= 1 || replaysFalsifiedSample(configuration) || CurrentTestDescriptor.isEmpty()) {
+			return Campaign.NONE;
+		}
+		return Campaign.create(
+				new CampaignCheckpoints(Paths.get(checkpointsPath)),
+				CurrentTestDescriptor.get().getUniqueId().toString(),
+				propertyName,
+				fixedSeed().orElse(null),
+				generationMode,
+				configuration.getEdgeCasesMode(),
+				maxTries,
+				configuration.campaignCheckpointSeconds()
+		);
+	}
+
+	// A seed is fixed if the user specified it or if the seed of a previous failure is replayed
+	private Optional<String> fixedSeed() {
+		if (!configuration.getSeed().equals(Property.SEED_NOT_SET)) {
+			return Optional.of(configuration.getSeed());
+		}
+		if (configuration.getPreviousSeed() != null && configuration.getAfterFailureMode() != AfterFailureMode.RANDOM_SEED) {
+			return Optional.of(configuration.getPreviousSeed());
+		}
+		return Optional.empty();
+	}
+
+	private boolean replaysFalsifiedSample(PropertyConfiguration configuration) {
+		List<Object> falsifiedSample = configuration.getFalsifiedSample();
+		if (falsifiedSample == null || falsifiedSample.isEmpty()) {
+			return false;
+		}
+		AfterFailureMode afterFailureMode = configuration.getAfterFailureMode();
+		return afterFailureMode == AfterFailureMode.SAMPLE_ONLY || afterFailureMode == AfterFailureMode.SAMPLE_FIRST;
+	}
+
+	private ResolvingParametersGenerator createResolvingParametersGenerator(ForAllParametersGenerator shrinkablesGenerator) {
+		return new ResolvingParametersGenerator(
 				propertyParameters,
 				shrinkablesGenerator,
 				resolveParameterHook,
 				propertyLifecycleContext
 		);
-		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> new DefaultTryLifecycleContext(propertyLifecycleContext);
-		return new GenericProperty(propertyName, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier);
 	}
 
-	private ForAllParametersGenerator createShrinkablesGenerator(PropertyConfiguration configuration) {
+	private boolean runTriesInParallel(PropertyConfiguration configuration) {
+		if (configuration.getParallelism() <= 1 || configuration.getTries() <= 1) {
+			return false;
+		}
+		GenerationMode generationMode = configuration.getGenerationMode();
+		if (!isRandomized(generationMode) && generationMode != GenerationMode.EXHAUSTIVE) {
+			return false;
+		}
+		// Falsified samples from a previous run are always tried sequentially
+		return !replaysFalsifiedSample(configuration);
+	}
+
+	private List<ParametersGenerator> createParallelParametersGenerators(PropertyConfiguration configuration, Campaign campaign) {
+		int parallelism = configuration.getParallelism();
+		if (configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
+			return createParallelExhaustiveParametersGenerators(configuration, parallelism, campaign);
+		}
+		JqwikRandom random = SourceOfRandomness.create(configuration.getSeed());
+		List<ParametersGenerator> generators = new ArrayList<>();
+		for (int partition = 0; partition < parallelism; partition++) {
+			JqwikRandom workerRandom = random.jumped(partition * WORKER_STREAM_DISTANCE);
+			ForAllParametersGenerator shrinkablesGenerator = RandomizedShrinkablesGenerator.forParameters(
+					forAllParameters,
+					arbitraryResolver,
+					workerRandom,
+					configuration.getTries(),
+					configuration.getEdgeCasesMode(),
+					partition,
+					parallelism
+			);
+			if (configuration.getGenerationMode() == GenerationMode.GUIDED) {
+				shrinkablesGenerator = createGuidedShrinkablesGenerator(shrinkablesGenerator, workerRandom);
+			}
+			generators.add(createResolvingParametersGenerator(shrinkablesGenerator));
+		}
+		return generators;
+	}
+
+	private List<ParametersGenerator> createParallelExhaustiveParametersGenerators(
+			PropertyConfiguration configuration,
+			int parallelism,
+			Campaign campaign
+	) {
+		ExhaustiveShrinkablesGenerator exhaustive = createExhaustiveShrinkablesGenerator(configuration, campaign);
+		List<ParametersGenerator> generators = new ArrayList<>();
+		for (int partition = 0; partition < parallelism; partition++) {
+			generators.add(createResolvingParametersGenerator(exhaustive.partition(partition, parallelism)));
+		}
+		return generators;
+	}
+
+	private ForAllParametersGenerator createShrinkablesGenerator(PropertyConfiguration configuration, Campaign campaign) {
 		List<Object> falsifiedSample = configuration.getFalsifiedSample();
 		if (falsifiedSample != null && !falsifiedSample.isEmpty()) {
 			if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_ONLY) {
 				return createSampleOnlyShrinkableGenerator(configuration);
 			} else if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_FIRST) {
 				return createSampleOnlyShrinkableGenerator(configuration)
-							   .andThen(() -> createDefaultShrinkablesGenerator(configuration));
+							   .andThen(() -> createDefaultShrinkablesGenerator(configuration, campaign));
 			}
 		}
-		return createDefaultShrinkablesGenerator(configuration);
+		return createDefaultShrinkablesGenerator(configuration, campaign);
 	}
 
-	private ForAllParametersGenerator createDefaultShrinkablesGenerator(PropertyConfiguration configuration) {
+	private ForAllParametersGenerator createDefaultShrinkablesGenerator(PropertyConfiguration configuration, Campaign campaign) {
 		switch (configuration.getGenerationMode()) {
 			case EXHAUSTIVE:
-				return getOptionalExhaustive().get();
+				return createExhaustiveShrinkablesGenerator(configuration, campaign);
 			case DATA_DRIVEN:
 				return createDataBasedShrinkablesGenerator(configuration);
 			default:
-				return createRandomizedShrinkablesGenerator(configuration);
+				return createRandomizedShrinkablesGenerator(configuration, campaign);
 		}
 	}
 
@@ -182,6 +302,12 @@ public class CheckedProperty {
 		}
 	}
 
+	private void ensureValidGuidedMode() {
+		if (optionalData.isPresent()) {
+			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = GUIDED)");
+		}
+	}
+
 	private void ensureValidExhaustiveMode() {
 		if (optionalData.isPresent()) {
 			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = EXHAUSTIVE)");
@@ -189,6 +315,14 @@ public class CheckedProperty {
 		if (!getOptionalExhaustive().isPresent()) {
 			throw new JqwikException("EXHAUSTIVE generation is not possible. Maybe too many potential examples?");
 		}
+		// Combinations are addressed by a long index which saturates at Long.MAX_VALUE
+		if (getOptionalExhaustive().get().maxCount() == Long.MAX_VALUE) {
+			String message = String.format(
+					"EXHAUSTIVE generation is not possible: More than %s potential examples.",
+					Long.MAX_VALUE
+			);
+			throw new JqwikException(message);
+		}
 	}
 
 	private void ensureValidDataDrivenMode() {
@@ -230,15 +364,38 @@ public class CheckedProperty {
 		return new DataBasedShrinkablesGenerator(forAllParameters, optionalData.get());
 	}
 
-	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
-		Random random = SourceOfRandomness.create(configuration.getSeed());
-		return RandomizedShrinkablesGenerator.forParameters(
+	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration, Campaign campaign) {
+		JqwikRandom random = campaign.resumeFrom()
+									 .map(checkpoint -> SourceOfRandomness.restore(checkpoint.randomState()))
+									 .orElseGet(() -> SourceOfRandomness.create(configuration.getSeed()));
+		RandomizedShrinkablesGenerator generator = RandomizedShrinkablesGenerator.forParameters(
 				forAllParameters,
 				arbitraryResolver,
 				random,
 				configuration.getTries(),
 				configuration.getEdgeCasesMode()
 		);
+		campaign.start(configuration.getSeed(), random, generator);
+		if (configuration.getGenerationMode() == GenerationMode.GUIDED) {
+			// A resumed campaign continues the random sequence but starts with an empty corpus
+			return createGuidedShrinkablesGenerator(generator, random);
+		}
+		return generator;
+	}
+
+	private ExhaustiveShrinkablesGenerator createExhaustiveShrinkablesGenerator(PropertyConfiguration configuration, Campaign campaign) {
+		ExhaustiveShrinkablesGenerator generator = getOptionalExhaustive().get();
+		campaign.start(configuration.getSeed(), generator);
+		return generator;
+	}
+
+	// Mutations draw from a split stream so that they do not shift the values of the randomized generator
+	private ForAllParametersGenerator createGuidedShrinkablesGenerator(ForAllParametersGenerator randomizedGenerator, JqwikRandom random) {
+		return new GuidedShrinkablesGenerator(randomizedGenerator, CoverageProbes::countNewProbesOfCurrentThread, random.split());
+	}
+
+	private static boolean isRandomized(GenerationMode generationMode) {
+		return generationMode == GenerationMode.RANDOMIZED || generationMode == GenerationMode.GUIDED;
 	}
 
 	private ForAllParametersGenerator createSampleOnlyShrinkableGenerator(PropertyConfiguration configuration) {
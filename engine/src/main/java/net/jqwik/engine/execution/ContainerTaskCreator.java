@@ -16,6 +16,17 @@ import net.jqwik.engine.support.*;
 
 class ContainerTaskCreator {
 
+	// The finish task of each container whose prepare task has been created.
+	// Only accessed while tasks are created, which happens in a single thread.
+	private final Map<ExecutionTask, ExecutionTask> finishTasks = new IdentityHashMap<>();
+
+	/**
+	 * The task that is finished only when {@code task} and - for containers - all its descendants are finished.
+	 */
+	private ExecutionTask completionTask(ExecutionTask task) {
+		return finishTasks.getOrDefault(task, task);
+	}
+
 	ExecutionTask createTask(
 		TestDescriptor containerDescriptor,
 		ExecutionTaskCreator childTaskCreator,
@@ -99,11 +110,21 @@ class ContainerTaskCreator {
 		if (childrenTasks.length == 0)
 			pipeline.submit(finishContainerTask, prepareContainerTask);
 		else
-			pipeline.submit(finishContainerTask, childrenTasks);
+			pipeline.submit(finishContainerTask, completionTasks(childrenTasks));
 
+		finishTasks.put(prepareContainerTask, finishContainerTask);
 		return prepareContainerTask;
 	}
 
+	// A nested container is only done when its finish task is done, not already after its prepare task
+	private ExecutionTask[] completionTasks(ExecutionTask[] childrenTasks) {
+		ExecutionTask[] completionTasks = new ExecutionTask[childrenTasks.length];
+		for (int i = 0; i < childrenTasks.length; i++) {
+			completionTasks[i] = completionTask(childrenTasks[i]);
+		}
+		return completionTasks;
+	}
+
 	private ContainerLifecycleContext createLifecycleContext(
 		TestDescriptor containerDescriptor,
 		Reporter reporter,
@@ -17,6 +17,7 @@ public class JqwikExecutor {
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
+	private final int parallelism;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -29,23 +30,42 @@ public class JqwikExecutor {
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
 		boolean reportOnlyFailures
+	) {
+		this(registry, recorder, previousFailedTests, useJunitPlatformReporter, reportOnlyFailures, 1);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		Set<UniqueId> previousFailedTests,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		int parallelism
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.parallelism = parallelism;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		ExecutionPipeline pipeline = createPipeline(recordingListener);
 		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
 		pipeline.submit(mainTask);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
 		pipeline.runToTermination();
 	}
 
+	private ExecutionPipeline createPipeline(PropertyExecutionListener recordingListener) {
+		if (parallelism > 1) {
+			return new ParallelExecutionPipeline(recordingListener, parallelism);
+		}
+		return new ExecutionPipeline(recordingListener);
+	}
+
 	private void letNonSuccessfulTestsExecuteFirst(ExecutionPipeline pipeline) {
 		previousFailedTests.forEach(pipeline::executeFirst);
 	}
@@ -97,9 +97,10 @@ public class PropertyMethodExecutor {
 				methodDescriptor.getConfiguration().getSeed()
 			);
 		}
+		List<FilterStatistics> filterStatistics = FilterStatistics.ofCurrentProperty();
 		StoreRepository.getCurrent().finishProperty(methodDescriptor);
 		StoreRepository.getCurrent().finishScope(methodDescriptor);
-		reportResult(propertyLifecycleContext.reporter(), propertyExecutionResult);
+		reportResult(propertyLifecycleContext.reporter(), propertyExecutionResult, filterStatistics);
 		return propertyExecutionResult;
 	}
 
@@ -127,7 +128,11 @@ public class PropertyMethodExecutor {
 		return property.check(methodDescriptor.getReporting());
 	}
 
-	private void reportResult(Reporter reporter, PropertyExecutionResult executionResult) {
+	private void reportResult(
+		Reporter reporter,
+		PropertyExecutionResult executionResult,
+		List<FilterStatistics> filterStatistics
+	) {
 		if (executionResult.status() == PropertyExecutionResult.Status.SUCCESSFUL && reportOnlyFailures) {
 			return;
 		}
@@ -136,7 +141,8 @@ public class PropertyMethodExecutor {
 			if (isReportWorthy((ExtendedPropertyExecutionResult) executionResult)) {
 				String reportEntry = ExecutionResultReport.from(
 					methodDescriptor,
-					(ExtendedPropertyExecutionResult) executionResult
+					(ExtendedPropertyExecutionResult) executionResult,
+					filterStatistics
 				);
 				reporter.publishValue(methodDescriptor.extendedLabel(), reportEntry);
 			}
@@ -12,6 +12,8 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 	private final List<MethodParameter> propertyParameters;
 	private final ForAllParametersGenerator forAllParametersGenerator;
 	private final ParameterSupplierResolver parameterSupplierResolver;
+	private final boolean[] forAllParameters;
+	private final boolean onlyForAllParameters;
 
 	public ResolvingParametersGenerator(
 		List<MethodParameter> propertyParameters,
@@ -22,6 +24,13 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		this.propertyParameters = propertyParameters;
 		this.forAllParametersGenerator = forAllParametersGenerator;
 		this.parameterSupplierResolver = new ParameterSupplierResolver(resolveParameterHook, propertyLifecycleContext);
+		this.forAllParameters = new boolean[propertyParameters.size()];
+		boolean onlyForAll = true;
+		for (int i = 0; i < forAllParameters.length; i++) {
+			forAllParameters[i] = propertyParameters.get(i).isAnnotated(ForAll.class);
+			onlyForAll &= forAllParameters[i];
+		}
+		this.onlyForAllParameters = onlyForAll;
 	}
 
 	@Override
@@ -31,15 +40,18 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 
 	@Override
 	public List<Shrinkable<Object>> next(TryLifecycleContext tryLifecycleContext) {
-		List<Shrinkable<Object>> next = new ArrayList<>();
-		List<Shrinkable<Object>> forAllShrinkables = new ArrayList<>(forAllParametersGenerator.next());
+		List<Shrinkable<Object>> forAllShrinkables = forAllParametersGenerator.next();
+		if (onlyForAllParameters) {
+			return forAllShrinkables;
+		}
 
-		for (MethodParameter parameter : propertyParameters) {
-			if (parameter.isAnnotated(ForAll.class)) {
-				next.add(forAllShrinkables.get(0));
-				forAllShrinkables.remove(0);
+		List<Shrinkable<Object>> next = new ArrayList<>(forAllParameters.length);
+		int forAllIndex = 0;
+		for (int i = 0; i < forAllParameters.length; i++) {
+			if (forAllParameters[i]) {
+				next.add(forAllShrinkables.get(forAllIndex++));
 			} else {
-				next.add(findResolvableParameter(parameter, tryLifecycleContext));
+				next.add(findResolvableParameter(propertyParameters.get(i), tryLifecycleContext));
 			}
 		}
 
@@ -0,0 +1,53 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Calls the hooks one inside the other in the order given.
+ * The chain is walked by index: each hook gets an executor that
+ * only knows the index of the next hook to call.
+ */
+class CombinedAroundPropertyHook implements AroundPropertyHook {
+
+	private final AroundPropertyHook[] aroundPropertyHooks;
+
+	CombinedAroundPropertyHook(List<AroundPropertyHook> aroundPropertyHooks) {
+		this.aroundPropertyHooks = aroundPropertyHooks.toArray(new AroundPropertyHook[0]);
+	}
+
+	@Override
+	public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) throws Throwable {
+		if (aroundPropertyHooks.length == 0) {
+			return property.execute();
+		}
+		return aroundPropertyHooks[0].aroundProperty(context, new ChainedPropertyExecutor(1, context, property));
+	}
+
+	private class ChainedPropertyExecutor implements PropertyExecutor {
+		private final int nextHookIndex;
+		private final PropertyLifecycleContext context;
+		private final PropertyExecutor property;
+
+		private ChainedPropertyExecutor(int nextHookIndex, PropertyLifecycleContext context, PropertyExecutor property) {
+			this.nextHookIndex = nextHookIndex;
+			this.context = context;
+			this.property = property;
+		}
+
+		@Override
+		public PropertyExecutionResult execute() {
+			if (nextHookIndex == aroundPropertyHooks.length) {
+				return property.execute();
+			}
+			PropertyExecutor innerExecutor = new ChainedPropertyExecutor(nextHookIndex + 1, context, property);
+			try {
+				return aroundPropertyHooks[nextHookIndex].aroundProperty(context, innerExecutor);
+			} catch (Throwable throwable) {
+				return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Calls the hooks one inside the other in the order given.
+ * The chain is walked by index: each hook gets an executor that
+ * only knows the index of the next hook to call.
+ */
+class CombinedAroundTryHook implements AroundTryHook {
+
+	private final AroundTryHook[] aroundTryHooks;
+
+	CombinedAroundTryHook(List<AroundTryHook> aroundTryHooks) {
+		this.aroundTryHooks = aroundTryHooks.toArray(new AroundTryHook[0]);
+	}
+
+	@Override
+	public TryExecutionResult aroundTry(TryLifecycleContext context, TryExecutor aTry, List<Object> parameters) throws Throwable {
+		if (aroundTryHooks.length == 0) {
+			return aTry.execute(parameters);
+		}
+		return aroundTryHooks[0].aroundTry(context, new ChainedTryExecutor(1, context, aTry), parameters);
+	}
+
+	private class ChainedTryExecutor implements TryExecutor {
+		private final int nextHookIndex;
+		private final TryLifecycleContext context;
+		private final TryExecutor aTry;
+
+		private ChainedTryExecutor(int nextHookIndex, TryLifecycleContext context, TryExecutor aTry) {
+			this.nextHookIndex = nextHookIndex;
+			this.context = context;
+			this.aTry = aTry;
+		}
+
+		@Override
+		public TryExecutionResult execute(List<Object> parameters) {
+			if (nextHookIndex == aroundTryHooks.length) {
+				return aTry.execute(parameters);
+			}
+			TryExecutor innerExecutor = new ChainedTryExecutor(nextHookIndex + 1, context, aTry);
+			try {
+				return aroundTryHooks[nextHookIndex].aroundTry(context, innerExecutor, parameters);
+			} catch (Throwable throwable) {
+				return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.facades.*;
+
+/**
+ * A fixed size thread pool whose tasks see the same current test descriptor
+ * and domain context as the thread that submitted them.
+ * Use it for work that is spread across threads within a single property,
+ * e.g. running tries or evaluating shrinking candidates.
+ */
+public class ContextPropagatingThreadPool implements AutoCloseable {
+
+	private final ExecutorService executorService;
+	private final int size;
+
+	public ContextPropagatingThreadPool(String threadNamePrefix, int size) {
+		this.size = size;
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		this.executorService = Executors.newFixedThreadPool(size, runnable -> {
+			Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.getAndIncrement());
+			thread.setContextClassLoader(contextClassLoader);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public <T> Future<T> submit(Supplier<T> task) {
+		TestDescriptor currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		DomainContext currentDomainContext = DomainContextFacadeImpl.getCurrentContext();
+		return executorService.submit(() -> {
+			DomainContextFacadeImpl.setCurrentContext(currentDomainContext);
+			try {
+				if (currentDescriptor == null) {
+					return task.get();
+				}
+				return CurrentTestDescriptor.runWithDescriptor(currentDescriptor, task);
+			} finally {
+				DomainContextFacadeImpl.removeCurrentContext();
+			}
+		});
+	}
+
+	@Override
+	public void close() {
+		executorService.shutdownNow();
+	}
+}
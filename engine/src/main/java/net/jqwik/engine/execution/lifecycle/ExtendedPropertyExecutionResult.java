@@ -13,6 +13,16 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	EdgeCasesExecutionResult edgeCases();
 
+	/**
+	 * Same as {@linkplain #countTries()} but without saturating at {@code Integer.MAX_VALUE}
+	 */
+	long countAllTries();
+
+	/**
+	 * Same as {@linkplain #countChecks()} but without saturating at {@code Integer.MAX_VALUE}
+	 */
+	long countAllChecks();
+
 	class EdgeCasesExecutionResult {
 
 		private final EdgeCasesMode mode;
@@ -6,7 +6,6 @@ import org.junit.platform.engine.support.hierarchical.*;
 import org.opentest4j.*;
 
 import net.jqwik.api.lifecycle.*;
-import net.jqwik.engine.support.*;
 
 public class HookSupport {
 
@@ -14,62 +13,29 @@ public class HookSupport {
 		if (aroundPropertyHooks.isEmpty()) {
 			return AroundPropertyHook.BASE;
 		}
-		aroundPropertyHooks = new ArrayList<>(aroundPropertyHooks);
-		AroundPropertyHook first = aroundPropertyHooks.remove(0);
-		return wrap(first, combineAroundPropertyHooks(aroundPropertyHooks));
-	}
-
-	private static AroundPropertyHook wrap(AroundPropertyHook outer, AroundPropertyHook inner) {
-		return (context, property) -> {
-			PropertyExecutor innerExecutor = () -> {
-				try {
-					return inner.aroundProperty(context, property);
-				} catch (Throwable throwable) {
-					return JqwikExceptionSupport.throwAsUncheckedException(throwable);
-				}
-			};
-			return outer.aroundProperty(context, innerExecutor);
-		};
+		return new CombinedAroundPropertyHook(aroundPropertyHooks);
 	}
 
 	public static AroundTryHook combineAroundTryHooks(List<AroundTryHook> aroundTryHooks) {
 		if (aroundTryHooks.isEmpty()) {
 			return AroundTryHook.BASE;
 		}
-		aroundTryHooks = new ArrayList<>(aroundTryHooks);
-		AroundTryHook first = aroundTryHooks.remove(0);
-		return wrap(first, combineAroundTryHooks(aroundTryHooks));
-	}
-
-	private static AroundTryHook wrap(AroundTryHook outer, AroundTryHook inner) {
-		return (context, aTry, outerParams) -> {
-			TryExecutor innerExecutor = (innerParams) -> {
-				try {
-					return inner.aroundTry(context, aTry, innerParams);
-				} catch (Throwable throwable) {
-					return JqwikExceptionSupport.throwAsUncheckedException(throwable);
-				}
-			};
-			return outer.aroundTry(context, innerExecutor, outerParams);
-		};
+		return new CombinedAroundTryHook(aroundTryHooks);
 	}
 
 	public static SkipExecutionHook combineSkipExecutionHooks(List<SkipExecutionHook> skipExecutionHooks) {
 		if (skipExecutionHooks.isEmpty()) {
 			return SkipExecutionHook.DO_NOT_SKIP;
 		}
-		SkipExecutionHook first = skipExecutionHooks.remove(0);
-		return then(first, combineSkipExecutionHooks(skipExecutionHooks));
-	}
-
-	private static SkipExecutionHook then(SkipExecutionHook first, SkipExecutionHook rest) {
+		List<SkipExecutionHook> hooks = new ArrayList<>(skipExecutionHooks);
 		return descriptor -> {
-			SkipExecutionHook.SkipResult result = first.shouldBeSkipped(descriptor);
-			if (result.isSkipped()) {
-				return result;
-			} else {
-				return rest.shouldBeSkipped(descriptor);
+			for (SkipExecutionHook hook : hooks) {
+				SkipExecutionHook.SkipResult result = hook.shouldBeSkipped(descriptor);
+				if (result.isSkipped()) {
+					return result;
+				}
 			}
+			return SkipExecutionHook.SkipResult.doNotSkip();
 		};
 	}
 
@@ -2,6 +2,8 @@ package net.jqwik.engine.execution.lifecycle;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 import java.util.logging.*;
 import java.util.stream.*;
 
@@ -26,40 +28,78 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 	private final List<HookRegistration> registrations = new ArrayList<>();
 	private final Map<Class<? extends LifecycleHook>, LifecycleHook> instances = new HashMap<>();
 
+	// Combined hooks by descriptor and hook type. Must be cleared whenever a registration is added.
+	private final Map<Tuple.Tuple2<TestDescriptor, Class<?>>, Object> combinedHooks = new ConcurrentHashMap<>();
+	private volatile int registrationsVersion = 0;
+
 	@Override
 	public AroundPropertyHook aroundPropertyHook(PropertyMethodDescriptor propertyMethodDescriptor) {
-		List<AroundPropertyHook> aroundPropertyHooks = findHooks(propertyMethodDescriptor, AroundPropertyHook.class, AroundPropertyHook::compareTo);
-		return HookSupport.combineAroundPropertyHooks(aroundPropertyHooks);
+		return combinedHook(
+			propertyMethodDescriptor,
+			AroundPropertyHook.class,
+			AroundPropertyHook::compareTo,
+			HookSupport::combineAroundPropertyHooks
+		);
 	}
 
 	@Override
 	public AroundTryHook aroundTryHook(PropertyMethodDescriptor propertyMethodDescriptor) {
-		List<AroundTryHook> aroundTryHooks = findHooks(propertyMethodDescriptor, AroundTryHook.class, AroundTryHook::compareTo);
-		return HookSupport.combineAroundTryHooks(aroundTryHooks);
+		return combinedHook(
+			propertyMethodDescriptor,
+			AroundTryHook.class,
+			AroundTryHook::compareTo,
+			HookSupport::combineAroundTryHooks
+		);
 	}
 
 	@Override
 	public BeforeContainerHook beforeContainerHook(TestDescriptor descriptor) {
-		List<BeforeContainerHook> beforeContainerHooks = findHooks(descriptor, BeforeContainerHook.class, BeforeContainerHook::compareTo);
-		return HookSupport.combineBeforeContainerHooks(beforeContainerHooks);
+		return combinedHook(
+			descriptor,
+			BeforeContainerHook.class,
+			BeforeContainerHook::compareTo,
+			HookSupport::combineBeforeContainerHooks
+		);
 	}
 
 	@Override
 	public AfterContainerHook afterContainerHook(TestDescriptor descriptor) {
-		List<AfterContainerHook> afterContainerHooks = findHooks(descriptor, AfterContainerHook.class, AfterContainerHook::compareTo);
-		return HookSupport.combineAfterContainerHooks(afterContainerHooks);
+		return combinedHook(
+			descriptor,
+			AfterContainerHook.class,
+			AfterContainerHook::compareTo,
+			HookSupport::combineAfterContainerHooks
+		);
 	}
 
 	@Override
 	public ResolveParameterHook resolveParameterHook(TestDescriptor descriptor) {
-		List<ResolveParameterHook> resolveParameterHooks = findHooks(descriptor, ResolveParameterHook.class, dontCompare());
-		return HookSupport.combineResolveParameterHooks(resolveParameterHooks);
+		return combinedHook(descriptor, ResolveParameterHook.class, dontCompare(), HookSupport::combineResolveParameterHooks);
 	}
 
 	@Override
 	public SkipExecutionHook skipExecutionHook(TestDescriptor testDescriptor) {
-		List<SkipExecutionHook> skipExecutionHooks = findHooks(testDescriptor, SkipExecutionHook.class, dontCompare());
-		return HookSupport.combineSkipExecutionHooks(skipExecutionHooks);
+		return combinedHook(testDescriptor, SkipExecutionHook.class, dontCompare(), HookSupport::combineSkipExecutionHooks);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends LifecycleHook, C> C combinedHook(
+		TestDescriptor descriptor,
+		Class<T> hookType,
+		Comparator<T> comparator,
+		Function<List<T>, C> combine
+	) {
+		Tuple.Tuple2<TestDescriptor, Class<?>> key = Tuple.of(descriptor, hookType);
+		Object combinedHook = combinedHooks.get(key);
+		if (combinedHook == null) {
+			// Not computeIfAbsent() since hooks' appliesTo() is user code that might register hooks itself
+			int version = registrationsVersion;
+			combinedHook = combine.apply(findHooks(descriptor, hookType, comparator));
+			if (version == registrationsVersion) {
+				combinedHooks.putIfAbsent(key, combinedHook);
+			}
+		}
+		return (C) combinedHook;
 	}
 
 	private <T extends LifecycleHook> List<T> findHooks(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
@@ -102,8 +142,8 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 	private <T extends LifecycleHook> List<Class<T>> findHookClasses(TestDescriptor descriptor, Class<T> hookType) {
 		return registrations
 				   .stream()
-				   .filter(registration -> registration.match(descriptor))
 				   .filter(registration -> registration.match(hookType))
+				   .filter(registration -> registration.match(descriptor))
 				   .map(registration -> (Class<T>) registration.hookClass)
 				   .distinct()
 				   .collect(Collectors.toList());
@@ -129,6 +169,8 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo);
 		if (!registrations.contains(registration)) {
 			registrations.add(registration);
+			registrationsVersion++;
+			combinedHooks.clear();
 		}
 	}
 
@@ -80,6 +80,16 @@ public class PlainExecutionResult implements ExtendedPropertyExecutionResult {
 		return 0;
 	}
 
+	@Override
+	public long countAllChecks() {
+		return 0;
+	}
+
+	@Override
+	public long countAllTries() {
+		return 0;
+	}
+
 	@Override
 	public Optional<FalsifiedSample> originalSample() {
 		return Optional.empty();
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -20,9 +21,9 @@ public class ScopedStore<T> implements Store<T> {
 	private final TestDescriptor scope;
 	private final Supplier<T> initializer;
 
-	private final Set<Consumer<T>> onCloseCallbacks = new HashSet<>();
-	private T value;
-	private boolean initialized = false;
+	private final Set<Consumer<T>> onCloseCallbacks = new CopyOnWriteArraySet<>();
+	private volatile T value;
+	private volatile boolean initialized = false;
 
 	public ScopedStore(Object identifier, Lifespan lifespan, TestDescriptor scope, Supplier<T> initializer) {
 		this.identifier = identifier;
@@ -32,12 +33,18 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized T get() {
-		if (!initialized) {
-			value = initializer.get();
-			initialized = true;
+	public T get() {
+		// Initialized stores are read without locking since they are used in generators' hot path
+		if (initialized) {
+			return value;
+		}
+		synchronized (this) {
+			if (!initialized) {
+				value = initializer.get();
+				initialized = true;
+			}
+			return value;
 		}
-		return value;
 	}
 
 	@Override
@@ -92,7 +99,7 @@ public class ScopedStore<T> implements Store<T> {
 		);
 	}
 
-	public void close() {
+	public synchronized void close() {
 		if (!initialized) {
 			return;
 		}
@@ -1,8 +1,9 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
@@ -10,24 +11,34 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * Stores are indexed by identifier and by scope so that properties and tries can be executed concurrently:
+ * <ul>
+ *     <li>Retrieving a store takes no lock. It looks up the stores with the same identifier
+ *     and walks up from the retriever's scope until it finds one.</li>
+ *     <li>Creating and removing stores only locks the stores with the same identifier.</li>
+ *     <li>Closing and resetting stores happens outside any lock since it may call back into user code.</li>
+ * </ul>
  */
 public class StoreRepository {
 
-	private static StoreRepository current;
+	private static final StoreRepository current = new StoreRepository();
 
 	// I hate this singleton as much as any singleton.
 	// It seems to be necessary for the Store API though :-(
-	public synchronized static StoreRepository getCurrent() {
-		if (current == null) {
-			current = new StoreRepository();
-		}
+	public static StoreRepository getCurrent() {
 		return current;
 	}
 
-	private static class IdentifiedStores extends HashMap<TestDescriptor, ScopedStore<?>> {}
+	private static class IdentifiedStores extends ConcurrentHashMap<TestDescriptor, ScopedStore<?>> {
+		// Set when the last store has been removed. Guarded by this.
+		private boolean retired = false;
+	}
+
+	private final Map<Object, IdentifiedStores> storesByIdentifier = new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, Set<ScopedStore<?>>> storesByScope = new ConcurrentHashMap<>();
 
-	private final Map<Object, IdentifiedStores> storesByIdentifier = new HashMap<>();
+	// Allows finishing a try without looking for stores when there is no try store at all
+	private final AtomicInteger countTryStores = new AtomicInteger(0);
 
 	public <T> ScopedStore<T> create(
 		TestDescriptor scope,
@@ -35,6 +46,31 @@ public class StoreRepository {
 		Lifespan lifespan,
 		Supplier<T> initializer
 	) {
+		checkArguments(scope, identifier, lifespan, initializer);
+		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initializer);
+		return addStore(store, false);
+	}
+
+	/**
+	 * Retrieve the store visible for {@code scope} or create it in {@code scope}.
+	 * Both happen atomically so that concurrently running tries never create the same store twice.
+	 */
+	public <T> ScopedStore<T> getOrCreate(
+		TestDescriptor scope,
+		Object identifier,
+		Lifespan lifespan,
+		Supplier<T> initializer
+	) {
+		Optional<ScopedStore<T>> existingStore = get(scope, identifier);
+		if (existingStore.isPresent()) {
+			return checkLifespan(existingStore.get(), lifespan);
+		}
+		checkArguments(scope, identifier, lifespan, initializer);
+		ScopedStore<T> newStore = new ScopedStore<>(identifier, lifespan, scope, initializer);
+		return checkLifespan(addStore(newStore, true), lifespan);
+	}
+
+	private void checkArguments(TestDescriptor scope, Object identifier, Lifespan lifespan, Supplier<?> initializer) {
 		if (scope == null) {
 			throw new IllegalArgumentException("scope must not be null");
 		}
@@ -47,39 +83,76 @@ public class StoreRepository {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
-		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initializer);
-		addStore(identifier, store);
-		return store;
 	}
 
-	private <T> void addStore(Object identifier, ScopedStore<T> newStore) {
-		IdentifiedStores identifiedStores = storesByIdentifier.computeIfAbsent(newStore.getIdentifier(), ignore -> new IdentifiedStores());
-
-		Optional<ScopedStore<?>> conflictingStore =
-			identifiedStores
-				.values()
-				.stream()
-				.filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
-				.findFirst();
-
-		conflictingStore.ifPresent(existingStore -> {
+	private <T> ScopedStore<T> checkLifespan(ScopedStore<T> store, Lifespan lifespan) {
+		if (!store.lifespan().equals(lifespan)) {
 			String message = String.format(
-				"You cannot create %s with identifier [%s]. It conflicts with existing %s",
-				newStore,
-				identifier.toString(),
-				conflictingStore
+				"Trying to recreate existing store [%s] with different lifespan [%s]",
+				store,
+				lifespan
 			);
 			throw new JqwikException(message);
-		});
+		}
+		return store;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> ScopedStore<T> addStore(ScopedStore<T> newStore, boolean useVisibleStore) {
+		while (true) {
+			IdentifiedStores identifiedStores =
+				storesByIdentifier.computeIfAbsent(newStore.getIdentifier(), ignore -> new IdentifiedStores());
+			synchronized (identifiedStores) {
+				if (identifiedStores.retired) {
+					// All stores were removed concurrently: Start over with a fresh instance
+					continue;
+				}
+				ScopedStore<?> visibleStore = findVisibleStore(identifiedStores, newStore.getScope());
+				if (visibleStore != null && useVisibleStore) {
+					return (ScopedStore<T>) visibleStore;
+				}
+				ScopedStore<?> conflictingStore = visibleStore != null ? visibleStore : findStoreInDescendants(identifiedStores, newStore);
+				if (conflictingStore != null) {
+					String message = String.format(
+						"You cannot create %s with identifier [%s]. It conflicts with existing %s",
+						newStore,
+						newStore.getIdentifier().toString(),
+						conflictingStore
+					);
+					throw new JqwikException(message);
+				}
+				identifiedStores.put(newStore.getScope(), newStore);
+			}
+			storesByScope.computeIfAbsent(newStore.getScope(), ignore -> ConcurrentHashMap.newKeySet()).add(newStore);
+			if (newStore.lifespan() == Lifespan.TRY) {
+				countTryStores.incrementAndGet();
+			}
+			return newStore;
+		}
+	}
 
-		identifiedStores.put(newStore.getScope(), newStore);
-		storesByIdentifier.put(identifier, identifiedStores);
+	private ScopedStore<?> findVisibleStore(IdentifiedStores identifiedStores, TestDescriptor retriever) {
+		TestDescriptor scope = retriever;
+		while (scope != null) {
+			ScopedStore<?> store = identifiedStores.get(scope);
+			if (store != null && store.getScope() == scope) {
+				return store;
+			}
+			scope = scope.getParent().orElse(null);
+		}
+		return null;
 	}
 
-	private <T> boolean isVisibleInAncestorOrDescendant(ScopedStore<T> newStore, ScopedStore<?> store) {
-		return store.isVisibleFor(newStore.getScope()) || newStore.isVisibleFor(store.getScope());
+	private ScopedStore<?> findStoreInDescendants(IdentifiedStores identifiedStores, ScopedStore<?> newStore) {
+		for (ScopedStore<?> store : identifiedStores.values()) {
+			if (newStore.isVisibleFor(store.getScope())) {
+				return store;
+			}
+		}
+		return null;
 	}
 
+	@SuppressWarnings("unchecked")
 	public <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
@@ -88,59 +161,79 @@ public class StoreRepository {
 		IdentifiedStores identifiedStores = storesByIdentifier.get(identifier);
 		if (identifiedStores == null) {
 			return Optional.empty();
-		} else {
-			//noinspection unchecked
-			return identifiedStores.values()
-								   .stream()
-								   .filter(store -> store.isVisibleFor(retriever))
-								   .map(store -> (ScopedStore<T>) store)
-								   .findFirst();
 		}
+		return Optional.ofNullable((ScopedStore<T>) findVisibleStore(identifiedStores, retriever));
 	}
 
 	public void finishScope(TestDescriptor scope) {
-		List<ScopedStore<?>> storesToRemove =
-			streamAllStores()
-				.filter(store -> isStoreIn(store, scope))
-				.collect(Collectors.toList());
-
-		// forEach does not work because map underlying the stream is changed
+		List<ScopedStore<?>> storesToRemove = removeStoresIn(scope);
 		for (ScopedStore<?> store : storesToRemove) {
 			store.close();
-			storesByIdentifier.get(store.getIdentifier()).remove(store.getScope());
 		}
 	}
 
-	private Stream<ScopedStore<?>> streamAllStores() {
-		Collection<IdentifiedStores> values = new ArrayList<>(storesByIdentifier.values());
-		return values
-			.stream()
-			.flatMap(identifiedStores -> new ArrayList<>(identifiedStores.values()).stream());
+	private List<ScopedStore<?>> removeStoresIn(TestDescriptor scope) {
+		List<ScopedStore<?>> removedStores = new ArrayList<>();
+		removeStoresOf(scope, removedStores);
+		for (TestDescriptor descendant : scope.getDescendants()) {
+			removeStoresOf(descendant, removedStores);
+		}
+		return removedStores;
+	}
 
-		// TODO: Above implementation tries to get rid of ConcurrentModificationException
-		//       reported in https://github.com/jlink/jqwik/issues/210.
-		//       Evaluate if it really does.
-		// return storesByIdentifier
-		// 		   .values()
-		// 		   .stream()
-		// 		   .flatMap(identifiedStores -> identifiedStores.values().stream());
+	private void removeStoresOf(TestDescriptor scope, List<ScopedStore<?>> removedStores) {
+		Set<ScopedStore<?>> stores = storesByScope.remove(scope);
+		if (stores == null) {
+			return;
+		}
+		for (ScopedStore<?> store : stores) {
+			removeFromIdentifiedStores(store);
+			if (store.lifespan() == Lifespan.TRY) {
+				countTryStores.decrementAndGet();
+			}
+			removedStores.add(store);
+		}
 	}
 
-	private boolean isStoreIn(ScopedStore<?> store, TestDescriptor scope) {
-		return store.getScope().equals(scope) || scope.getDescendants().contains(store.getScope());
+	private void removeFromIdentifiedStores(ScopedStore<?> store) {
+		IdentifiedStores identifiedStores = storesByIdentifier.get(store.getIdentifier());
+		if (identifiedStores == null) {
+			return;
+		}
+		synchronized (identifiedStores) {
+			identifiedStores.remove(store.getScope(), store);
+			if (identifiedStores.isEmpty()) {
+				identifiedStores.retired = true;
+				storesByIdentifier.remove(store.getIdentifier(), identifiedStores);
+			}
+		}
 	}
 
 	public void finishProperty(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		visibleStores(scope, Lifespan.PROPERTY).forEach(Store::reset);
 	}
 
 	public void finishTry(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		if (countTryStores.get() == 0) {
+			return;
+		}
+		visibleStores(scope, Lifespan.TRY).forEach(Store::reset);
+	}
+
+	private List<ScopedStore<?>> visibleStores(TestDescriptor retriever, Lifespan lifespan) {
+		List<ScopedStore<?>> visibleStores = new ArrayList<>();
+		TestDescriptor scope = retriever;
+		while (scope != null) {
+			Set<ScopedStore<?>> stores = storesByScope.get(scope);
+			if (stores != null) {
+				for (ScopedStore<?> store : stores) {
+					if (store.lifespan() == lifespan && store.isVisibleFor(retriever)) {
+						visibleStores.add(store);
+					}
+				}
+			}
+			scope = scope.getParent().orElse(null);
+		}
+		return visibleStores;
 	}
 }
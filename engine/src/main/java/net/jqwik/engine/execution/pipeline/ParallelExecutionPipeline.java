@@ -0,0 +1,196 @@
+package net.jqwik.engine.execution.pipeline;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Runs independent tasks concurrently on a work stealing pool.
+ *
+ * <p>
+ * A task is only started when all its predecessors have finished.
+ * Tasks that are ready to run are started in queue order,
+ * so that tasks moved to the top with {@linkplain #executeFirst(List)}
+ * - and their predecessors - are started before all others.
+ * </p>
+ *
+ * <p>
+ * In contrast to {@linkplain ExecutionPipeline} a task's predecessor result
+ * is the combined result of its own predecessors and not the result
+ * of whatever task was run just before.
+ * </p>
+ */
+public class ParallelExecutionPipeline extends ExecutionPipeline {
+
+	private final int parallelism;
+
+	public ParallelExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
+		super(executionListener);
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be at least 1");
+		}
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public void runToTermination() {
+		if (tasks.isEmpty()) {
+			return;
+		}
+		for (ExecutionTask task : tasks) {
+			ensurePredecessorsSubmitted(task, taskPredecessors.get(task));
+		}
+		ExecutorService executorService = createWorkStealingPool();
+		try {
+			new Run(executorService).runAll();
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private ExecutorService createWorkStealingPool() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("jqwik-worker-" + thread.getPoolIndex());
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		};
+		return new ForkJoinPool(parallelism, threadFactory, null, true);
+	}
+
+	private static class Finished {
+		private final ExecutionTask task;
+		private final TaskExecutionResult result;
+		private final Throwable throwable;
+
+		private Finished(ExecutionTask task, TaskExecutionResult result, Throwable throwable) {
+			this.task = task;
+			this.result = result;
+			this.throwable = throwable;
+		}
+	}
+
+	private class Run {
+		private final ExecutorService executorService;
+		private final Map<ExecutionTask, Integer> priorities = new IdentityHashMap<>();
+		private final Map<ExecutionTask, Integer> openPredecessors = new IdentityHashMap<>();
+		private final Map<ExecutionTask, List<ExecutionTask>> successors = new IdentityHashMap<>();
+		private final Map<ExecutionTask, TaskExecutionResult> results = new IdentityHashMap<>();
+		private final PriorityQueue<ExecutionTask> readyTasks = new PriorityQueue<>(Comparator.comparing(priorities::get));
+		private final BlockingQueue<Finished> finishedTasks = new LinkedBlockingQueue<>();
+
+		private int running = 0;
+		private Throwable escapedThrowable = null;
+
+		private Run(ExecutorService executorService) {
+			this.executorService = executorService;
+			calculatePriorities();
+			calculateDependencies();
+		}
+
+		private void calculatePriorities() {
+			for (int i = 0; i < tasks.size(); i++) {
+				lowerPriority(tasks.get(i), i);
+			}
+		}
+
+		// Predecessors inherit the priority of their successors
+		// so that tasks moved to the top of the queue are not held back
+		private void lowerPriority(ExecutionTask task, int priority) {
+			Integer current = priorities.get(task);
+			if (current != null && current <= priority) {
+				return;
+			}
+			priorities.put(task, priority);
+			for (ExecutionTask predecessor : taskPredecessors.get(task)) {
+				lowerPriority(predecessor, priority);
+			}
+		}
+
+		private void calculateDependencies() {
+			for (ExecutionTask task : tasks) {
+				int open = 0;
+				for (ExecutionTask predecessor : taskPredecessors.get(task)) {
+					if (!taskFinished.get(predecessor)) {
+						successors.computeIfAbsent(predecessor, ignore -> new ArrayList<>()).add(task);
+						open++;
+					}
+				}
+				openPredecessors.put(task, open);
+				if (open == 0) {
+					readyTasks.add(task);
+				}
+			}
+		}
+
+		private void runAll() {
+			while (true) {
+				while (escapedThrowable == null && running < parallelism && !readyTasks.isEmpty()) {
+					start(readyTasks.poll());
+				}
+				if (running == 0) {
+					break;
+				}
+				finish(takeNextFinished());
+			}
+			if (escapedThrowable != null) {
+				JqwikExceptionSupport.throwAsUncheckedException(escapedThrowable);
+			}
+		}
+
+		private void start(ExecutionTask task) {
+			TaskExecutionResult predecessorResult = predecessorResult(task);
+			running++;
+			executorService.execute(() -> {
+				try {
+					TaskExecutionResult result = task.execute(executionListener, predecessorResult);
+					finishedTasks.add(new Finished(task, result, null));
+				} catch (Throwable throwable) {
+					finishedTasks.add(new Finished(task, null, throwable));
+				}
+			});
+		}
+
+		private TaskExecutionResult predecessorResult(ExecutionTask task) {
+			for (ExecutionTask predecessor : taskPredecessors.get(task)) {
+				TaskExecutionResult result = results.get(predecessor);
+				if (result != null && !result.successful()) {
+					return result;
+				}
+			}
+			return TaskExecutionResult.success();
+		}
+
+		private Finished takeNextFinished() {
+			try {
+				return finishedTasks.take();
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+			}
+		}
+
+		private void finish(Finished finished) {
+			running--;
+			if (finished.throwable != null) {
+				if (escapedThrowable == null) {
+					escapedThrowable = finished.throwable;
+				}
+				return;
+			}
+			ExecutionTask task = finished.task;
+			results.put(task, finished.result);
+			taskFinished.put(task, true);
+			tasks.remove(task);
+			for (ExecutionTask successor : successors.getOrDefault(task, Collections.emptyList())) {
+				int open = openPredecessors.merge(successor, -1, Integer::sum);
+				if (open == 0) {
+					readyTasks.add(successor);
+				}
+			}
+		}
+	}
+}
@@ -10,6 +10,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 public class ExecutionResultReport {
@@ -20,6 +21,8 @@ public class ExecutionResultReport {
 	private static final String EDGE_CASES_MODE_KEY = "edge-cases#mode";
 	private static final String EDGE_CASES_TOTAL_KEY = "edge-cases#total";
 	private static final String EDGE_CASES_TRIED_KEY = "edge-cases#tried";
+	private static final String FILTER_ACCEPTANCE_KEY = "filter#acceptance";
+	private static final String SHRINKING_CACHE_KEY = "shrinking#cache-hits";
 	private static final String AFTER_FAILURE_KEY = "after-failure";
 	private static final String FIXED_SEED_KEY = "when-fixed-seed";
 	private static final String SEED_KEY = "seed";
@@ -29,13 +32,15 @@ public class ExecutionResultReport {
 
 	public static String from(
 		PropertyMethodDescriptor methodDescriptor,
-		ExtendedPropertyExecutionResult executionResult
+		ExtendedPropertyExecutionResult executionResult,
+		List<FilterStatistics> filterStatistics
 	) {
 		return buildJqwikReport(
 				methodDescriptor.getConfiguration().getAfterFailureMode(),
 				methodDescriptor.getConfiguration().getFixedSeedMode(),
 				methodDescriptor.getTargetMethod(),
-				executionResult
+				executionResult,
+				filterStatistics
 		);
 	}
 
@@ -43,12 +48,13 @@ public class ExecutionResultReport {
 			AfterFailureMode afterFailureMode,
 			FixedSeedMode fixedSeedMode,
 			Method propertyMethod,
-			ExtendedPropertyExecutionResult executionResult
+			ExtendedPropertyExecutionResult executionResult,
+			List<FilterStatistics> filterStatistics
 	) {
 		StringBuilder reportLines = new StringBuilder();
 
 		appendThrowableMessage(reportLines, executionResult);
-		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode, fixedSeedMode);
+		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode, fixedSeedMode, filterStatistics);
 		appendSamples(reportLines, propertyMethod, executionResult);
 
 		return reportLines.toString();
@@ -106,11 +112,12 @@ public class ExecutionResultReport {
 			StringBuilder reportLines,
 			ExtendedPropertyExecutionResult executionResult,
 			AfterFailureMode afterFailureMode,
-			FixedSeedMode fixedSeedMode
+			FixedSeedMode fixedSeedMode,
+			List<FilterStatistics> filterStatistics
 	) {
 		List<String> propertiesLines = new ArrayList<>();
-		int countTries = 0;
-		int countChecks = 0;
+		long countTries = 0;
+		long countChecks = 0;
 		String generationMode = "<none>";
 		String edgeCasesMode = "<none>";
 		String randomSeed = "<none>";
@@ -118,8 +125,8 @@ public class ExecutionResultReport {
 		String helpEdgeCasesMode = "";
 
 		if (executionResult.isExtended()) {
-			countTries = executionResult.countTries();
-			countChecks = executionResult.countChecks();
+			countTries = executionResult.countAllTries();
+			countChecks = executionResult.countAllChecks();
 			generationMode = executionResult.generation().name();
 			edgeCasesMode = executionResult.edgeCases().mode().name();
 			randomSeed = executionResult.randomSeed();
@@ -127,8 +134,8 @@ public class ExecutionResultReport {
 			helpEdgeCasesMode = helpEdgeCasesMode(executionResult.edgeCases().mode());
 		}
 
-		appendProperty(propertiesLines, TRIES_KEY, Integer.toString(countTries), "# of calls to property");
-		appendProperty(propertiesLines, CHECKS_KEY, Integer.toString(countChecks), "# of not rejected calls");
+		appendProperty(propertiesLines, TRIES_KEY, Long.toString(countTries), "# of calls to property");
+		appendProperty(propertiesLines, CHECKS_KEY, Long.toString(countChecks), "# of not rejected calls");
 		appendProperty(propertiesLines, GENERATION_KEY, generationMode, helpGenerationMode);
 		if (afterFailureMode != AfterFailureMode.NOT_SET) {
 			appendProperty(propertiesLines, AFTER_FAILURE_KEY, afterFailureMode.name(), helpAfterFailureMode(afterFailureMode));
@@ -142,6 +149,18 @@ public class ExecutionResultReport {
 			appendProperty(propertiesLines, EDGE_CASES_TRIED_KEY, executionResult.edgeCases()
 																				 .tried(), "# of edge cases tried in current run");
 		}
+		for (FilterStatistics statistics : filterStatistics) {
+			String acceptance = String.format("%s of %s accepted by %s", statistics.accepted(), statistics.tries(), statistics.filterLabel());
+			appendProperty(propertiesLines, FILTER_ACCEPTANCE_KEY, statistics.acceptanceRateString(), acceptance);
+		}
+		executionResult.shrunkSample()
+					   .filter(shrunkSample -> shrunkSample instanceof ShrunkFalsifiedSampleImpl)
+					   .map(shrunkSample -> ((ShrunkFalsifiedSampleImpl) shrunkSample).falsificationCacheStatistics())
+					   .filter(statistics -> statistics.lookups() > 0)
+					   .ifPresent(statistics -> {
+						   String cacheHits = String.format("%s of %s shrinking candidates found in cache", statistics.hits(), statistics.lookups());
+						   appendProperty(propertiesLines, SHRINKING_CACHE_KEY, statistics.hitRateString(), cacheHits);
+					   });
 		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed to reproduce generated values");
 
 		prependFixedSizedPropertiesHeader(reportLines, propertiesLines);
@@ -214,8 +233,10 @@ public class ExecutionResultReport {
 				return "parameters are exhaustively generated";
 			case DATA_DRIVEN:
 				return "parameters are taken from data provider";
+			case GUIDED:
+				return "parameters are randomly generated and mutated";
 			default:
-				return "RANDOMIZED, EXHAUSTIVE or DATA_DRIVEN";
+				return "RANDOMIZED, EXHAUSTIVE, DATA_DRIVEN or GUIDED";
 		}
 	}
 
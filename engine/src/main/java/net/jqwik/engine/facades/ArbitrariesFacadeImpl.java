@@ -141,6 +141,16 @@ public class ArbitrariesFacadeImpl extends Arbitraries.ArbitrariesFacade {
 		return new DefaultStringArbitrary();
 	}
 
+	@Override
+	public ByteArrayArbitrary byteArrays() {
+		return new DefaultByteArrayArbitrary();
+	}
+
+	@Override
+	public ByteBufferArbitrary byteBuffers() {
+		return new DefaultByteBufferArbitrary();
+	}
+
 	@Override
 	public CharacterArbitrary chars() {
 		return new DefaultCharacterArbitrary();
@@ -225,8 +235,9 @@ public class ArbitrariesFacadeImpl extends Arbitraries.ArbitrariesFacade {
 
 	private static Set<Arbitrary<?>> allDefaultsFor(TypeUsage typeUsage) {
 		DomainContext domainContext = DomainContextFacadeImpl.getCurrentContext();
-		RegisteredArbitraryResolver defaultArbitraryResolver =
-				new RegisteredArbitraryResolver(domainContext.getArbitraryProviders());
+		RegisteredArbitraryResolver defaultArbitraryResolver = domainContext == DomainContext.global()
+			? RegisteredArbitraryResolver.shared(domainContext.getArbitraryProviders())
+			: new RegisteredArbitraryResolver(domainContext.getArbitraryProviders());
 		ArbitraryProvider.SubtypeProvider subtypeProvider = ArbitrariesFacadeImpl::allDefaultsFor;
 		return defaultArbitraryResolver.resolve(typeUsage, subtypeProvider);
 	}
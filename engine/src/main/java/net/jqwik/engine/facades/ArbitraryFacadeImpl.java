@@ -50,12 +50,12 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 		return new ArbitraryDelegator<T>(self) {
 			@Override
 			public RandomGenerator<T> generator(int genSize) {
-				return super.generator(genSize).filter(filterPredicate);
+				return new FilteredGenerator<>(super.generator(genSize), filterPredicate, this);
 			}
 
 			@Override
 			public RandomGenerator<T> generatorWithEmbeddedEdgeCases(int genSize) {
-				return super.generatorWithEmbeddedEdgeCases(genSize).filter(filterPredicate);
+				return new FilteredGenerator<>(super.generatorWithEmbeddedEdgeCases(genSize), filterPredicate, this);
 			}
 
 			@Override
@@ -224,7 +224,8 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 	private <U> RandomGenerator<U> generator(Arbitrary<U> arbitrary, int genSize, boolean withEdgeCases) {
 		if (withEdgeCases) {
 			int maxEdgeCases = Math.max(genSize, 10);
-			return arbitrary.generatorWithEmbeddedEdgeCases(genSize).withEdgeCases(genSize, arbitrary.edgeCases(maxEdgeCases));
+			EdgeCases<U> edgeCases = EdgeCasesSupport.memoized(arbitrary, maxEdgeCases);
+			return arbitrary.generatorWithEmbeddedEdgeCases(genSize).withEdgeCases(genSize, edgeCases);
 		} else {
 			return arbitrary.generator(genSize);
 		}
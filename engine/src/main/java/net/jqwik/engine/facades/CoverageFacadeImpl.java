@@ -0,0 +1,15 @@
+package net.jqwik.engine.facades;
+
+import net.jqwik.api.coverage.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Is loaded through reflection in api module
+ */
+public class CoverageFacadeImpl extends Coverage.CoverageFacade {
+
+	@Override
+	public void reached(Object probe) {
+		CoverageProbes.reached(probe);
+	}
+}
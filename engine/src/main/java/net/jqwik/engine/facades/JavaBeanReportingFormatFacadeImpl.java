@@ -13,6 +13,15 @@ import net.jqwik.engine.support.*;
 
 public class JavaBeanReportingFormatFacadeImpl extends JavaBeanReportingFormat.JavaBeanReportingFormatFacade {
 
+	// Bean properties sorted by name.
+	// ClassValue does not keep bean classes and their class loaders from being unloaded.
+	private static final ClassValue<List<Tuple2<String, Method>>> beanProperties = new ClassValue<List<Tuple2<String, Method>>>() {
+		@Override
+		protected List<Tuple2<String, Method>> computeValue(Class<?> beanClass) {
+			return findBeanProperties(beanClass);
+		}
+	};
+
 	@Override
 	public Object reportJavaBean(
 			Object bean,
@@ -22,23 +31,29 @@ public class JavaBeanReportingFormatFacadeImpl extends JavaBeanReportingFormat.J
 	) {
 		Map<Object, Object> report = new LinkedHashMap<>();
 		List<Tuple2<String, Method>> properties =
-				Arrays.stream(bean.getClass().getMethods())
-					  .filter(method -> !JqwikReflectionSupport.isStatic(method))
-					  .filter(method -> method.getParameters().length == 0)
-					  .filter(method -> !method.getName().equals("getClass"))
-					  .filter(method -> !method.getName().equals("get"))
-					  .filter(method -> !method.getName().equals("is"))
-					  .filter(method -> method.getName().startsWith("get") ||
-												method.getName().startsWith("is"))
-					  .map(method -> Tuple.of(extractPropertyName(method), method))
-					  .sorted(Comparator.comparing(Tuple1::get1))
-					  .filter(tuple -> !excludeProperties.contains(tuple.get1()))
-					  .collect(Collectors.toList());
+				beanProperties.get(bean.getClass())
+							  .stream()
+							  .filter(tuple -> !excludeProperties.contains(tuple.get1()))
+							  .collect(Collectors.toList());
 
 		resort(properties, sortProperties).forEach(tuple -> appendGetterToReport(report, reportNulls, tuple, bean));
 		return report;
 	}
 
+	private static List<Tuple2<String, Method>> findBeanProperties(Class<?> beanClass) {
+		return Arrays.stream(beanClass.getMethods())
+					 .filter(method -> !JqwikReflectionSupport.isStatic(method))
+					 .filter(method -> method.getParameters().length == 0)
+					 .filter(method -> !method.getName().equals("getClass"))
+					 .filter(method -> !method.getName().equals("get"))
+					 .filter(method -> !method.getName().equals("is"))
+					 .filter(method -> method.getName().startsWith("get") ||
+											   method.getName().startsWith("is"))
+					 .map(method -> Tuple.of(extractPropertyName(method), method))
+					 .sorted(Comparator.comparing(Tuple1::get1))
+					 .collect(Collectors.toList());
+	}
+
 	private Iterable<Tuple2<String, Method>> resort(List<Tuple2<String, Method>> properties, Function<List<String>, List<String>> nameSorter) {
 		List<String> unsortedNames = properties.stream().map(p -> p.get1()).collect(Collectors.toList());
 		List<String> sortedNames = nameSorter.apply(unsortedNames);
@@ -74,7 +89,7 @@ public class JavaBeanReportingFormatFacadeImpl extends JavaBeanReportingFormat.J
 		});
 	}
 
-	private String extractPropertyName(Method method) {
+	private static String extractPropertyName(Method method) {
 		String methodName = method.getName();
 		String name = methodName.startsWith("get")
 							  ? methodName.substring(3)
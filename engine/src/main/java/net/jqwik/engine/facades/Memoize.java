@@ -1,6 +1,7 @@
 package net.jqwik.engine.facades;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
@@ -9,8 +10,8 @@ import net.jqwik.api.lifecycle.*;
 
 class Memoize {
 
-	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
-		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, HashMap::new);
+	private static Store<ConcurrentMap<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
+		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, ConcurrentHashMap::new);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -30,10 +31,11 @@ class Memoize {
 		return (RandomGenerator<U>) generator;
 	}
 
-	// Had to roll my on computeIfAbsent because HashMap.computeIfAbsent()
-	// does not allow modifications of the map within the mapping function
+	// Had to roll my on computeIfAbsent because ConcurrentHashMap.computeIfAbsent()
+	// does not allow modifications of the map within the mapping function.
+	// The cache is accessed concurrently when tries run in parallel.
 	private static <K, V> V computeIfAbsent(
-			Map<K, V> cache,
+			ConcurrentMap<K, V> cache,
 			K key,
 			Function<? super K, ? extends V> mappingFunction
 	) {
@@ -41,7 +43,10 @@ class Memoize {
 
 		if (result == null) {
 			result = mappingFunction.apply(key);
-			cache.put(key, result);
+			V existing = cache.putIfAbsent(key, result);
+			if (existing != null) {
+				return existing;
+			}
 		}
 
 		return result;
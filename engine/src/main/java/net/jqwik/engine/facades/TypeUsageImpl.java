@@ -268,6 +268,10 @@ public class TypeUsageImpl implements TypeUsage {
 	private final List<TypeUsage> upperBounds = new ArrayList<>();
 	private final List<TypeUsage> lowerBounds = new ArrayList<>();
 
+	// Structural hash, computed lazily since type arguments and bounds are added after construction.
+	// 0 means it has not been computed yet.
+	private int hashCode = 0;
+
 	TypeUsageImpl(
 		Class<?> rawType,
 		Type type,
@@ -287,14 +291,17 @@ public class TypeUsageImpl implements TypeUsage {
 
 	void addTypeArguments(List<TypeUsage> typeArguments) {
 		this.typeArguments.addAll(typeArguments);
+		this.hashCode = 0;
 	}
 
 	void addLowerBounds(List<TypeUsage> lowerBounds) {
 		this.lowerBounds.addAll(lowerBounds);
+		this.hashCode = 0;
 	}
 
 	void addUpperBounds(List<TypeUsage> upperBounds) {
 		this.upperBounds.addAll(upperBounds);
+		this.hashCode = 0;
 	}
 
 	@Override
@@ -478,6 +485,7 @@ public class TypeUsageImpl implements TypeUsage {
 		if (componentRawType != null) {
 			TypeUsageImpl componentType = (TypeUsageImpl) TypeUsage.of(componentRawType);
 			componentType.annotations.addAll(this.annotations);
+			componentType.hashCode = 0;
 			return Optional.of(componentType);
 		}
 		return Optional.empty();
@@ -529,9 +537,11 @@ public class TypeUsageImpl implements TypeUsage {
 	public boolean equals(Object obj) {
 		if (this == obj)
 			return true;
-		if (obj.getClass() != getClass())
+		if (obj == null || obj.getClass() != getClass())
 			return false;
 		TypeUsageImpl other = (TypeUsageImpl) obj;
+		if (other.hashCode() != hashCode())
+			return false;
 		if (!other.getRawType().equals(getRawType()))
 			return false;
 		if (!other.typeArguments.equals(typeArguments))
@@ -588,7 +598,22 @@ public class TypeUsageImpl implements TypeUsage {
 
 	@Override
 	public int hashCode() {
-		return rawType.hashCode();
+		int hash = hashCode;
+		if (hash == 0) {
+			hash = computeHashCode();
+			hashCode = hash;
+		}
+		return hash;
+	}
+
+	// Only covers what equals() compares for all kinds of type usages.
+	// Bounds are left out because they can refer back to the type variable itself.
+	private int computeHashCode() {
+		int hash = rawType.hashCode();
+		hash = 31 * hash + typeArguments.hashCode();
+		hash = 31 * hash + getAnnotations().hashCode();
+		hash = 31 * hash + (typeVariable == null ? 0 : typeVariable.hashCode());
+		return hash == 0 ? 1 : hash;
 	}
 
 	@Override
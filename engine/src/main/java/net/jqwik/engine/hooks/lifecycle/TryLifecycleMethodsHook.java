@@ -2,6 +2,7 @@ package net.jqwik.engine.hooks.lifecycle;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.junit.platform.engine.support.hierarchical.*;
 
@@ -11,8 +12,11 @@ import net.jqwik.engine.support.*;
 
 public class TryLifecycleMethodsHook implements AroundTryHook {
 
-	private void beforeTry(TryLifecycleContext context) {
-		List<Method> beforeTryMethods = LifecycleMethods.findBeforeTryMethods(context.containerClass());
+	// Looking up lifecycle methods through reflection for every single try is much too expensive
+	private final Map<Class<?>, List<Method>> beforeTryMethodsCache = new ConcurrentHashMap<>();
+	private final Map<Class<?>, List<Method>> afterTryMethodsCache = new ConcurrentHashMap<>();
+
+	private void beforeTry(TryLifecycleContext context, List<Method> beforeTryMethods) {
 		callTryMethods(beforeTryMethods, context);
 	}
 
@@ -30,8 +34,7 @@ public class TryLifecycleMethodsHook implements AroundTryHook {
 		JqwikReflectionSupport.invokeMethodPotentiallyOuter(method, target, parameters);
 	}
 
-	private void afterTry(TryLifecycleContext context) {
-		List<Method> afterTryMethods = LifecycleMethods.findAfterTryMethods(context.containerClass());
+	private void afterTry(TryLifecycleContext context, List<Method> afterTryMethods) {
 		callTryMethods(afterTryMethods, context);
 	}
 
@@ -52,11 +55,17 @@ public class TryLifecycleMethodsHook implements AroundTryHook {
 
 	@Override
 	public TryExecutionResult aroundTry(TryLifecycleContext context, TryExecutor aTry, List<Object> parameters) {
-		beforeTry(context);
+		Class<?> containerClass = context.containerClass();
+		List<Method> beforeTryMethods = beforeTryMethodsCache.computeIfAbsent(containerClass, LifecycleMethods::findBeforeTryMethods);
+		List<Method> afterTryMethods = afterTryMethodsCache.computeIfAbsent(containerClass, LifecycleMethods::findAfterTryMethods);
+		if (beforeTryMethods.isEmpty() && afterTryMethods.isEmpty()) {
+			return aTry.execute(parameters);
+		}
+		beforeTry(context, beforeTryMethods);
 		try {
 			return aTry.execute(parameters);
 		} finally {
-			afterTry(context);
+			afterTry(context, afterTryMethods);
 		}
 	}
 }
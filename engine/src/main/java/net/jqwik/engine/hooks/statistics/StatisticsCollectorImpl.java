@@ -25,7 +25,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public StatisticsCollector collect(Object... values) {
+	public synchronized StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
 		List<Object> key = keyFrom(values);
 		ensureSameNumberOfValues(key);
@@ -89,7 +89,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 				   .reduce(StatisticsEntryImpl.NULL, StatisticsEntryImpl::plus);
 	}
 
-	public int countAllCollects() {
+	public synchronized int countAllCollects() {
 		return counts.values().stream().mapToInt(aCount -> aCount).sum();
 	}
 
@@ -99,7 +99,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public void coverage(Consumer<StatisticsCoverage> checker) {
+	public synchronized void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
 		if (!coverageCheckers.contains(checker)) {
 			coverageCheckers.add(checker);
@@ -117,7 +117,16 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return counts;
 	}
 
-	public List<StatisticsEntryImpl> statisticsEntries() {
+	synchronized Map<List<Object>, Integer> copyOfCounts() {
+		return new HashMap<>(counts);
+	}
+
+	synchronized void addCounts(Map<List<Object>, Integer> countsToAdd) {
+		countsToAdd.forEach((key, count) -> counts.merge(key, count, Integer::sum));
+		statisticsEntries = null;
+	}
+
+	public synchronized List<StatisticsEntryImpl> statisticsEntries() {
 		if (statisticsEntries != null) {
 			return statisticsEntries;
 		}
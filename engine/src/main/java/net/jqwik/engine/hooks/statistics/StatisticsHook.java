@@ -17,11 +17,35 @@ public class StatisticsHook implements AroundPropertyHook {
 	private static final Supplier<Map<String, StatisticsCollectorImpl>> STATISTICS_MAP_SUPPLIER =
 		() -> new LinkedHashMap<String, StatisticsCollectorImpl>() {
 			@Override
-			public StatisticsCollectorImpl get(Object key) {
+			public synchronized StatisticsCollectorImpl get(Object key) {
 				return this.computeIfAbsent((String) key, StatisticsCollectorImpl::new);
 			}
 		};
 
+	/**
+	 * Counts of all statistics collectors of the current property by label.
+	 */
+	public static Map<String, Map<List<Object>, Integer>> countsOfCurrentProperty() {
+		Map<String, Map<List<Object>, Integer>> counts = new LinkedHashMap<>();
+		Map<String, StatisticsCollectorImpl> collectors = collectorsOfCurrentProperty();
+		synchronized (collectors) {
+			collectors.forEach((label, collector) -> counts.put(label, collector.copyOfCounts()));
+		}
+		return counts;
+	}
+
+	/**
+	 * Add counts, e.g. from a previous run, to the statistics collectors of the current property.
+	 */
+	public static void addCountsToCurrentProperty(Map<String, Map<List<Object>, Integer>> counts) {
+		Map<String, StatisticsCollectorImpl> collectors = collectorsOfCurrentProperty();
+		counts.forEach((label, labelCounts) -> collectors.get(label).addCounts(labelCounts));
+	}
+
+	private static Map<String, StatisticsCollectorImpl> collectorsOfCurrentProperty() {
+		return Store.getOrCreate(StatisticsCollectorImpl.COLLECTORS_ID, Lifespan.PROPERTY, STATISTICS_MAP_SUPPLIER).get();
+	}
+
 	@Override
 	public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) throws Throwable {
 		Store<Map<String, StatisticsCollectorImpl>> collectorsStore =
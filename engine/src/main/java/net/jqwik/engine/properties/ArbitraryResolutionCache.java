@@ -0,0 +1,192 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.configurators.*;
+import net.jqwik.api.providers.*;
+
+/**
+ * Shares resolved arbitraries between all properties that use the global domain context.
+ * Entries are keyed by type usage plus the registered providers and configurators
+ * so that registering or unregistering a provider does not lead to stale results.
+ *
+ * <p>
+ * Resolution results that depend on the test instance - through {@code @ForAll("name")} or {@code @From}
+ * anywhere in a parameter's type - are never shared.
+ * </p>
+ */
+public class ArbitraryResolutionCache {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private static final ArbitraryResolutionCache global = new ArbitraryResolutionCache(DEFAULT_MAX_SIZE);
+
+	public static ArbitraryResolutionCache global() {
+		return global;
+	}
+
+	private final LinkedHashMap<Key, Set<Arbitrary<?>>> entries = new LinkedHashMap<Key, Set<Arbitrary<?>>>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Set<Arbitrary<?>>> eldest) {
+			if (size() > maxSize) {
+				evictions.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+	};
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	private volatile int maxSize;
+
+	ArbitraryResolutionCache(int maxSize) {
+		this.maxSize = Math.max(0, maxSize);
+	}
+
+	/**
+	 * A max size of 0 switches caching off
+	 */
+	public synchronized void resize(int maxSize) {
+		this.maxSize = Math.max(0, maxSize);
+		Iterator<Key> eldestFirst = entries.keySet().iterator();
+		while (entries.size() > this.maxSize) {
+			eldestFirst.next();
+			eldestFirst.remove();
+			evictions.incrementAndGet();
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	Set<Arbitrary<?>> resolve(TypeUsage typeUsage, Context resolutionContext, Supplier<Set<Arbitrary<?>>> resolver) {
+		if (maxSize == 0 || !isShareable(typeUsage)) {
+			return resolver.get();
+		}
+		Key key = new Key(typeUsage, resolutionContext);
+		synchronized (this) {
+			Set<Arbitrary<?>> cached = entries.get(key);
+			if (cached != null) {
+				hits.incrementAndGet();
+				return cached;
+			}
+		}
+		misses.incrementAndGet();
+		// Resolve outside of lock because providers can take long and may resolve other types
+		Set<Arbitrary<?>> resolved = Collections.unmodifiableSet(resolver.get());
+		synchronized (this) {
+			Set<Arbitrary<?>> concurrentlyResolved = entries.putIfAbsent(key, resolved);
+			return concurrentlyResolved != null ? concurrentlyResolved : resolved;
+		}
+	}
+
+	static boolean isShareable(TypeUsage typeUsage) {
+		return isShareable(typeUsage, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	private static boolean isShareable(TypeUsage typeUsage, Set<TypeUsage> visited) {
+		// Recursive types would lead to endless recursion
+		if (!visited.add(typeUsage)) {
+			return true;
+		}
+		boolean hasGeneratorName = typeUsage.findAnnotation(ForAll.class)
+											.map(forAll -> !forAll.value().equals(ForAll.NO_VALUE))
+											.orElse(false);
+		if (hasGeneratorName || typeUsage.findAnnotation(From.class).isPresent()) {
+			return false;
+		}
+		List<TypeUsage> nestedTypes = new ArrayList<>(typeUsage.getTypeArguments());
+		nestedTypes.addAll(typeUsage.getUpperBounds());
+		nestedTypes.addAll(typeUsage.getLowerBounds());
+		typeUsage.getComponentType().ifPresent(nestedTypes::add);
+		for (TypeUsage nestedType : nestedTypes) {
+			if (!isShareable(nestedType, visited)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public long hits() {
+		return hits.get();
+	}
+
+	public long misses() {
+		return misses.get();
+	}
+
+	public long evictions() {
+		return evictions.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"ArbitraryResolutionCache[size=%s, maxSize=%s, hits=%s, misses=%s, evictions=%s]",
+			size(), maxSize, hits(), misses(), evictions()
+		);
+	}
+
+	/**
+	 * The providers and configurators used for resolution
+	 */
+	static class Context {
+		private final List<Object> providersAndConfigurators = new ArrayList<>();
+		private final int hashCode;
+
+		Context(List<ArbitraryProvider> providers, List<ArbitraryConfigurator> configurators) {
+			providersAndConfigurators.addAll(providers);
+			providersAndConfigurators.addAll(configurators);
+			hashCode = providersAndConfigurators.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Context context = (Context) o;
+			return hashCode == context.hashCode && providersAndConfigurators.equals(context.providersAndConfigurators);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static class Key {
+		private final TypeUsage typeUsage;
+		private final Context resolutionContext;
+		private final int hashCode;
+
+		private Key(TypeUsage typeUsage, Context resolutionContext) {
+			this.typeUsage = typeUsage;
+			this.resolutionContext = resolutionContext;
+			this.hashCode = 31 * typeUsage.hashCode() + resolutionContext.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key key = (Key) o;
+			return typeUsage.equals(key.typeUsage) && resolutionContext.equals(key.resolutionContext);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
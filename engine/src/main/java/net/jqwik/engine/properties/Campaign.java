@@ -0,0 +1,217 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.hooks.statistics.*;
+import net.jqwik.engine.recording.*;
+
+/**
+ * A property run that checkpoints its progress from time to time
+ * so that a later run can resume where this one stopped, e.g. because its JVM died.
+ *
+ * <p>
+ * A checkpoint holds the random state, the number of tries and checks,
+ * the number of edge cases already generated and the counts of all statistics collectors.
+ * Exhaustive generation resumes with the combination whose index is the number of tries.
+ * A checkpoint is deleted as soon as the property has finished.
+ * Every checkpoint logs the number of tries per second since the previous one.
+ * </p>
+ */
+public class Campaign {
+
+	private static final Logger LOG = Logger.getLogger(Campaign.class.getName());
+
+	public static final Campaign NONE = new Campaign(null, null, null, null, null, 0, 0, null);
+
+	/**
+	 * Resume from an existing checkpoint if it belongs to a campaign with the same number of tries,
+	 * the same generation and edge cases mode and - if a seed is fixed - the same seed.
+	 * A checkpoint that does not fit is discarded and will be overwritten by this campaign.
+	 *
+	 * @param fixedSeed the seed the run must use or {@code null} if the seed can be taken from the checkpoint
+	 */
+	public static Campaign create(
+		CampaignCheckpoints checkpoints,
+		String propertyId,
+		String propertyName,
+		String fixedSeed,
+		GenerationMode generationMode,
+		EdgeCasesMode edgeCasesMode,
+		long maxTries,
+		int checkpointSeconds
+	) {
+		CampaignCheckpoint resumeFrom =
+			checkpoints.load(propertyId)
+					   .filter(checkpoint -> checkpoint.maxTries() == maxTries && checkpoint.countTries() < maxTries)
+					   .filter(checkpoint -> checkpoint.generationMode() == generationMode)
+					   .filter(checkpoint -> checkpoint.edgeCasesMode() == edgeCasesMode)
+					   .filter(checkpoint -> fixedSeed == null || checkpoint.seed().equals(fixedSeed))
+					   .orElse(null);
+		long checkpointIntervalNanos = TimeUnit.SECONDS.toNanos(Math.max(0, checkpointSeconds));
+		return new Campaign(
+			checkpoints, propertyId, propertyName,
+			generationMode, edgeCasesMode,
+			maxTries, checkpointIntervalNanos, resumeFrom
+		);
+	}
+
+	private final CampaignCheckpoints checkpoints;
+	private final String propertyId;
+	private final String propertyName;
+	private final GenerationMode generationMode;
+	private final EdgeCasesMode edgeCasesMode;
+	private final long maxTries;
+	private final long checkpointIntervalNanos;
+	private final CampaignCheckpoint resumeFrom;
+
+	private boolean started = false;
+	private String seed;
+	private JqwikRandom random;
+	private ForAllParametersGenerator generator;
+
+	private long startNanos;
+	private long lastCheckpointNanos;
+	private long triesAtLastCheckpoint;
+
+	private Campaign(
+		CampaignCheckpoints checkpoints,
+		String propertyId,
+		String propertyName,
+		GenerationMode generationMode,
+		EdgeCasesMode edgeCasesMode,
+		long maxTries,
+		long checkpointIntervalNanos,
+		CampaignCheckpoint resumeFrom
+	) {
+		this.checkpoints = checkpoints;
+		this.propertyId = propertyId;
+		this.propertyName = propertyName;
+		this.generationMode = generationMode;
+		this.edgeCasesMode = edgeCasesMode;
+		this.maxTries = maxTries;
+		this.checkpointIntervalNanos = checkpointIntervalNanos;
+		this.resumeFrom = resumeFrom;
+	}
+
+	public boolean isActive() {
+		return checkpoints != null;
+	}
+
+	public Optional<CampaignCheckpoint> resumeFrom() {
+		return Optional.ofNullable(resumeFrom);
+	}
+
+	public long resumedTries() {
+		return resumeFrom().map(CampaignCheckpoint::countTries).orElse(0L);
+	}
+
+	public long resumedChecks() {
+		return resumeFrom().map(CampaignCheckpoint::countChecks).orElse(0L);
+	}
+
+	/**
+	 * Start tracking the state of generation. When resuming the generator
+	 * skips the edge cases and the statistics get the counts of the previous run.
+	 *
+	 * @param random must already continue the random sequence of a resumed checkpoint
+	 */
+	public void start(String seed, JqwikRandom random, RandomizedShrinkablesGenerator generator) {
+		if (!isActive()) {
+			return;
+		}
+		this.random = random;
+		if (resumeFrom != null) {
+			generator.skipEdgeCases(resumeFrom.edgeCasesTried());
+		}
+		start(seed, generator);
+	}
+
+	/**
+	 * Start tracking the index of exhaustive generation. When resuming the generator
+	 * skips all combinations that have already been tried.
+	 * Must be called before the generator is partitioned.
+	 */
+	public void start(String seed, ExhaustiveShrinkablesGenerator generator) {
+		if (!isActive()) {
+			return;
+		}
+		if (resumeFrom != null) {
+			generator.skipCombinations(resumeFrom.countTries());
+		}
+		start(seed, (ForAllParametersGenerator) generator);
+	}
+
+	private void start(String seed, ForAllParametersGenerator generator) {
+		this.seed = seed;
+		this.generator = generator;
+		if (resumeFrom != null) {
+			if (!CurrentTestDescriptor.isEmpty()) {
+				StatisticsHook.addCountsToCurrentProperty(resumeFrom.statisticsCounts());
+			}
+			LOG.info(() -> String.format("Resuming campaign of [%s] after %s of %s tries", propertyName, resumeFrom.countTries(), maxTries));
+		}
+		started = true;
+		startNanos = System.nanoTime();
+		lastCheckpointNanos = startNanos;
+		triesAtLastCheckpoint = resumedTries();
+	}
+
+	/**
+	 * Write a checkpoint if the checkpoint interval has passed since the last one.
+	 * Must only be called between tries and always from the same thread.
+	 *
+	 * @param countTries All tries with a smaller index must have been run
+	 */
+	public void checkpointIfDue(long countTries, long countChecks) {
+		if (!started) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (now - lastCheckpointNanos < checkpointIntervalNanos) {
+			return;
+		}
+		checkpoints.save(new CampaignCheckpoint(
+			propertyId,
+			seed,
+			generationMode,
+			edgeCasesMode,
+			maxTries,
+			random == null ? 0 : random.state(),
+			countTries,
+			countChecks,
+			generator.edgeCasesTried(),
+			CurrentTestDescriptor.isEmpty() ? Collections.emptyMap() : StatisticsHook.countsOfCurrentProperty()
+		));
+		long triesPerSecond = triesPerSecond(countTries - triesAtLastCheckpoint, now - lastCheckpointNanos);
+		LOG.info(() -> String.format(
+			"Campaign of [%s]: %s of %s tries, %s tries/s",
+			propertyName, countTries, maxTries, triesPerSecond
+		));
+		lastCheckpointNanos = now;
+		triesAtLastCheckpoint = countTries;
+	}
+
+	/**
+	 * The property has finished so that there is nothing left to resume.
+	 */
+	public void finish(long countTries) {
+		if (!started) {
+			return;
+		}
+		checkpoints.delete(propertyId);
+		long triesPerSecond = triesPerSecond(countTries - resumedTries(), System.nanoTime() - startNanos);
+		LOG.info(() -> String.format("Campaign of [%s] finished after %s tries, %s tries/s", propertyName, countTries, triesPerSecond));
+	}
+
+	private static long triesPerSecond(long tries, long nanos) {
+		if (nanos <= 0) {
+			return 0;
+		}
+		return (long) ((double) tries * TimeUnit.SECONDS.toNanos(1) / nanos);
+	}
+}
@@ -0,0 +1,83 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Keeps track of the coverage probes that the tries of the current property have reached.
+ *
+ * <p>
+ * Whenever a try reaches a probe for the first time in its property, the thread that
+ * runs the try counts a new probe. That's how guided generation of parallel tries can tell
+ * if its own last sample has reached new ground - as long as the code under test
+ * does not hand over work to other threads.
+ * </p>
+ *
+ * <p>
+ * The probes of a property are looked up once per property and made available
+ * to the thread of each try so that reaching a probe is cheap.
+ * Outside of a try reaching a probe has no effect.
+ * </p>
+ */
+public class CoverageProbes {
+
+	private static final ThreadLocal<int[]> newProbesOfThread = ThreadLocal.withInitial(() -> new int[1]);
+	private static final ThreadLocal<Set<Object>> probesOfCurrentTry = new ThreadLocal<>();
+
+	private static Store<Set<Object>> probesStore() {
+		return Store.getOrCreate(CoverageProbes.class, Lifespan.PROPERTY, ConcurrentHashMap::newKeySet);
+	}
+
+	/**
+	 * @return the probes reached by the tries of the current property or {@code null} outside of a property
+	 */
+	public static Set<Object> ofCurrentProperty() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return null;
+		}
+		return probesStore().get();
+	}
+
+	/**
+	 * Make {@code probes} the ones that tries on the current thread reach until {@linkplain #finishTry(Set)}.
+	 *
+	 * @return the probes that were active before so that they can be restored for nested tries
+	 */
+	public static Set<Object> startTry(Set<Object> probes) {
+		Set<Object> previousProbes = probesOfCurrentTry.get();
+		probesOfCurrentTry.set(probes);
+		return previousProbes;
+	}
+
+	public static void finishTry(Set<Object> previousProbes) {
+		if (previousProbes == null) {
+			probesOfCurrentTry.remove();
+		} else {
+			probesOfCurrentTry.set(previousProbes);
+		}
+	}
+
+	public static void reached(Object probe) {
+		if (probe == null) {
+			throw new IllegalArgumentException("A coverage probe must not be null");
+		}
+		Set<Object> probes = probesOfCurrentTry.get();
+		if (probes == null) {
+			return;
+		}
+		if (probes.add(probe)) {
+			newProbesOfThread.get()[0]++;
+		}
+	}
+
+	/**
+	 * Grows whenever a try on the current thread reaches a probe
+	 * that no other try of the same property has reached before.
+	 */
+	public static int countNewProbesOfCurrentThread() {
+		return newProbesOfThread.get()[0];
+	}
+}
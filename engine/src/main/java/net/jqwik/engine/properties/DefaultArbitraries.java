@@ -22,6 +22,8 @@ public class DefaultArbitraries {
 		providers.add(new StreamArbitraryProvider());
 		providers.add(new OptionalArbitraryProvider());
 		providers.add(new ArrayArbitraryProvider());
+		providers.add(new ByteArrayArbitraryProvider());
+		providers.add(new ByteBufferArbitraryProvider());
 		providers.add(new IteratorArbitraryProvider());
 		providers.add(new UseTypeArbitraryProvider());
 		providers.add(new FunctionArbitraryProvider());
@@ -1,10 +1,9 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
-import java.util.stream.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
-import net.jqwik.engine.support.*;
 
 import static java.lang.Math.*;
 
@@ -20,33 +19,89 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 		);
 	}
 
-	private final List<EdgeCases<Object>> edgeCases;
-	private final Iterator<List<Shrinkable<Object>>> iterator;
+	private final List<List<Supplier<Shrinkable<Object>>>> suppliers;
+	private final long total;
+	private final int partitions;
+
+	private long nextIndex;
 
 	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases) {
-		this.edgeCases = edgeCases;
-		this.iterator = createIterator();
+		this(edgeCases, 0, 1);
+	}
+
+	/**
+	 * Only generate every {@code partitions}th edge case starting with the one at index {@code partition}.
+	 * This allows several generators to share the edge cases between them.
+	 *
+	 * <p>
+	 * Combinations are addressed by index so that skipped edge cases are never created.
+	 * </p>
+	 */
+	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases, int partition, int partitions) {
+		this.suppliers = new ArrayList<>(edgeCases.size());
+		for (EdgeCases<Object> edgeCase : edgeCases) {
+			this.suppliers.add(edgeCase.suppliers());
+		}
+		this.total = countCombinations(suppliers);
+		this.partitions = partitions;
+		this.nextIndex = partition;
+	}
+
+	private static long countCombinations(List<List<Supplier<Shrinkable<Object>>>> suppliers) {
+		if (suppliers.isEmpty()) {
+			return 0;
+		}
+		long count = 1;
+		for (List<Supplier<Shrinkable<Object>>> parameterSuppliers : suppliers) {
+			count = saturatedMultiply(count, parameterSuppliers.size());
+		}
+		return count;
 	}
 
-	private Iterator<List<Shrinkable<Object>>> createIterator() {
-		if (this.edgeCases.isEmpty()) {
-			return Collections.emptyIterator();
+	private static long saturatedMultiply(long count, int factor) {
+		try {
+			return Math.multiplyExact(count, factor);
+		} catch (ArithmeticException overflow) {
+			return Long.MAX_VALUE;
 		}
-		List<Iterable<Shrinkable<Object>>> iterables =
-			edgeCases
-				.stream()
-				.map(edge -> (Iterable<Shrinkable<Object>>) edge)
-				.collect(Collectors.toList());
-		return Combinatorics.combine(iterables);
 	}
 
 	@Override
 	public boolean hasNext() {
-		return iterator.hasNext();
+		return nextIndex < total;
 	}
 
+	/**
+	 * Continue as if {@code count} edge cases had already been generated.
+	 */
+	void skip(long count) {
+		if (!hasNext()) {
+			return;
+		}
+		long remaining = (total - nextIndex + partitions - 1) / partitions;
+		nextIndex = count >= remaining ? total : nextIndex + count * partitions;
+	}
+
+	// Last parameter varies fastest as it did when combining iterators
 	@Override
 	public List<Shrinkable<Object>> next() {
-		return iterator.next();
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Shrinkable<Object>[] shrinkables = createShrinkablesArray(suppliers.size());
+		long remainder = nextIndex;
+		for (int i = suppliers.size() - 1; i >= 0; i--) {
+			List<Supplier<Shrinkable<Object>>> parameterSuppliers = suppliers.get(i);
+			int size = parameterSuppliers.size();
+			shrinkables[i] = parameterSuppliers.get((int) (remainder % size)).get();
+			remainder /= size;
+		}
+		nextIndex = nextIndex > total - partitions ? total : nextIndex + partitions;
+		return Arrays.asList(shrinkables);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Shrinkable<Object>[] createShrinkablesArray(int size) {
+		return (Shrinkable<Object>[]) new Shrinkable<?>[size];
 	}
 }
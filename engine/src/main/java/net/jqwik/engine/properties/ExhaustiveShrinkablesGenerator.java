@@ -46,64 +46,255 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	}
 
-	private final Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+	private final List<ParameterValues> parameterValues;
 	private final long maxCount;
+	private final long step;
+	private long nextIndex;
+	private List<Shrinkable<Object>> nextCombination;
 
 	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
-		this.maxCount = generators
-							.stream()
-							.mapToLong(set -> set.stream().mapToLong(ExhaustiveGenerator::maxCount).sum())
-							.reduce((product, count) -> product * count)
-							.orElse(1L);
+		this(
+			generators.stream().map(ParameterValues::of).collect(Collectors.toList()),
+			maxCount(generators),
+			0,
+			1
+		);
+	}
 
-		this.combinatorialIterator = combine(generators);
+	private ExhaustiveShrinkablesGenerator(List<ParameterValues> parameterValues, long maxCount, long firstIndex, long step) {
+		this.parameterValues = parameterValues;
+		this.maxCount = maxCount;
+		this.nextIndex = firstIndex;
+		this.step = step;
 	}
 
-	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
-		List<Iterable<Object>> iterables = generators
-											   .stream()
-											   .map(this::concat)
-											   .collect(Collectors.toList());
+	private static long maxCount(List<List<ExhaustiveGenerator<Object>>> generators) {
+		long product = 1;
+		for (List<ExhaustiveGenerator<Object>> parameterGenerators : generators) {
+			product = saturatedMultiply(product, sumOfMaxCounts(parameterGenerators));
+		}
+		return product;
+	}
 
-		return new Iterator<List<Shrinkable<Object>>>() {
-			final Iterator<List<Object>> iterator = Combinatorics.combine(iterables);
+	private static long sumOfMaxCounts(List<ExhaustiveGenerator<Object>> parameterGenerators) {
+		long sum = 0;
+		for (ExhaustiveGenerator<Object> generator : parameterGenerators) {
+			sum = saturatedAdd(sum, generator.maxCount());
+		}
+		return sum;
+	}
 
-			@Override
-			public boolean hasNext() {
-				return iterator.hasNext();
-			}
+	private static long saturatedMultiply(long a, long b) {
+		try {
+			return Math.multiplyExact(a, b);
+		} catch (ArithmeticException overflow) {
+			return Long.MAX_VALUE;
+		}
+	}
 
-			@Override
-			public List<Shrinkable<Object>> next() {
-				List<Shrinkable<Object>> values = new ArrayList<>();
-				for (Object o : iterator.next()) {
-					values.add(Shrinkable.unshrinkable(o));
-				}
-				return values;
-			}
-		};
+	private static long saturatedAdd(long a, long b) {
+		try {
+			return Math.addExact(a, b);
+		} catch (ArithmeticException overflow) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Create a generator for combinations with index {@code partition}, {@code partition + partitions},
+	 * {@code partition + 2 * partitions} and so on. Generators for all partitions together
+	 * generate the same combinations as this generator and can be used in parallel.
+	 */
+	public ExhaustiveShrinkablesGenerator partition(int partition, int partitions) {
+		List<ParameterValues> partitionValues = parameterValues.stream()
+															   .map(ParameterValues::forPartition)
+															   .collect(Collectors.toList());
+		long firstIndex = saturatedAdd(nextIndex, saturatedMultiply(partition, step));
+		return new ExhaustiveShrinkablesGenerator(partitionValues, maxCount, firstIndex, saturatedMultiply(partitions, step));
 	}
 
-	private Iterable<Object> concat(List<ExhaustiveGenerator<Object>> generatorList) {
-		List<Iterable<Object>> iterables = generatorList
-											   .stream()
-											   .map(g -> (Iterable<Object>) g)
-											   .collect(Collectors.toList());
-		return () -> Combinatorics.concat(iterables);
+	/**
+	 * Continue {@code count} combinations after the next one, e.g. to resume from a checkpoint.
+	 */
+	public void skipCombinations(long count) {
+		nextIndex = saturatedAdd(nextIndex, saturatedMultiply(count, step));
+		nextCombination = null;
 	}
 
 	@Override
 	public boolean hasNext() {
-		return combinatorialIterator.hasNext();
+		if (nextCombination == null) {
+			nextCombination = combination(nextIndex);
+		}
+		return nextCombination != null;
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		return combinatorialIterator.next();
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		List<Shrinkable<Object>> next = nextCombination;
+		nextCombination = null;
+		nextIndex = saturatedAdd(nextIndex, step);
+		return next;
+	}
+
+	/**
+	 * Decompose {@code index} into one digit per parameter with the last parameter varying fastest.
+	 * The first parameter's number of values need not be known up front.
+	 *
+	 * @return null if there is no combination with that index
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Shrinkable<Object>> combination(long index) {
+		if (index == Long.MAX_VALUE) {
+			return null;
+		}
+		if (parameterValues.isEmpty()) {
+			return index == 0 ? Collections.emptyList() : null;
+		}
+		Shrinkable<Object>[] combination = new Shrinkable[parameterValues.size()];
+		long rest = index;
+		for (int i = parameterValues.size() - 1; i > 0; i--) {
+			ParameterValues values = parameterValues.get(i);
+			long size = values.size();
+			if (size == 0) {
+				return null;
+			}
+			combination[i] = values.get(rest % size);
+			rest /= size;
+		}
+		combination[0] = parameterValues.get(0).get(rest);
+		if (combination[0] == null) {
+			return null;
+		}
+		return Arrays.asList(combination);
 	}
 
 	public long maxCount() {
 		return maxCount;
 	}
 
+	private static abstract class ParameterValues {
+
+		// Parameters with not more potential values are kept as shrinkables
+		private static final long MAX_VALUES_TO_CACHE = 10_000;
+
+		private static ParameterValues of(List<ExhaustiveGenerator<Object>> generators) {
+			List<Iterable<Object>> iterables = new ArrayList<>(generators);
+			Iterable<Object> values = () -> Combinatorics.concat(iterables);
+			if (sumOfMaxCounts(generators) <= MAX_VALUES_TO_CACHE) {
+				return new CachedValues(values);
+			}
+			return new IteratingValues(values);
+		}
+
+		abstract long size();
+
+		/**
+		 * @return null if index is not smaller than size
+		 */
+		abstract Shrinkable<Object> get(long index);
+
+		abstract ParameterValues forPartition();
+	}
+
+	private static class CachedValues extends ParameterValues {
+
+		private final Iterable<Object> values;
+		private volatile List<Shrinkable<Object>> shrinkables;
+
+		private CachedValues(Iterable<Object> values) {
+			this.values = values;
+		}
+
+		private List<Shrinkable<Object>> shrinkables() {
+			if (shrinkables == null) {
+				synchronized (this) {
+					if (shrinkables == null) {
+						List<Shrinkable<Object>> all = new ArrayList<>();
+						for (Object value : values) {
+							all.add(Shrinkable.unshrinkable(value));
+						}
+						shrinkables = all;
+					}
+				}
+			}
+			return shrinkables;
+		}
+
+		@Override
+		long size() {
+			return shrinkables().size();
+		}
+
+		@Override
+		Shrinkable<Object> get(long index) {
+			List<Shrinkable<Object>> all = shrinkables();
+			return index < all.size() ? all.get((int) index) : null;
+		}
+
+		@Override
+		ParameterValues forPartition() {
+			return this;
+		}
+	}
+
+	/**
+	 * Too many values to keep them all. Values are iterated again whenever an index
+	 * smaller than the current one is requested.
+	 */
+	private static class IteratingValues extends ParameterValues {
+
+		private final Iterable<Object> values;
+		private Iterator<Object> iterator;
+		private long position = 0;
+		private long size = -1;
+		private long lastIndex = -1;
+		private Shrinkable<Object> lastValue = null;
+
+		private IteratingValues(Iterable<Object> values) {
+			this.values = values;
+		}
+
+		@Override
+		long size() {
+			if (size < 0) {
+				long count = 0;
+				for (Iterator<Object> counter = values.iterator(); counter.hasNext(); counter.next()) {
+					count++;
+				}
+				size = count;
+			}
+			return size;
+		}
+
+		@Override
+		Shrinkable<Object> get(long index) {
+			if (index == lastIndex) {
+				return lastValue;
+			}
+			if (iterator == null || index < position) {
+				iterator = values.iterator();
+				position = 0;
+			}
+			while (position < index && iterator.hasNext()) {
+				iterator.next();
+				position++;
+			}
+			if (position < index || !iterator.hasNext()) {
+				return null;
+			}
+			position++;
+			lastIndex = index;
+			lastValue = Shrinkable.unshrinkable(iterator.next());
+			return lastValue;
+		}
+
+		@Override
+		ParameterValues forPartition() {
+			return new IteratingValues(values);
+		}
+	}
 }
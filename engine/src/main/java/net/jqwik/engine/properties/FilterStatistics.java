@@ -0,0 +1,222 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Counts generated and accepted values of a single filter.
+ *
+ * <p>
+ * Generators are recreated for every parallel worker and whenever an arbitrary is asked for one.
+ * That's why statistics are shared by all generators of a property that belong to the same filter,
+ * i.e. the same filtered arbitrary or - for generators filtered directly - the same predicate instance.
+ * All statistics of a property are shown in the property's report.
+ * </p>
+ *
+ * <p>
+ * Checking the acceptance rate is only switched on through configuration parameter
+ * {@code jqwik.filter.failfast}.
+ * </p>
+ */
+public class FilterStatistics {
+
+	// A filter must have generated at least that many values before its acceptance rate is judged
+	static final long MIN_TRIES_FOR_ACCEPTANCE_RATE = 10_000;
+
+	// Filters accepting less than one in thousand values are considered pathological
+	static final double MIN_ACCEPTANCE_RATE = 0.001;
+
+	private static final String LAMBDA_CLASS_MARKER = "$$Lambda";
+
+	private static volatile boolean failFast = false;
+
+	/**
+	 * Switch checking of the acceptance rate on or off for all filters.
+	 */
+	public static void failFast(boolean failFast) {
+		FilterStatistics.failFast = failFast;
+	}
+
+	public static boolean isFailFast() {
+		return failFast;
+	}
+
+	private static Store<Map<IdentityKey, FilterStatistics>> statisticsStore() {
+		return Store.getOrCreate(FilterStatistics.class, Lifespan.PROPERTY, LinkedHashMap::new);
+	}
+
+	/**
+	 * Get the statistics of a filter predicate in the current property.
+	 * Outside of a property fresh statistics are created.
+	 */
+	public static FilterStatistics forPredicate(Predicate<?> filterPredicate) {
+		return forFilter(filterPredicate, filterPredicate);
+	}
+
+	/**
+	 * Get the statistics of a filter in the current property.
+	 * Outside of a property fresh statistics are created.
+	 *
+	 * @param filter          the object identifying the filter, e.g. the filtered arbitrary
+	 * @param filterPredicate the predicate used to label the filter
+	 */
+	public static FilterStatistics forFilter(Object filter, Predicate<?> filterPredicate) {
+		Class<?> predicateClass = filterPredicate.getClass();
+		String definingClassName = definingClassName(predicateClass);
+		if (CurrentTestDescriptor.isEmpty()) {
+			return new FilterStatistics(filterLabel(predicateClass, 1), definingClassName);
+		}
+		Map<IdentityKey, FilterStatistics> propertyStatistics = statisticsStore().get();
+		synchronized (propertyStatistics) {
+			IdentityKey filterKey = new IdentityKey(filter);
+			FilterStatistics statistics = propertyStatistics.get(filterKey);
+			if (statistics == null) {
+				int filterNumber = countFiltersIn(propertyStatistics.values(), definingClassName) + 1;
+				statistics = new FilterStatistics(filterLabel(predicateClass, filterNumber), definingClassName);
+				propertyStatistics.put(filterKey, statistics);
+			}
+			return statistics;
+		}
+	}
+
+	private static int countFiltersIn(Collection<FilterStatistics> statistics, String definingClassName) {
+		int count = 0;
+		for (FilterStatistics filterStatistics : statistics) {
+			if (filterStatistics.definingClassName.equals(definingClassName)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// The name of a lambda's class is only stable up to the class in which it is defined
+	private static String filterLabel(Class<?> predicateClass, int filterNumber) {
+		String number = filterNumber > 1 ? " #" + filterNumber : "";
+		if (predicateClass.getName().contains(LAMBDA_CLASS_MARKER)) {
+			return String.format("filter%s in %s", number, definingClassName(predicateClass));
+		}
+		return String.format("filter%s %s", number, definingClassName(predicateClass));
+	}
+
+	private static String definingClassName(Class<?> predicateClass) {
+		String name = predicateClass.getName();
+		int lambdaMarker = name.indexOf(LAMBDA_CLASS_MARKER);
+		if (lambdaMarker >= 0) {
+			name = name.substring(0, lambdaMarker);
+		}
+		return name.substring(name.lastIndexOf('.') + 1).replace('$', '.');
+	}
+
+	/**
+	 * @return all statistics of filters that have been used in current property
+	 */
+	public static List<FilterStatistics> ofCurrentProperty() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<IdentityKey, FilterStatistics> propertyStatistics = statisticsStore().get();
+		synchronized (propertyStatistics) {
+			List<FilterStatistics> used = new ArrayList<>();
+			for (FilterStatistics statistics : propertyStatistics.values()) {
+				if (statistics.tries() > 0) {
+					used.add(statistics);
+				}
+			}
+			return used;
+		}
+	}
+
+	private final String filterLabel;
+	private final String definingClassName;
+	private final AtomicLong tries = new AtomicLong(0);
+	private final AtomicLong accepted = new AtomicLong(0);
+
+	FilterStatistics(String filterLabel) {
+		this(filterLabel, filterLabel);
+	}
+
+	private FilterStatistics(String filterLabel, String definingClassName) {
+		this.filterLabel = filterLabel;
+		this.definingClassName = definingClassName;
+	}
+
+	public String filterLabel() {
+		return filterLabel;
+	}
+
+	public long tries() {
+		return tries.get();
+	}
+
+	public long accepted() {
+		return accepted.get();
+	}
+
+	public double acceptanceRate() {
+		long currentTries = tries();
+		return currentTries == 0 ? 1.0 : (double) accepted() / currentTries;
+	}
+
+	/**
+	 * Record one call to a filter that needed {@code triesForValue} tries
+	 * and finally accepted a value or not.
+	 */
+	public void record(long triesForValue, boolean valueAccepted) {
+		tries.addAndGet(triesForValue);
+		if (valueAccepted) {
+			accepted.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Fail early if a filter rejects almost all generated values
+	 * instead of slowly burning through its max misses for every single value.
+	 * Callers are expected to only check if {@linkplain #isFailFast() fail fast} is switched on.
+	 */
+	public void checkAcceptanceRate() {
+		if (tries() >= MIN_TRIES_FOR_ACCEPTANCE_RATE && acceptanceRate() < MIN_ACCEPTANCE_RATE) {
+			String message = String.format(
+				"%s only accepted %s of %s generated values (%s). " +
+					"Consider constraining the underlying arbitrary, e.g. with between(..) or ofLength(..), instead of filtering.",
+				filterLabel,
+				accepted(),
+				tries(),
+				acceptanceRateString()
+			);
+			throw new TooManyFilterMissesException(message);
+		}
+	}
+
+	public String acceptanceRateString() {
+		return String.format(Locale.ROOT, "%.1f%%", acceptanceRate() * 100);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s: %s of %s accepted (%s)", filterLabel, accepted(), tries(), acceptanceRateString());
+	}
+
+	// Filters are identified by their instance since neither arbitraries nor predicates are value objects
+	private static class IdentityKey {
+		private final Object key;
+
+		private IdentityKey(Object key) {
+			this.key = key;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof IdentityKey && ((IdentityKey) o).key == key;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(key);
+		}
+	}
+}
@@ -2,8 +2,9 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
@@ -19,8 +20,13 @@ public class GenericProperty {
 	private final String name;
 	private final PropertyConfiguration configuration;
 	private final ParametersGenerator parametersGenerator;
+	private final List<ParametersGenerator> parametersGenerators;
 	private final TryLifecycleExecutor tryLifecycleExecutor;
 	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final Campaign campaign;
+
+	// Looked up once per check instead of for every reached probe
+	private Set<Object> coverageProbes;
 
 	public GenericProperty(
 		String name,
@@ -28,23 +34,93 @@ public class GenericProperty {
 		ParametersGenerator parametersGenerator,
 		TryLifecycleExecutor tryLifecycleExecutor,
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier
+	) {
+		this(name, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier, Campaign.NONE);
+	}
+
+	/**
+	 * Checkpoint progress through {@code campaign} and start from its resumed number of tries.
+	 */
+	public GenericProperty(
+		String name,
+		PropertyConfiguration configuration,
+		ParametersGenerator parametersGenerator,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		Campaign campaign
+	) {
+		this(name, configuration, Collections.singletonList(parametersGenerator), tryLifecycleExecutor, tryLifecycleContextSupplier, campaign);
+	}
+
+	/**
+	 * Use one parameters generator per worker to run tries in parallel.
+	 */
+	public GenericProperty(
+		String name,
+		PropertyConfiguration configuration,
+		List<ParametersGenerator> parametersGenerators,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier
+	) {
+		this(name, configuration, parametersGenerators, tryLifecycleExecutor, tryLifecycleContextSupplier, Campaign.NONE);
+	}
+
+	/**
+	 * Use one parameters generator per worker to run tries in parallel
+	 * and checkpoint progress through {@code campaign}. The generator of worker {@code n}
+	 * must start with the try whose index is the campaign's resumed number of tries plus {@code n}.
+	 */
+	public GenericProperty(
+		String name,
+		PropertyConfiguration configuration,
+		List<ParametersGenerator> parametersGenerators,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		Campaign campaign
 	) {
 		this.name = name;
 		this.configuration = configuration;
-		this.parametersGenerator = parametersGenerator;
+		this.parametersGenerator = parametersGenerators.get(0);
+		this.parametersGenerators = parametersGenerators;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
 		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.campaign = campaign;
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
-		int maxTries = configuration.getTries();
-		int countChecks = 0;
-		int countTries = 0;
+		coverageProbes = CoverageProbes.ofCurrentProperty();
+		PropertyCheckResult checkResult = parametersGenerators.size() > 1
+			? checkInParallel(reporter, reporting)
+			: checkSequentially(reporter, reporting);
+		// Not in a finally block: A checkpoint must survive a dying run
+		campaign.finish(checkResult.countAllTries());
+		return checkResult;
+	}
+
+	// Exhaustive generators stop by themselves - possibly after more than Integer.MAX_VALUE tries
+	private long maxTries() {
+		if (configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
+			return Long.MAX_VALUE;
+		}
+		return configuration.getTries();
+	}
+
+	private long reportedMaxTries(long countTries) {
+		long maxTries = maxTries();
+		return maxTries == Long.MAX_VALUE ? countTries : maxTries;
+	}
+
+	private PropertyCheckResult checkSequentially(Reporter reporter, Reporting[] reporting) {
+		long maxTries = maxTries();
+		long countChecks = campaign.resumedChecks();
+		long countTries = campaign.resumedTries();
+		boolean reportGenerated = Reporting.GENERATED.containedIn(reporting);
 		boolean finishEarly = false;
 		while (countTries < maxTries) {
 			if (finishEarly) {
 				break;
 			}
+			campaign.checkpointIfDue(countTries, countChecks);
 			if (!parametersGenerator.hasNext()) {
 				break;
 			}
@@ -56,7 +132,7 @@ public class GenericProperty {
 
 			try {
 				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reportGenerated);
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
 						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
@@ -84,8 +160,8 @@ public class GenericProperty {
 								configuration.getSeed(),
 								configuration.getGenerationMode(),
 								configuration.getEdgeCasesMode(),
-								parametersGenerator.edgeCasesTotal(),
-								parametersGenerator.edgeCasesTried(),
+								edgeCasesTotal(),
+								edgeCasesTried(),
 								tryExecutionResult.throwable().orElse(null)
 							);
 						}
@@ -105,7 +181,7 @@ public class GenericProperty {
 				return PropertyCheckResult.failed(
 					configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
 					configuration.getGenerationMode(),
-					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+					configuration.getEdgeCasesMode(), edgeCasesTotal(), edgeCasesTried(),
 					falsifiedSample, null, throwable
 				);
 			}
@@ -114,13 +190,13 @@ public class GenericProperty {
 			return PropertyCheckResult.exhausted(
 				configuration.getStereotype(),
 				name,
-				maxTries,
+				reportedMaxTries(countTries),
 				countChecks,
 				configuration.getSeed(),
 				configuration.getGenerationMode(),
 				configuration.getEdgeCasesMode(),
-				parametersGenerator.edgeCasesTotal(),
-				parametersGenerator.edgeCasesTried()
+				edgeCasesTotal(),
+				edgeCasesTried()
 			);
 		}
 		return PropertyCheckResult.successful(
@@ -131,42 +207,292 @@ public class GenericProperty {
 			configuration.getSeed(),
 			configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(),
-			parametersGenerator.edgeCasesTotal(),
-			parametersGenerator.edgeCasesTried()
+			edgeCasesTotal(),
+			edgeCasesTried()
 		);
 	}
 
+	private int edgeCasesTotal() {
+		return parametersGenerator.edgeCasesTotal();
+	}
+
+	private int edgeCasesTried() {
+		return parametersGenerators.stream().mapToInt(ParametersGenerator::edgeCasesTried).sum();
+	}
+
+	private PropertyCheckResult checkInParallel(Reporter reporter, Reporting[] reporting) {
+		TriesCoordinator coordinator = new TriesCoordinator();
+		List<TriesWorker> workers = new ArrayList<>();
+		for (int i = 0; i < parametersGenerators.size(); i++) {
+			workers.add(new TriesWorker(i, parametersGenerators.get(i), coordinator, reporter, reporting));
+		}
+		coordinator.workers = workers;
+		runWorkers(workers);
+
+		long countTries = campaign.resumedTries() + workers.stream().mapToLong(worker -> worker.countTries).sum();
+		long countChecks = campaign.resumedChecks() + workers.stream().mapToLong(worker -> worker.countChecks).sum();
+
+		Optional<TriesWorker> firstFailingWorker =
+			workers.stream()
+				   .filter(worker -> worker.falsifiedSample != null)
+				   .min(Comparator.comparing(worker -> worker.failingTry));
+		if (firstFailingWorker.isPresent()) {
+			TriesWorker failingWorker = firstFailingWorker.get();
+			if (failingWorker.unexpectedThrowable != null) {
+				return PropertyCheckResult.failed(
+					configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
+					configuration.getGenerationMode(),
+					configuration.getEdgeCasesMode(), edgeCasesTotal(), edgeCasesTried(),
+					failingWorker.falsifiedSample, null, failingWorker.unexpectedThrowable
+				);
+			}
+			return shrinkAndCreateCheckResult(
+				reporter,
+				reporting,
+				countChecks,
+				countTries,
+				failingWorker.falsifiedSample,
+				failingWorker.targetMethod
+			);
+		}
+		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
+			return PropertyCheckResult.exhausted(
+				configuration.getStereotype(),
+				name,
+				reportedMaxTries(countTries),
+				countChecks,
+				configuration.getSeed(),
+				configuration.getGenerationMode(),
+				configuration.getEdgeCasesMode(),
+				edgeCasesTotal(),
+				edgeCasesTried()
+			);
+		}
+		return PropertyCheckResult.successful(
+			configuration.getStereotype(),
+			name,
+			countTries,
+			countChecks,
+			configuration.getSeed(),
+			configuration.getGenerationMode(),
+			configuration.getEdgeCasesMode(),
+			edgeCasesTotal(),
+			edgeCasesTried()
+		);
+	}
+
+	private void runWorkers(List<TriesWorker> workers) {
+		try (ContextPropagatingThreadPool threadPool = new ContextPropagatingThreadPool("jqwik-tries-", workers.size())) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (TriesWorker worker : workers) {
+				futures.add(threadPool.submit(() -> {
+					worker.run();
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				waitFor(future);
+			}
+		}
+	}
+
+	private void waitFor(Future<?> future) {
+		try {
+			future.get();
+		} catch (ExecutionException executionException) {
+			JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	private class TriesCoordinator {
+		private final AtomicLong firstFailingTry = new AtomicLong(Long.MAX_VALUE);
+		private final AtomicBoolean finishEarly = new AtomicBoolean(false);
+		private List<TriesWorker> workers = Collections.emptyList();
+		private long discardedBeforeCompleted = 0;
+
+		private boolean shouldStopBefore(long tryIndex) {
+			return finishEarly.get() || tryIndex > firstFailingTry.get();
+		}
+
+		private void failedAt(long tryIndex) {
+			firstFailingTry.accumulateAndGet(tryIndex, Math::min);
+		}
+
+		// Only called by the first worker so that checkpoints are written from a single thread
+		private void checkpointIfDue() {
+			long completedTries = Long.MAX_VALUE;
+			for (TriesWorker worker : workers) {
+				completedTries = Math.min(completedTries, worker.nextTryIndex);
+			}
+			// Checks of tries that will be run again after resuming must not be counted
+			for (TriesWorker worker : workers) {
+				Long discardedTry;
+				while ((discardedTry = worker.discardedTries.peek()) != null && discardedTry < completedTries) {
+					worker.discardedTries.poll();
+					discardedBeforeCompleted++;
+				}
+			}
+			long countChecks = campaign.resumedChecks() + (completedTries - campaign.resumedTries()) - discardedBeforeCompleted;
+			campaign.checkpointIfDue(completedTries, countChecks);
+		}
+	}
+
+	/**
+	 * A worker runs every nth try where n is the number of workers.
+	 * Tries after the first known failing try are skipped
+	 * but earlier tries still run so that the failing sample
+	 * with the smallest index will always be found.
+	 *
+	 * <p>
+	 * All tries with an index smaller than the smallest {@code nextTryIndex} of all workers
+	 * have been run. Checkpoints store that index so that some later tries
+	 * might be run again after resuming.
+	 * </p>
+	 */
+	private class TriesWorker implements Runnable {
+		private final int workerIndex;
+		private final ParametersGenerator generator;
+		private final TriesCoordinator coordinator;
+		private final Reporter reporter;
+		private final Reporting[] reporting;
+
+		private volatile long countTries = 0;
+		private volatile long countChecks = 0;
+		private volatile long nextTryIndex;
+		// Indices of tries with invalid results in ascending order
+		private final Queue<Long> discardedTries = new ConcurrentLinkedQueue<>();
+		private long failingTry = Long.MAX_VALUE;
+		private FalsifiedSample falsifiedSample = null;
+		private Method targetMethod = null;
+		private Throwable unexpectedThrowable = null;
+
+		private TriesWorker(
+			int workerIndex,
+			ParametersGenerator generator,
+			TriesCoordinator coordinator,
+			Reporter reporter,
+			Reporting[] reporting
+		) {
+			this.workerIndex = workerIndex;
+			this.generator = generator;
+			this.coordinator = coordinator;
+			this.reporter = reporter;
+			this.reporting = reporting;
+			this.nextTryIndex = campaign.resumedTries() + workerIndex;
+		}
+
+		@Override
+		public void run() {
+			runTries();
+			// A worker that dies with an exception must not let checkpoints skip its current try
+			nextTryIndex = Long.MAX_VALUE;
+		}
+
+		private void runTries() {
+			long maxTries = maxTries();
+			boolean reportGenerated = Reporting.GENERATED.containedIn(reporting);
+			for (long tryIndex = nextTryIndex; tryIndex < maxTries; tryIndex += parametersGenerators.size()) {
+				nextTryIndex = tryIndex;
+				if (workerIndex == 0) {
+					coordinator.checkpointIfDue();
+				}
+				if (coordinator.shouldStopBefore(tryIndex)) {
+					break;
+				}
+				if (!generator.hasNext()) {
+					break;
+				}
+				countTries++;
+
+				TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+				List<Shrinkable<Object>> shrinkableParams = generator.next(tryLifecycleContext);
+				List<Object> sample = extractParams(shrinkableParams);
+
+				try {
+					countChecks++;
+					TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reportGenerated);
+					switch (tryExecutionResult.status()) {
+						case SATISFIED:
+							if (tryExecutionResult.shouldPropertyFinishEarly()) {
+								coordinator.finishEarly.set(true);
+							}
+							continue;
+						case FALSIFIED:
+							falsifiedSample = new FalsifiedSampleImpl(sample, shrinkableParams, tryExecutionResult.throwable());
+							targetMethod = tryLifecycleContext.targetMethod();
+							failedAt(tryIndex);
+							return;
+						case INVALID:
+							countChecks--;
+							if (campaign.isActive()) {
+								discardedTries.add(tryIndex);
+							}
+							break;
+						default:
+							String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
+							throw new RuntimeException(message);
+					}
+				} catch (Throwable throwable) {
+					// Only not AssertionErrors and non Exceptions get here
+					JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+					falsifiedSample = new FalsifiedSampleImpl(sample, shrinkableParams, Optional.of(throwable));
+					unexpectedThrowable = throwable;
+					failedAt(tryIndex);
+					return;
+				}
+			}
+		}
+
+		private void failedAt(long tryIndex) {
+			failingTry = tryIndex;
+			coordinator.failedAt(tryIndex);
+		}
+	}
+
 	private TryExecutionResult testPredicate(
 		TryLifecycleContext tryLifecycleContext,
 		List<Object> sample,
 		Reporter reporter,
-		Reporting[] reporting
+		boolean reportGenerated
 	) {
-		if (Reporting.GENERATED.containedIn(reporting)) {
+		if (reportGenerated) {
 			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
 			reporter.publishReports("generated", reports);
 		}
-		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
+		Set<Object> previousProbes = CoverageProbes.startTry(coverageProbes);
+		try {
+			return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
+		} finally {
+			CoverageProbes.finishTry(previousProbes);
+		}
 	}
 
-	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
-		int actualDiscardRatio = (countTries - countChecks) / countChecks;
+	private boolean maxDiscardRatioExceeded(long countChecks, long countTries, int maxDiscardRatio) {
+		long actualDiscardRatio = (countTries - countChecks) / countChecks;
 		return actualDiscardRatio > maxDiscardRatio;
 	}
 
 	private List<Object> extractParams(List<Shrinkable<Object>> shrinkableParams) {
-		return shrinkableParams.stream().map(Shrinkable::value).collect(Collectors.toList());
+		// Called for every try: A plain loop does not allocate a stream pipeline
+		List<Object> params = new ArrayList<>(shrinkableParams.size());
+		for (Shrinkable<Object> shrinkableParam : shrinkableParams) {
+			params.add(shrinkableParam.value());
+		}
+		return params;
 	}
 
 	private PropertyCheckResult shrinkAndCreateCheckResult(
-		Reporter reporter, Reporting[] reporting, int countChecks,
-		int countTries, FalsifiedSample originalSample,
+		Reporter reporter, Reporting[] reporting, long countChecks,
+		long countTries, FalsifiedSample originalSample,
 		Method targetMethod
 	) {
 		ShrunkFalsifiedSample shrunkSample = shrink(reporter, reporting, originalSample, targetMethod);
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(), configuration.getGenerationMode(),
-			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+			configuration.getEdgeCasesMode(), edgeCasesTotal(), edgeCasesTried(),
 			originalSample, shrunkSample, shrunkSample.falsifyingError().orElse(null)
 		);
 	}
@@ -186,6 +512,8 @@ public class GenericProperty {
 			originalSample,
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
+			configuration.shrinkingParallelism(),
+			configuration.shrinkingCacheSize(),
 			falsifiedSampleReporter,
 			targetMethod
 		);
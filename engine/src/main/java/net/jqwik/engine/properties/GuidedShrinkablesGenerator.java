@@ -0,0 +1,110 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Steers randomized generation towards samples that cover new ground.
+ *
+ * <p>
+ * Coverage is measured by a counter that must only grow, e.g. the number of
+ * coverage probes that tries on the current thread have reached for the first time.
+ * If the counter has grown during a try the sample of this try is added to a corpus.
+ * From then on every other sample is a mutation of a sample from the corpus:
+ * One of its parameters is replaced by a freshly generated value or by one of its shrink candidates.
+ * </p>
+ */
+public class GuidedShrinkablesGenerator implements ForAllParametersGenerator {
+
+	static final int MAX_CORPUS_SIZE = 1000;
+	private static final int MAX_SHRINK_CANDIDATES = 10;
+
+	private final ForAllParametersGenerator randomizedGenerator;
+	private final IntSupplier coverage;
+	private final Random random;
+
+	private final List<List<Shrinkable<Object>>> corpus = new ArrayList<>();
+
+	private List<Shrinkable<Object>> lastSample = null;
+	private int lastCoverage = 0;
+
+	public GuidedShrinkablesGenerator(ForAllParametersGenerator randomizedGenerator, IntSupplier coverage, Random random) {
+		this.randomizedGenerator = randomizedGenerator;
+		this.coverage = coverage;
+		this.random = random;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return randomizedGenerator.hasNext();
+	}
+
+	@Override
+	public List<Shrinkable<Object>> next() {
+		rememberLastSampleIfCoverageHasGrown();
+		List<Shrinkable<Object>> next = shouldMutate() ? mutate(randomCorpusEntry()) : randomizedGenerator.next();
+		lastSample = next;
+		return next;
+	}
+
+	private void rememberLastSampleIfCoverageHasGrown() {
+		int currentCoverage = coverage.getAsInt();
+		if (lastSample != null && currentCoverage > lastCoverage) {
+			if (corpus.size() >= MAX_CORPUS_SIZE) {
+				corpus.remove(random.nextInt(corpus.size()));
+			}
+			corpus.add(lastSample);
+		}
+		lastCoverage = currentCoverage;
+	}
+
+	private boolean shouldMutate() {
+		return !corpus.isEmpty() && random.nextBoolean();
+	}
+
+	private List<Shrinkable<Object>> randomCorpusEntry() {
+		return corpus.get(random.nextInt(corpus.size()));
+	}
+
+	private List<Shrinkable<Object>> mutate(List<Shrinkable<Object>> sample) {
+		if (sample.isEmpty()) {
+			return randomizedGenerator.next();
+		}
+		List<Shrinkable<Object>> mutant = new ArrayList<>(sample);
+		int index = random.nextInt(mutant.size());
+		mutant.set(index, replacement(mutant.get(index), index));
+		return mutant;
+	}
+
+	// Fresh parameters are only generated if they are used
+	private Shrinkable<Object> replacement(Shrinkable<Object> parameter, int index) {
+		if (random.nextBoolean()) {
+			List<Shrinkable<Object>> candidates = shrinkCandidates(parameter);
+			if (!candidates.isEmpty()) {
+				return candidates.get(random.nextInt(candidates.size()));
+			}
+		}
+		return randomizedGenerator.next().get(index);
+	}
+
+	private List<Shrinkable<Object>> shrinkCandidates(Shrinkable<Object> shrinkable) {
+		return shrinkable.shrink().limit(MAX_SHRINK_CANDIDATES).collect(Collectors.toList());
+	}
+
+	@Override
+	public int edgeCasesTotal() {
+		return randomizedGenerator.edgeCasesTotal();
+	}
+
+	@Override
+	public int edgeCasesTried() {
+		return randomizedGenerator.edgeCasesTried();
+	}
+
+	int corpusSize() {
+		return corpus.size();
+	}
+}
@@ -6,7 +6,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 
 public class MaxTriesLoop {
-	private static final long MAX_MISSES = 10000;
+	public static final long MAX_MISSES = 10000;
 
 	public static <T>  T loop(
 		BooleanSupplier loopCondition,
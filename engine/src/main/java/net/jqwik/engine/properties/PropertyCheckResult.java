@@ -21,8 +21,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	public static PropertyCheckResult successful(
 		String stereotype,
 		String propertyName,
-		int tries,
-		int checks,
+		long tries,
+		long checks,
 		String randomSeed,
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
@@ -48,8 +48,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	public static PropertyCheckResult failed(
 		String stereotype,
 		String propertyName,
-		int tries,
-		int checks,
+		long tries,
+		long checks,
 		String randomSeed,
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
@@ -114,8 +114,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	public static PropertyCheckResult exhausted(
 		String stereotype,
 		String propertyName,
-		int tries,
-		int checks,
+		long tries,
+		long checks,
 		String randomSeed,
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
@@ -142,8 +142,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final String stereotype;
 	private final CheckStatus status;
 	private final String propertyName;
-	private final int tries;
-	private final int checks;
+	private final long tries;
+	private final long checks;
 	private final String randomSeed;
 	private final GenerationMode generation;
 	private final EdgeCasesMode edgeCasesMode;
@@ -156,8 +156,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
 		String propertyName,
-		int tries,
-		int checks,
+		long tries,
+		long checks,
 		String randomSeed,
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
@@ -275,14 +275,31 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return status;
 	}
 
+	// Exhaustive generation can run more than Integer.MAX_VALUE tries
+	@Override
 	public int countChecks() {
-		return checks;
+		return saturatedInt(checks);
 	}
 
+	@Override
 	public int countTries() {
+		return saturatedInt(tries);
+	}
+
+	@Override
+	public long countAllChecks() {
+		return checks;
+	}
+
+	@Override
+	public long countAllTries() {
 		return tries;
 	}
 
+	private static int saturatedInt(long count) {
+		return (int) Math.min(count, Integer.MAX_VALUE);
+	}
+
 	public String randomSeed() {
 		return randomSeed;
 	}
@@ -320,7 +337,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 				}).orElse("");
 				return String.format("%s failed%s", header, failedMessage);
 			case EXHAUSTED:
-				int rejections = tries - checks;
+				long rejections = tries - checks;
 				return String.format("%s exhausted after [%d] tries and [%d] rejections", header, tries, rejections);
 			default:
 				return header;
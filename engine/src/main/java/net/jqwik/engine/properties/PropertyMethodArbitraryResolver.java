@@ -3,6 +3,7 @@ package net.jqwik.engine.properties;
 import java.util.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.configurators.*;
 import net.jqwik.api.domains.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.engine.facades.*;
@@ -13,11 +14,30 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 	private final RegisteredArbitraryResolver registeredArbitraryResolver;
 	private final RegisteredArbitraryConfigurer registeredArbitraryConfigurer;
 
+	// Only set if resolved arbitraries can be shared with other properties
+	private final ArbitraryResolutionCache.Context cacheContext;
+
 	public PropertyMethodArbitraryResolver(Object testInstance, DomainContext domainContext) {
 		this(
 			testInstance,
-			new RegisteredArbitraryResolver(domainContext.getArbitraryProviders()),
-			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators())
+			domainContext.getArbitraryProviders(),
+			domainContext.getArbitraryConfigurators(),
+			// Other domain contexts are instantiated for each property
+			domainContext == DomainContext.global()
+		);
+	}
+
+	private PropertyMethodArbitraryResolver(
+		Object testInstance,
+		List<ArbitraryProvider> providers,
+		List<ArbitraryConfigurator> configurators,
+		boolean useCache
+	) {
+		this(
+			testInstance,
+			useCache ? RegisteredArbitraryResolver.shared(providers) : new RegisteredArbitraryResolver(providers),
+			new RegisteredArbitraryConfigurer(configurators),
+			useCache ? new ArbitraryResolutionCache.Context(providers, configurators) : null
 		);
 	}
 
@@ -25,16 +45,29 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 		Object testInstance,
 		RegisteredArbitraryResolver registeredArbitraryResolver,
 		RegisteredArbitraryConfigurer registeredArbitraryConfigurer
+	) {
+		this(testInstance, registeredArbitraryResolver, registeredArbitraryConfigurer, null);
+	}
+
+	private PropertyMethodArbitraryResolver(
+		Object testInstance,
+		RegisteredArbitraryResolver registeredArbitraryResolver,
+		RegisteredArbitraryConfigurer registeredArbitraryConfigurer,
+		ArbitraryResolutionCache.Context cacheContext
 	) {
 		super(testInstance);
 		this.registeredArbitraryResolver = registeredArbitraryResolver;
 		this.registeredArbitraryConfigurer = registeredArbitraryConfigurer;
+		this.cacheContext = cacheContext;
 	}
 
 	@Override
 	public Set<Arbitrary<?>> forParameter(MethodParameter parameter) {
 		TypeUsage typeUsage = TypeUsageImpl.forParameter(parameter);
-		return apply(typeUsage);
+		if (cacheContext == null) {
+			return apply(typeUsage);
+		}
+		return ArbitraryResolutionCache.global().resolve(typeUsage, cacheContext, () -> apply(typeUsage));
 	}
 
 	@Override
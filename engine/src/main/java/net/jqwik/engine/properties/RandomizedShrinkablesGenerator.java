@@ -22,15 +22,33 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		int genSize,
 		EdgeCasesMode edgeCasesMode
 	) {
+		return forParameters(parameters, arbitraryResolver, random, genSize, edgeCasesMode, 0, 1);
+	}
+
+	/**
+	 * Create a generator that only generates its share of edge cases
+	 * when {@code partitions} generators are used in parallel.
+	 */
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		EdgeCasesMode edgeCasesMode,
+		int partition,
+		int partitions
+	) {
 
 		List<EdgeCases<Object>> listOfEdgeCases = listOfEdgeCases(parameters, arbitraryResolver, edgeCasesMode, genSize);
 		int edgeCasesTotal = calculateEdgeCasesTotal(listOfEdgeCases);
 
-		logEdgecasesOutnumberTriesIfApplicable(genSize, edgeCasesTotal);
+		if (partition == 0) {
+			logEdgecasesOutnumberTriesIfApplicable(genSize, edgeCasesTotal);
+		}
 
 		return new RandomizedShrinkablesGenerator(
 			randomShrinkablesGenerator(parameters, arbitraryResolver, genSize, edgeCasesMode.activated()),
-			new EdgeCasesGenerator(listOfEdgeCases),
+			new EdgeCasesGenerator(listOfEdgeCases, partition, partitions),
 			edgeCasesMode,
 			edgeCasesTotal,
 			calculateBaseToEdgeCaseRatio(listOfEdgeCases, genSize),
@@ -121,7 +139,7 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	) {
 		List<EdgeCases<Object>> edgeCases = resolveArbitraries(arbitraryResolver, parameter)
 												.stream()
-												.map(objectArbitrary -> objectArbitrary.edgeCases(maxEdgeCases))
+												.map(objectArbitrary -> EdgeCasesSupport.memoized(objectArbitrary, maxEdgeCases))
 												.collect(Collectors.toList());
 		return EdgeCasesSupport.concat(edgeCases, maxEdgeCases);
 	}
@@ -204,6 +222,14 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		return randomGenerator.generateNext(random);
 	}
 
+	/**
+	 * Continue with the edge cases that a previous generator had not generated yet.
+	 */
+	public void skipEdgeCases(int count) {
+		edgeCasesGenerator.skip(count);
+		edgeCasesTried += count;
+	}
+
 	@Override
 	public int edgeCasesTotal() {
 		return edgeCasesTotal;
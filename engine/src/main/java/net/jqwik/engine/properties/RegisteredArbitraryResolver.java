@@ -1,37 +1,105 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.api.providers.ArbitraryProvider.*;
 
+/**
+ * Providers are not asked linearly for each target type:
+ * <ul>
+ *     <li>Providers that declare their {@linkplain ArbitraryProvider#providedRawTypes() raw types}
+ *     are only considered for target types those raw types can be assigned to.
+ *     Candidates are indexed by the target's raw type.</li>
+ *     <li>The providers with the highest priority that fit a target type are memoized for the resolver's lifetime.</li>
+ * </ul>
+ */
 public class RegisteredArbitraryResolver {
 
+	private static final AtomicReference<RegisteredArbitraryResolver> shared = new AtomicReference<>();
+
+	/**
+	 * Reuse the same resolver as long as the registered providers do not change
+	 * so that its indexes must only be built once.
+	 */
+	public static RegisteredArbitraryResolver shared(List<ArbitraryProvider> registeredProviders) {
+		RegisteredArbitraryResolver current = shared.get();
+		if (current != null && current.nonDefaultProviders.equals(registeredProviders)) {
+			return current;
+		}
+		RegisteredArbitraryResolver resolver = new RegisteredArbitraryResolver(registeredProviders);
+		shared.set(resolver);
+		return resolver;
+	}
+
+	private final List<ArbitraryProvider> nonDefaultProviders;
 	private final List<ArbitraryProvider> registeredProviders = new ArrayList<>();
 
+	private final Map<Class<?>, List<ArbitraryProvider>> candidatesByRawType = new ConcurrentHashMap<>();
+	private final Map<TypeUsage, List<ArbitraryProvider>> fittingProviders = new ConcurrentHashMap<>();
+
 	public RegisteredArbitraryResolver(List<ArbitraryProvider> registeredProviders) {
+		this.nonDefaultProviders = new ArrayList<>(registeredProviders);
 		this.registeredProviders.addAll(registeredProviders);
 		this.registeredProviders.addAll(DefaultArbitraries.getDefaultProviders());
 	}
 
 	public Set<Arbitrary<?>> resolve(TypeUsage targetType, SubtypeProvider subtypeProvider) {
-		int currentPriority = Integer.MIN_VALUE;
 		Set<Arbitrary<?>> fittingArbitraries = new HashSet<>();
-		for (ArbitraryProvider provider : registeredProviders) {
+		for (ArbitraryProvider provider : fittingProviders(targetType)) {
+			Set<Arbitrary<?>> arbitraries = provider.provideFor(targetType, subtypeProvider);
+			fittingArbitraries.addAll(arbitraries);
+		}
+		return fittingArbitraries;
+	}
+
+	private List<ArbitraryProvider> fittingProviders(TypeUsage targetType) {
+		List<ArbitraryProvider> providers = fittingProviders.get(targetType);
+		if (providers == null) {
+			providers = findFittingProviders(targetType);
+			fittingProviders.putIfAbsent(targetType, providers);
+		}
+		return providers;
+	}
+
+	private List<ArbitraryProvider> findFittingProviders(TypeUsage targetType) {
+		int currentPriority = Integer.MIN_VALUE;
+		List<ArbitraryProvider> fitting = new ArrayList<>();
+		for (ArbitraryProvider provider : candidates(targetType)) {
 			if (provider.canProvideFor(targetType)) {
 				if (provider.priority() < currentPriority) {
 					continue;
 				}
 				if (provider.priority() > currentPriority) {
-					fittingArbitraries.clear();
+					fitting.clear();
 					currentPriority = provider.priority();
 				}
-				Set<Arbitrary<?>> arbitraries = provider.provideFor(targetType, subtypeProvider);
-				fittingArbitraries.addAll(arbitraries);
+				fitting.add(provider);
 			}
 		}
-		return fittingArbitraries;
+		return fitting;
+	}
+
+	private List<ArbitraryProvider> candidates(TypeUsage targetType) {
+		if (targetType.isTypeVariableOrWildcard()) {
+			return registeredProviders;
+		}
+		return candidatesByRawType.computeIfAbsent(targetType.getRawType(), this::findCandidates);
+	}
+
+	private List<ArbitraryProvider> findCandidates(Class<?> targetRawType) {
+		TypeUsage rawTargetType = TypeUsage.of(targetRawType);
+		List<ArbitraryProvider> candidates = new ArrayList<>();
+		for (ArbitraryProvider provider : registeredProviders) {
+			Set<Class<?>> providedRawTypes = provider.providedRawTypes();
+			if (providedRawTypes.isEmpty() || providedRawTypes.stream().anyMatch(rawTargetType::isAssignableFrom)) {
+				candidates.add(provider);
+			}
+		}
+		return candidates;
 	}
 
 }
@@ -4,16 +4,32 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements ShrunkFalsifiedSample {
 
 	private final int shrinkingSteps;
+	private final FalsificationCache.Statistics falsificationCacheStatistics;
 
 	public ShrunkFalsifiedSampleImpl(
 		FalsifiedSample falsifiedSample,
 		int shrinkingSteps
 	) {
-		this(falsifiedSample.parameters(), falsifiedSample.shrinkables(), falsifiedSample.falsifyingError(), shrinkingSteps);
+		this(falsifiedSample, shrinkingSteps, FalsificationCache.Statistics.NONE);
+	}
+
+	public ShrunkFalsifiedSampleImpl(
+		FalsifiedSample falsifiedSample,
+		int shrinkingSteps,
+		FalsificationCache.Statistics falsificationCacheStatistics
+	) {
+		this(
+			falsifiedSample.parameters(),
+			falsifiedSample.shrinkables(),
+			falsifiedSample.falsifyingError(),
+			shrinkingSteps,
+			falsificationCacheStatistics
+		);
 	}
 
 	public ShrunkFalsifiedSampleImpl(
@@ -21,9 +37,20 @@ public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements Sh
 		List<Shrinkable<Object>> shrinkables,
 		Optional<Throwable> falsifyingError,
 		int shrinkingSteps
+	) {
+		this(parameters, shrinkables, falsifyingError, shrinkingSteps, FalsificationCache.Statistics.NONE);
+	}
+
+	private ShrunkFalsifiedSampleImpl(
+		List<Object> parameters,
+		List<Shrinkable<Object>> shrinkables,
+		Optional<Throwable> falsifyingError,
+		int shrinkingSteps,
+		FalsificationCache.Statistics falsificationCacheStatistics
 	) {
 		super(parameters, shrinkables, falsifyingError);
 		this.shrinkingSteps = shrinkingSteps;
+		this.falsificationCacheStatistics = falsificationCacheStatistics;
 	}
 
 	@Override
@@ -31,6 +58,11 @@ public class ShrunkFalsifiedSampleImpl extends FalsifiedSampleImpl implements Sh
 		return shrinkingSteps;
 	}
 
+	// Not considered in equals() since statistics do not change the sample
+	public FalsificationCache.Statistics falsificationCacheStatistics() {
+		return falsificationCacheStatistics;
+	}
+
 	public boolean equivalentTo(FalsifiedSample sample) {
 		if (sample == null) {
 			return false;
@@ -0,0 +1,108 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Keeps the features of all added values so that uniqueness checks
+ * do not have to extract the features of all existing values again.
+ */
+public class UniquenessIndex<T> {
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Map<Object, Integer>> featureCounts;
+	private final int[] duplicates;
+
+	public UniquenessIndex(Collection<FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		this.featureCounts = new ArrayList<>(extractors.size());
+		for (int i = 0; i < extractors.size(); i++) {
+			featureCounts.add(new HashMap<>());
+		}
+		this.duplicates = new int[extractors.size()];
+	}
+
+	public static <T> UniquenessIndex<T> of(Collection<FeatureExtractor<T>> extractors, Collection<T> values) {
+		UniquenessIndex<T> index = new UniquenessIndex<>(extractors);
+		for (T value : values) {
+			index.add(value);
+		}
+		return index;
+	}
+
+	/**
+	 * @return true if no feature of value is already in this index
+	 */
+	public boolean isUnique(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			if (featureCounts.get(i).containsKey(extractors.get(i).applySafe(value))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void add(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			int count = featureCounts.get(i).merge(feature, 1, Integer::sum);
+			if (count > 1) {
+				duplicates[i]++;
+			}
+		}
+	}
+
+	/**
+	 * Check if replacement would be unique among all indexed values except the replaced one.
+	 * The index itself is not changed.
+	 *
+	 * @param replaced a value that must have been added before
+	 */
+	public boolean isUniqueInOthers(T replaced, T replacement) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object feature = extractor.applySafe(replacement);
+			int countInOthers = featureCounts.get(i).getOrDefault(feature, 0);
+			if (Objects.equals(feature, extractor.applySafe(replaced))) {
+				countInOthers--;
+			}
+			if (countInOthers > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if all indexed values would be unique after replacing some of them.
+	 * The index itself is not changed.
+	 *
+	 * @param replaced     values that must have been added before
+	 * @param replacements values that replace the removed ones
+	 */
+	public boolean areUniqueWithReplaced(List<T> replaced, List<T> replacements) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Map<Object, Integer> counts = featureCounts.get(i);
+			Map<Object, Integer> deltas = new HashMap<>();
+			for (T value : replaced) {
+				deltas.merge(extractor.applySafe(value), -1, Integer::sum);
+			}
+			for (T value : replacements) {
+				deltas.merge(extractor.applySafe(value), 1, Integer::sum);
+			}
+			int duplicatesAfterReplacement = duplicates[i];
+			for (Map.Entry<Object, Integer> delta : deltas.entrySet()) {
+				int count = counts.getOrDefault(delta.getKey(), 0);
+				duplicatesAfterReplacement += excess(count + delta.getValue()) - excess(count);
+			}
+			if (duplicatesAfterReplacement > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int excess(int count) {
+		return Math.max(0, count - 1);
+	}
+}
@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary {
+public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary, ShrinksByValue {
 
 	private static final byte DEFAULT_MIN = Byte.MIN_VALUE;
 	private static final byte DEFAULT_MAX = Byte.MAX_VALUE;
@@ -20,17 +20,17 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 
 	@Override
 	public RandomGenerator<Byte> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
+		return generatingArbitrary.longGenerator(genSize).map(Long::byteValue);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Byte>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::byteValueExact));
+		return generatingArbitrary.longExhaustive(maxNumberOfSamples).map(generator -> generator.map(Long::byteValue));
 	}
 
 	@Override
 	public EdgeCases<Byte> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::byteValueExact);
+		return EdgeCasesSupport.map(generatingArbitrary.longEdgeCases(maxEdgeCases), Long::byteValue);
 	}
 
 	@Override
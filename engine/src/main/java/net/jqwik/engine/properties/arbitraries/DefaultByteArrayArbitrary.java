@@ -0,0 +1,75 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+public class DefaultByteArrayArbitrary extends TypedCloneable implements ByteArrayArbitrary {
+
+	private static final byte[] EDGE_CASE_BYTES = {0, -1, Byte.MIN_VALUE, Byte.MAX_VALUE};
+
+	private int minSize = 0;
+	private int maxSize = RandomGenerators.DEFAULT_COLLECTION_SIZE;
+	private RandomDistribution sizeDistribution = null;
+
+	@Override
+	public RandomGenerator<byte[]> generator(int genSize) {
+		return RandomGenerators.byteArrays(minSize, maxSize, genSize, sizeDistribution);
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<byte[]>> exhaustive(long maxNumberOfSamples) {
+		return Arbitraries.bytes()
+						  .array(byte[].class)
+						  .ofMinSize(minSize)
+						  .ofMaxSize(maxSize)
+						  .exhaustive(maxNumberOfSamples);
+	}
+
+	@Override
+	public EdgeCases<byte[]> edgeCases(int maxEdgeCases) {
+		List<Supplier<Shrinkable<byte[]>>> suppliers = new ArrayList<>();
+		if (minSize == 0 && maxEdgeCases > 0) {
+			suppliers.add(() -> new ShrinkableByteArray(new byte[0], minSize));
+		}
+		int filledSize = Math.max(1, minSize);
+		if (filledSize <= maxSize) {
+			for (byte edgeCaseByte : EDGE_CASE_BYTES) {
+				if (suppliers.size() >= maxEdgeCases) {
+					break;
+				}
+				suppliers.add(() -> {
+					byte[] bytes = new byte[filledSize];
+					Arrays.fill(bytes, edgeCaseByte);
+					return new ShrinkableByteArray(bytes, minSize);
+				});
+			}
+		}
+		return EdgeCasesSupport.fromSuppliers(suppliers);
+	}
+
+	@Override
+	public ByteArrayArbitrary ofMinSize(int minSize) {
+		DefaultByteArrayArbitrary clone = typedClone();
+		clone.minSize = minSize;
+		return clone;
+	}
+
+	@Override
+	public ByteArrayArbitrary ofMaxSize(int maxSize) {
+		DefaultByteArrayArbitrary clone = typedClone();
+		clone.maxSize = maxSize;
+		return clone;
+	}
+
+	@Override
+	public ByteArrayArbitrary withSizeDistribution(RandomDistribution distribution) {
+		DefaultByteArrayArbitrary clone = typedClone();
+		clone.sizeDistribution = distribution;
+		return clone;
+	}
+}
@@ -0,0 +1,56 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.nio.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+
+public class DefaultByteBufferArbitrary extends ArbitraryDecorator<ByteBuffer> implements ByteBufferArbitrary {
+
+	private ByteArrayArbitrary byteArrays = new DefaultByteArrayArbitrary();
+	private boolean direct = false;
+
+	@Override
+	protected Arbitrary<ByteBuffer> arbitrary() {
+		return byteArrays.map(this::toBuffer);
+	}
+
+	private ByteBuffer toBuffer(byte[] bytes) {
+		if (direct) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+			buffer.put(bytes);
+			// Calling flip() through Buffer links against Java 8's Buffer.flip() instead of the covariant override of Java 9+
+			((Buffer) buffer).flip();
+			return buffer;
+		}
+		return ByteBuffer.wrap(bytes);
+	}
+
+	@Override
+	public ByteBufferArbitrary ofMinSize(int minSize) {
+		DefaultByteBufferArbitrary clone = typedClone();
+		clone.byteArrays = byteArrays.ofMinSize(minSize);
+		return clone;
+	}
+
+	@Override
+	public ByteBufferArbitrary ofMaxSize(int maxSize) {
+		DefaultByteBufferArbitrary clone = typedClone();
+		clone.byteArrays = byteArrays.ofMaxSize(maxSize);
+		return clone;
+	}
+
+	@Override
+	public ByteBufferArbitrary withSizeDistribution(RandomDistribution distribution) {
+		DefaultByteBufferArbitrary clone = typedClone();
+		clone.byteArrays = byteArrays.withSizeDistribution(distribution);
+		return clone;
+	}
+
+	@Override
+	public ByteBufferArbitrary direct() {
+		DefaultByteBufferArbitrary clone = typedClone();
+		clone.direct = true;
+		return clone;
+	}
+}
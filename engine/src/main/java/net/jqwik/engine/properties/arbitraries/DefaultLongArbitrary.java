@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary {
+public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary, ShrinksByValue {
 
 	private static final long DEFAULT_MIN = Long.MIN_VALUE;
 	private static final long DEFAULT_MAX = Long.MAX_VALUE;
@@ -20,17 +20,17 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		return generatingArbitrary.longGenerator(genSize);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Long>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::longValueExact));
+		return generatingArbitrary.longExhaustive(maxNumberOfSamples);
 	}
 
 	@Override
 	public EdgeCases<Long> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::longValueExact);
+		return generatingArbitrary.longEdgeCases(maxEdgeCases);
 	}
 
 	@Override
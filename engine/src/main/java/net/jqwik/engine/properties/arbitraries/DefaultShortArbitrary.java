@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary {
+public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary, ShrinksByValue {
 
 	private static final short DEFAULT_MIN = Short.MIN_VALUE;
 	private static final short DEFAULT_MAX = Short.MAX_VALUE;
@@ -20,17 +20,17 @@ public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitr
 
 	@Override
 	public RandomGenerator<Short> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
+		return generatingArbitrary.longGenerator(genSize).map(Long::shortValue);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Short>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::shortValueExact));
+		return generatingArbitrary.longExhaustive(maxNumberOfSamples).map(generator -> generator.map(Long::shortValue));
 	}
 
 	@Override
 	public EdgeCases<Short> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::shortValueExact);
+		return EdgeCasesSupport.map(generatingArbitrary.longEdgeCases(maxEdgeCases), Long::shortValue);
 	}
 
 	@Override
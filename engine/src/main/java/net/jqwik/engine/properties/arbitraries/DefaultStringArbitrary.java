@@ -76,7 +76,8 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		return EdgeCasesSupport.mapShrinkable(
 			effectiveCharacterArbitrary().edgeCases(maxEdgeCases),
 			shrinkableChar -> {
-				List<Shrinkable<Character>> shrinkableChars = new ArrayList<>(Collections.nCopies(fixedSize, shrinkableChar));
+				// Shrinking never modifies the list of elements, so all copies can be shared
+				List<Shrinkable<Character>> shrinkableChars = Collections.nCopies(fixedSize, shrinkableChar);
 				return new ShrinkableString(shrinkableChars, minLength, maxLength);
 			}
 		);
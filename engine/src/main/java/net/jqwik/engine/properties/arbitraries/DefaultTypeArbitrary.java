@@ -1,7 +1,9 @@
 package net.jqwik.engine.properties.arbitraries;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -10,11 +12,35 @@ import org.junit.platform.commons.support.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.providers.*;
+import net.jqwik.engine.support.*;
 
 import static org.junit.platform.commons.support.ModifierSupport.*;
 
 public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeArbitrary<T> {
 
+	// Candidates only depend on the target type and can therefore be shared by all instances.
+	// ClassValue does not keep user classes and their class loaders from being unloaded.
+	private static final ClassValue<List<Constructor<?>>> constructorCandidates = new ClassValue<List<Constructor<?>>>() {
+		@Override
+		protected List<Constructor<?>> computeValue(Class<?> type) {
+			return findConstructorCandidates(type);
+		}
+	};
+	private static final ClassValue<List<Method>> factoryMethodCandidates = new ClassValue<List<Method>>() {
+		@Override
+		protected List<Method> computeValue(Class<?> type) {
+			return findFactoryMethodCandidates(type);
+		}
+	};
+
+	// Creators are bound once so that generating a value does not go through reflection
+	private static final ClassValue<Map<Executable, MethodHandle>> creatorHandles = new ClassValue<Map<Executable, MethodHandle>>() {
+		@Override
+		protected Map<Executable, MethodHandle> computeValue(Class<?> declaringClass) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	private final Class<T> targetType;
 	private final Set<Executable> creators = new HashSet<>();
 	private boolean defaultsSet = false;
@@ -52,13 +78,19 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 		if (isAbstract(targetType)) {
 			return this;
 		}
-		Arrays.stream(targetType.getDeclaredConstructors())
-			  .filter(this::isNotRecursive)
-			  .filter(filter)
-			  .forEach(this::use);
+		constructorCandidates.get(targetType)
+							 .stream()
+							 .filter(filter)
+							 .forEach(this::use);
 		return this;
 	}
 
+	private static List<Constructor<?>> findConstructorCandidates(Class<?> type) {
+		return Arrays.stream(type.getDeclaredConstructors())
+					 .filter(constructor -> isNotRecursive(constructor, type))
+					 .collect(Collectors.toList());
+	}
+
 	@Override
 	public TypeArbitrary<T> usePublicConstructors() {
 		return useConstructors(ModifierSupport::isPublic);
@@ -71,15 +103,21 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 
 	@Override
 	public TypeArbitrary<T> useFactoryMethods(Predicate<Method> filter) {
-		Arrays.stream(targetType.getDeclaredMethods())
-			  .filter(ModifierSupport::isStatic)
-			  .filter(this::hasFittingReturnType)
-			  .filter(this::isNotRecursive)
-			  .filter(filter)
-			  .forEach(this::use);
+		factoryMethodCandidates.get(targetType)
+							   .stream()
+							   .filter(filter)
+							   .forEach(this::use);
 		return this;
 	}
 
+	private static List<Method> findFactoryMethodCandidates(Class<?> type) {
+		return Arrays.stream(type.getDeclaredMethods())
+					 .filter(ModifierSupport::isStatic)
+					 .filter(method -> hasFittingReturnType(method, type))
+					 .filter(method -> isNotRecursive(method, type))
+					 .collect(Collectors.toList());
+	}
+
 	@Override
 	public TypeArbitrary<T> usePublicFactoryMethods() {
 		return useFactoryMethods(ModifierSupport::isPublic);
@@ -104,17 +142,17 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 	}
 
 	private void checkReturnType(Executable creator) {
-		if (!hasFittingReturnType(creator)) {
+		if (!hasFittingReturnType(creator, targetType)) {
 			throw new JqwikException(String.format("Creator %s should return type %s", creator, targetType.getName()));
 		}
 	}
 
-	private boolean hasFittingReturnType(Executable creator) {
+	private static boolean hasFittingReturnType(Executable creator, Class<?> targetType) {
 		TypeUsage returnType = TypeUsage.forType(creator.getAnnotatedReturnType().getType());
 		return returnType.canBeAssignedTo(TypeUsage.of(targetType));
 	}
 
-	private boolean isNotRecursive(Executable creator) {
+	private static boolean isNotRecursive(Executable creator, Class<?> targetType) {
 		return Arrays.stream(creator.getParameterTypes()).noneMatch(parameterType -> parameterType.equals(targetType));
 	}
 
@@ -155,36 +193,56 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 				  .map(annotatedType -> Arbitraries.defaultFor(TypeUsage.forType(annotatedType.getType())))
 				  .collect(Collectors.toList());
 
-		Function<List<Object>, T> combinator = paramList -> combinator(creator).apply(paramList.toArray());
+		Function<Object[], T> creatorFunction = creatorFunction(creator);
+		Function<List<Object>, T> combinator = paramList -> creatorFunction.apply(paramList.toArray());
 		Arbitrary<T> arbitrary = Combinators.combine(parameterArbitraries).as(combinator);
 		return arbitrary.ignoreException(GenerationError.class);
 	}
 
-	private Function<Object[], T> combinator(Executable creator) {
-		if (creator instanceof Method) {
-			return combinatorForMethod((Method) creator);
-		}
-		if (creator instanceof Constructor) {
-			//noinspection unchecked
-			return combinatorForConstructor((Constructor<T>) creator);
+	// The creator is bound once per arbitrary and not for every generated value
+	private Function<Object[], T> creatorFunction(Executable creator) {
+		MethodHandle creatorHandle;
+		try {
+			creatorHandle = creatorHandle(creator);
+		} catch (Throwable cannotBeBound) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(cannotBeBound);
+			// Inaccessible creators fail during generation like creators that throw
+			return params -> {
+				throw new GenerationError(cannotBeBound);
+			};
 		}
-		throw new JqwikException(String.format("Creator %s is not supported", creator));
+		return params -> generateNext(params, creatorHandle);
 	}
 
-	private Function<Object[], T> combinatorForMethod(Method method) {
-		method.setAccessible(true);
-		return params -> generateNext(params, p -> method.invoke(null, p));
+	private static MethodHandle creatorHandle(Executable creator) {
+		return creatorHandles.get(creator.getDeclaringClass())
+							 .computeIfAbsent(creator, DefaultTypeArbitrary::bindCreator);
 	}
 
-	private Function<Object[], T> combinatorForConstructor(Constructor<T> constructor) {
-		constructor.setAccessible(true);
-		return params -> generateNext(params, constructor::newInstance);
+	// The resulting handle takes all parameters as a single Object[] and returns Object
+	private static MethodHandle bindCreator(Executable creator) {
+		creator.setAccessible(true);
+		try {
+			MethodHandle handle;
+			if (creator instanceof Method) {
+				handle = MethodHandles.lookup().unreflect((Method) creator);
+			} else if (creator instanceof Constructor) {
+				handle = MethodHandles.lookup().unreflectConstructor((Constructor<?>) creator);
+			} else {
+				throw new JqwikException(String.format("Creator %s is not supported", creator));
+			}
+			return handle.asFixedArity()
+						 .asSpreader(Object[].class, creator.getParameterCount())
+						 .asType(MethodType.methodType(Object.class, Object[].class));
+		} catch (IllegalAccessException e) {
+			return JqwikExceptionSupport.throwAsUncheckedException(e);
+		}
 	}
 
-	private T generateNext(Object[] params, Combinator combinator) {
+	private T generateNext(Object[] params, MethodHandle creatorHandle) {
 		try {
 			//noinspection unchecked
-			return (T) combinator.combine(params);
+			return (T) (Object) creatorHandle.invokeExact(params);
 		} catch (Throwable throwable) {
 			throw new GenerationError(throwable);
 		}
@@ -194,11 +252,6 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 		return creators.size();
 	}
 
-	@FunctionalInterface
-	private interface Combinator {
-		Object combine(Object[] params) throws Throwable;
-	}
-
 	private static class GenerationError extends RuntimeException {
 		GenerationError(Throwable throwable) {
 			super(throwable);
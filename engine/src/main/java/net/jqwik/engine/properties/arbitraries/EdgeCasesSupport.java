@@ -1,35 +1,47 @@
 package net.jqwik.engine.properties.arbitraries;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
+/**
+ * All edge cases created here are {@linkplain IndexedEdgeCases}: Suppliers are computed once
+ * and not every time {@linkplain EdgeCases#suppliers()} is called.
+ * Edge cases derived from other edge cases are {@linkplain IndexedEdgeCases#lazy(Supplier) lazy}:
+ * Nothing is computed before they are accessed for the first time,
+ * and each derived shrinkable is only created when its supplier is called for the first time.
+ */
 public class EdgeCasesSupport {
 
-	public static <T> EdgeCases<T> fromSuppliers(final List<Supplier<Shrinkable<T>>> suppliers) {
-		return new EdgeCases<T>() {
-			@Override
-			public List<Supplier<Shrinkable<T>>> suppliers() {
-				return suppliers;
-			}
+	private static Store<Map<Tuple2<Arbitrary<?>, Integer>, EdgeCases<?>>> edgeCasesStore() {
+		return Store.getOrCreate(EdgeCasesSupport.class, Lifespan.PROPERTY, ConcurrentHashMap::new);
+	}
 
-			@Override
-			public String toString() {
-				String edgeCases =
-					suppliers
-						.stream()
-						.map(Supplier::get)
-						.map(Shrinkable::value)
-						.map(JqwikStringSupport::displayString)
-						.collect(Collectors.joining(", "));
-				return String.format("EdgeCases[%s]", edgeCases);
-			}
-		};
+	/**
+	 * Edge cases of an arbitrary are only computed once per property and {@code maxEdgeCases}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> EdgeCases<T> memoized(Arbitrary<T> arbitrary, int maxEdgeCases) {
+		Map<Tuple2<Arbitrary<?>, Integer>, EdgeCases<?>> cache = edgeCasesStore().get();
+		Tuple2<Arbitrary<?>, Integer> key = Tuple.of(arbitrary, maxEdgeCases);
+		EdgeCases<?> edgeCases = cache.get(key);
+		// Not computeIfAbsent() since computing edge cases may compute edge cases of other arbitraries
+		if (edgeCases == null) {
+			edgeCases = IndexedEdgeCases.of(arbitrary.edgeCases(maxEdgeCases));
+			cache.put(key, edgeCases);
+		}
+		return (EdgeCases<T>) edgeCases;
+	}
+
+	public static <T> EdgeCases<T> fromSuppliers(final List<Supplier<Shrinkable<T>>> suppliers) {
+		return IndexedEdgeCases.of(suppliers);
 	}
 
 	public static <T> EdgeCases<T> choose(final List<T> values, int maxEdgeCases) {
@@ -65,80 +77,92 @@ public class EdgeCasesSupport {
 		if (edgeCases.size() == 1) {
 			return edgeCases.get(0);
 		}
-		List<Supplier<Shrinkable<T>>> concatenatedSuppliers = new ArrayList<>();
-		int remainingMaxEdgeCases = maxEdgeCases;
-		for (EdgeCases<T> edgeCase : edgeCases) {
-			if (edgeCase.isEmpty()) {
-				continue;
+		return IndexedEdgeCases.lazy(() -> {
+			List<Supplier<Shrinkable<T>>> concatenatedSuppliers = new ArrayList<>();
+			for (EdgeCases<T> edgeCase : edgeCases) {
+				List<Supplier<Shrinkable<T>>> suppliers = edgeCase.suppliers();
+				int toAdd = Math.min(suppliers.size(), maxEdgeCases - concatenatedSuppliers.size());
+				concatenatedSuppliers.addAll(suppliers.subList(0, Math.max(0, toAdd)));
 			}
-			List<Supplier<Shrinkable<T>>> suppliers =
-				edgeCase.suppliers()
-						.stream()
-						.limit(Math.max(0, remainingMaxEdgeCases))
-						.collect(Collectors.toList());
-			concatenatedSuppliers.addAll(suppliers);
-			remainingMaxEdgeCases = remainingMaxEdgeCases - suppliers.size();
-		}
-		return EdgeCasesSupport.fromSuppliers(concatenatedSuppliers);
+			return concatenatedSuppliers;
+		});
 	}
 
 	public static <T> EdgeCases<T> fromShrinkables(List<Shrinkable<T>> shrinkables) {
-		return () -> shrinkables
-						 .stream()
-						 .map(shrinkable -> (Supplier<Shrinkable<T>>) () -> shrinkable)
-						 .collect(Collectors.toList());
+		List<Supplier<Shrinkable<T>>> suppliers = new ArrayList<>(shrinkables.size());
+		for (Shrinkable<T> shrinkable : shrinkables) {
+			suppliers.add(() -> shrinkable);
+		}
+		return EdgeCasesSupport.fromSuppliers(suppliers);
 	}
 
 	public static <T, U> EdgeCases<U> map(EdgeCases<T> self, Function<T, U> mapper) {
-		return mapShrinkable(self, tShrinkable -> tShrinkable.map(mapper));
+		return IndexedEdgeCases.lazy(() -> {
+			List<Supplier<Shrinkable<U>>> mappedSuppliers = new ArrayList<>(self.size());
+			for (Supplier<Shrinkable<T>> tSupplier : self.suppliers()) {
+				mappedSuppliers.add(memoize(() -> tSupplier.get().map(mapper)));
+			}
+			return mappedSuppliers;
+		});
 	}
 
+	/**
+	 * Edge cases for which {@code mapper} returns {@code null} are left out.
+	 * That's why all mapped shrinkables are created when the edge cases are accessed for the first time.
+	 */
 	public static <T, U> EdgeCases<U> mapShrinkable(EdgeCases<T> self, Function<Shrinkable<T>, Shrinkable<U>> mapper) {
-		List<Supplier<Shrinkable<U>>> mappedSuppliers =
-			self.suppliers().stream()
-				.map(tSupplier -> mapper.apply(tSupplier.get()))
-				.filter(Objects::nonNull)
-				.map(uShrinkable -> (Supplier<Shrinkable<U>>) () -> uShrinkable)
-				.collect(Collectors.toList());
-		return EdgeCases.fromSuppliers(mappedSuppliers);
+		return IndexedEdgeCases.lazy(() -> {
+			List<Supplier<Shrinkable<U>>> mappedSuppliers = new ArrayList<>(self.size());
+			for (Supplier<Shrinkable<T>> tSupplier : self.suppliers()) {
+				Shrinkable<U> uShrinkable = mapper.apply(tSupplier.get());
+				if (uShrinkable != null) {
+					mappedSuppliers.add(() -> uShrinkable);
+				}
+			}
+			return mappedSuppliers;
+		});
 	}
 
 	public static <T> EdgeCases<T> filter(EdgeCases<T> self, Predicate<T> filterPredicate) {
-		List<Supplier<Shrinkable<T>>> filteredSuppliers =
-			self.suppliers().stream()
-				.filter(supplier -> filterPredicate.test(supplier.get().value()))
-				.map(supplier -> (Supplier<Shrinkable<T>>) () -> new FilteredShrinkable<>(supplier.get(), filterPredicate))
-				.collect(Collectors.toList());
-		return EdgeCases.fromSuppliers(filteredSuppliers);
+		return IndexedEdgeCases.lazy(() -> {
+			List<Supplier<Shrinkable<T>>> filteredSuppliers = new ArrayList<>(self.size());
+			for (Supplier<Shrinkable<T>> supplier : self.suppliers()) {
+				Shrinkable<T> shrinkable = supplier.get();
+				if (filterPredicate.test(shrinkable.value())) {
+					filteredSuppliers.add(memoize(() -> new FilteredShrinkable<>(shrinkable, filterPredicate)));
+				}
+			}
+			return filteredSuppliers;
+		});
 	}
 
 	public static <T> EdgeCases<T> ignoreException(final EdgeCases<T> self, final Class<? extends Throwable> exceptionType) {
-		List<Supplier<Shrinkable<T>>> filteredSuppliers =
-			self.suppliers().stream()
-				.filter(supplier -> {
-					try {
-						supplier.get().value();
-						return true;
-					} catch (Throwable throwable) {
-						if (exceptionType.isAssignableFrom(throwable.getClass())) {
-							return false;
-						}
-						throw throwable;
+		return IndexedEdgeCases.lazy(() -> {
+			List<Supplier<Shrinkable<T>>> filteredSuppliers = new ArrayList<>(self.size());
+			for (Supplier<Shrinkable<T>> supplier : self.suppliers()) {
+				Shrinkable<T> shrinkable = supplier.get();
+				try {
+					shrinkable.value();
+				} catch (Throwable throwable) {
+					if (exceptionType.isAssignableFrom(throwable.getClass())) {
+						continue;
 					}
-				})
-				.map(shrinkableSupplier -> (Supplier<Shrinkable<T>>) () -> {
-					Shrinkable<T> tShrinkable = shrinkableSupplier.get();
-					return new IgnoreExceptionShrinkable<T>(tShrinkable, exceptionType);
-				})
-				.collect(Collectors.toList());
-		return EdgeCases.fromSuppliers(filteredSuppliers);
+					throw throwable;
+				}
+				filteredSuppliers.add(memoize(() -> new IgnoreExceptionShrinkable<T>(shrinkable, exceptionType)));
+			}
+			return filteredSuppliers;
+		});
 	}
 
 	public static <T> EdgeCases<T> dontShrink(EdgeCases<T> self) {
-		return () -> self.suppliers()
-						 .stream()
-						 .map(supplier -> (Supplier<Shrinkable<T>>) () -> supplier.get().makeUnshrinkable())
-						 .collect(Collectors.toList());
+		return IndexedEdgeCases.lazy(() -> {
+			List<Supplier<Shrinkable<T>>> unshrinkableSuppliers = new ArrayList<>(self.size());
+			for (Supplier<Shrinkable<T>> supplier : self.suppliers()) {
+				unshrinkableSuppliers.add(memoize(() -> supplier.get().makeUnshrinkable()));
+			}
+			return unshrinkableSuppliers;
+		});
 	}
 
 	public static <T, U> EdgeCases<U> flatMapArbitrary(
@@ -146,26 +170,24 @@ public class EdgeCasesSupport {
 		Function<T, Arbitrary<U>> mapper,
 		int maxEdgeCases
 	) {
-		List<Supplier<Shrinkable<U>>> flatMappedSuppliers =
-			self.suppliers().stream()
-				.flatMap(tSupplier -> {
-					T t = tSupplier.get().value();
-					return mapper.apply(t).edgeCases(maxEdgeCases).suppliers()
-								 .stream()
-								 .map(uSupplier -> {
-									 Function<T, Shrinkable<U>> shrinkableMapper =
-										 newT -> mapper.apply(newT).generator(1000)
-													   .next(SourceOfRandomness.newRandom(42L));
-									 return (Supplier<Shrinkable<U>>) () -> new FixedValueFlatMappedShrinkable<>(
-										 tSupplier.get(),
-										 shrinkableMapper,
-										 uSupplier
-									 );
-								 });
-				})
-				.limit(Math.max(0, maxEdgeCases))
-				.collect(Collectors.toList());
-		return EdgeCases.fromSuppliers(flatMappedSuppliers);
+		Function<T, Shrinkable<U>> shrinkableMapper =
+			newT -> mapper.apply(newT).generator(1000).next(SourceOfRandomness.newRandom(42L));
+		return IndexedEdgeCases.lazy(() -> {
+			List<Supplier<Shrinkable<U>>> flatMappedSuppliers = new ArrayList<>();
+			for (Supplier<Shrinkable<T>> tSupplier : self.suppliers()) {
+				if (flatMappedSuppliers.size() >= maxEdgeCases) {
+					break;
+				}
+				T t = tSupplier.get().value();
+				for (Supplier<Shrinkable<U>> uSupplier : mapper.apply(t).edgeCases(maxEdgeCases).suppliers()) {
+					if (flatMappedSuppliers.size() >= maxEdgeCases) {
+						break;
+					}
+					flatMappedSuppliers.add(memoize(() -> new FixedValueFlatMappedShrinkable<>(tSupplier.get(), shrinkableMapper, uSupplier)));
+				}
+			}
+			return flatMappedSuppliers;
+		});
 	}
 
 	public static <T> EdgeCases<T> combine(
@@ -176,26 +198,47 @@ public class EdgeCasesSupport {
 		if (arbitraries.isEmpty() || maxEdgeCases <= 0) {
 			return EdgeCases.none();
 		}
-		List<Iterable<Supplier<Shrinkable<Object>>>> listOfSuppliers = new ArrayList<>();
-		int remainingEdgeCases = maxEdgeCases;
-		for (Arbitrary<Object> a : arbitraries) {
-			List<Supplier<Shrinkable<Object>>> supplierList = a.edgeCases(remainingEdgeCases).suppliers();
-			listOfSuppliers.add(supplierList);
-			remainingEdgeCases = (int) Math.max(1, Math.ceil(remainingEdgeCases / (double) supplierList.size()));
-		}
-
-		Iterator<List<Supplier<Shrinkable<Object>>>> iterator = Combinatorics.combine(listOfSuppliers);
+		return IndexedEdgeCases.lazy(() -> {
+			List<Iterable<Supplier<Shrinkable<Object>>>> listOfSuppliers = new ArrayList<>();
+			int remainingEdgeCases = maxEdgeCases;
+			for (Arbitrary<Object> a : arbitraries) {
+				List<Supplier<Shrinkable<Object>>> supplierList = a.edgeCases(remainingEdgeCases).suppliers();
+				listOfSuppliers.add(supplierList);
+				remainingEdgeCases = (int) Math.max(1, Math.ceil(remainingEdgeCases / (double) supplierList.size()));
+			}
 
-		List<Supplier<Shrinkable<T>>> suppliers = new ArrayList<>();
-		int count = 0;
-		while (iterator.hasNext() && count < maxEdgeCases) {
-			List<Supplier<Shrinkable<Object>>> next = iterator.next();
-			List<Shrinkable<Object>> shrinkables = next.stream().map(Supplier::get).collect(Collectors.toList());
-			suppliers.add(() -> new CombinedShrinkable<>(shrinkables, combineFunction));
-			count++;
-		}
+			Iterator<List<Supplier<Shrinkable<Object>>>> iterator = Combinatorics.combine(listOfSuppliers);
+
+			List<Supplier<Shrinkable<T>>> suppliers = new ArrayList<>();
+			int count = 0;
+			while (iterator.hasNext() && count < maxEdgeCases) {
+				List<Supplier<Shrinkable<Object>>> next = iterator.next();
+				List<Shrinkable<Object>> shrinkables = new ArrayList<>(next.size());
+				for (Supplier<Shrinkable<Object>> supplier : next) {
+					shrinkables.add(supplier.get());
+				}
+				suppliers.add(memoize(() -> new CombinedShrinkable<>(shrinkables, combineFunction)));
+				count++;
+			}
 
-		return EdgeCases.fromSuppliers(suppliers);
+			return suppliers;
+		});
 	}
 
+	// Creates the shrinkable only when the supplier is called for the first time
+	private static <T> Supplier<Shrinkable<T>> memoize(Supplier<Shrinkable<T>> supplier) {
+		return new Supplier<Shrinkable<T>>() {
+			private volatile Shrinkable<T> shrinkable;
+
+			@Override
+			public Shrinkable<T> get() {
+				Shrinkable<T> result = shrinkable;
+				if (result == null) {
+					result = supplier.get();
+					shrinkable = result;
+				}
+				return result;
+			}
+		};
+	}
 }
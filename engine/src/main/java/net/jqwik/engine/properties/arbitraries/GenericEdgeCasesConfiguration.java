@@ -56,7 +56,7 @@ public class GenericEdgeCasesConfiguration<T> implements EdgeCases.Config<T> {
 			configuredEdgeCases = edgeCasesCreator.apply(Integer.MAX_VALUE);
 		}
 
-		List<Supplier<Shrinkable<T>>> suppliers = configuredEdgeCases.suppliers();
+		List<Supplier<Shrinkable<T>>> suppliers = new ArrayList<>(configuredEdgeCases.suppliers());
 		for (Predicate<T> filter : new ArrayList<>(filters)) {
 			suppliers = suppliers.stream().filter(s -> filter.test(s.get().value())).collect(Collectors.toList());
 		}
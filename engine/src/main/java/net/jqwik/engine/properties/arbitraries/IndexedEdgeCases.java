@@ -0,0 +1,156 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Immutable edge cases whose suppliers are computed once - either when created
+ * or, for {@linkplain #lazy(Supplier) lazy} edge cases, when first accessed.
+ * Shrinkables are only materialized when an edge case is accessed.
+ */
+public class IndexedEdgeCases<T> implements EdgeCases<T> {
+
+	private static final IndexedEdgeCases<?> EMPTY = new IndexedEdgeCases<>(new Supplier<?>[0]);
+
+	@SuppressWarnings("unchecked")
+	static <T> IndexedEdgeCases<T> empty() {
+		return (IndexedEdgeCases<T>) EMPTY;
+	}
+
+	/**
+	 * Edge cases whose suppliers are only computed when they are accessed for the first time.
+	 * This keeps building deeply composed edge cases cheap as long as no one looks at them.
+	 */
+	static <T> IndexedEdgeCases<T> lazy(Supplier<List<Supplier<Shrinkable<T>>>> computeSuppliers) {
+		return new IndexedEdgeCases<>(computeSuppliers);
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> IndexedEdgeCases<T> of(EdgeCases<T> edgeCases) {
+		if (edgeCases instanceof IndexedEdgeCases) {
+			return (IndexedEdgeCases<T>) edgeCases;
+		}
+		return of(edgeCases.suppliers());
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> IndexedEdgeCases<T> of(List<Supplier<Shrinkable<T>>> suppliers) {
+		if (suppliers instanceof SupplierList) {
+			return ((SupplierList<T>) suppliers).edgeCases();
+		}
+		if (suppliers.isEmpty()) {
+			return empty();
+		}
+		return new IndexedEdgeCases<>(suppliers.toArray(new Supplier<?>[0]));
+	}
+
+	private volatile Supplier<?>[] suppliers;
+	private Supplier<List<Supplier<Shrinkable<T>>>> computeSuppliers;
+	private final List<Supplier<Shrinkable<T>>> supplierList;
+
+	private IndexedEdgeCases(Supplier<?>[] suppliers) {
+		this.suppliers = suppliers;
+		this.supplierList = new SupplierList<>(this);
+	}
+
+	private IndexedEdgeCases(Supplier<List<Supplier<Shrinkable<T>>>> computeSuppliers) {
+		this.computeSuppliers = computeSuppliers;
+		this.supplierList = new SupplierList<>(this);
+	}
+
+	private Supplier<?>[] compiledSuppliers() {
+		Supplier<?>[] compiled = suppliers;
+		if (compiled == null) {
+			synchronized (this) {
+				if (suppliers == null) {
+					suppliers = computeSuppliers.get().toArray(new Supplier<?>[0]);
+					computeSuppliers = null;
+				}
+				compiled = suppliers;
+			}
+		}
+		return compiled;
+	}
+
+	/**
+	 * @return Unmodifiable list of suppliers
+	 */
+	@Override
+	public List<Supplier<Shrinkable<T>>> suppliers() {
+		return supplierList;
+	}
+
+	@Override
+	public int size() {
+		return compiledSuppliers().length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	public Supplier<Shrinkable<T>> supplierAt(int index) {
+		return (Supplier<Shrinkable<T>>) compiledSuppliers()[index];
+	}
+
+	public Shrinkable<T> get(int index) {
+		return supplierAt(index).get();
+	}
+
+	@Override
+	public Iterator<Shrinkable<T>> iterator() {
+		return new Iterator<Shrinkable<T>>() {
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < size();
+			}
+
+			@Override
+			public Shrinkable<T> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return get(next++);
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner edgeCases = new StringJoiner(", ");
+		for (Shrinkable<T> shrinkable : this) {
+			edgeCases.add(JqwikStringSupport.displayString(shrinkable.value()));
+		}
+		return String.format("EdgeCases[%s]", edgeCases);
+	}
+
+	// Knows its edge cases so that they can be reused without copying the suppliers
+	private static class SupplierList<T> extends AbstractList<Supplier<Shrinkable<T>>> implements RandomAccess {
+		private final IndexedEdgeCases<T> edgeCases;
+
+		private SupplierList(IndexedEdgeCases<T> edgeCases) {
+			this.edgeCases = edgeCases;
+		}
+
+		private IndexedEdgeCases<T> edgeCases() {
+			return edgeCases;
+		}
+
+		@Override
+		public Supplier<Shrinkable<T>> get(int index) {
+			return edgeCases.supplierAt(index);
+		}
+
+		@Override
+		public int size() {
+			return edgeCases.size();
+		}
+	}
+}
@@ -33,6 +33,19 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	/**
+	 * Only usable if min and max are within long range.
+	 */
+	RandomGenerator<Long> longGenerator(int genSize) {
+		return RandomIntegralGenerators.longs(
+			genSize,
+			min.longValueExact(),
+			max.longValueExact(),
+			shrinkingTarget().longValueExact(),
+			distribution
+		);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -45,6 +58,20 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
+	/**
+	 * Only usable if min and max are within long range.
+	 */
+	Optional<ExhaustiveGenerator<Long>> longExhaustive(long maxNumberOfSamples) {
+		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
+
+		// Necessary because maxCount could be larger than Long.MAX_VALUE
+		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
+			return Optional.empty();
+		} else {
+			return ExhaustiveGenerators.fromIterable(LongRangeIterator::new, maxCount.longValueExact(), maxNumberOfSamples);
+		}
+	}
+
 	@Override
 	public EdgeCases<BigInteger> edgeCases(int maxEdgeCases) {
 		Range<BigInteger> range = Range.of(min, max);
@@ -65,6 +92,23 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return configuration.configure(edgeCasesConfigurator, edgeCasesCreator, maxEdgeCases);
 	}
 
+	/**
+	 * Only usable if min and max are within long range.
+	 */
+	EdgeCases<Long> longEdgeCases(int maxEdgeCases) {
+		EdgeCases<BigInteger> edgeCases = edgeCases(maxEdgeCases);
+		long longMin = min.longValueExact();
+		long longMax = max.longValueExact();
+		if (!ShrinkableLong.isApplicable(longMin, longMax)) {
+			return EdgeCasesSupport.map(edgeCases, BigInteger::longValueExact);
+		}
+		long longShrinkingTarget = shrinkingTarget().longValueExact();
+		return EdgeCasesSupport.mapShrinkable(
+			edgeCases,
+			shrinkable -> new ShrinkableLong(shrinkable.value().longValueExact(), longMin, longMax, longShrinkingTarget)
+		);
+	}
+
 	@Override
 	public Arbitrary<BigInteger> edgeCases(Consumer<EdgeCases.Config<BigInteger>> configurator) {
 		IntegralGeneratingArbitrary clone = typedClone();
@@ -116,4 +160,31 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
+	class LongRangeIterator implements Iterator<Long> {
+
+		final long last = max.longValueExact();
+		long current = min.longValueExact();
+		boolean exhausted = false;
+
+		@Override
+		public boolean hasNext() {
+			return !exhausted;
+		}
+
+		@Override
+		public Long next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			long next = current;
+			// Checking before incrementing avoids overflow at Long.MAX_VALUE
+			if (current == last) {
+				exhausted = true;
+			} else {
+				current++;
+			}
+			return next;
+		}
+	}
+
 }
@@ -72,6 +72,9 @@ abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements S
 
 	protected RandomGenerator<List<T>> createListGenerator(int genSize, boolean withEmbeddedEdgeCases) {
 		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize, withEmbeddedEdgeCases);
+		if (elementArbitrary instanceof ShrinksByValue && uniquenessExtractors.isEmpty()) {
+			return RandomGenerators.compactList(elementGenerator, minSize, maxSize, genSize, sizeDistribution);
+		}
 		return RandomGenerators.list(elementGenerator, minSize, maxSize, genSize, sizeDistribution, uniquenessExtractors);
 	}
 
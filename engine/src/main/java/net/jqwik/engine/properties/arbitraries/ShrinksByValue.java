@@ -0,0 +1,8 @@
+package net.jqwik.engine.properties.arbitraries;
+
+/**
+ * Marks arbitraries whose generated shrinkables depend on nothing but their value.
+ * Long lists of such elements can be generated in compact form.
+ */
+interface ShrinksByValue {
+}
@@ -69,8 +69,12 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 	// Returns result wrapped in array to allow null as result
 	protected Optional<Object[]> conditionalResult(Object[] args) {
 		Optional<Object[]> conditionalResult = Optional.empty();
+		if (conditions.isEmpty()) {
+			return conditionalResult;
+		}
+		// Methods without parameters are invoked with null args
+		List<Object> params = args == null ? Collections.emptyList() : Arrays.asList(args);
 		for (Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition : conditions) {
-			List<Object> params = Arrays.asList(args);
 			if (condition.get1().test(params)) {
 				Object[] result = new Object[]{condition.get2().apply(params)};
 				conditionalResult = Optional.of(result);
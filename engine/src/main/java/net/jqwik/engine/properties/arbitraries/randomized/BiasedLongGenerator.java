@@ -0,0 +1,56 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Generates the same values as {@linkplain BiasedNumericGenerator}.
+ */
+class BiasedLongGenerator implements LongNumericGenerator {
+
+	private final LongNumericGenerator partitionedGenerator;
+
+	BiasedLongGenerator(int genSize, long min, long max, long center) {
+		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		partitionedGenerator = partitionedGenerator(min, max, partitionPoints);
+	}
+
+	@Override
+	public long next(Random random) {
+		return partitionedGenerator.next(random);
+	}
+
+	private LongNumericGenerator partitionedGenerator(long min, long max, List<BigInteger> partitionPoints) {
+		if (partitionPoints.isEmpty()) {
+			return new UniformLongGenerator(min, max);
+		}
+		LongNumericGenerator[] generators = createPartitions(min, max, partitionPoints);
+		return random -> generators[random.nextInt(generators.length)].next(random);
+	}
+
+	private LongNumericGenerator[] createPartitions(long min, long max, List<BigInteger> partitionPoints) {
+		List<LongNumericGenerator> partitions = new ArrayList<>();
+		Collections.sort(partitionPoints);
+		long lower = min;
+		for (BigInteger partitionPoint : partitionPoints) {
+			// Partition points are always between min and max
+			long upper = partitionPoint.longValueExact();
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			partitions.add(new UniformLongGenerator(lower, upper - 1));
+			lower = upper;
+		}
+		partitions.add(new UniformLongGenerator(lower, max));
+		return partitions.toArray(new LongNumericGenerator[0]);
+	}
+
+}
@@ -4,6 +4,7 @@ import java.math.*;
 import java.util.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
 
 class BigUniformNumericGenerator implements RandomDistribution.RandomNumericGenerator {
 
@@ -21,6 +22,10 @@ class BigUniformNumericGenerator implements RandomDistribution.RandomNumericGene
 
 	@Override
 	public BigInteger next(Random random) {
+		if (bits < Long.SIZE - 1) {
+			long value = JqwikRandom.nextLong(random, range.longValue() + 1);
+			return min.add(BigInteger.valueOf(value));
+		}
 		while (true) {
 			BigInteger rawValue = new BigInteger(bits, random);
 			BigInteger value = rawValue.add(min);
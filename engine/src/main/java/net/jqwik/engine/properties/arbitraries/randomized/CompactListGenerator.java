@@ -0,0 +1,51 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates long lists in compact form, i.e. without keeping a shrinkable for every element.
+ * Only usable for elements whose shrinking depends on nothing but their value.
+ */
+class CompactListGenerator<T> implements RandomGenerator<List<T>> {
+	private final RandomGenerator<T> elementGenerator;
+	private final ContainerGenerator<T, List<T>> containerGenerator;
+	private final int minSize;
+	private final int maxSize;
+
+	CompactListGenerator(
+		RandomGenerator<T> elementGenerator,
+		ContainerGenerator<T, List<T>> containerGenerator,
+		int minSize,
+		int maxSize
+	) {
+		this.elementGenerator = elementGenerator;
+		this.containerGenerator = containerGenerator;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public Shrinkable<List<T>> next(Random random) {
+		int size = containerGenerator.nextSize(random);
+		if (size <= CompactShrinkableList.COMPACT_THRESHOLD) {
+			return containerGenerator.next(random, size);
+		}
+		return nextCompact(random, size);
+	}
+
+	private Shrinkable<List<T>> nextCompact(Random random, int size) {
+		Object[] values = new Object[size];
+		Map<T, Shrinkable<T>> shrinkableElements = new ConcurrentHashMap<>();
+		for (int i = 0; i < size; i++) {
+			Shrinkable<T> shrinkableElement = elementGenerator.next(random);
+			T value = shrinkableElement.value();
+			values[i] = value;
+			shrinkableElements.putIfAbsent(value, shrinkableElement);
+		}
+		return new CompactShrinkableList<>(values, shrinkableElements, minSize, maxSize);
+	}
+}
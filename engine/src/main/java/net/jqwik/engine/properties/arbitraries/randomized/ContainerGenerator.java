@@ -6,8 +6,6 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable;
@@ -49,9 +47,16 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 
 	@Override
 	public Shrinkable<C> next(Random random) {
-		int listSize = sizeGenerator.apply(random);
-		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>();
-		List<T> existingValues = new ArrayList<>();
+		return next(random, nextSize(random));
+	}
+
+	int nextSize(Random random) {
+		return sizeGenerator.apply(random);
+	}
+
+	Shrinkable<C> next(Random random, int listSize) {
+		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>(listSize);
+		UniquenessIndex<T> uniquenessIndex = new UniquenessIndex<>(uniquenessExtractors);
 
 		// Raise probability for no duplicates even in large containers to approx 2 percent
 		// boolean noDuplicates = false;
@@ -59,10 +64,12 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 								   && listSize >= 2
 								   && uniquenessExtractors.isEmpty()
 								   && random.nextInt(100) <= 2;
+		// Only needed to check for duplicates
+		Set<T> existingValues = noDuplicates ? new HashSet<>() : Collections.emptySet();
 
 		while (listOfShrinkables.size() < listSize) {
 			try {
-				Shrinkable<T> next = nextUntilAccepted(random, existingValues, elementGenerator::next, noDuplicates);
+				Shrinkable<T> next = nextUntilAccepted(random, existingValues, uniquenessIndex, elementGenerator::next, noDuplicates);
 				listOfShrinkables.add(next);
 			} catch (TooManyFilterMissesException tooManyFilterMissesException) {
 				// Switch off noDuplicates
@@ -86,7 +93,8 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 
 	private Shrinkable<T> nextUntilAccepted(
 		Random random,
-		List<T> existingValues,
+		Set<T> existingValues,
+		UniquenessIndex<T> uniquenessIndex,
 		Function<Random, Shrinkable<T>> fetchShrinkable,
 		boolean noDuplicates
 	) {
@@ -98,10 +106,13 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 				if (noDuplicates && existingValues.contains(value)) {
 					return Tuple.of(false, next);
 				}
-				if (!checkSpecifiedUniqueness(existingValues, value)) {
+				if (!uniquenessIndex.isUnique(value)) {
 					return Tuple.of(false, next);
 				}
-				existingValues.add(value);
+				if (noDuplicates) {
+					existingValues.add(value);
+				}
+				uniquenessIndex.add(value);
 				return Tuple.of(true, next);
 			},
 			(maxMisses) -> {
@@ -111,8 +122,4 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 		);
 	}
 
-	private boolean checkSpecifiedUniqueness(List<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
-	}
-
 }
@@ -8,17 +8,30 @@ import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class FilteredGenerator<T> implements RandomGenerator<T> {
+
+	// Acceptance rate is also checked during long runs of misses
+	private static final long RECORDING_INTERVAL = 1000;
+
 	private final RandomGenerator<T> toFilter;
 	private final Predicate<T> filterPredicate;
+	private final FilterStatistics statistics;
 
 	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<T> filterPredicate) {
+		this(toFilter, filterPredicate, filterPredicate);
+	}
+
+	/**
+	 * @param filter identifies the filter whose statistics are shared by all its generators
+	 */
+	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<T> filterPredicate, Object filter) {
 		this.toFilter = toFilter;
 		this.filterPredicate = filterPredicate;
+		this.statistics = FilterStatistics.forFilter(filter, filterPredicate);
 	}
 
 	@Override
 	public Shrinkable<T> next(Random random) {
-		return nextUntilAccepted(random, toFilter::next);
+		return new FilteredShrinkable<>(nextUntilAccepted(random), filterPredicate);
 	}
 
 	@Override
@@ -26,22 +39,37 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		return String.format("Filtering [%s]", toFilter);
 	}
 
-	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
-		Shrinkable<T> accepted = MaxTriesLoop.loop(
-			() -> true,
-			next -> {
-				next = fetchShrinkable.apply(random);
-				if (filterPredicate.test(next.value())) {
-					return Tuple.of(true, next);
+	FilterStatistics statistics() {
+		return statistics;
+	}
+
+	// Plain loop instead of MaxTriesLoop.loop() to not allocate a tuple for every try
+	private Shrinkable<T> nextUntilAccepted(Random random) {
+		long misses = 0;
+		long unrecordedTries = 0;
+		while (true) {
+			Shrinkable<T> next = toFilter.next(random);
+			unrecordedTries++;
+			if (filterPredicate.test(next.value())) {
+				statistics.record(unrecordedTries, true);
+				return next;
+			}
+			if (++misses > MaxTriesLoop.MAX_MISSES) {
+				statistics.record(unrecordedTries, false);
+				String message = String.format(
+					"%s missed more than %s times. Acceptance rate: %s",
+					statistics.filterLabel(), MaxTriesLoop.MAX_MISSES, statistics.acceptanceRateString()
+				);
+				throw new TooManyFilterMissesException(message);
+			}
+			if (unrecordedTries == RECORDING_INTERVAL) {
+				statistics.record(unrecordedTries, false);
+				unrecordedTries = 0;
+				if (FilterStatistics.isFailFast()) {
+					statistics.checkAcceptanceRate();
 				}
-				return Tuple.of(false, next);
-			},
-			(maxMisses) -> {
-				String message = String.format("%s missed more than %s times.", toString(), maxMisses);
-				return new TooManyFilterMissesException(message);
 			}
-		);
-		return new FilteredShrinkable<>(accepted, filterPredicate);
+		}
 	}
 
 }
@@ -30,6 +30,31 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	private F createFunction(Random random) {
 		long baseSeed = random.nextLong();
+		return createFastFunction(baseSeed).orElseGet(() -> createProxyFunction(baseSeed));
+	}
+
+	// Well-known functional types are implemented directly to avoid the overhead of proxy dispatch
+	@SuppressWarnings("unchecked")
+	private Optional<F> createFastFunction(long baseSeed) {
+		if (functionalType == Function.class) {
+			return Optional.of((F) new FastFunction(baseSeed));
+		}
+		if (functionalType == BiFunction.class) {
+			return Optional.of((F) new FastBiFunction(baseSeed));
+		}
+		if (functionalType == Supplier.class) {
+			return Optional.of((F) new FastSupplier(baseSeed));
+		}
+		if (functionalType == Predicate.class) {
+			return Optional.of((F) new FastPredicate(baseSeed));
+		}
+		if (functionalType == Comparator.class) {
+			return Optional.of((F) new FastComparator(baseSeed));
+		}
+		return Optional.empty();
+	}
+
+	private F createProxyFunction(long baseSeed) {
 		InvocationHandler handler = (proxy, method, args) -> {
 			if (JqwikReflectionSupport.isEqualsMethod(method)) {
 				return handleEqualsMethod(proxy, args);
@@ -43,21 +68,32 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 			if (method.isDefault()) {
 				return handleDefaultMethod(proxy, method, args);
 			}
-			return conditionalResult(args).orElseGet(() -> {
-				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
-				Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
-				storeLastResult(shrinkableResult);
-				return new Object[]{shrinkableResult.value()};
-			})[0];
+			return resultFor(baseSeed, args);
 		};
 		return createFunctionProxy(handler);
 	}
 
+	private R resultFor(long baseSeed, Object[] args) {
+		Optional<Object[]> conditionalResult = conditionalResult(args);
+		if (conditionalResult.isPresent()) {
+			//noinspection unchecked
+			return (R) conditionalResult.get()[0];
+		}
+		return generatedResult(seedForArgs(baseSeed, args));
+	}
+
+	private R generatedResult(long seed) {
+		Random randomForArgs = SourceOfRandomness.newRandom(seed);
+		Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
+		storeLastResult(shrinkableResult);
+		return shrinkableResult.value();
+	}
+
 	private int handleHashCode(final int baseSeed) {
 		return baseSeed;
 	}
 
-	private Object handleToString(final long baseSeed) {
+	private String handleToString(final long baseSeed) {
 		return String.format(
 			"Function<%s>(baseSeed: %s)",
 			functionalType.getSimpleName(),
@@ -73,15 +109,116 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 		long seed = baseSeed;
 		if (args != null) {
 			for (Object arg : args) {
-				seed = Long.rotateRight(seed, 16);
-				if (arg != null) {
-					seed ^= arg.hashCode();
-				}
+				seed = seedForArg(seed, arg);
 			}
 		}
 		return seed;
 	}
 
+	private long seedForArg(long seed, Object arg) {
+		seed = Long.rotateRight(seed, 16);
+		if (arg != null) {
+			seed ^= arg.hashCode();
+		}
+		return seed;
+	}
+
+	/**
+	 * Behaves like a proxy created by {@linkplain #createProxyFunction(long)}
+	 * but computes results without allocating an arguments array when there are no conditions.
+	 */
+	private abstract class AbstractFastFunction {
+
+		private final long baseSeed;
+
+		private AbstractFastFunction(long baseSeed) {
+			this.baseSeed = baseSeed;
+		}
+
+		R result() {
+			return resultFor(baseSeed, new Object[0]);
+		}
+
+		R result(Object arg) {
+			if (conditions.isEmpty()) {
+				return generatedResult(seedForArg(baseSeed, arg));
+			}
+			return resultFor(baseSeed, new Object[]{arg});
+		}
+
+		R result(Object arg1, Object arg2) {
+			if (conditions.isEmpty()) {
+				return generatedResult(seedForArg(seedForArg(baseSeed, arg1), arg2));
+			}
+			return resultFor(baseSeed, new Object[]{arg1, arg2});
+		}
+
+		@Override
+		public int hashCode() {
+			return handleHashCode((int) baseSeed);
+		}
+
+		@Override
+		public String toString() {
+			return handleToString(baseSeed);
+		}
+	}
+
+	private class FastFunction extends AbstractFastFunction implements Function<Object, R> {
+		private FastFunction(long baseSeed) {
+			super(baseSeed);
+		}
+
+		@Override
+		public R apply(Object t) {
+			return result(t);
+		}
+	}
+
+	private class FastBiFunction extends AbstractFastFunction implements BiFunction<Object, Object, R> {
+		private FastBiFunction(long baseSeed) {
+			super(baseSeed);
+		}
+
+		@Override
+		public R apply(Object t, Object u) {
+			return result(t, u);
+		}
+	}
+
+	private class FastSupplier extends AbstractFastFunction implements Supplier<R> {
+		private FastSupplier(long baseSeed) {
+			super(baseSeed);
+		}
+
+		@Override
+		public R get() {
+			return result();
+		}
+	}
+
+	private class FastPredicate extends AbstractFastFunction implements Predicate<Object> {
+		private FastPredicate(long baseSeed) {
+			super(baseSeed);
+		}
+
+		@Override
+		public boolean test(Object t) {
+			return (Boolean) result(t);
+		}
+	}
+
+	private class FastComparator extends AbstractFastFunction implements Comparator<Object> {
+		private FastComparator(long baseSeed) {
+			super(baseSeed);
+		}
+
+		@Override
+		public int compare(Object o1, Object o2) {
+			return (Integer) result(o1, o2);
+		}
+	}
+
 	private class ShrinkableFunction implements Shrinkable<F> {
 
 		private final F value;
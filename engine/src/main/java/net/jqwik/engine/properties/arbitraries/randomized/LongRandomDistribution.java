@@ -0,0 +1,12 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+/**
+ * Implemented by jqwik's own distributions to generate integral values in long range
+ * without going through {@linkplain java.math.BigInteger}.
+ * For the same source of randomness the generated values must be the same as those
+ * of {@linkplain net.jqwik.api.RandomDistribution#createGenerator(int, java.math.BigInteger, java.math.BigInteger, java.math.BigInteger)}.
+ */
+interface LongRandomDistribution {
+
+	LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center);
+}
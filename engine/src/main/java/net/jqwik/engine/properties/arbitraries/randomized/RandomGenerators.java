@@ -46,14 +46,13 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
-		BigInteger minBig = BigInteger.valueOf(min);
-		BigInteger maxBig = BigInteger.valueOf(max);
-		return bigIntegers(
-				minBig,
-				maxBig,
-				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
+		return RandomIntegralGenerators.longs(
+				1000,
+				min,
+				max,
+				RandomIntegralGenerators.defaultShrinkingTarget(min, max),
 				RandomDistribution.uniform()
-		).map(BigInteger::intValueExact);
+		).map(Long::intValue);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -91,7 +90,21 @@ public class RandomGenerators {
 		int minLength, int maxLength, int genSize, RandomDistribution lengthDistribution
 	) {
 		Function<List<Shrinkable<Character>>, Shrinkable<String>> createShrinkable = elements -> new ShrinkableString(elements, minLength, maxLength);
-		return container(elementGenerator, createShrinkable, minLength, maxLength, genSize, lengthDistribution, Collections.emptySet());
+		ContainerGenerator<Character, String> containerGenerator =
+			new ContainerGenerator<>(elementGenerator, createShrinkable, minLength, maxLength, genSize, lengthDistribution, Collections.emptySet());
+		if (maxLength <= CompactShrinkableString.COMPACT_THRESHOLD) {
+			return containerGenerator;
+		}
+		return new StringGenerator(elementGenerator, containerGenerator, minLength, maxLength);
+	}
+
+	public static RandomGenerator<byte[]> byteArrays(int minSize, int maxSize, int genSize, RandomDistribution sizeDistribution) {
+		Function<Random, Integer> sizeGenerator = SizeGenerator.create(minSize, maxSize, genSize, sizeDistribution);
+		return random -> {
+			byte[] bytes = new byte[sizeGenerator.apply(random)];
+			random.nextBytes(bytes);
+			return new ShrinkableByteArray(bytes, minSize);
+		};
 	}
 
 	private static <T, C> RandomGenerator<C> container(
@@ -113,6 +126,23 @@ public class RandomGenerators {
 		return container(elementGenerator, createShrinkable, minSize, maxSize, genSize, sizeDistribution, uniquenessExtractors);
 	}
 
+	/**
+	 * Only for elements whose shrinking depends on nothing but their value
+	 */
+	public static <T> RandomGenerator<List<T>> compactList(
+		RandomGenerator<T> elementGenerator,
+		int minSize, int maxSize, int genSize, RandomDistribution sizeDistribution
+	) {
+		Function<List<Shrinkable<T>>, Shrinkable<List<T>>> createShrinkable =
+			elements -> new ShrinkableList<>(elements, minSize, maxSize, Collections.emptySet());
+		ContainerGenerator<T, List<T>> containerGenerator =
+			new ContainerGenerator<>(elementGenerator, createShrinkable, minSize, maxSize, genSize, sizeDistribution, Collections.emptySet());
+		if (maxSize <= CompactShrinkableList.COMPACT_THRESHOLD) {
+			return containerGenerator;
+		}
+		return new CompactListGenerator<>(elementGenerator, containerGenerator, minSize, maxSize);
+	}
+
 	public static <T> RandomGenerator<Set<T>> set(RandomGenerator<T> elementGenerator, int minSize, int maxSize, int genSize) {
 		return set(elementGenerator, minSize, maxSize, genSize, null, Collections.emptySet());
 	}
@@ -37,7 +37,64 @@ public class RandomIntegralGenerators {
 		};
 	}
 
-	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
+	/**
+	 * Generates the same values as {@linkplain #bigIntegers(int, BigInteger, BigInteger, BigInteger, RandomDistribution)}
+	 * but with primitive generation and shrinking if jqwik's own distributions are used.
+	 */
+	public static RandomGenerator<Long> longs(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		Range<Long> range = Range.of(min, max);
+
+		checkTargetInRange(range, shrinkingTarget);
+
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+
+		LongNumericGenerator numericGenerator = longGenerator(genSize, min, max, shrinkingTarget, distribution);
+
+		if (!ShrinkableLong.isApplicable(min, max)) {
+			Range<BigInteger> bigRange = Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max));
+			BigInteger bigShrinkingTarget = BigInteger.valueOf(shrinkingTarget);
+			return random -> {
+				BigInteger value = BigInteger.valueOf(numericGenerator.next(random));
+				return new ShrinkableBigInteger(value, bigRange, bigShrinkingTarget).map(BigInteger::longValueExact);
+			};
+		}
+
+		return random -> new ShrinkableLong(
+			numericGenerator.next(random),
+			min,
+			max,
+			shrinkingTarget
+		);
+	}
+
+	private static LongNumericGenerator longGenerator(
+		int genSize,
+		long min,
+		long max,
+		long center,
+		RandomDistribution distribution
+	) {
+		if (distribution instanceof LongRandomDistribution) {
+			return ((LongRandomDistribution) distribution).createLongGenerator(genSize, min, max, center);
+		}
+		RandomNumericGenerator numericGenerator = distribution.createGenerator(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		return random -> numericGenerator.next(random).longValueExact();
+	}
+
+	private static <T extends Comparable<T>> void checkTargetInRange(Range<T> range, T value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
 			throw new JqwikException(message);
@@ -52,4 +109,11 @@ public class RandomIntegralGenerators {
 		if (range.min.compareTo(BigInteger.ZERO) > 0) return range.min;
 		throw new RuntimeException("This should not be possible");
 	}
+
+	public static long defaultShrinkingTarget(long min, long max) {
+		if (min <= 0 && max >= 0) {
+			return 0L;
+		}
+		return max < 0 ? max : min;
+	}
 }
@@ -4,6 +4,7 @@ import java.math.*;
 import java.util.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
 
 class SmallUniformNumericGenerator implements RandomDistribution.RandomNumericGenerator {
 
@@ -17,8 +18,10 @@ class SmallUniformNumericGenerator implements RandomDistribution.RandomNumericGe
 
 	@Override
 	public BigInteger next(Random random) {
-		int bound = Math.abs(max - min) + 1;
-		int value = random.nextInt(bound >= 0 ? bound : Integer.MAX_VALUE) + min;
-		return BigInteger.valueOf(value);
+		long bound = (long) max - min + 1;
+		if (bound <= Integer.MAX_VALUE) {
+			return BigInteger.valueOf(random.nextInt((int) bound) + min);
+		}
+		return BigInteger.valueOf(JqwikRandom.nextLong(random, bound) + min);
 	}
 }
@@ -0,0 +1,50 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates long strings in compact form, i.e. without keeping a shrinkable for every character.
+ */
+class StringGenerator implements RandomGenerator<String> {
+	private final RandomGenerator<Character> charGenerator;
+	private final ContainerGenerator<Character, String> containerGenerator;
+	private final int minLength;
+	private final int maxLength;
+
+	StringGenerator(
+		RandomGenerator<Character> charGenerator,
+		ContainerGenerator<Character, String> containerGenerator,
+		int minLength,
+		int maxLength
+	) {
+		this.charGenerator = charGenerator;
+		this.containerGenerator = containerGenerator;
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+	}
+
+	@Override
+	public Shrinkable<String> next(Random random) {
+		int length = containerGenerator.nextSize(random);
+		if (length <= CompactShrinkableString.COMPACT_THRESHOLD) {
+			return containerGenerator.next(random, length);
+		}
+		return nextCompact(random, length);
+	}
+
+	private Shrinkable<String> nextCompact(Random random, int length) {
+		char[] chars = new char[length];
+		Map<Character, Shrinkable<Character>> shrinkableChars = new ConcurrentHashMap<>();
+		for (int i = 0; i < length; i++) {
+			Shrinkable<Character> shrinkableChar = charGenerator.next(random);
+			char aChar = shrinkableChar.value();
+			chars[i] = aChar;
+			shrinkableChars.putIfAbsent(aChar, shrinkableChar);
+		}
+		return new CompactShrinkableString(chars, shrinkableChars, minLength, maxLength);
+	}
+}
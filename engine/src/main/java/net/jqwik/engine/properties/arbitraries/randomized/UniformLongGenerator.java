@@ -0,0 +1,56 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.engine.*;
+
+/**
+ * Generates the same values as {@linkplain SmallUniformNumericGenerator} and {@linkplain BigUniformNumericGenerator}.
+ */
+class UniformLongGenerator implements LongNumericGenerator {
+
+	private final long min;
+	private final long max;
+	private final long range; // unsigned
+	private final int bits;
+	private final boolean withinIntegerRange;
+
+	UniformLongGenerator(long min, long max) {
+		this.min = min;
+		this.max = max;
+		this.range = max - min;
+		this.bits = Long.SIZE - Long.numberOfLeadingZeros(range);
+		this.withinIntegerRange = min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE;
+	}
+
+	@Override
+	public long next(Random random) {
+		if (withinIntegerRange) {
+			long bound = range + 1;
+			if (bound <= Integer.MAX_VALUE) {
+				return random.nextInt((int) bound) + min;
+			}
+			return JqwikRandom.nextLong(random, bound) + min;
+		}
+		if (bits < Long.SIZE - 1) {
+			return min + JqwikRandom.nextLong(random, range + 1);
+		}
+		while (true) {
+			long rawValue = randomBits(random);
+			if (Long.compareUnsigned(rawValue, range) <= 0) {
+				return min + rawValue;
+			}
+		}
+	}
+
+	// Consumes randomness like new BigInteger(bits, random) does
+	private long randomBits(Random random) {
+		byte[] bytes = new byte[Long.BYTES];
+		random.nextBytes(bytes);
+		long rawValue = 0L;
+		for (byte b : bytes) {
+			rawValue = (rawValue << Byte.SIZE) | (b & 0xFF);
+		}
+		return bits == Long.SIZE ? rawValue : rawValue & ((1L << bits) - 1);
+	}
+}
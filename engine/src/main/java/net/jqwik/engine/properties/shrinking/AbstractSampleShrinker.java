@@ -1,13 +1,16 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
 
 abstract class AbstractSampleShrinker {
 
@@ -15,10 +18,23 @@ abstract class AbstractSampleShrinker {
 		return ShrinkingDistance.forCollection(shrinkables);
 	}
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final FalsificationCache falsificationCache;
+	private final ContextPropagatingThreadPool candidatesThreadPool;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	public AbstractSampleShrinker(FalsificationCache falsificationCache) {
+		this(falsificationCache, null);
+	}
+
+	/**
+	 * @param candidatesThreadPool If not null shrinking candidates are evaluated concurrently
+	 *                             in windows of the pool's size
+	 */
+	public AbstractSampleShrinker(
+		FalsificationCache falsificationCache,
+		ContextPropagatingThreadPool candidatesThreadPool
+	) {
 		this.falsificationCache = falsificationCache;
+		this.candidatesThreadPool = candidatesThreadPool;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -44,23 +60,22 @@ abstract class AbstractSampleShrinker {
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
+			Stream<List<Shrinkable<Object>>> candidates = supplyShrinkCandidates.apply(currentShrinkBase);
+			Runnable countAttempt = () -> shrinkAttemptConsumer.accept(currentBest);
+			Predicate<List<Shrinkable<Object>>> isNotLarger =
+				shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0;
+
+			Consumer<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> rememberFiltered = t -> {
+				// Remember best 10 invalid results in case no  falsified shrink is found
+				if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
+					filteredResults.push(t);
+				}
+			};
+
 			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
-				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
-								 .peek(t -> {
-									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
-									 }
-								 })
-								 .filter(t -> t.get3().isFalsified())
-								 .findAny();
+				candidatesThreadPool == null
+					? findFalsified(falsifier, candidates.peek(ignore -> countAttempt.run()).filter(isNotLarger), rememberFiltered)
+					: findFalsifiedConcurrently(falsifier, candidates, isNotLarger, countAttempt, rememberFiltered);
 
 			if (newShrinkingResult.isPresent()) {
 				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
@@ -84,9 +99,124 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
-	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> findFalsified(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		Consumer<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> rememberFiltered
+	) {
+		return candidates.map(shrinkables -> {
+							 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+							 List<Object> usedParams = new ArrayList<>(params);
+							 TryExecutionResult result = falsify(falsifier, params, usedParams);
+							 return Tuple.of(usedParams, shrinkables, result);
+						 })
+						 .peek(rememberFiltered)
+						 .filter(t -> t.get3().isFalsified())
+						 .findAny();
+	}
+
+	// Candidates are pulled in windows and evaluated concurrently.
+	// Results are still looked at in stream order so that the outcome - including
+	// the number of reported shrinking attempts - is the same as with sequential evaluation.
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> findFalsifiedConcurrently(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		Predicate<List<Shrinkable<Object>>> isNotLarger,
+		Runnable countAttempt,
+		Consumer<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> rememberFiltered
+	) {
+		Iterator<List<Shrinkable<Object>>> iterator = candidates.iterator();
+		while (iterator.hasNext()) {
+			// Candidates that are larger than the current shrink base are kept in the window
+			// with a null key so that their attempts are only counted when they are reached
+			List<List<Shrinkable<Object>>> window = new ArrayList<>();
+			List<FalsificationCache.Key> windowKeys = new ArrayList<>();
+			int countToEvaluate = 0;
+			while (iterator.hasNext() && countToEvaluate < candidatesThreadPool.size()) {
+				List<Shrinkable<Object>> shrinkables = iterator.next();
+				window.add(shrinkables);
+				if (isNotLarger.test(shrinkables)) {
+					List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+					windowKeys.add(FalsificationCache.key(params));
+					countToEvaluate++;
+				} else {
+					windowKeys.add(null);
+				}
+			}
+			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> falsified =
+				evaluateWindow(falsifier, window, windowKeys, countAttempt, rememberFiltered);
+			if (falsified.isPresent()) {
+				return falsified;
+			}
+		}
+		return Optional.empty();
+	}
+
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> evaluateWindow(
+		Falsifier<List<Object>> falsifier,
+		List<List<Shrinkable<Object>>> window,
+		List<FalsificationCache.Key> windowKeys,
+		Runnable countAttempt,
+		Consumer<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> rememberFiltered
+	) {
+		// Equal candidates within a window are only executed once
+		Map<FalsificationCache.Key, Future<TryExecutionResult>> submitted = new HashMap<>();
+		Map<FalsificationCache.Key, List<Object>> usedParamsByKey = new HashMap<>();
+		List<Future<TryExecutionResult>> windowResults = new ArrayList<>();
+		for (FalsificationCache.Key key : windowKeys) {
+			if (key == null) {
+				windowResults.add(null);
+				continue;
+			}
+			List<Object> usedParams = usedParamsByKey.computeIfAbsent(key, k -> new ArrayList<>(k.params()));
+			TryExecutionResult cachedResult = falsificationCache.get(key);
+			if (cachedResult != null) {
+				windowResults.add(CompletableFuture.completedFuture(cachedResult));
+			} else {
+				windowResults.add(submitted.computeIfAbsent(key, k -> candidatesThreadPool.submit(() -> falsifier.execute(usedParams))));
+			}
+		}
+		try {
+			for (int i = 0; i < window.size(); i++) {
+				countAttempt.run();
+				FalsificationCache.Key key = windowKeys.get(i);
+				if (key == null) {
+					continue;
+				}
+				TryExecutionResult result = waitFor(windowResults.get(i));
+				falsificationCache.putIfAbsent(key, result);
+				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> t = Tuple.of(usedParamsByKey.get(key), window.get(i), result);
+				rememberFiltered.accept(t);
+				if (result.isFalsified()) {
+					return Optional.of(t);
+				}
+			}
+			return Optional.empty();
+		} finally {
+			windowResults.stream().filter(Objects::nonNull).forEach(future -> future.cancel(false));
+		}
+	}
+
+	private TryExecutionResult waitFor(Future<TryExecutionResult> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		}
+	}
+
+	// The falsifier gets a copy of the params because lifecycle hooks may modify them,
+	// whereas the original params are used as key in the falsification cache
+	private TryExecutionResult falsify(
+		Falsifier<List<Object>> falsifier,
+		List<Object> params,
+		List<Object> usedParams
+	) {
 		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+		return falsificationCache.computeIfAbsent(FalsificationCache.key(params), ignore -> falsifier.execute(usedParams));
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
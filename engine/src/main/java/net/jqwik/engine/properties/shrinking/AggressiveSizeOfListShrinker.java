@@ -52,15 +52,14 @@ public class AggressiveSizeOfListShrinker<T> {
 		return lists.stream();
 	}
 
+	// Cuts are sub list views and therefore do not copy the list to shrink
 	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToKeep) {
-		List<T> cut = new ArrayList<>(toShrink);
-		lists.add(cut.subList(0, elementsToKeep));
+		lists.add(toShrink.subList(0, elementsToKeep));
 	}
 
 	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToKeep) {
-		List<T> cut = new ArrayList<>(toShrink);
 		int elementsToCut = toShrink.size() - elementsToKeep;
-		lists.add(cut.subList(elementsToCut, toShrink.size()));
+		lists.add(toShrink.subList(elementsToCut, toShrink.size()));
 	}
 
 }
@@ -0,0 +1,200 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A shrinkable for long lists that does not keep a shrinkable object for every element.
+ *
+ * <p>
+ * Only usable for elements whose shrinking depends on nothing but their value, e.g. integral numbers.
+ * Values are kept in an array which is shared by all shrink candidates that only cut
+ * the list, since cutting shrinks a range of indices. Element shrinkables are kept only
+ * once per distinct value.
+ * Shrink candidates with no more than {@linkplain #COMPACT_THRESHOLD} elements
+ * are regular {@linkplain ShrinkableList}s.
+ * Growing is delegated to an equivalent {@linkplain ShrinkableList}.
+ * </p>
+ */
+public class CompactShrinkableList<E> implements Shrinkable<List<E>> {
+
+	/**
+	 * Only lists longer than that are represented in compact form
+	 */
+	public static final int COMPACT_THRESHOLD = CompactShrinkableString.COMPACT_THRESHOLD;
+
+	// Same number as in CompactShrinkableString
+	private static final int MAX_ELEMENTS_TO_SHRINK = 100;
+
+	private final Object[] values;
+	private final IndexRange range;
+	private final Map<E, Shrinkable<E>> shrinkableElements;
+	private final int minSize;
+	private final int maxSize;
+
+	private volatile ShrinkingDistance distance;
+
+	/**
+	 * @param shrinkableElements must contain a shrinkable for every value in {@code values}.
+	 *                           Will be extended by shrunk elements.
+	 */
+	public CompactShrinkableList(Object[] values, Map<E, Shrinkable<E>> shrinkableElements, int minSize, int maxSize) {
+		this(values, new IndexRange(0, values.length), shrinkableElements, minSize, maxSize);
+	}
+
+	private CompactShrinkableList(
+		Object[] values,
+		IndexRange range,
+		Map<E, Shrinkable<E>> shrinkableElements,
+		int minSize,
+		int maxSize
+	) {
+		this.values = values;
+		this.range = range;
+		this.shrinkableElements = shrinkableElements;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public List<E> value() {
+		List<E> list = new ArrayList<>(range.size());
+		for (int index = range.from(); index < range.to(); index++) {
+			list.add(valueAt(index));
+		}
+		return list;
+	}
+
+	@Override
+	public Stream<Shrinkable<List<E>>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkSizeAggressively(),
+			shrinkSizeOfList(),
+			shrinkElementsOneAfterTheOther()
+		);
+	}
+
+	// Growing is rare. That's why a shrinkable for every element is only created then.
+	@Override
+	public Optional<Shrinkable<List<E>>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return expanded().grow(expandedIfCompact(before), expandedIfCompact(after));
+	}
+
+	@Override
+	public Stream<Shrinkable<List<E>>> grow() {
+		return expanded().grow();
+	}
+
+	private static Shrinkable<?> expandedIfCompact(Shrinkable<?> shrinkable) {
+		if (shrinkable instanceof CompactShrinkableList) {
+			return ((CompactShrinkableList<?>) shrinkable).expanded();
+		}
+		return shrinkable;
+	}
+
+	private ShrinkableList<E> expanded() {
+		return expand(values, range);
+	}
+
+	private Stream<Shrinkable<List<E>>> shrinkSizeAggressively() {
+		return new AggressiveSizeOfListShrinker<Integer>(minSize)
+				   .shrink(range)
+				   .map(cut -> createShrinkable(IndexRange.of(cut)))
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Stream<Shrinkable<List<E>>> shrinkSizeOfList() {
+		return new SizeOfListShrinker<Integer>(minSize)
+				   .shrinkBySize(range)
+				   .flatMap(sameSize -> sameSize.stream()
+												.map(cut -> createShrinkable(IndexRange.of(cut)))
+												.sorted(Comparator.comparing(Shrinkable::distance)));
+	}
+
+	private Stream<Shrinkable<List<E>>> shrinkElementsOneAfterTheOther() {
+		int elementsToShrink = Math.min(MAX_ELEMENTS_TO_SHRINK, range.size());
+		return JqwikStreamSupport.concat(elementsToShrink, index -> {
+			int valueIndex = range.from() + index;
+			return shrinkableElement(valueAt(valueIndex))
+					   .shrink()
+					   .map(shrunkElement -> replaceElement(valueIndex, shrunkElement));
+		});
+	}
+
+	private Shrinkable<List<E>> replaceElement(int valueIndex, Shrinkable<E> shrunkElement) {
+		E replacement = shrunkElement.value();
+		shrinkableElements.putIfAbsent(replacement, shrunkElement);
+		Object[] replaced = Arrays.copyOfRange(values, range.from(), range.to());
+		replaced[valueIndex - range.from()] = replacement;
+		return createShrinkable(replaced, new IndexRange(0, replaced.length));
+	}
+
+	private Shrinkable<List<E>> createShrinkable(IndexRange cut) {
+		return createShrinkable(values, cut);
+	}
+
+	private Shrinkable<List<E>> createShrinkable(Object[] values, IndexRange cut) {
+		if (cut.size() > COMPACT_THRESHOLD) {
+			return new CompactShrinkableList<>(values, cut, shrinkableElements, minSize, maxSize);
+		}
+		return expand(values, cut);
+	}
+
+	private ShrinkableList<E> expand(Object[] values, IndexRange cut) {
+		List<Shrinkable<E>> elements = new ArrayList<>(cut.size());
+		for (int index = cut.from(); index < cut.to(); index++) {
+			@SuppressWarnings("unchecked")
+			E value = (E) values[index];
+			elements.add(shrinkableElement(value));
+		}
+		return new ShrinkableList<>(elements, minSize, maxSize, Collections.emptySet());
+	}
+
+	@SuppressWarnings("unchecked")
+	private E valueAt(int index) {
+		return (E) values[index];
+	}
+
+	private Shrinkable<E> shrinkableElement(E value) {
+		return shrinkableElements.get(value);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (distance == null) {
+			distance = ShrinkingDistance.of(range.size()).append(sumOfElementDistances());
+		}
+		return distance;
+	}
+
+	private ShrinkingDistance sumOfElementDistances() {
+		Map<E, ShrinkingDistance> elementDistances = new HashMap<>();
+		ShrinkingDistance sum = ShrinkingDistance.of(0);
+		for (int index = range.from(); index < range.to(); index++) {
+			ShrinkingDistance elementDistance = elementDistances.computeIfAbsent(valueAt(index), v -> shrinkableElement(v).distance());
+			sum = sum.plus(elementDistance);
+		}
+		return sum;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CompactShrinkableList<?> that = (CompactShrinkableList<?>) o;
+		return value().equals(that.value());
+	}
+
+	@Override
+	public int hashCode() {
+		return value().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<List>(%s:%s)", getClass().getSimpleName(), value(), distance());
+	}
+}
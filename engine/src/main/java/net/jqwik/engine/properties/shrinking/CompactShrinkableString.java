@@ -0,0 +1,188 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A shrinkable for long strings that does not keep a shrinkable object for every character.
+ *
+ * <p>
+ * Characters are kept in an array which is shared by all shrink candidates that only cut
+ * the string, since cutting shrinks a range of indices. Character shrinkables are kept only
+ * once per distinct character value, because shrinking a character only depends on its value.
+ * Shrink candidates with no more than {@linkplain #COMPACT_THRESHOLD} characters
+ * are regular {@linkplain ShrinkableString}s.
+ * Growing is delegated to an equivalent {@linkplain ShrinkableString}.
+ * </p>
+ */
+public class CompactShrinkableString implements Shrinkable<String> {
+
+	/**
+	 * Only strings longer than that are represented in compact form
+	 */
+	public static final int COMPACT_THRESHOLD = 1000;
+
+	// Same number as in ShrinkableString for long strings
+	private static final int MAX_CHARS_TO_SHRINK = 100;
+
+	private final char[] chars;
+	private final IndexRange range;
+	private final Map<Character, Shrinkable<Character>> shrinkableChars;
+	private final int minSize;
+	private final int maxSize;
+
+	private volatile ShrinkingDistance distance;
+
+	/**
+	 * @param shrinkableChars must contain a shrinkable for every character in {@code chars}.
+	 *                        Will be extended by shrunk characters.
+	 */
+	public CompactShrinkableString(char[] chars, Map<Character, Shrinkable<Character>> shrinkableChars, int minSize, int maxSize) {
+		this(chars, new IndexRange(0, chars.length), shrinkableChars, minSize, maxSize);
+	}
+
+	private CompactShrinkableString(
+		char[] chars,
+		IndexRange range,
+		Map<Character, Shrinkable<Character>> shrinkableChars,
+		int minSize,
+		int maxSize
+	) {
+		this.chars = chars;
+		this.range = range;
+		this.shrinkableChars = shrinkableChars;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public String value() {
+		return new String(chars, range.from(), range.size());
+	}
+
+	@Override
+	public Stream<Shrinkable<String>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkSizeAggressively(),
+			shrinkSizeOfString(),
+			shrinkCharsOneAfterTheOther()
+		);
+	}
+
+	// Growing is rare. That's why a shrinkable for every character is only created then.
+	@Override
+	public Optional<Shrinkable<String>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return expanded().grow(expandedIfCompact(before), expandedIfCompact(after));
+	}
+
+	@Override
+	public Stream<Shrinkable<String>> grow() {
+		return expanded().grow();
+	}
+
+	private static Shrinkable<?> expandedIfCompact(Shrinkable<?> shrinkable) {
+		if (shrinkable instanceof CompactShrinkableString) {
+			return ((CompactShrinkableString) shrinkable).expanded();
+		}
+		return shrinkable;
+	}
+
+	private ShrinkableString expanded() {
+		return expand(chars, range);
+	}
+
+	private Stream<Shrinkable<String>> shrinkSizeAggressively() {
+		return new AggressiveSizeOfListShrinker<Integer>(minSize)
+				   .shrink(range)
+				   .map(cut -> createShrinkable(IndexRange.of(cut)))
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Stream<Shrinkable<String>> shrinkSizeOfString() {
+		return new SizeOfListShrinker<Integer>(minSize)
+				   .shrinkBySize(range)
+				   .flatMap(sameSize -> sameSize.stream()
+												.map(cut -> createShrinkable(IndexRange.of(cut)))
+												.sorted(Comparator.comparing(Shrinkable::distance)));
+	}
+
+	private Stream<Shrinkable<String>> shrinkCharsOneAfterTheOther() {
+		int charsToShrink = Math.min(MAX_CHARS_TO_SHRINK, range.size());
+		return JqwikStreamSupport.concat(charsToShrink, index -> {
+			int charIndex = range.from() + index;
+			return shrinkableChar(chars[charIndex])
+					   .shrink()
+					   .map(shrunkChar -> replaceChar(charIndex, shrunkChar));
+		});
+	}
+
+	private Shrinkable<String> replaceChar(int charIndex, Shrinkable<Character> shrunkChar) {
+		char replacement = shrunkChar.value();
+		shrinkableChars.putIfAbsent(replacement, shrunkChar);
+		char[] replaced = Arrays.copyOfRange(chars, range.from(), range.to());
+		replaced[charIndex - range.from()] = replacement;
+		return createShrinkable(replaced, new IndexRange(0, replaced.length));
+	}
+
+	private Shrinkable<String> createShrinkable(IndexRange cut) {
+		return createShrinkable(chars, cut);
+	}
+
+	private Shrinkable<String> createShrinkable(char[] chars, IndexRange cut) {
+		if (cut.size() > COMPACT_THRESHOLD) {
+			return new CompactShrinkableString(chars, cut, shrinkableChars, minSize, maxSize);
+		}
+		return expand(chars, cut);
+	}
+
+	private ShrinkableString expand(char[] chars, IndexRange cut) {
+		List<Shrinkable<Character>> elements = new ArrayList<>(cut.size());
+		for (int index = cut.from(); index < cut.to(); index++) {
+			elements.add(shrinkableChar(chars[index]));
+		}
+		return new ShrinkableString(elements, minSize, maxSize);
+	}
+
+	private Shrinkable<Character> shrinkableChar(char aChar) {
+		return shrinkableChars.get(aChar);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (distance == null) {
+			distance = ShrinkingDistance.of(range.size()).append(sumOfCharDistances());
+		}
+		return distance;
+	}
+
+	private ShrinkingDistance sumOfCharDistances() {
+		Map<Character, ShrinkingDistance> charDistances = new HashMap<>();
+		ShrinkingDistance sum = ShrinkingDistance.of(0);
+		for (int index = range.from(); index < range.to(); index++) {
+			ShrinkingDistance charDistance = charDistances.computeIfAbsent(chars[index], c -> shrinkableChar(c).distance());
+			sum = sum.plus(charDistance);
+		}
+		return sum;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CompactShrinkableString that = (CompactShrinkableString) o;
+		return value().equals(that.value());
+	}
+
+	@Override
+	public int hashCode() {
+		return value().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<String>(%s:%s)", getClass().getSimpleName(), JqwikStringSupport.displayString(value()), distance());
+	}
+}
@@ -0,0 +1,328 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Remembers the results of falsifying shrinking candidates so that equal candidates
+ * do not have to be executed again.
+ *
+ * <p>
+ * Entries are evicted least recently used first as soon as the total weight of all entries
+ * exceeds the cache's maximum size. An entry's weight is 1 plus the number of all elements,
+ * entries and characters in its parameters - including nested ones -
+ * which keeps memory bounded for large samples as well.
+ * </p>
+ *
+ * <p>
+ * Candidates are looked up by a {@linkplain Key} whose hash is a fingerprint of their values.
+ * Nested values only contribute down to a maximum depth.
+ * Deep equality of parameters is only checked if fingerprints are the same.
+ * Shrinkables are deliberately not part of the key so that equal values reached
+ * through different shrinking paths are found as well.
+ * </p>
+ */
+public class FalsificationCache {
+
+	public static final int DEFAULT_MAX_SIZE = 100_000;
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long currentWeight = 0;
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/**
+	 * @param maxSize Maximum total weight of all entries. Use 0 to switch off caching.
+	 */
+	public FalsificationCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Maximum size of falsification cache must not be negative");
+		}
+		this.maxSize = maxSize;
+	}
+
+	static Key key(List<Object> params) {
+		return new Key(params);
+	}
+
+	synchronized TryExecutionResult get(Key key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return entry.result;
+	}
+
+	synchronized void putIfAbsent(Key key, TryExecutionResult result) {
+		if (entries.containsKey(key)) {
+			return;
+		}
+		int weight = key.weight(maxSize);
+		if (weight > maxSize) {
+			return;
+		}
+		entries.put(key, new Entry(result, weight));
+		currentWeight += weight;
+		evictUntilWeightFits();
+	}
+
+	TryExecutionResult computeIfAbsent(Key key, Function<List<Object>, TryExecutionResult> falsify) {
+		TryExecutionResult cachedResult = get(key);
+		if (cachedResult != null) {
+			return cachedResult;
+		}
+		TryExecutionResult result = falsify.apply(key.params);
+		putIfAbsent(key, result);
+		return result;
+	}
+
+	private void evictUntilWeightFits() {
+		Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+		while (currentWeight > maxSize && leastRecentlyUsed.hasNext()) {
+			currentWeight -= leastRecentlyUsed.next().weight;
+			leastRecentlyUsed.remove();
+			evictions++;
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized Statistics statistics() {
+		return new Statistics(hits, misses, evictions);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("FalsificationCache<%s entries, %s>", size(), statistics());
+	}
+
+	public static class Statistics {
+
+		public static final Statistics NONE = new Statistics(0, 0, 0);
+
+		private final long hits;
+		private final long misses;
+		private final long evictions;
+
+		private Statistics(long hits, long misses, long evictions) {
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+		}
+
+		public long hits() {
+			return hits;
+		}
+
+		public long misses() {
+			return misses;
+		}
+
+		public long evictions() {
+			return evictions;
+		}
+
+		public long lookups() {
+			return hits + misses;
+		}
+
+		/**
+		 * @return Ratio of lookups that were answered from cache between 0.0 and 1.0
+		 */
+		public double hitRate() {
+			return lookups() == 0 ? 0.0 : (double) hits / lookups();
+		}
+
+		public String hitRateString() {
+			return String.format(Locale.ROOT, "%.1f%%", hitRate() * 100);
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+				"%s hits, %s misses, %s evictions (hit rate %s)",
+				hits, misses, evictions, hitRateString()
+			);
+		}
+	}
+
+	private static class Entry {
+		private final TryExecutionResult result;
+		private final int weight;
+
+		private Entry(TryExecutionResult result, int weight) {
+			this.result = result;
+			this.weight = weight;
+		}
+	}
+
+	static class Key {
+
+		private static final int MAX_FINGERPRINT_DEPTH = 3;
+
+		private final List<Object> params;
+		private final int fingerprint;
+
+		private Key(List<Object> params) {
+			this.params = params;
+			this.fingerprint = fingerprint(params);
+		}
+
+		private static int fingerprint(List<Object> params) {
+			int fingerprint = params.size();
+			for (Object param : params) {
+				fingerprint = 31 * fingerprint + fingerprint(param, 0);
+			}
+			return fingerprint;
+		}
+
+		// Must be equal for equal values. All elements down to a maximum depth contribute
+		// so that the many candidates of the same size that shrinking creates by removing single elements
+		// end up in different buckets. Creating a candidate already takes linear time so that this does not either.
+		private static int fingerprint(Object value, int depth) {
+			if (value == null) {
+				return 0;
+			}
+			if (value instanceof String) {
+				// String caches its hash code
+				return value.hashCode();
+			}
+			if (depth >= MAX_FINGERPRINT_DEPTH) {
+				return 31 * value.getClass().hashCode() + Math.max(0, size(value));
+			}
+			if (value instanceof List && value instanceof RandomAccess) {
+				List<?> list = (List<?>) value;
+				return orderedFingerprint(list.size(), list::get, depth);
+			}
+			if (value instanceof Collection) {
+				// Iteration order of equal sets can differ, so elements are combined order independently
+				int fingerprint = ((Collection<?>) value).size();
+				for (Object element : (Collection<?>) value) {
+					fingerprint += fingerprint(element, depth + 1);
+				}
+				return fingerprint;
+			}
+			if (value instanceof Map) {
+				int fingerprint = ((Map<?, ?>) value).size();
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+					fingerprint += fingerprint(entry.getKey(), depth + 1) ^ fingerprint(entry.getValue(), depth + 1);
+				}
+				return fingerprint;
+			}
+			if (value instanceof CharSequence) {
+				CharSequence chars = (CharSequence) value;
+				return orderedFingerprint(chars.length(), chars::charAt, depth);
+			}
+			if (value.getClass().isArray()) {
+				return orderedFingerprint(Array.getLength(value), index -> Array.get(value, index), depth);
+			}
+			return value.hashCode();
+		}
+
+		private static int orderedFingerprint(int size, IntFunction<Object> elementAt, int depth) {
+			int fingerprint = size;
+			for (int index = 0; index < size; index++) {
+				fingerprint = 31 * fingerprint + fingerprint(elementAt.apply(index), depth + 1);
+			}
+			return fingerprint;
+		}
+
+		private static int size(Object value) {
+			if (value instanceof Collection) {
+				return ((Collection<?>) value).size();
+			}
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).size();
+			}
+			if (value instanceof CharSequence) {
+				return ((CharSequence) value).length();
+			}
+			if (value.getClass().isArray()) {
+				return Array.getLength(value);
+			}
+			return -1;
+		}
+
+		// Nested elements are counted as well so that memory stays bounded for samples like List<List<String>>
+		private int weight(long maxWeight) {
+			long weight = 1;
+			for (Object param : params) {
+				weight += deepSize(param, maxWeight - weight);
+				if (weight > maxWeight) {
+					break;
+				}
+			}
+			return (int) Math.min(weight, Integer.MAX_VALUE);
+		}
+
+		// Stops counting as soon as limit is exceeded
+		private static long deepSize(Object value, long limit) {
+			if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Character) {
+				return 0;
+			}
+			if (value instanceof CharSequence) {
+				return ((CharSequence) value).length();
+			}
+			Iterable<?> elements = null;
+			if (value instanceof Collection) {
+				elements = (Collection<?>) value;
+			} else if (value instanceof Map) {
+				elements = ((Map<?, ?>) value).entrySet();
+			}
+			if (elements != null) {
+				long size = 0;
+				for (Object element : elements) {
+					size += 1 + deepSize(element, limit - size);
+					if (size > limit) {
+						break;
+					}
+				}
+				return size;
+			}
+			if (value instanceof Map.Entry) {
+				Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+				long keySize = deepSize(entry.getKey(), limit);
+				return keySize + deepSize(entry.getValue(), limit - keySize);
+			}
+			if (value.getClass().isArray()) {
+				int length = Array.getLength(value);
+				if (value.getClass().getComponentType().isPrimitive()) {
+					return length;
+				}
+				long size = 0;
+				for (int index = 0; index < length && size <= limit; index++) {
+					size += 1 + deepSize(Array.get(value, index), limit - size);
+				}
+				return size;
+			}
+			return 0;
+		}
+
+		List<Object> params() {
+			return params;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Key other = (Key) o;
+			return fingerprint == other.fingerprint && params.equals(other.params);
+		}
+
+		@Override
+		public int hashCode() {
+			return fingerprint;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+/**
+ * The indices {@code from} (inclusive) to {@code to} (exclusive) as a list.
+ * Lets container shrinkers cut a range of indices instead of a list of element objects.
+ */
+class IndexRange extends AbstractList<Integer> implements RandomAccess {
+
+	static IndexRange of(List<Integer> indices) {
+		if (indices instanceof IndexRange) {
+			return (IndexRange) indices;
+		}
+		if (indices.isEmpty()) {
+			return new IndexRange(0, 0);
+		}
+		throw new IllegalArgumentException(String.format("%s is not a range of indices", indices));
+	}
+
+	private final int from;
+	private final int to;
+
+	IndexRange(int from, int to) {
+		this.from = from;
+		this.to = to;
+	}
+
+	int from() {
+		return from;
+	}
+
+	int to() {
+		return to;
+	}
+
+	@Override
+	public Integer get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException(String.format("Index %s of range with size %s", index, size()));
+		}
+		return from + index;
+	}
+
+	@Override
+	public int size() {
+		return to - from;
+	}
+
+	@Override
+	public IndexRange subList(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException(String.format("Sublist [%s, %s) of range with size %s", fromIndex, toIndex, size()));
+		}
+		return new IndexRange(from + fromIndex, from + toIndex);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof IndexRange) {
+			IndexRange other = (IndexRange) o;
+			return size() == other.size() && (size() == 0 || from == other.from);
+		}
+		return super.equals(o);
+	}
+
+	// Same value as List.hashCode() but without boxing every index
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int index = from; index < to; index++) {
+			hashCode = 31 * hashCode + index;
+		}
+		return hashCode;
+	}
+}
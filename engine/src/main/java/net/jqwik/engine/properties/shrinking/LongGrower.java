@@ -0,0 +1,80 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+class LongGrower {
+
+	Optional<Shrinkable<Long>> grow(
+		long value,
+		long min,
+		long max,
+		long shrinkingTarget,
+		Shrinkable<?> before,
+		Shrinkable<?> after
+	) {
+		Object beforeValue = before.value();
+		Object afterValue = after.value();
+		OptionalLong diff = calculateDiff(beforeValue, afterValue);
+		// Comparing diff instead of the grown value avoids overflow since max - min fits into a long
+		if (diff.isPresent() && diff.getAsLong() != 0 && diff.getAsLong() >= min - value && diff.getAsLong() <= max - value) {
+			return Optional.of(new ShrinkableLong(value + diff.getAsLong(), min, max, shrinkingTarget));
+		}
+		return Optional.empty();
+	}
+
+	private OptionalLong calculateDiff(Object beforeValue, Object afterValue) {
+		if (beforeValue instanceof BigInteger && afterValue instanceof BigInteger) {
+			BigInteger diff = ((BigInteger) beforeValue).subtract((BigInteger) afterValue);
+			return diff.bitLength() < Long.SIZE ? OptionalLong.of(diff.longValue()) : OptionalLong.empty();
+		}
+		return OptionalLong.of(toLong(beforeValue) - toLong(afterValue));
+	}
+
+	private long toLong(Object value) {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		}
+		return 0L;
+	}
+
+	Stream<Shrinkable<Long>> grow(long value, long min, long max, long shrinkingTarget) {
+		if (value < shrinkingTarget) {
+			return growLeft(value, min, max, shrinkingTarget);
+		} else {
+			return growRight(value, min, max, shrinkingTarget);
+		}
+	}
+
+	// Overflowing candidates end up on the wrong side of value and are filtered out
+	private Stream<Shrinkable<Long>> growRight(long value, long min, long max, long shrinkingTarget) {
+		return LongStream
+				   .of(
+					   max,
+					   value + (max - value) / 2,
+					   value + 10,
+					   value + 1
+				   )
+				   .filter(grownValue -> grownValue > value)
+				   .filter(grownValue -> grownValue <= max)
+				   .distinct()
+				   .mapToObj(grown -> new ShrinkableLong(grown, min, max, shrinkingTarget));
+	}
+
+	private Stream<Shrinkable<Long>> growLeft(long value, long min, long max, long shrinkingTarget) {
+		return LongStream
+				   .of(
+					   min,
+					   value - (value - min) / 2,
+					   value - 10,
+					   value - 1
+				   )
+				   .filter(grownValue -> grownValue < value)
+				   .filter(grownValue -> grownValue >= min)
+				   .distinct()
+				   .mapToObj(grown -> new ShrinkableLong(grown, min, max, shrinkingTarget));
+	}
+}
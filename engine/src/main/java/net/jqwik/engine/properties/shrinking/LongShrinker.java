@@ -0,0 +1,73 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Same candidates as {@linkplain BigIntegerShrinker} but without boxing or {@linkplain java.math.BigInteger} arithmetic.
+ * Only applicable if the distance between value and shrinking target fits into a long.
+ */
+public class LongShrinker {
+
+	// Fibonacci numbers beyond the 92nd do not fit into a long
+	private static final int MAX_STEPS = 92;
+
+	private final long shrinkingTarget;
+
+	public LongShrinker(long shrinkingTarget) {
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	/**
+	 * @return candidates ordered by their distance to the shrinking target
+	 */
+	public LongStream shrink(long value) {
+		long lower = Math.min(shrinkingTarget, value);
+		long higher = Math.max(shrinkingTarget, value);
+		long[] candidates = new long[2 * MAX_STEPS + 1];
+		int count = addFibbonaci(candidates, 0, lower, higher);
+		count = subFibbonaci(candidates, count, higher, lower);
+		candidates[count++] = shrinkingTarget;
+
+		Arrays.sort(candidates, 0, count);
+		LongStream distinct = Arrays.stream(candidates, 0, count).distinct().filter(candidate -> candidate != value);
+		if (value > shrinkingTarget) {
+			return distinct;
+		}
+		long[] ascending = distinct.toArray();
+		return IntStream.range(0, ascending.length).mapToLong(i -> ascending[ascending.length - 1 - i]);
+	}
+
+	private int subFibbonaci(long[] candidates, int count, long target, long border) {
+		long maxStep = target - border;
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			// A negative step has overflowed
+			if (step < 0 || step >= maxStep) {
+				return count;
+			}
+			candidates[count++] = target - step;
+			butLast = last;
+			last = step;
+		}
+	}
+
+	private int addFibbonaci(long[] candidates, int count, long target, long border) {
+		long maxStep = border - target;
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			// A negative step has overflowed
+			if (step < 0 || step >= maxStep) {
+				return count;
+			}
+			candidates[count++] = target + step;
+			butLast = last;
+			last = step;
+		}
+	}
+
+}
@@ -6,11 +6,19 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
 
 class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 
-	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public OneAfterTheOtherParameterShrinker(FalsificationCache falsificationCache) {
+		this(falsificationCache, null);
+	}
+
+	public OneAfterTheOtherParameterShrinker(
+		FalsificationCache falsificationCache,
+		ContextPropagatingThreadPool candidatesThreadPool
+	) {
+		super(falsificationCache, candidatesThreadPool);
 	}
 
 	@Override
@@ -6,12 +6,20 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.support.*;
 
 class PairwiseParameterShrinker extends AbstractSampleShrinker {
 
-	public PairwiseParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public PairwiseParameterShrinker(FalsificationCache falsificationCache) {
+		this(falsificationCache, null);
+	}
+
+	public PairwiseParameterShrinker(
+		FalsificationCache falsificationCache,
+		ContextPropagatingThreadPool candidatesThreadPool
+	) {
+		super(falsificationCache, candidatesThreadPool);
 	}
 
 	@Override
@@ -22,26 +22,63 @@ public class PropertyShrinker {
 	private final FalsifiedSample originalSample;
 	private final ShrinkingMode shrinkingMode;
 	private final int boundedShrinkingSeconds;
+	private final int shrinkingParallelism;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
-	private final Map<List<Object>, TryExecutionResult> falsificationCache = new HashMap<>();
+	private final FalsificationCache falsificationCache;
 
 	private Optional<FalsifiedSample> currentBest = Optional.empty();
 
+	// Only set while shrinking with a parallelism greater than 1
+	private volatile ContextPropagatingThreadPool candidatesThreadPool = null;
+
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod
+	) {
+		this(originalSample, shrinkingMode, boundedShrinkingSeconds, 1, falsifiedSampleReporter, targetMethod);
+	}
+
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int shrinkingParallelism,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod
+	) {
+		this(
+			originalSample,
+			shrinkingMode,
+			boundedShrinkingSeconds,
+			shrinkingParallelism,
+			FalsificationCache.DEFAULT_MAX_SIZE,
+			falsifiedSampleReporter,
+			targetMethod
+		);
+	}
+
 	public PropertyShrinker(
 		FalsifiedSample originalSample,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
+		int shrinkingParallelism,
+		int falsificationCacheSize,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
+		this.shrinkingParallelism = shrinkingParallelism;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
+		this.falsificationCache = new FalsificationCache(falsificationCacheSize);
 	}
 
 	public ShrunkFalsifiedSample shrink(Falsifier<List<Object>> forAllFalsifier) {
@@ -75,6 +112,22 @@ public class PropertyShrinker {
 		Falsifier<List<Object>> falsifier,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
+	) {
+		if (shrinkingParallelism > 1) {
+			try (ContextPropagatingThreadPool threadPool = new ContextPropagatingThreadPool("jqwik-shrinking-", shrinkingParallelism)) {
+				candidatesThreadPool = threadPool;
+				return shrinkUntilDone(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer);
+			} finally {
+				candidatesThreadPool = null;
+			}
+		}
+		return shrinkUntilDone(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer);
+	}
+
+	private ShrunkFalsifiedSample shrinkUntilDone(
+		Falsifier<List<Object>> falsifier,
+		Consumer<FalsifiedSample> shrinkSampleConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
 		FalsifiedSample fullyShrunkSample;
 		Supplier<FalsifiedSample> shrinkUntilDone = () -> shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer);
@@ -83,7 +136,9 @@ public class PropertyShrinker {
 		} else {
 			fullyShrunkSample = withTimeout(shrinkUntilDone);
 		}
-		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
+		FalsificationCache.Statistics cacheStatistics = falsificationCache.statistics();
+		LOG.fine(() -> String.format("Falsification cache after shrinking: %s", cacheStatistics));
+		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get(), cacheStatistics);
 	}
 
 	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
@@ -121,7 +176,7 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, candidatesThreadPool)
 				   .shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
@@ -131,7 +186,7 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, candidatesThreadPool).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
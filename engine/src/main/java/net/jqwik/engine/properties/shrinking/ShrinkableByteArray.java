@@ -0,0 +1,162 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A shrinkable for byte arrays which does not box any byte.
+ *
+ * <p>
+ * Cutting the array shrinks a range of indices, so that cut candidates share the same bytes.
+ * Zeroing a range of bytes copies and fills the bytes in bulk.
+ * Since arrays are mutable every call to {@linkplain #value()} returns a fresh copy.
+ * </p>
+ */
+public class ShrinkableByteArray implements Shrinkable<byte[]> {
+
+	// Same number as in ShrinkableString for long strings
+	private static final int MAX_BYTES_TO_SHRINK = 100;
+
+	private final byte[] bytes;
+	private final IndexRange range;
+	private final int minSize;
+
+	private volatile ShrinkingDistance distance;
+
+	public ShrinkableByteArray(byte[] bytes, int minSize) {
+		this(bytes, new IndexRange(0, bytes.length), minSize);
+	}
+
+	private ShrinkableByteArray(byte[] bytes, IndexRange range, int minSize) {
+		this.bytes = bytes;
+		this.range = range;
+		this.minSize = minSize;
+	}
+
+	@Override
+	public byte[] value() {
+		return Arrays.copyOfRange(bytes, range.from(), range.to());
+	}
+
+	@Override
+	public Stream<Shrinkable<byte[]>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkSizeAggressively(),
+			shrinkSizeOfArray(),
+			zeroRanges(),
+			shrinkBytesOneAfterTheOther()
+		);
+	}
+
+	private Stream<Shrinkable<byte[]>> shrinkSizeAggressively() {
+		return new AggressiveSizeOfListShrinker<Integer>(minSize)
+				   .shrink(range)
+				   .map(cut -> cut(IndexRange.of(cut)))
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private Stream<Shrinkable<byte[]>> shrinkSizeOfArray() {
+		return new SizeOfListShrinker<Integer>(minSize)
+				   .shrinkBySize(range)
+				   .flatMap(sameSize -> sameSize.stream()
+												.map(cut -> cut(IndexRange.of(cut)))
+												.sorted(Comparator.comparing(Shrinkable::distance)));
+	}
+
+	// Zero whole array first, then halves, quarters and so on
+	private Stream<Shrinkable<byte[]>> zeroRanges() {
+		int size = range.size();
+		if (size == 0) {
+			return Stream.empty();
+		}
+		return Stream.iterate(size, chunkSize -> chunkSize / 2)
+					 .limit(32 - Integer.numberOfLeadingZeros(size))
+					 .flatMap(chunkSize -> {
+						 int chunks = (size + chunkSize - 1) / chunkSize;
+						 return IntStream.range(0, chunks)
+										 .mapToObj(chunk -> {
+											 int from = chunk * chunkSize;
+											 return new IndexRange(from, Math.min(from + chunkSize, size));
+										 })
+										 .filter(this::hasNonZeroByte)
+										 .map(this::zero);
+					 });
+	}
+
+	private Stream<Shrinkable<byte[]>> shrinkBytesOneAfterTheOther() {
+		int bytesToShrink = Math.min(MAX_BYTES_TO_SHRINK, range.size());
+		return JqwikStreamSupport.concat(bytesToShrink, index -> {
+			byte aByte = bytes[range.from() + index];
+			if (aByte == 0) {
+				return Stream.empty();
+			}
+			// Zero is covered by zeroing ranges of size 1
+			return Stream.of((byte) (aByte / 2), (byte) (aByte - Integer.signum(aByte)))
+						 .filter(shrunkByte -> shrunkByte != 0)
+						 .distinct()
+						 .map(shrunkByte -> replace(index, shrunkByte));
+		});
+	}
+
+	private boolean hasNonZeroByte(IndexRange indices) {
+		for (int index = indices.from(); index < indices.to(); index++) {
+			if (bytes[range.from() + index] != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Shrinkable<byte[]> cut(IndexRange cut) {
+		return new ShrinkableByteArray(bytes, cut, minSize);
+	}
+
+	private Shrinkable<byte[]> zero(IndexRange indices) {
+		byte[] zeroed = value();
+		Arrays.fill(zeroed, indices.from(), indices.to(), (byte) 0);
+		return new ShrinkableByteArray(zeroed, minSize);
+	}
+
+	private Shrinkable<byte[]> replace(int index, byte replacement) {
+		byte[] replaced = value();
+		replaced[index] = replacement;
+		return new ShrinkableByteArray(replaced, minSize);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (distance == null) {
+			long sumOfBytes = 0;
+			for (int index = range.from(); index < range.to(); index++) {
+				sumOfBytes += Math.abs(bytes[index]);
+			}
+			distance = ShrinkingDistance.of(range.size(), sumOfBytes);
+		}
+		return distance;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkableByteArray that = (ShrinkableByteArray) o;
+		return Arrays.equals(value(), that.value());
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int index = range.from(); index < range.to(); index++) {
+			hashCode = 31 * hashCode + bytes[index];
+		}
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShrinkableByteArray<byte[]>(%s:%s)", JqwikStringSupport.displayString(value()), distance());
+	}
+}
@@ -7,14 +7,18 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	protected final List<Shrinkable<E>> elements;
 	protected final int minSize;
 	protected final int maxSize;
 	protected final Collection<FeatureExtractor<E>> uniquenessExtractors;
 
+	// Created lazily since most containers are never shrunk
+	private volatile UniquenessIndex<E> uniquenessIndex;
+
+	// Shrink candidates share structure with these elements. Created lazily for the same reason.
+	private volatile PersistentList<Shrinkable<E>> sharedElements;
+
 	ShrinkableContainer(List<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
 		this.elements = elements;
 		this.minSize = minSize;
@@ -59,18 +63,12 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	}
 
 	private Stream<Shrinkable<C>> growOneElementAfterTheOther() {
-		List<Stream<Shrinkable<C>>> growPerElementStreams = new ArrayList<>();
-		for (int i = 0; i < elements.size(); i++) {
-			int index = i;
-			Shrinkable<E> element = elements.get(i);
-			Stream<Shrinkable<C>> shrinkElement = element.grow().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.set(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
-			});
-			growPerElementStreams.add(shrinkElement);
-		}
-		return JqwikStreamSupport.concat(growPerElementStreams);
+		return JqwikStreamSupport.concat(
+			elements.size(),
+			index -> elements.get(index).grow().map(
+				grownElement -> createShrinkable(sharedElements().with(index, grownElement))
+			)
+		);
 	}
 
 	private Optional<Shrinkable<C>> growBy(List<Shrinkable<?>> shrinkables) {
@@ -99,38 +97,28 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	protected Stream<Shrinkable<C>> shrinkSizeAggressively() {
 		return new AggressiveSizeOfListShrinker<Shrinkable<E>>(minSize)
-					   .shrink(elements)
+					   .shrink(sharedElements())
 					   .map(this::createShrinkable)
 					   .sorted(Comparator.comparing(Shrinkable::distance));
 	}
 
+	// Only candidates of the same size must be sorted since size is the first dimension of distance
 	protected Stream<Shrinkable<C>> shrinkSizeOfList() {
 		return new SizeOfListShrinker<Shrinkable<E>>(minSize)
-					   .shrink(elements)
-					   .map(this::createShrinkable)
-					   .sorted(Comparator.comparing(Shrinkable::distance));
+					   .shrinkBySize(sharedElements())
+					   .flatMap(sameSize -> sameSize.stream()
+													.map(this::createShrinkable)
+													.sorted(Comparator.comparing(Shrinkable::distance)));
 	}
 
 	protected Stream<Shrinkable<C>> shrinkElementsOneAfterTheOther(int maxToShrink) {
-		List<Stream<Shrinkable<C>>> shrinkPerElementStreams = new ArrayList<>();
-		for (int i = 0; i < elements.size(); i++) {
-			if (maxToShrink > 0 && i >= maxToShrink) {
-				break;
-			}
-			int index = i;
-			Shrinkable<E> element = elements.get(i);
-			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
-					return Stream.empty();
-				}
-				elementsCopy.add(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
-			});
-			shrinkPerElementStreams.add(shrinkElement);
-		}
-		return JqwikStreamSupport.concat(shrinkPerElementStreams);
+		int elementsToShrink = maxToShrink > 0 ? Math.min(maxToShrink, elements.size()) : elements.size();
+		return JqwikStreamSupport.concat(elementsToShrink, index -> {
+			Shrinkable<E> element = elements.get(index);
+			return element.shrink()
+						  .filter(shrunkElement -> isUniqueInOthers(element, shrunkElement))
+						  .map(shrunkElement -> createShrinkable(sharedElements().with(index, shrunkElement)));
+		});
 	}
 
 	protected Stream<Shrinkable<C>> shrinkPairsOfElements() {
@@ -140,11 +128,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 							   elements.get(pair.get1()).shrink(),
 							   elements.get(pair.get2()).shrink(),
 							   (Shrinkable<E> s1, Shrinkable<E> s2) -> {
-								   List<Shrinkable<E>> newElements = new ArrayList<>(elements);
-								   newElements.set(pair.get1(), s1);
-								   newElements.set(pair.get2(), s2);
-								   if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
-									   return createShrinkable(newElements);
+								   if (areUniqueWithReplaced(
+									   Arrays.asList(elements.get(pair.get1()), elements.get(pair.get2())),
+									   Arrays.asList(s1, s2)
+								   )) {
+									   return createShrinkable(sharedElements().with(pair.get1(), s1).with(pair.get2(), s2));
 								   } else {
 									   // null value will skip the entry in zipped stream
 									   return null;
@@ -153,8 +141,44 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 					   ));
 	}
 
+	protected boolean isUniqueInOthers(Shrinkable<E> replaced, Shrinkable<E> replacement) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		return uniquenessIndex().isUniqueInOthers(replaced.value(), replacement.value());
+	}
+
+	protected boolean areUniqueWithReplaced(List<Shrinkable<E>> replaced, List<Shrinkable<E>> replacements) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		return uniquenessIndex().areUniqueWithReplaced(values(replaced), values(replacements));
+	}
+
+	private UniquenessIndex<E> uniquenessIndex() {
+		if (uniquenessIndex == null) {
+			uniquenessIndex = UniquenessIndex.of(uniquenessExtractors, values(elements));
+		}
+		return uniquenessIndex;
+	}
+
+	protected PersistentList<Shrinkable<E>> sharedElements() {
+		if (sharedElements == null) {
+			sharedElements = PersistentList.of(elements);
+		}
+		return sharedElements;
+	}
+
+	private static <E> List<E> values(List<Shrinkable<E>> shrinkables) {
+		List<E> values = new ArrayList<>(shrinkables.size());
+		for (Shrinkable<E> shrinkable : shrinkables) {
+			values.add(shrinkable.value());
+		}
+		return values;
+	}
+
 	protected Stream<Shrinkable<C>> sortElements() {
-		return ShrinkingCommons.sortElements(elements, this::createShrinkable);
+		return ShrinkingCommons.sortElements(sharedElements(), this::createShrinkable);
 	}
 
 	@Override
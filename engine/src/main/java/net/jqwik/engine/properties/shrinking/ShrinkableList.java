@@ -7,8 +7,6 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 
 	// Only used in tests
@@ -63,13 +61,11 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 										   return Tuple.of(after, grow);
 									   })
 									   .filter(tuple -> tuple.get2().isPresent())
-									   .map(tuple -> {
-										   List<Shrinkable<E>> pairMove = new ArrayList<>(elements);
-										   pairMove.set(firstIndex, tuple.get1());
-										   pairMove.set(secondIndex, tuple.get2().get());
-										   return pairMove;
-									   })
-									   .filter(shrinkables -> checkUniquenessOfShrinkables(uniquenessExtractors, shrinkables))
+									   .filter(tuple -> areUniqueWithReplaced(
+										   Arrays.asList(first, second),
+										   Arrays.asList(tuple.get1(), tuple.get2().get())
+									   ))
+									   .map(tuple -> sharedElements().with(firstIndex, tuple.get1()).with(secondIndex, tuple.get2().get()))
 									   .map(this::createShrinkable);
 
 					   })
@@ -0,0 +1,92 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks like {@linkplain ShrinkableBigInteger} but on primitive longs.
+ * Can only be used if {@code max - min} fits into a long, see {@linkplain #isApplicable(long, long)}.
+ */
+public class ShrinkableLong extends AbstractValueShrinkable<Long> {
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+
+	public static boolean isApplicable(long min, long max) {
+		// max - min overflows for ranges larger than Long.MAX_VALUE
+		return min <= max && max - min >= 0;
+	}
+
+	public ShrinkableLong(long value, long min, long max, long shrinkingTarget) {
+		super(value);
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		checkApplicable();
+		checkValueInRange(value);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	@Override
+	public Optional<Shrinkable<Long>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return new LongGrower().grow(value(), min, max, shrinkingTarget, before, after);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> grow() {
+		return new LongGrower().grow(value(), min, max, shrinkingTarget);
+	}
+
+	private Stream<Shrinkable<Long>> shrinkNegativeToPositive() {
+		long value = value();
+		// Negating Long.MIN_VALUE overflows and is caught by positive check
+		if (value >= 0 || -value <= 0 || -value > max) {
+			return Stream.empty();
+		}
+		return Stream.of(createShrinkable(-value));
+	}
+
+	private Stream<Shrinkable<Long>> shrinkTowardsTarget() {
+		return new LongShrinker(shrinkingTarget)
+				   .shrink(value())
+				   .mapToObj(this::createShrinkable);
+	}
+
+	private Shrinkable<Long> createShrinkable(long aLong) {
+		return new ShrinkableLong(aLong, min, max, shrinkingTarget);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return distanceFor(value(), shrinkingTarget);
+	}
+
+	static ShrinkingDistance distanceFor(long value, long target) {
+		return ShrinkingDistance.of(Math.abs(value - target));
+	}
+
+	private void checkApplicable() {
+		if (!isApplicable(min, max)) {
+			String message = String.format("Range [%s..%s] is too large for shrinking longs", min, max);
+			throw new JqwikException(message);
+		}
+	}
+
+	private void checkValueInRange(long value) {
+		if (value < min || value > max) {
+			String message = String.format("Value <%s> is outside allowed range [%s..%s]", value, min, max);
+			throw new JqwikException(message);
+		}
+	}
+
+}
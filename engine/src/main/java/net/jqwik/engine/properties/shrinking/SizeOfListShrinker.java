@@ -3,8 +3,10 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.stream.*;
 
-import net.jqwik.engine.support.*;
-
+/**
+ * Cuts are sub list views of the list to shrink. Use an immutable list,
+ * e.g. {@linkplain net.jqwik.engine.support.PersistentList}, to shrink.
+ */
 public class SizeOfListShrinker<T> {
 
 	private final int minSize;
@@ -14,39 +16,39 @@ public class SizeOfListShrinker<T> {
 	}
 
 	public Stream<List<T>> shrink(List<T> toShrink) {
-		if (toShrink.size() <= minSize)
-			return Stream.empty();
-		return JqwikStreamSupport.concat(
-			emptyList(),
-			cuts(toShrink)
-		).filter(l -> l.size() >= minSize);
+		return shrinkBySize(toShrink).flatMap(List::stream);
 	}
 
-	private Stream<List<T>> emptyList() {
-		if (minSize == 0) {
-			return Stream.of(new ArrayList<>());
-		} else {
+	/**
+	 * @return groups of shrunk lists with the same size, smallest size first
+	 */
+	public Stream<List<List<T>>> shrinkBySize(List<T> toShrink) {
+		if (toShrink.size() <= minSize)
 			return Stream.empty();
-		}
+		Stream<List<List<T>>> emptyList = minSize == 0
+			? Stream.of(Collections.singletonList(Collections.emptyList()))
+			: Stream.empty();
+		return Stream.concat(emptyList, cutsBySize(toShrink))
+					 .map(sameSize -> sameSize.stream().filter(l -> l.size() >= minSize).collect(Collectors.toList()))
+					 .filter(sameSize -> !sameSize.isEmpty());
 	}
 
 	public Stream<List<T>> cuts(List<T> toShrink) {
-		Set<List<T>> lists = new HashSet<>();
-		appendRightCuts(toShrink, lists);
-		appendLeftCuts(toShrink, lists);
-		return lists.stream();
+		return cutsBySize(toShrink).flatMap(List::stream);
 	}
 
-	private void appendLeftCuts(List<T> toShrink, Set<List<T>> lists) {
+	private Stream<List<List<T>>> cutsBySize(List<T> toShrink) {
 		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendLeftCut(toShrink, lists, elementsToCut);
-		if (elementsToCut != 1) {
-			appendLeftCut(toShrink, lists, 1);
-		}
+		return Stream.of(elementsToCut, 1).distinct().map(toCut -> leftAndRightCut(toShrink, toCut));
 	}
 
-	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		lists.add(new ArrayList<>(cutFromLeft(toShrink, elementsToCut)));
+	private List<List<T>> leftAndRightCut(List<T> toShrink, int elementsToCut) {
+		List<T> rightCut = cutFromRight(toShrink, elementsToCut);
+		List<T> leftCut = cutFromLeft(toShrink, elementsToCut);
+		if (rightCut.equals(leftCut)) {
+			return Collections.singletonList(rightCut);
+		}
+		return Arrays.asList(rightCut, leftCut);
 	}
 
 	private List<T> cutFromLeft(List<T> toShrink, int elementsToCut) {
@@ -68,18 +70,6 @@ public class SizeOfListShrinker<T> {
 		return listSize / 2;
 	}
 
-	private void appendRightCuts(List<T> toShrink, Set<List<T>> lists) {
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendRightCut(toShrink, lists, elementsToCut);
-		if (elementsToCut != 1) {
-			appendRightCut(toShrink, lists, 1);
-		}
-	}
-
-	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		lists.add(new ArrayList<>(cutFromRight(toShrink, elementsToCut)));
-	}
-
 	private List<T> cutFromRight(List<T> toShrink, int elementsToCut) {
 		return toShrink.subList(0, toShrink.size() - elementsToCut);
 	}
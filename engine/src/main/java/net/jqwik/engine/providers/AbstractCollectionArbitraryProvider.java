@@ -13,6 +13,11 @@ abstract class AbstractCollectionArbitraryProvider implements ArbitraryProvider
 		return targetType.isAssignableFrom(getProvidedType());
 	}
 
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return Collections.singleton(getProvidedType());
+	}
+
 	protected abstract Class<?> getProvidedType();
 
 	@Override
@@ -9,7 +9,7 @@ import net.jqwik.api.providers.*;
 public class ArrayArbitraryProvider implements ArbitraryProvider {
 	@Override
 	public boolean canProvideFor(TypeUsage targetType) {
-		return targetType.isArray();
+		return targetType.isArray() && !ByteArrayArbitraryProvider.providesFor(targetType);
 	}
 
 	@Override
@@ -12,6 +12,11 @@ public class BigDecimalArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(BigDecimal.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return Collections.singleton(BigDecimal.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.bigDecimals());
@@ -0,0 +1,37 @@
+package net.jqwik.engine.providers;
+
+import java.lang.annotation.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.providers.*;
+
+public class ByteArrayArbitraryProvider implements ArbitraryProvider {
+
+	// Constraints on single bytes are only supported by ArrayArbitraryProvider
+	private static final List<Class<? extends Annotation>> ELEMENT_CONSTRAINTS =
+		Arrays.asList(ByteRange.class, Positive.class, Negative.class, UniqueElements.class);
+
+	static boolean providesFor(TypeUsage targetType) {
+		if (!targetType.isOfType(byte[].class)) {
+			return false;
+		}
+		return ELEMENT_CONSTRAINTS.stream().noneMatch(targetType::isAnnotated);
+	}
+
+	@Override
+	public boolean canProvideFor(TypeUsage targetType) {
+		return providesFor(targetType);
+	}
+
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return Collections.singleton(byte[].class);
+	}
+
+	@Override
+	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+		return Collections.singleton(Arbitraries.byteArrays());
+	}
+}
@@ -0,0 +1,24 @@
+package net.jqwik.engine.providers;
+
+import java.nio.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.providers.*;
+
+public class ByteBufferArbitraryProvider implements ArbitraryProvider {
+	@Override
+	public boolean canProvideFor(TypeUsage targetType) {
+		return targetType.isOfType(ByteBuffer.class);
+	}
+
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return Collections.singleton(ByteBuffer.class);
+	}
+
+	@Override
+	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+		return Collections.singleton(Arbitraries.byteBuffers());
+	}
+}
@@ -11,6 +11,11 @@ public class DoubleArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Double.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return Collections.singleton(Double.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.doubles());
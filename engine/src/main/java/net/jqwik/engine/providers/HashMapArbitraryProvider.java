@@ -12,6 +12,11 @@ public class HashMapArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(HashMap.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return Collections.singleton(HashMap.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		TypeUsage keyType = targetType.getTypeArgument(0);
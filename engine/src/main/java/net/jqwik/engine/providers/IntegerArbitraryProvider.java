@@ -11,6 +11,11 @@ public class IntegerArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Integer.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return Collections.singleton(Integer.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.integers());
@@ -11,6 +11,11 @@ public class StringArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(String.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return Collections.singleton(String.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.strings());
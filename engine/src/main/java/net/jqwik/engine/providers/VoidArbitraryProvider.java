@@ -11,6 +11,11 @@ public class VoidArbitraryProvider implements ArbitraryProvider {
 		return targetType.isVoid();
 	}
 
+	@Override
+	public Set<Class<?>> providedRawTypes() {
+		return new HashSet<>(Arrays.asList(Void.class, void.class));
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.nothing());
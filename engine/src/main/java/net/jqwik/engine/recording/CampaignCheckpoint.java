@@ -0,0 +1,98 @@
+package net.jqwik.engine.recording;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The progress of a long running property: Everything needed to continue
+ * generation where a previous run stopped.
+ * Exhaustive generation continues with the combination at index {@code countTries}
+ * and does not need a random state.
+ * A checkpoint only fits a run with the same generation and edge cases mode.
+ */
+public class CampaignCheckpoint {
+
+	private final String propertyId;
+	private final String seed;
+	private final GenerationMode generationMode;
+	private final EdgeCasesMode edgeCasesMode;
+	private final long maxTries;
+	private final long randomState;
+	private final long countTries;
+	private final long countChecks;
+	private final int edgeCasesTried;
+	private final Map<String, Map<List<Object>, Integer>> statisticsCounts;
+
+	public CampaignCheckpoint(
+		String propertyId,
+		String seed,
+		GenerationMode generationMode,
+		EdgeCasesMode edgeCasesMode,
+		long maxTries,
+		long randomState,
+		long countTries,
+		long countChecks,
+		int edgeCasesTried,
+		Map<String, Map<List<Object>, Integer>> statisticsCounts
+	) {
+		this.propertyId = propertyId;
+		this.seed = seed;
+		this.generationMode = generationMode;
+		this.edgeCasesMode = edgeCasesMode;
+		this.maxTries = maxTries;
+		this.randomState = randomState;
+		this.countTries = countTries;
+		this.countChecks = countChecks;
+		this.edgeCasesTried = edgeCasesTried;
+		this.statisticsCounts = statisticsCounts;
+	}
+
+	public String propertyId() {
+		return propertyId;
+	}
+
+	public String seed() {
+		return seed;
+	}
+
+	public GenerationMode generationMode() {
+		return generationMode;
+	}
+
+	public EdgeCasesMode edgeCasesMode() {
+		return edgeCasesMode;
+	}
+
+	public long maxTries() {
+		return maxTries;
+	}
+
+	public long randomState() {
+		return randomState;
+	}
+
+	public long countTries() {
+		return countTries;
+	}
+
+	public long countChecks() {
+		return countChecks;
+	}
+
+	public int edgeCasesTried() {
+		return edgeCasesTried;
+	}
+
+	/**
+	 * Counts of statistics collectors by label. Empty if counts could not be stored.
+	 */
+	public Map<String, Map<List<Object>, Integer>> statisticsCounts() {
+		return statisticsCounts;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("CampaignCheckpoint[%s:%s:%s of %s tries]", propertyId, seed, countTries, maxTries);
+	}
+}
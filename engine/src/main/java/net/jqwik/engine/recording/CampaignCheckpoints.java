@@ -0,0 +1,168 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Checkpoints are stored in a directory with one file per property:
+ *
+ * <pre>
+ *   int magic, short version,
+ *   utf propertyId, utf seed,
+ *   utf generationMode, utf edgeCasesMode,
+ *   long maxTries, long randomState,
+ *   long countTries, long countChecks, int edgeCasesTried,
+ *   int length, byte[] statisticsCounts (length -1 for none; Java serialized)
+ * </pre>
+ *
+ * <p>
+ * A checkpoint is written to a temporary file first and then moved in place,
+ * so that a dying JVM leaves either the previous or the new checkpoint behind.
+ * </p>
+ */
+public class CampaignCheckpoints {
+
+	private static final Logger LOG = Logger.getLogger(CampaignCheckpoints.class.getName());
+
+	static final int MAGIC = 0x6A71636B;
+	static final short VERSION = 3;
+
+	private static final int NONE = -1;
+
+	private final Path directory;
+
+	public CampaignCheckpoints(Path directory) {
+		this.directory = directory;
+	}
+
+	public Optional<CampaignCheckpoint> load(String propertyId) {
+		Path checkpointPath = checkpointPath(propertyId);
+		if (!Files.exists(checkpointPath)) {
+			return Optional.empty();
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointPath)))) {
+			CampaignCheckpoint checkpoint = read(in);
+			if (checkpoint == null || !checkpoint.propertyId().equals(propertyId)) {
+				return Optional.empty();
+			}
+			return Optional.of(checkpoint);
+		} catch (IOException | IllegalArgumentException e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot read checkpoint [%s]", checkpointPath.toAbsolutePath()));
+			return Optional.empty();
+		}
+	}
+
+	public void save(CampaignCheckpoint checkpoint) {
+		Path checkpointPath = checkpointPath(checkpoint.propertyId());
+		Path temporaryPath = Paths.get(checkpointPath.toString() + ".tmp");
+		try {
+			Files.createDirectories(directory);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+				write(checkpoint, out);
+			}
+			moveReplacing(temporaryPath, checkpointPath);
+		} catch (IOException e) {
+			// A missing checkpoint only means that the next run cannot resume
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot write checkpoint [%s]", checkpointPath.toAbsolutePath()));
+		}
+	}
+
+	public void delete(String propertyId) {
+		try {
+			Files.deleteIfExists(checkpointPath(propertyId));
+		} catch (IOException ignore) {
+		}
+	}
+
+	private Path checkpointPath(String propertyId) {
+		UUID fileId = UUID.nameUUIDFromBytes(propertyId.getBytes(StandardCharsets.UTF_8));
+		return directory.resolve(fileId + ".checkpoint");
+	}
+
+	private void moveReplacing(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void write(CampaignCheckpoint checkpoint, DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+		out.writeUTF(checkpoint.propertyId());
+		out.writeUTF(checkpoint.seed());
+		out.writeUTF(checkpoint.generationMode().name());
+		out.writeUTF(checkpoint.edgeCasesMode().name());
+		out.writeLong(checkpoint.maxTries());
+		out.writeLong(checkpoint.randomState());
+		out.writeLong(checkpoint.countTries());
+		out.writeLong(checkpoint.countChecks());
+		out.writeInt(checkpoint.edgeCasesTried());
+		byte[] statistics = serialize(checkpoint.statisticsCounts());
+		if (statistics == null) {
+			out.writeInt(NONE);
+		} else {
+			out.writeInt(statistics.length);
+			out.write(statistics);
+		}
+	}
+
+	private static CampaignCheckpoint read(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+			return null;
+		}
+		String propertyId = in.readUTF();
+		String seed = in.readUTF();
+		GenerationMode generationMode = GenerationMode.valueOf(in.readUTF());
+		EdgeCasesMode edgeCasesMode = EdgeCasesMode.valueOf(in.readUTF());
+		long maxTries = in.readLong();
+		long randomState = in.readLong();
+		long countTries = in.readLong();
+		long countChecks = in.readLong();
+		int edgeCasesTried = in.readInt();
+		Map<String, Map<List<Object>, Integer>> statisticsCounts = Collections.emptyMap();
+		int statisticsLength = in.readInt();
+		if (statisticsLength != NONE) {
+			byte[] statistics = new byte[statisticsLength];
+			in.readFully(statistics);
+			statisticsCounts = deserialize(statistics);
+		}
+		return new CampaignCheckpoint(propertyId, seed, generationMode, edgeCasesMode, maxTries, randomState, countTries, countChecks, edgeCasesTried, statisticsCounts);
+	}
+
+	private static byte[] serialize(Map<String, Map<List<Object>, Integer>> statisticsCounts) {
+		try {
+			Map<String, Map<List<Object>, Integer>> serializableCounts = new LinkedHashMap<>();
+			statisticsCounts.forEach((label, counts) -> {
+				Map<List<Object>, Integer> serializableLabelCounts = new HashMap<>();
+				counts.forEach((key, count) -> serializableLabelCounts.put(new ArrayList<>(key), count));
+				serializableCounts.put(label, serializableLabelCounts);
+			});
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(serializableCounts);
+			}
+			return bytes.toByteArray();
+		} catch (IOException notSerializable) {
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Map<List<Object>, Integer>> deserialize(byte[] bytes) {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return (Map<String, Map<List<Object>, Integer>>) in.readObject();
+		} catch (Throwable throwable) {
+			// Classes of collected values might have changed since the checkpoint was written
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			return Collections.emptyMap();
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Test run data that is backed by the records of a database file.
+ * Only the unique ids and states are read up front,
+ * a test run is decoded when it is actually asked for.
+ */
+class IndexedTestRunData extends TestRunData {
+
+	static IndexedTestRunData empty() {
+		return new IndexedTestRunData(ByteBuffer.allocate(0));
+	}
+
+	private final ByteBuffer records;
+	private final Map<String, Integer> latestRecordOffsets = new LinkedHashMap<>();
+	private final Set<String> nonSuccessful = new HashSet<>();
+	private int recordCount = 0;
+	private int validLength = 0;
+
+	IndexedTestRunData(ByteBuffer records) {
+		this.records = records;
+		if (TestRunFormat.hasValidHeader(records)) {
+			indexRecords();
+		}
+	}
+
+	private void indexRecords() {
+		int offset = TestRunFormat.HEADER_SIZE;
+		while (true) {
+			int recordLength = TestRunFormat.recordLength(records, offset);
+			if (recordLength < 0) {
+				// Either the end or a record that was not completely written
+				break;
+			}
+			String uniqueId = TestRunFormat.readUniqueId(records, offset);
+			latestRecordOffsets.put(uniqueId, offset);
+			if (TestRunFormat.readStatus(records, offset) == Status.SUCCESSFUL) {
+				nonSuccessful.remove(uniqueId);
+			} else {
+				nonSuccessful.add(uniqueId);
+			}
+			recordCount++;
+			offset += recordLength;
+		}
+		validLength = offset;
+	}
+
+	@Override
+	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
+		Optional<TestRun> added = super.byUniqueId(uniqueId);
+		if (added.isPresent()) {
+			return added;
+		}
+		Integer offset = latestRecordOffsets.get(uniqueId.toString());
+		if (offset == null) {
+			return Optional.empty();
+		}
+		return decode(offset);
+	}
+
+	private Optional<TestRun> decode(int recordOffset) {
+		try {
+			return Optional.of(TestRunFormat.decode(records, recordOffset));
+		} catch (Throwable t) {
+			// A broken record should not stop the test run
+			JqwikExceptionSupport.rethrowIfBlacklisted(t);
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public Stream<TestRun> allNonSuccessfulTests() {
+		Stream<TestRun> fromRecords =
+			nonSuccessful.stream()
+						 .map(uniqueId -> decode(latestRecordOffsets.get(uniqueId)))
+						 .filter(Optional::isPresent)
+						 .map(Optional::get)
+						 .filter(testRun -> !super.byUniqueId(testRun.getUniqueId()).isPresent());
+		return Stream.concat(super.allNonSuccessfulTests(), fromRecords);
+	}
+
+	/**
+	 * @return The number of bytes up to and including the last complete record.
+	 * 0 if there are no records in a valid format.
+	 */
+	int validLength() {
+		return validLength;
+	}
+
+	int liveRecords() {
+		return latestRecordOffsets.size();
+	}
+
+	int staleRecords() {
+		return recordCount - liveRecords();
+	}
+
+	void writeLiveRecords(OutputStream out) throws IOException {
+		out.write(TestRunFormat.header());
+		for (int offset : latestRecordOffsets.values()) {
+			byte[] record = new byte[TestRunFormat.recordLength(records, offset)];
+			ByteBuffer source = records.duplicate();
+			// Calls through Buffer link against Java 8's Buffer methods instead of the covariant overrides of Java 9+
+			((Buffer) source).position(offset);
+			source.get(record);
+			out.write(record);
+		}
+	}
+}
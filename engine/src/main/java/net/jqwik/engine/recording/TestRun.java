@@ -15,7 +15,11 @@ public class TestRun implements Serializable {
 	private final List<Object> falsifiedSample;
 
 	public TestRun(UniqueId uniqueId, PropertyExecutionResult.Status status, String randomSeed, List<Object> falsifiedSample) {
-		this.uniqueIdString = uniqueId.toString();
+		this(uniqueId.toString(), status, randomSeed, falsifiedSample);
+	}
+
+	TestRun(String uniqueIdString, PropertyExecutionResult.Status status, String randomSeed, List<Object> falsifiedSample) {
+		this.uniqueIdString = uniqueIdString;
 		this.statusOrdinal = status.ordinal();
 		this.randomSeed = randomSeed;
 		this.falsifiedSample = falsifiedSample;
@@ -25,6 +29,10 @@ public class TestRun implements Serializable {
 		return getUniqueId().equals(uniqueId);
 	}
 
+	String uniqueIdString() {
+		return uniqueIdString;
+	}
+
 	public boolean isNotSuccessful() {
 		return getStatus() != Status.SUCCESSFUL;
 	}
@@ -52,6 +60,6 @@ public class TestRun implements Serializable {
 	}
 
 	TestRun withoutFalsifiedSample() {
-		return new TestRun(getUniqueId(), getStatus(), randomSeed, null);
+		return new TestRun(uniqueIdString, getStatus(), randomSeed, null);
 	}
 }
@@ -9,25 +9,26 @@ import net.jqwik.engine.support.*;
 
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	private final Map<String, TestRun> data = new LinkedHashMap<>();
 
 	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+		data.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new HashSet<>());
+		this(Collections.emptyList());
 	}
 
+	/**
+	 * A later test run for the same unique id replaces an earlier one.
+	 */
 	public void add(TestRun testRun) {
-		data.add(testRun);
+		data.put(testRun.uniqueIdString(), testRun);
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
 		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
+			return Optional.ofNullable(data.get(uniqueId.toString()));
 		} catch (Throwable t) {
 			// An exception during test run data read should not stop the test run.
 			// Most of the time it's an error due to format change which will go away
@@ -38,6 +39,6 @@ public class TestRunData {
 	}
 
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(TestRun::isNotSuccessful);
+		return data.values().stream().filter(TestRun::isNotSuccessful);
 	}
 }
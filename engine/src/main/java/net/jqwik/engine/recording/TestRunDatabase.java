@@ -1,38 +1,77 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.file.*;
-import java.util.*;
 import java.util.logging.*;
 
+/**
+ * Test runs are appended to the database file in the format described in {@linkplain TestRunFormat}.
+ * Previous runs are looked up through an index over a copy of the file on the heap.
+ * The file is compacted when it contains more superseded records than current ones.
+ * <p>
+ * The file is not memory mapped because it is replaced or truncated in the same run,
+ * which some platforms - e.g. Windows - refuse for mapped files.
+ * </p>
+ */
 public class TestRunDatabase {
 
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
 	private final Path databasePath;
-	private final TestRunData previousRunData;
+	private final IndexedTestRunData previousRunData;
+	private long appendPosition;
 	private boolean stopRecording = false;
 
 	public TestRunDatabase(Path databasePath) {
 		this.databasePath = databasePath;
 		this.previousRunData = loadExistingRunData();
+		this.appendPosition = previousRunData.validLength();
 	}
 
-	private TestRunData loadExistingRunData() {
+	private IndexedTestRunData loadExistingRunData() {
 		if (!Files.exists(databasePath)) {
-			return new TestRunData();
+			return IndexedTestRunData.empty();
 		}
 
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
+		try (FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.READ)) {
+			if (!hasValidHeader(channel)) {
+				LOG.info(() -> String.format("Database [%s] has unknown format and will be recreated", databasePath.toAbsolutePath()));
+				deleteDatabase();
+				return IndexedTestRunData.empty();
+			}
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Database is too large to be read");
+			}
+			ByteBuffer records = ByteBuffer.allocate((int) channel.size());
+			channel.position(0);
+			while (records.hasRemaining()) {
+				if (channel.read(records) < 0) {
+					break;
+				}
+			}
+			// Calls through Buffer link against Java 8's Buffer methods instead of the covariant overrides of Java 9+
+			((Buffer) records).flip();
+			return new IndexedTestRunData(records);
 		} catch (Exception e) {
 			logReadException(e);
 			deleteDatabase();
-			return new TestRunData();
+			return IndexedTestRunData.empty();
 		}
 	}
 
+	private boolean hasValidHeader(FileChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(TestRunFormat.HEADER_SIZE);
+		while (header.hasRemaining()) {
+			if (channel.read(header) < 0) {
+				break;
+			}
+		}
+		((Buffer) header).flip();
+		return TestRunFormat.hasValidHeader(header);
+	}
+
 	private void deleteDatabase() {
 		try {
 			Files.delete(databasePath);
@@ -40,23 +79,6 @@ public class TestRunDatabase {
 		}
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
-		while (true) {
-			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
-				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
-				break;
-			}
-		}
-		return testRuns;
-	}
-
 	private void logReadException(Exception eof) {
 		LOG.log(Level.WARNING, eof, () -> String.format("Cannot read database [%s]", databasePath.toAbsolutePath()));
 	}
@@ -65,60 +87,80 @@ public class TestRunDatabase {
 		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
+	private void compactIfNecessary() {
+		if (previousRunData.staleRecords() <= previousRunData.liveRecords()) {
+			return;
+		}
+		Path compactedPath = Paths.get(databasePath.toString() + ".compacted");
 		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(compactedPath))) {
+				previousRunData.writeLiveRecords(out);
+			}
+			moveReplacing(compactedPath, databasePath);
+			appendPosition = Files.size(databasePath);
 		} catch (IOException e) {
-			stopRecording = true;
+			// Compaction is an optimization. Recording can go on without it.
 			logWriteException(e);
-			return null;
+			try {
+				Files.deleteIfExists(compactedPath);
+			} catch (IOException ignore) {
+			}
+		}
+	}
+
+	private void moveReplacing(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
 		}
 	}
 
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private OutputStream createAppendingOutputStream() {
+		try {
+			FileChannel channel = FileChannel.open(databasePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			if (appendPosition < TestRunFormat.HEADER_SIZE) {
+				channel.truncate(0);
+				channel.write(ByteBuffer.wrap(TestRunFormat.header()));
+			} else {
+				// Cut off a record that might not have been written completely
+				channel.truncate(appendPosition);
+				channel.position(appendPosition);
+			}
+			return new BufferedOutputStream(Channels.newOutputStream(channel));
+		} catch (IOException e) {
+			stopRecording = true;
+			logWriteException(e);
+			return null;
+		}
 	}
 
 	private class Recorder implements TestRunRecorder {
 
-		private final ObjectOutputStream objectOutputStream;
+		private final OutputStream outputStream;
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
+		private Recorder(OutputStream outputStream) {
+			this.outputStream = outputStream;
 		}
 
 		@Override
-		public void record(TestRun testRun) {
-			record(testRun, false);
-		}
-
-		private void record(TestRun testRun, boolean secondTry) {
+		public synchronized void record(TestRun testRun) {
 			if (stopRecording)
 				return;
 			try {
-				checkSerializability(testRun);
-				objectOutputStream.writeObject(testRun);
-			} catch (NotSerializableException e) {
-				if (!secondTry) {
-					record(testRun.withoutFalsifiedSample(), true);
-				} else {
-					logWriteException(e);
-				}
+				outputStream.write(TestRunFormat.encode(testRun));
 			} catch (IOException e) {
 				stopRecording = true;
 				logWriteException(e);
 			}
 		}
 
-		private void checkSerializability(TestRun testRun) throws IOException {
-			ObjectOutputStream testStream = new ObjectOutputStream(new ByteArrayOutputStream());
-			testStream.writeObject(testRun);
-		}
-
 		@Override
-		public void close() {
+		public synchronized void close() {
+			if (outputStream == null)
+				return;
 			try {
-				objectOutputStream.close();
+				outputStream.close();
 			} catch (IOException e) {
 				logWriteException(e);
 			}
@@ -131,6 +173,7 @@ public class TestRunDatabase {
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		compactIfNecessary();
+		return new Recorder(createAppendingOutputStream());
 	}
 }
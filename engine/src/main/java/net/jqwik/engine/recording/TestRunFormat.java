@@ -0,0 +1,159 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Binary layout of jqwik's test run database.
+ *
+ * <p>
+ * A database file starts with a header of {@linkplain #MAGIC} and {@linkplain #VERSION}.
+ * It is followed by any number of records, each of which consists of an int length
+ * and the record body:
+ * </p>
+ * <pre>
+ *   int length, byte[] uniqueId,
+ *   byte status,
+ *   int length, byte[] randomSeed    (length -1 for none)
+ *   int length, byte[] falsifiedSample (length -1 for none; Java serialized)
+ * </pre>
+ *
+ * <p>
+ * Records are only ever appended. A later record for the same unique id replaces an earlier one.
+ * </p>
+ */
+class TestRunFormat {
+
+	static final int MAGIC = 0x6A71776B;
+	static final short VERSION = 1;
+	static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+	private static final int NONE = -1;
+
+	private TestRunFormat() {
+	}
+
+	static byte[] header() {
+		return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).array();
+	}
+
+	static boolean hasValidHeader(ByteBuffer buffer) {
+		return buffer.limit() >= HEADER_SIZE
+				   && buffer.getInt(0) == MAGIC
+				   && buffer.getShort(Integer.BYTES) == VERSION;
+	}
+
+	/**
+	 * Encode a test run as a full record including its length prefix.
+	 * A falsified sample that cannot be serialized is left out.
+	 */
+	static byte[] encode(TestRun testRun) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(body);
+		writeBytes(out, testRun.uniqueIdString().getBytes(StandardCharsets.UTF_8));
+		out.writeByte(testRun.getStatus().ordinal());
+		writeBytes(out, testRun.randomSeed().map(seed -> seed.getBytes(StandardCharsets.UTF_8)).orElse(null));
+		writeBytes(out, testRun.falsifiedSample().map(TestRunFormat::serialize).orElse(null));
+		out.flush();
+
+		ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + body.size());
+		record.putInt(body.size());
+		record.put(body.toByteArray());
+		return record.array();
+	}
+
+	/**
+	 * @return The length of the record starting at {@code offset} including its length prefix,
+	 * or -1 if there is no complete record at this position
+	 */
+	static int recordLength(ByteBuffer buffer, int offset) {
+		if (offset + Integer.BYTES > buffer.limit()) {
+			return NONE;
+		}
+		int bodyLength = buffer.getInt(offset);
+		if (bodyLength < 0 || bodyLength > buffer.limit() - offset - Integer.BYTES) {
+			return NONE;
+		}
+		return Integer.BYTES + bodyLength;
+	}
+
+	static String readUniqueId(ByteBuffer buffer, int recordOffset) {
+		return readString(buffer, recordOffset + Integer.BYTES);
+	}
+
+	static Status readStatus(ByteBuffer buffer, int recordOffset) {
+		int uniqueIdOffset = recordOffset + Integer.BYTES;
+		int statusOffset = uniqueIdOffset + Integer.BYTES + buffer.getInt(uniqueIdOffset);
+		return Status.values()[buffer.get(statusOffset)];
+	}
+
+	static TestRun decode(ByteBuffer buffer, int recordOffset) {
+		int position = recordOffset + Integer.BYTES;
+		String uniqueId = readString(buffer, position);
+		position += Integer.BYTES + buffer.getInt(position);
+		Status status = Status.values()[buffer.get(position)];
+		position += 1;
+		String randomSeed = readString(buffer, position);
+		position += Integer.BYTES + Math.max(0, buffer.getInt(position));
+		List<Object> falsifiedSample = deserialize(readBytes(buffer, position));
+		return new TestRun(uniqueId, status, randomSeed, falsifiedSample);
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(NONE);
+			return;
+		}
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer, int offset) {
+		byte[] bytes = readBytes(buffer, offset);
+		return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] readBytes(ByteBuffer buffer, int offset) {
+		int length = buffer.getInt(offset);
+		if (length == NONE) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		ByteBuffer source = buffer.duplicate();
+		// Calls through Buffer link against Java 8's Buffer methods instead of the covariant overrides of Java 9+
+		((Buffer) source).position(offset + Integer.BYTES);
+		source.get(bytes);
+		return bytes;
+	}
+
+	private static byte[] serialize(List<Object> falsifiedSample) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(new ArrayList<>(falsifiedSample));
+			}
+			return bytes.toByteArray();
+		} catch (IOException notSerializable) {
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> deserialize(byte[] bytes) {
+		if (bytes == null) {
+			return null;
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return (List<Object>) in.readObject();
+		} catch (Throwable throwable) {
+			// Classes of a sample might have changed or disappeared since it was recorded
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			return null;
+		}
+	}
+}
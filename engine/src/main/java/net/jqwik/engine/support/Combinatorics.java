@@ -81,15 +81,31 @@ public class Combinatorics {
 		if (maxExclusive < 2) {
 			return Stream.empty();
 		}
-		List<Tuple2<Integer, Integer>> pairs = new ArrayList<>();
-		for (int i = 0; i < maxExclusive; i++) {
-			for (int j = i + 1; j < maxExclusive; j++) {
-				if (i != j) {
-					pairs.add(Tuple.of(i, j));
+		// Pairs are created lazily since their number grows quadratically
+		long countPairs = (long) maxExclusive * (maxExclusive - 1) / 2;
+		Iterator<Tuple2<Integer, Integer>> pairs = new Iterator<Tuple2<Integer, Integer>>() {
+			private int i = 0;
+			private int j = 1;
+
+			@Override
+			public boolean hasNext() {
+				return j < maxExclusive;
+			}
+
+			@Override
+			public Tuple2<Integer, Integer> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
 				}
+				Tuple2<Integer, Integer> pair = Tuple.of(i, j);
+				if (++j >= maxExclusive) {
+					i++;
+					j = i + 1;
+				}
+				return pair;
 			}
-		}
-		return pairs.stream();
+		};
+		return StreamSupport.stream(Spliterators.spliterator(pairs, countPairs, Spliterator.ORDERED | Spliterator.SIZED), false);
 	}
 }
 
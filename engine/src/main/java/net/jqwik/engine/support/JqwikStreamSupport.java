@@ -56,15 +56,35 @@ public class JqwikStreamSupport {
 	}
 
 	public static <T> Stream<T> concat(List<Stream<T>> streams) {
-		return concat(Stream.empty(), new ArrayList<>(streams));
+		return concat(streams.size(), streams::get);
 	}
 
-	private static <T> Stream<T> concat(Stream<T> head, List<Stream<T>> rest) {
-		if (rest.isEmpty()) {
-			return head;
-		}
-		Stream<T> first = rest.remove(0);
-		return Stream.concat(head, concat(first, rest));
+	/**
+	 * Concatenate {@code count} streams. A stream is only created by {@code streamAt}
+	 * when all elements of the streams before have been consumed.
+	 *
+	 * @param count number of streams
+	 * @param streamAt create stream for index
+	 * @param <T> type
+	 * @return a stream
+	 */
+	public static <T> Stream<T> concat(int count, IntFunction<Stream<T>> streamAt) {
+		return StreamSupport.stream(
+			new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+				private int nextIndex = 0;
+				private Spliterator<T> current = Spliterators.emptySpliterator();
+
+				@Override
+				public boolean tryAdvance(Consumer<? super T> action) {
+					while (!current.tryAdvance(action)) {
+						if (nextIndex >= count) {
+							return false;
+						}
+						current = streamAt.apply(nextIndex++).spliterator();
+					}
+					return true;
+				}
+			}, false);
 	}
 
 	/**
@@ -0,0 +1,106 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+
+/**
+ * An immutable random access list whose modified copies share structure with the original.
+ *
+ * <p>
+ * Elements are stored in a tree with 32 children per node. Replacing an element
+ * only copies the nodes on the path to it, i.e. O(log n) memory.
+ * Sub lists are views on the same tree and do not copy at all.
+ * </p>
+ */
+public class PersistentList<T> extends AbstractList<T> implements RandomAccess {
+
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+
+	private final Object[] root;
+	private final int shift;
+	private final int offset;
+	private final int size;
+
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentList<T> of(List<T> elements) {
+		if (elements instanceof PersistentList) {
+			return (PersistentList<T>) elements;
+		}
+		Object[] nodes = chunk(elements.toArray());
+		int shift = 0;
+		while (nodes.length > 1) {
+			nodes = chunk(nodes);
+			shift += BITS;
+		}
+		Object[] root = nodes.length == 0 ? new Object[0] : (Object[]) nodes[0];
+		return new PersistentList<>(root, shift, 0, elements.size());
+	}
+
+	private static Object[] chunk(Object[] children) {
+		Object[] nodes = new Object[(children.length + MASK) >>> BITS];
+		for (int i = 0; i < nodes.length; i++) {
+			int from = i << BITS;
+			nodes[i] = Arrays.copyOfRange(children, from, Math.min(from + WIDTH, children.length));
+		}
+		return nodes;
+	}
+
+	private PersistentList(Object[] root, int shift, int offset, int size) {
+		this.root = root;
+		this.shift = shift;
+		this.offset = offset;
+		this.size = size;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		checkIndex(index, size);
+		int treeIndex = offset + index;
+		Object[] node = root;
+		for (int level = shift; level > 0; level -= BITS) {
+			node = (Object[]) node[(treeIndex >>> level) & MASK];
+		}
+		return (T) node[treeIndex & MASK];
+	}
+
+	/**
+	 * @return a copy of this list in which the element at {@code index} is replaced by {@code element}
+	 */
+	public PersistentList<T> with(int index, T element) {
+		checkIndex(index, size);
+		Object[] newRoot = replaceIn(root, shift, offset + index, element);
+		return new PersistentList<>(newRoot, shift, offset, size);
+	}
+
+	private static Object[] replaceIn(Object[] node, int level, int treeIndex, Object element) {
+		Object[] copy = node.clone();
+		int childIndex = (treeIndex >>> level) & MASK;
+		if (level == 0) {
+			copy[childIndex] = element;
+		} else {
+			copy[childIndex] = replaceIn((Object[]) node[childIndex], level - BITS, treeIndex, element);
+		}
+		return copy;
+	}
+
+	@Override
+	public PersistentList<T> subList(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException(String.format("Sublist [%s, %s) of list with size %s", fromIndex, toIndex, size));
+		}
+		return new PersistentList<>(root, shift, offset + fromIndex, toIndex - fromIndex);
+	}
+
+	private static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index %s of list with size %s", index, size));
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package net.jqwik.api;
+
+import java.nio.*;
+import java.util.*;
+
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingSupport.*;
+
+@Group
+class ByteArrayArbitraryTests {
+
+	@Example
+	void byteArrays(@ForAll Random random) {
+		ByteArrayArbitrary arbitrary = Arbitraries.byteArrays().ofMinSize(2).ofMaxSize(5);
+		RandomGenerator<byte[]> generator = arbitrary.generator(1000);
+
+		assertAllGenerated(generator, random, bytes -> {
+			assertThat(bytes.length).isBetween(2, 5);
+		});
+		assertAtLeastOneGenerated(generator, random, bytes -> bytes[0] < 0);
+		assertAtLeastOneGenerated(generator, random, bytes -> bytes[0] > 0);
+	}
+
+	@Example
+	void generatedArraysAreNotShared(@ForAll Random random) {
+		Shrinkable<byte[]> shrinkable = Arbitraries.byteArrays().ofSize(10).generator(1000).next(random);
+		byte[] first = shrinkable.value();
+		Arrays.fill(first, (byte) 42);
+
+		assertThat(shrinkable.value()).isNotEqualTo(first);
+	}
+
+	@Example
+	void edgeCases() {
+		EdgeCases<byte[]> edgeCases = Arbitraries.byteArrays().ofMaxSize(5).edgeCases();
+		assertThat(collectEdgeCaseValues(edgeCases)).containsExactlyInAnyOrder(
+			new byte[0],
+			new byte[]{0},
+			new byte[]{-1},
+			new byte[]{Byte.MIN_VALUE},
+			new byte[]{Byte.MAX_VALUE}
+		);
+	}
+
+	@Example
+	void exhaustiveGeneration() {
+		Optional<ExhaustiveGenerator<byte[]>> generator = Arbitraries.byteArrays().ofMaxSize(1).exhaustive();
+		assertThat(generator).isPresent();
+		assertThat(generator.get().maxCount()).isEqualTo(257);
+	}
+
+	@Example
+	void shrinkToEmptyArray(@ForAll Random random) {
+		byte[] shrunk = falsifyThenShrink(Arbitraries.byteArrays(), random);
+		assertThat(shrunk).isEmpty();
+	}
+
+	@Example
+	void shrinkByCuttingAndZeroing(@ForAll Random random) {
+		TestingFalsifier<byte[]> falsifier = bytes -> bytes.length < 3;
+		byte[] shrunk = falsifyThenShrink(Arbitraries.byteArrays(), random, falsifier);
+		assertThat(shrunk).containsExactly(0, 0, 0);
+	}
+
+	@Example
+	void shrinkSingleBytesTowardsZero(@ForAll Random random) {
+		TestingFalsifier<byte[]> falsifier = bytes -> bytes.length < 2 || bytes[1] > -10;
+		byte[] shrunk = falsifyThenShrink(Arbitraries.byteArrays(), random, falsifier);
+		assertThat(shrunk).containsExactly(0, -10);
+	}
+
+	@Group
+	class ByteBuffers {
+
+		@Example
+		void heapBuffers(@ForAll Random random) {
+			RandomGenerator<ByteBuffer> generator = Arbitraries.byteBuffers().ofMaxSize(20).generator(1000);
+			assertAllGenerated(generator, random, buffer -> {
+				assertThat(buffer.isDirect()).isFalse();
+				assertThat(buffer.position()).isEqualTo(0);
+				assertThat(buffer.remaining()).isLessThanOrEqualTo(20);
+			});
+		}
+
+		@Example
+		void directBuffers(@ForAll Random random) {
+			RandomGenerator<ByteBuffer> generator = Arbitraries.byteBuffers().ofSize(20).direct().generator(1000);
+			assertAllGenerated(generator, random, buffer -> {
+				assertThat(buffer.isDirect()).isTrue();
+				assertThat(buffer.position()).isEqualTo(0);
+				assertThat(buffer.remaining()).isEqualTo(20);
+			});
+		}
+
+		@Example
+		void shrinkBuffer(@ForAll Random random) {
+			TestingFalsifier<ByteBuffer> falsifier = buffer -> buffer.remaining() < 2;
+			ByteBuffer shrunk = falsifyThenShrink(Arbitraries.byteBuffers().direct(), random, falsifier);
+			assertThat(shrunk).isEqualTo(ByteBuffer.wrap(new byte[]{0, 0}));
+		}
+	}
+}
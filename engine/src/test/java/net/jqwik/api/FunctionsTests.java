@@ -306,6 +306,78 @@ class FunctionsTests {
 
 	}
 
+	@Group
+	class Well_known_functional_types {
+
+		@Example
+		void function_gives_same_results_as_self_made_functional_interface(@ForAll long seed) {
+			Arbitrary<Integer> integers = Arbitraries.integers().between(1, 1000);
+			Arbitrary<Function<String, Integer>> functions = Functions.function(Function.class).returns(integers);
+			Arbitrary<MyFunction<String, Integer>> myFunctions = Functions.function(MyFunction.class).returns(integers);
+
+			Function<String, Integer> function = functions.generator(10, true).next(new Random(seed)).value();
+			MyFunction<String, Integer> myFunction = myFunctions.generator(10, true).next(new Random(seed)).value();
+
+			for (String value : Arrays.asList("a", "b", "hello", null)) {
+				assertThat(function.apply(value)).isEqualTo(myFunction.take(value));
+			}
+			assertThat(function.hashCode()).isEqualTo(myFunction.hashCode());
+		}
+
+		@Example
+		void bi_function_gives_same_results_as_self_made_functional_interface(@ForAll long seed) {
+			Arbitrary<Integer> integers = Arbitraries.integers().between(1, 1000);
+			Arbitrary<BiFunction<String, String, Integer>> functions = Functions.function(BiFunction.class).returns(integers);
+			Arbitrary<MySamType<String, String, Integer>> myFunctions = Functions.function(MySamType.class).returns(integers);
+
+			BiFunction<String, String, Integer> function = functions.generator(10, true).next(new Random(seed)).value();
+			MySamType<String, String, Integer> myFunction = myFunctions.generator(10, true).next(new Random(seed)).value();
+
+			assertThat(function.apply("a", "b")).isEqualTo(myFunction.take("a", "b"));
+			assertThat(function.apply("b", "a")).isEqualTo(myFunction.take("b", "a"));
+			assertThat(function.apply(null, "a")).isEqualTo(myFunction.take(null, "a"));
+		}
+
+		@Example
+		void comparator_and_its_default_methods(@ForAll Random random) {
+			Arbitrary<Integer> integers = Arbitraries.integers().between(-1, 1);
+			Arbitrary<Comparator<String>> comparators = Functions.function(Comparator.class).returns(integers);
+
+			Comparator<String> comparator = comparators.generator(10, true).next(random).value();
+
+			assertThat(comparator.compare("a", "b")).isBetween(-1, 1);
+			assertThat(comparator.compare("a", "b")).isEqualTo(comparator.compare("a", "b"));
+			assertThat(comparator.reversed().compare("a", "b")).isEqualTo(comparator.compare("b", "a"));
+		}
+
+		@Example
+		void predicate_and_its_default_methods(@ForAll Random random) {
+			Arbitrary<Predicate<String>> predicates = Functions.function(Predicate.class).returns(Arbitraries.of(true, false));
+
+			Predicate<String> predicate = predicates.generator(10, true).next(random).value();
+
+			assertThat(predicate.test("a")).isEqualTo(predicate.test("a"));
+			assertThat(predicate.negate().test("a")).isEqualTo(!predicate.test("a"));
+		}
+
+		@Example
+		void supplier_with_conditional_answer() {
+			Arbitrary<Supplier<Integer>> suppliers =
+				Functions
+					.function(Supplier.class).returns(Arbitraries.integers())
+					.when(List::isEmpty, params -> 42);
+
+			assertAllGenerated(
+				suppliers.generator(10, true),
+				supplier -> supplier.get() == 42
+			);
+		}
+	}
+
+	interface MyFunction<P, R> {
+		R take(P p);
+	}
+
 	interface MySamType<P1, P2, R> {
 		R take(P1 p1, P2 p2);
 	}
@@ -90,6 +90,16 @@ class ListArbitraryTests {
 		});
 	}
 
+	@Example
+	void largeListWithUniqueElements(@ForAll Random random) {
+		ListArbitrary<Integer> listArbitrary =
+			Arbitraries.integers().list().ofSize(10000).uniqueElements();
+
+		List<Integer> list = listArbitrary.generator(1000).next(random).value();
+
+		assertThat(new HashSet<>(list)).hasSize(10000);
+	}
+
 	@Example
 	void uniqueElementsWithNull(@ForAll Random random) {
 		ListArbitrary<Integer> listArbitrary =
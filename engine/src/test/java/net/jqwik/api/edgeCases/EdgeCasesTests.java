@@ -2,11 +2,13 @@ package net.jqwik.api.edgeCases;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -29,6 +31,59 @@ class EdgeCasesTests {
 		assertThat(iterator.hasNext()).isFalse();
 	}
 
+	@Example
+	void suppliersAreComputedOnceAndCannotBeModified() {
+		AtomicInteger mapperCalls = new AtomicInteger(0);
+		EdgeCases<Integer> edgeCases = Arbitraries.of(1, 2, 3).map(i -> {
+			mapperCalls.incrementAndGet();
+			return i * 2;
+		}).edgeCases();
+		int callsAfterCreation = mapperCalls.get();
+
+		assertThat(edgeCases.size()).isEqualTo(2);
+		assertThat(edgeCases.isEmpty()).isFalse();
+		assertThat(edgeCases.suppliers()).hasSize(2);
+		assertThat(mapperCalls.get()).isEqualTo(callsAfterCreation);
+		assertThatThrownBy(() -> edgeCases.suppliers().add(() -> Shrinkable.unshrinkable(42)))
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Example
+	void derivedEdgeCasesAreMaterializedOnFirstAccess() {
+		AtomicInteger filterCalls = new AtomicInteger(0);
+		AtomicInteger mapperCalls = new AtomicInteger(0);
+		EdgeCases<Integer> edgeCases = Arbitraries.of(1, 2, 3).filter(i -> {
+			filterCalls.incrementAndGet();
+			return true;
+		}).map(i -> {
+			mapperCalls.incrementAndGet();
+			return i * 2;
+		}).edgeCases();
+
+		assertThat(filterCalls.get()).isEqualTo(0);
+		assertThat(mapperCalls.get()).isEqualTo(0);
+
+		assertThat(edgeCases.size()).isEqualTo(2);
+		assertThat(filterCalls.get()).isEqualTo(2);
+		assertThat(mapperCalls.get()).isEqualTo(0);
+
+		Shrinkable<Integer> lastEdgeCase = edgeCases.suppliers().get(1).get();
+		assertThat(edgeCases.suppliers().get(1).get()).isSameAs(lastEdgeCase);
+		assertThat(mapperCalls.get()).isEqualTo(0);
+		assertThat(lastEdgeCase.value()).isEqualTo(6);
+		assertThat(mapperCalls.get()).isEqualTo(1);
+	}
+
+	@Example
+	void edgeCasesAreMemoizedPerArbitraryAndMaxEdgeCases() {
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(0, 100);
+
+		EdgeCases<Integer> edgeCases = EdgeCasesSupport.memoized(arbitrary, 10);
+		assertThat(EdgeCasesSupport.memoized(arbitrary, 10)).isSameAs(edgeCases);
+		assertThat(EdgeCasesSupport.memoized(arbitrary, 2)).isNotSameAs(edgeCases);
+		assertThat(EdgeCasesSupport.memoized(arbitrary, 2)).hasSize(2);
+	}
+
 	@Example
 	void mappedEdgeCasesCanBeShrunk() {
 		Arbitrary<String> arbitrary =
@@ -185,6 +185,26 @@ class RegisteredArbitraryProvidersTests {
 			return aValue != null;
 		}
 
+		@Property
+		boolean byteArrayWithSize(@ForAll @Size(5) byte[] aValue) {
+			return aValue.length == 5;
+		}
+
+		@Property
+		boolean constrainedBytesInByteArray(@ForAll @ByteRange(min = 1, max = 3) byte[] aValue) {
+			for (byte aByte : aValue) {
+				if (aByte < 1 || aByte > 3) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Property
+		boolean byteBuffer(@ForAll @Size(max = 10) java.nio.ByteBuffer aValue) {
+			return aValue.position() == 0 && aValue.remaining() <= 10;
+		}
+
 		@Property
 		boolean integerList(@ForAll List<Integer> aValue) {
 			return aValue != null;
@@ -88,9 +88,11 @@ class TypeUsageTests {
 			TypeUsage equalType = TypeUsage.of(Tuple2.class, of(String.class), of(Integer.class));
 			assertThat(tupleType.equals(equalType)).isTrue();
 			assertThat(equalType.equals(tupleType)).isTrue();
+			assertThat(equalType.hashCode()).isEqualTo(tupleType.hashCode());
 
 			TypeUsage nonEqualType = TypeUsage.of(Tuple2.class, of(String.class), of(Number.class));
 			assertThat(tupleType.equals(nonEqualType)).isFalse();
+			assertThat(tupleType.hashCode()).isNotEqualTo(nonEqualType.hashCode());
 		}
 
 		@Example
@@ -232,11 +234,13 @@ class TypeUsageTests {
 
 			TypeUsage equalParameterType = TypeUsageImpl.forParameter(parameter);
 			assertThat(parameterType.equals(equalParameterType)).isTrue();
+			assertThat(parameterType.hashCode()).isEqualTo(equalParameterType.hashCode());
 
 			Method methodWithNonEqualList = LocalClass.class.getMethod("withNonEqualList", List.class);
 			MethodParameter nonEqualParameter = JqwikReflectionSupport.getMethodParameters(methodWithNonEqualList, LocalClass.class).get(0);
 			TypeUsage nonEqualParameterType = TypeUsageImpl.forParameter(nonEqualParameter);
 			assertThat(parameterType.equals(nonEqualParameterType)).isFalse();
+			assertThat(parameterType.hashCode()).isNotEqualTo(nonEqualParameterType.hashCode());
 
 		}
 
@@ -67,6 +67,21 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return true;
 			}
+
+			@Override
+			public int executionParallelism() {
+				return 1;
+			}
+
+			@Override
+			public int arbitrariesCacheSize() {
+				return 0;
+			}
+
+			@Override
+			public boolean filterFailFast() {
+				return false;
+			}
 		};
 	}
 
@@ -52,5 +52,16 @@ class JqwikPropertiesTests {
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.executionParallel()).isEqualTo(false);
+		assertThat(properties.executionParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+
+		assertThat(properties.triesParallelism()).isEqualTo(1);
+		assertThat(properties.shrinkingParallelism()).isEqualTo(1);
+		assertThat(properties.shrinkingCacheSize()).isEqualTo(100_000);
+		assertThat(properties.campaignCheckpointsPath()).isEmpty();
+		assertThat(properties.campaignCheckpointSeconds()).isEqualTo(60);
+		assertThat(properties.arbitrariesCacheSize()).isEqualTo(1000);
+		assertThat(properties.filterFailFast()).isFalse();
 	}
 }
@@ -0,0 +1,101 @@
+package net.jqwik.engine;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JqwikRandomTests {
+
+	@Property
+	void nextIntWithBoundStaysInBounds(@ForAll long seed, @ForAll @IntRange(min = 1) int bound) {
+		Assume.that(seed != 0L);
+		JqwikRandom random = new JqwikRandom(seed);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextInt(bound)).isBetween(0, bound - 1);
+		}
+	}
+
+	@Property
+	void nextLongWithBoundStaysInBounds(@ForAll long seed, @ForAll @LongRange(min = 1, max = Long.MAX_VALUE) long bound) {
+		Assume.that(seed != 0L);
+		JqwikRandom random = new JqwikRandom(seed);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextLong(bound)).isBetween(0L, bound - 1);
+		}
+	}
+
+	@Example
+	void nextIntWithBoundIsUniform() {
+		JqwikRandom random = new JqwikRandom(42L);
+		int[] counts = new int[6];
+		for (int i = 0; i < 60000; i++) {
+			counts[random.nextInt(6)]++;
+		}
+		assertThat(Arrays.stream(counts)).allMatch(count -> count > 9500 && count < 10500);
+	}
+
+	@Example
+	void nonPositiveBoundsAreRejected() {
+		JqwikRandom random = new JqwikRandom(42L);
+		assertThatThrownBy(() -> random.nextInt(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> random.nextLong(-1L)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Property
+	void nextDoubleIsBetweenZeroAndOne(@ForAll long seed) {
+		Assume.that(seed != 0L);
+		JqwikRandom random = new JqwikRandom(seed);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+		}
+	}
+
+	@Example
+	void nextBytesUsesAllBitsOfRandomLongs() {
+		JqwikRandom random = new JqwikRandom(42L);
+		byte[] bytes = new byte[11];
+		random.nextBytes(bytes);
+
+		JqwikRandom same = new JqwikRandom(42L);
+		long first = same.nextLong();
+		long second = same.nextLong();
+		assertThat(bytes[0]).isEqualTo((byte) first);
+		assertThat(bytes[7]).isEqualTo((byte) (first >>> 56));
+		assertThat(bytes[8]).isEqualTo((byte) second);
+		assertThat(bytes[10]).isEqualTo((byte) (second >>> 16));
+	}
+
+	@Property(tries = 50)
+	void jumpedIsSameAsCallingNextLongRepeatedly(@ForAll long seed, @ForAll @IntRange(max = 2000) int steps) {
+		Assume.that(seed != 0L);
+		JqwikRandom random = new JqwikRandom(seed);
+		JqwikRandom jumped = random.jumped(steps);
+
+		for (int i = 0; i < steps; i++) {
+			random.nextLong();
+		}
+		assertThat(jumped.nextLong()).isEqualTo(random.nextLong());
+	}
+
+	@Example
+	void splitInstancesProduceDifferentButReproducibleSequences() {
+		JqwikRandom random = new JqwikRandom(42L);
+		JqwikRandom split1 = random.split();
+		JqwikRandom split2 = random.split();
+		assertThat(split1.nextLong()).isNotEqualTo(split2.nextLong());
+
+		JqwikRandom again = new JqwikRandom(42L);
+		JqwikRandom againSplit1 = again.split();
+		assertThat(againSplit1.nextLong()).isEqualTo(new JqwikRandom(42L).split().nextLong());
+	}
+
+	@Example
+	void sourceOfRandomnessCreatesJqwikRandom() {
+		Random random = SourceOfRandomness.create("4711");
+		assertThat(random).isInstanceOf(JqwikRandom.class);
+		assertThat(SourceOfRandomness.current()).isSameAs(random);
+	}
+}
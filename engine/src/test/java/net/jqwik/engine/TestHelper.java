@@ -28,8 +28,17 @@ public class TestHelper {
 	public static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	public static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	public static final FixedSeedMode DEFAULT_WHEN_FIXED_SEED = FixedSeedMode.ALLOW;
+	public static final int DEFAULT_PARALLELISM = 1;
+	public static final int DEFAULT_SHRINKING_PARALLELISM = 1;
+	public static final int DEFAULT_SHRINKING_CACHE_SIZE = 100_000;
+	public static final String DEFAULT_CAMPAIGN_CHECKPOINTS_PATH = "";
+	public static final int DEFAULT_CAMPAIGN_CHECKPOINT_SECONDS = 60;
 
 	public static PropertyAttributesDefaults propertyAttributesDefaults() {
+		return propertyAttributesDefaults(DEFAULT_CAMPAIGN_CHECKPOINTS_PATH, DEFAULT_CAMPAIGN_CHECKPOINT_SECONDS);
+	}
+
+	public static PropertyAttributesDefaults propertyAttributesDefaults(String campaignCheckpointsPath, int campaignCheckpointSeconds) {
 		return PropertyAttributesDefaults.with(
 			DEFAULT_TRIES,
 			DEFAULT_MAX_DISCARD_RATIO,
@@ -38,7 +47,12 @@ public class TestHelper {
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
-			DEFAULT_WHEN_FIXED_SEED
+			DEFAULT_WHEN_FIXED_SEED,
+			DEFAULT_PARALLELISM,
+			DEFAULT_SHRINKING_PARALLELISM,
+			DEFAULT_SHRINKING_CACHE_SIZE,
+			campaignCheckpointsPath,
+			campaignCheckpointSeconds
 		);
 	}
 
@@ -84,6 +98,7 @@ public class TestHelper {
 			null,
 			null,
 			seed,
+			null,
 			null
 		);
 
@@ -123,6 +123,51 @@ class ContainerExecutionTests {
 		events.verify(eventRecorder).executionFinished(engineDescriptor, TestExecutionResult.successful());
 	}
 
+	@Example
+	void parallelExecutionFinishesContainersAfterAllNestedProperties() {
+		TestDescriptor engineDescriptor = forEngine(testEngine).with(
+			forClass(SlowContainer.class, "slow").with(
+				forClass(SlowContainer.SlowGroup.class, "slow").with(
+					forClass(SlowContainer.SlowGroup.SlowInnerGroup.class, "slow", "slowToo")
+				)
+			)
+		).build();
+		List<String> events = Collections.synchronizedList(new ArrayList<>());
+		EngineExecutionListener recordingListener = new EngineExecutionListener() {
+			@Override
+			public void executionStarted(TestDescriptor testDescriptor) {
+				events.add("started " + testDescriptor.getUniqueId());
+			}
+
+			@Override
+			public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+				events.add("finished " + testDescriptor.getUniqueId());
+			}
+		};
+
+		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false, 4)
+			.execute(engineDescriptor, recordingListener);
+
+		assertThat(events).hasSize(16);
+		for (TestDescriptor container : Arrays.asList(
+			engineDescriptor,
+			containerFor(engineDescriptor, SlowContainer.class),
+			containerFor(engineDescriptor, SlowContainer.SlowGroup.class),
+			containerFor(engineDescriptor, SlowContainer.SlowGroup.SlowInnerGroup.class)
+		)) {
+			int containerFinished = events.indexOf("finished " + container.getUniqueId());
+			for (TestDescriptor descendant : container.getDescendants()) {
+				assertThat(events.indexOf("finished " + descendant.getUniqueId())).isLessThan(containerFinished);
+			}
+		}
+	}
+
+	private TestDescriptor containerFor(TestDescriptor engineDescriptor, Class<?> containerClass) {
+		return engineDescriptor.getDescendants().stream()
+							   .filter(descriptor -> descriptor.getUniqueId().getLastSegment().getValue().equals(containerClass.getName()))
+							   .findFirst().get();
+	}
+
 	private void executeTests(TestDescriptor engineDescriptor) {
 		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false).execute(engineDescriptor, eventRecorder);
 	}
@@ -148,6 +193,36 @@ class ContainerExecutionTests {
 
 	}
 
+	private static class SlowContainer {
+
+		@Example
+		void slow() throws InterruptedException {
+			Thread.sleep(50);
+		}
+
+		@Group
+		static class SlowGroup {
+
+			@Example
+			void slow() throws InterruptedException {
+				Thread.sleep(100);
+			}
+
+			@Group
+			static class SlowInnerGroup {
+				@Example
+				void slow() throws InterruptedException {
+					Thread.sleep(200);
+				}
+
+				@Example
+				void slowToo() throws InterruptedException {
+					Thread.sleep(200);
+				}
+			}
+		}
+	}
+
 	private static class TopLevelContainer {
 
 		@Example
@@ -0,0 +1,186 @@
+package net.jqwik.engine.execution;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.junit.platform.engine.*;
+import org.mockito.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.execution.pipeline.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ParallelExecutionPipelineTests {
+
+	private final PropertyExecutionListener listener = Mockito.mock(PropertyExecutionListener.class);
+	private final ParallelExecutionPipeline pipeline = new ParallelExecutionPipeline(listener, 4);
+
+	@Example
+	void withNoTasksPipelineTerminatesAtOnce() {
+		pipeline.runToTermination();
+	}
+
+	@Example
+	void allTasksAreExecuted() {
+		List<MockExecutionTask> tasks = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			MockExecutionTask task = new MockExecutionTask(Integer.toString(i));
+			tasks.add(task);
+			pipeline.submit(task);
+		}
+		pipeline.runToTermination();
+
+		tasks.forEach(task -> Mockito.verify(listener).executionStarted(task));
+	}
+
+	@Example
+	void independentTasksAreExecutedConcurrently() {
+		CountDownLatch allStarted = new CountDownLatch(3);
+		for (int i = 0; i < 3; i++) {
+			pipeline.submit(new BlockingTask(Integer.toString(i), allStarted));
+		}
+		pipeline.runToTermination();
+
+		assertThat(allStarted.getCount()).isEqualTo(0);
+	}
+
+	@Example
+	void tasksStartOnlyAfterAllPredecessorsHaveFinished() {
+		List<String> finished = new CopyOnWriteArrayList<>();
+		RecordingTask prepare = new RecordingTask("prepare", finished);
+		RecordingTask child1 = new RecordingTask("child1", finished);
+		RecordingTask child2 = new RecordingTask("child2", finished);
+		RecordingTask finish = new RecordingTask("finish", finished);
+		pipeline.submit(finish, child1, child2);
+		pipeline.submit(child1, prepare);
+		pipeline.submit(child2, prepare);
+		pipeline.submit(prepare);
+		pipeline.runToTermination();
+
+		assertThat(finished).hasSize(4);
+		assertThat(finished.get(0)).isEqualTo("prepare");
+		assertThat(finished.subList(1, 3)).containsExactlyInAnyOrder("child1", "child2");
+		assertThat(finished.get(3)).isEqualTo("finish");
+	}
+
+	@Example
+	void tasksPutInFrontAreStartedFirst() {
+		ParallelExecutionPipeline singleThreaded = new ParallelExecutionPipeline(listener, 1);
+		MockExecutionTask predecessor = new MockExecutionTask("predecessor");
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		MockExecutionTask task3 = new MockExecutionTask("3");
+		singleThreaded.submit(predecessor);
+		singleThreaded.submit(task1);
+		singleThreaded.submit(task2);
+		singleThreaded.submit(task3, predecessor);
+		singleThreaded.executeFirst(task3);
+		singleThreaded.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(predecessor);
+		events.verify(listener).executionStarted(task3);
+		events.verify(listener).executionStarted(task1);
+		events.verify(listener).executionStarted(task2);
+	}
+
+	@Example
+	void failedPredecessorResultIsHandedToSuccessors() {
+		AtomicReference<TaskExecutionResult> resultSeenBySuccessor = new AtomicReference<>();
+		RuntimeException failure = new RuntimeException("failed");
+		ExecutionTask failing = new FixedResultTask("failing", TaskExecutionResult.failure(failure), null);
+		ExecutionTask succeeding = new FixedResultTask("succeeding", TaskExecutionResult.success(), null);
+		ExecutionTask successor = new FixedResultTask("successor", TaskExecutionResult.success(), resultSeenBySuccessor);
+		pipeline.submit(failing);
+		pipeline.submit(succeeding);
+		pipeline.submit(successor, succeeding, failing);
+		pipeline.runToTermination();
+
+		assertThat(resultSeenBySuccessor.get().successful()).isFalse();
+		assertThat(resultSeenBySuccessor.get().throwable()).hasValue(failure);
+	}
+
+	@Example
+	void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		pipeline.submit(task1, task2);
+
+		assertThatThrownBy(pipeline::runToTermination).isInstanceOf(PredecessorNotSubmittedException.class);
+	}
+
+	@Example
+	void throwablesEscapingATaskAreRethrown() {
+		ExecutionTask escaping = new FixedResultTask("escaping", null, null) {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				throw new OutOfMemoryError("escaping");
+			}
+		};
+		pipeline.submit(escaping);
+
+		assertThatThrownBy(pipeline::runToTermination).isInstanceOf(OutOfMemoryError.class);
+	}
+
+	private static class BlockingTask extends MockExecutionTask {
+		private final CountDownLatch allStarted;
+
+		private BlockingTask(String name, CountDownLatch allStarted) {
+			super(name);
+			this.allStarted = allStarted;
+		}
+
+		@Override
+		public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+			allStarted.countDown();
+			try {
+				if (!allStarted.await(10, TimeUnit.SECONDS)) {
+					return TaskExecutionResult.failure(new AssertionError("Tasks were not run concurrently"));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return TaskExecutionResult.success();
+		}
+	}
+
+	private static class RecordingTask extends MockExecutionTask {
+		private final List<String> finished;
+
+		private RecordingTask(String name, List<String> finished) {
+			super(name);
+			this.finished = finished;
+		}
+
+		@Override
+		public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+			finished.add(getDisplayName());
+			return TaskExecutionResult.success();
+		}
+	}
+
+	private static class FixedResultTask extends MockExecutionTask {
+		private final TaskExecutionResult result;
+		private final AtomicReference<TaskExecutionResult> predecessorResultRecorder;
+
+		private FixedResultTask(
+			String name,
+			TaskExecutionResult result,
+			AtomicReference<TaskExecutionResult> predecessorResultRecorder
+		) {
+			super(name);
+			this.result = result;
+			this.predecessorResultRecorder = predecessorResultRecorder;
+		}
+
+		@Override
+		public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+			if (predecessorResultRecorder != null) {
+				predecessorResultRecorder.set(predecessorResult);
+			}
+			return result;
+		}
+	}
+}
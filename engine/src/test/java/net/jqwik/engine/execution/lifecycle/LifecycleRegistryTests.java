@@ -60,6 +60,79 @@ class LifecycleRegistryTests {
 		assertThat(RememberCurrentDescriptorHook.currentDescriptor).isSameAs(container1);
 	}
 
+	@Group
+	class CombinedHooks {
+		@Example
+		void combinedHookIsReusedForSameDescriptor() {
+			TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+			registry.registerLifecycleHook(container1, ChangeFirstParamTo42.class, ALL_DESCENDANTS);
+			PropertyMethodDescriptor method = (PropertyMethodDescriptor) container1.getChildren().iterator().next();
+
+			assertThat(registry.aroundTryHook(method)).isSameAs(registry.aroundTryHook(method));
+		}
+
+		@Example
+		void newRegistrationIsFoundAfterHookHasBeenCombined() throws Throwable {
+			TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+			registry.registerLifecycleHook(container1, ChangeFirstParamTo42.class, ALL_DESCENDANTS);
+			PropertyMethodDescriptor method = (PropertyMethodDescriptor) container1.getChildren().iterator().next();
+			registry.aroundTryHook(method);
+
+			registry.registerLifecycleHook(container1, ChangeSecondParamToAAA.class, ALL_DESCENDANTS);
+
+			List<Object> executedParameters = new ArrayList<>();
+			registry.aroundTryHook(method).aroundTry(null, parameters -> {
+				executedParameters.addAll(parameters);
+				return TryExecutionResult.satisfied();
+			}, new ArrayList<>(Arrays.asList(1, "a")));
+			assertThat(executedParameters).containsExactly(42, "AAA");
+		}
+
+		@Example
+		void combinedTryHooksAreCalledInOrderAndTheirExecutorsCanBeReused() throws Throwable {
+			List<String> calls = new ArrayList<>();
+			AroundTryHook outer = (context, aTry, parameters) -> {
+				calls.add("outer");
+				aTry.execute(parameters);
+				return aTry.execute(parameters);
+			};
+			AroundTryHook inner = (context, aTry, parameters) -> {
+				calls.add("inner");
+				return aTry.execute(parameters);
+			};
+			CombinedAroundTryHook combined = new CombinedAroundTryHook(Arrays.asList(outer, inner));
+
+			TryExecutionResult result = combined.aroundTry(null, parameters -> {
+				calls.add("try");
+				return TryExecutionResult.satisfied();
+			}, new ArrayList<>());
+
+			assertThat(result.isSatisfied()).isTrue();
+			assertThat(calls).containsExactly("outer", "inner", "try", "inner", "try");
+		}
+
+		@Example
+		void combinedPropertyHooksAreCalledInOrder() throws Throwable {
+			List<String> calls = new ArrayList<>();
+			AroundPropertyHook first = (context, property) -> {
+				calls.add("first");
+				return property.execute();
+			};
+			AroundPropertyHook second = (context, property) -> {
+				calls.add("second");
+				return property.execute();
+			};
+			CombinedAroundPropertyHook combined = new CombinedAroundPropertyHook(Arrays.asList(first, second));
+
+			combined.aroundProperty(null, () -> {
+				calls.add("property");
+				return PlainExecutionResult.successful();
+			});
+
+			assertThat(calls).containsExactly("first", "second", "property");
+		}
+	}
+
 	@Group
 	class UsingRegistrar {
 		@Example
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -144,6 +145,73 @@ class StoreRepositoryTests {
 			assertThat(optionalStore).isNotPresent();
 		}
 
+		@Example
+		void getOrCreateReturnsStoreVisibleInParentScope() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			ScopedStore<String> store = repository.create(container, "aString", Lifespan.PROPERTY, () -> "initial");
+
+			TestDescriptor method1 = container.getChildren().iterator().next();
+
+			ScopedStore<String> retrievedStore = repository.getOrCreate(method1, "aString", Lifespan.PROPERTY, () -> "other");
+			assertThat(retrievedStore).isSameAs(store);
+		}
+
+		@Example
+		void getOrCreateCreatesStoreInScopeIfNoneIsVisible() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method1 = container.getChildren().iterator().next();
+
+			ScopedStore<String> store = repository.getOrCreate(method1, "aString", Lifespan.PROPERTY, () -> "initial");
+
+			assertThat(store.getScope()).isSameAs(method1);
+			assertThat(repository.<String>get(method1, "aString")).hasValue(store);
+			assertThat(repository.get(container, "aString")).isNotPresent();
+		}
+
+		@Example
+		void getOrCreateFailsForExistingStoreWithDifferentLifespan() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+			repository.create(container, "aString", Lifespan.PROPERTY, () -> "initial");
+
+			assertThatThrownBy(() -> repository.getOrCreate(container, "aString", Lifespan.TRY, () -> "initial"))
+				.isInstanceOf(JqwikException.class);
+		}
+
+		@Example
+		void concurrentGetOrCreateCreatesOnlyOneStore() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method1 = container.getChildren().iterator().next();
+
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				for (int i = 0; i < 100; i++) {
+					Object identifier = "store" + i;
+					List<Future<ScopedStore<Object>>> futures = new ArrayList<>();
+					for (int thread = 0; thread < 8; thread++) {
+						futures.add(executor.submit(() -> repository.getOrCreate(method1, identifier, Lifespan.PROPERTY, Object::new)));
+					}
+					ScopedStore<Object> first = futures.get(0).get();
+					for (Future<ScopedStore<Object>> future : futures) {
+						assertThat(future.get()).isSameAs(first);
+					}
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Example
+		void storeCanBeCreatedAgainAfterItsScopeHasFinished() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+			repository.create(container, "aString", Lifespan.PROPERTY, () -> "initial");
+			repository.finishScope(container);
+
+			ScopedStore<String> store = repository.create(container, "aString", Lifespan.PROPERTY, () -> "again");
+
+			assertThat(repository.<String>get(container, "aString")).hasValue(store);
+			assertThat(store.get()).isEqualTo("again");
+		}
+
 	}
 
 	@Group
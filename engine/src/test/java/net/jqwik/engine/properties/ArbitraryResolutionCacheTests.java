@@ -0,0 +1,151 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.configurators.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.facades.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArbitraryResolutionCacheTests {
+
+	private final ArbitraryResolutionCache.Context context = new ArbitraryResolutionCache.Context(
+		Collections.emptyList(),
+		Collections.emptyList()
+	);
+
+	private final AtomicInteger resolutions = new AtomicInteger();
+
+	@Example
+	void sameTypeUsageIsResolvedOnlyOnce() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+
+		Set<Arbitrary<?>> first = cache.resolve(typeUsage("stringParam"), context, this::resolve);
+		Set<Arbitrary<?>> second = cache.resolve(typeUsage("anotherStringParam"), context, this::resolve);
+
+		assertThat(second).isSameAs(first);
+		assertThat(resolutions.get()).isEqualTo(1);
+		assertThat(cache.hits()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(1);
+	}
+
+	@Example
+	void differentAnnotationsAreResolvedSeparately() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+
+		cache.resolve(typeUsage("stringParam"), context, this::resolve);
+		cache.resolve(typeUsage("alphaStringParam"), context, this::resolve);
+
+		assertThat(resolutions.get()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Example
+	void differentProvidersAreResolvedSeparately() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+		ArbitraryResolutionCache.Context otherContext = new ArbitraryResolutionCache.Context(
+			Collections.singletonList(new AnyProvider()),
+			Collections.<ArbitraryConfigurator>emptyList()
+		);
+
+		cache.resolve(typeUsage("stringParam"), context, this::resolve);
+		cache.resolve(typeUsage("stringParam"), otherContext, this::resolve);
+
+		assertThat(resolutions.get()).isEqualTo(2);
+	}
+
+	@Example
+	void leastRecentlyUsedEntryIsEvicted() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(2);
+
+		cache.resolve(typeUsage("stringParam"), context, this::resolve);
+		cache.resolve(typeUsage("alphaStringParam"), context, this::resolve);
+		cache.resolve(typeUsage("stringParam"), context, this::resolve);
+		cache.resolve(typeUsage("intParam"), context, this::resolve);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.evictions()).isEqualTo(1);
+
+		cache.resolve(typeUsage("stringParam"), context, this::resolve);
+		assertThat(resolutions.get()).isEqualTo(3);
+
+		cache.resolve(typeUsage("alphaStringParam"), context, this::resolve);
+		assertThat(resolutions.get()).isEqualTo(4);
+	}
+
+	@Example
+	void sizeZeroSwitchesCachingOff() {
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+		cache.resolve(typeUsage("stringParam"), context, this::resolve);
+
+		cache.resolve(typeUsage("stringParam"), context, this::resolve);
+		cache.resize(0);
+		cache.resolve(typeUsage("stringParam"), context, this::resolve);
+
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(resolutions.get()).isEqualTo(2);
+	}
+
+	@Example
+	void typesThatDependOnTestInstanceAreNotShared() {
+		assertThat(ArbitraryResolutionCache.isShareable(typeUsage("stringParam"))).isTrue();
+		assertThat(ArbitraryResolutionCache.isShareable(typeUsage("listOfAlphaStrings"))).isTrue();
+		assertThat(ArbitraryResolutionCache.isShareable(typeUsage("namedParam"))).isFalse();
+		assertThat(ArbitraryResolutionCache.isShareable(typeUsage("fromParam"))).isFalse();
+		assertThat(ArbitraryResolutionCache.isShareable(typeUsage("listFromParam"))).isFalse();
+		assertThat(ArbitraryResolutionCache.isShareable(typeUsage("arrayFromParam"))).isFalse();
+
+		ArbitraryResolutionCache cache = new ArbitraryResolutionCache(10);
+		cache.resolve(typeUsage("namedParam"), context, this::resolve);
+		cache.resolve(typeUsage("namedParam"), context, this::resolve);
+		assertThat(resolutions.get()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(0);
+	}
+
+	private Set<Arbitrary<?>> resolve() {
+		resolutions.incrementAndGet();
+		return new HashSet<>(Collections.singleton(Arbitraries.strings()));
+	}
+
+	private TypeUsage typeUsage(String methodName) {
+		return TypeUsageImpl.forParameter(TestHelper.getParametersFor(Params.class, methodName).get(0));
+	}
+
+	private static class AnyProvider implements ArbitraryProvider {
+		@Override
+		public boolean canProvideFor(TypeUsage targetType) {
+			return true;
+		}
+
+		@Override
+		public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+			return Collections.emptySet();
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private static class Params {
+		void stringParam(@ForAll String aString) {}
+
+		void anotherStringParam(@ForAll String aString) {}
+
+		void alphaStringParam(@ForAll @AlphaChars String aString) {}
+
+		void intParam(@ForAll int anInt) {}
+
+		void listOfAlphaStrings(@ForAll List<@AlphaChars String> aList) {}
+
+		void namedParam(@ForAll("strings") String aString) {}
+
+		void fromParam(@ForAll @From("strings") String aString) {}
+
+		void listFromParam(@ForAll List<@From("strings") String> aList) {}
+
+		void arrayFromParam(@ForAll @From("strings") String[] anArray) {}
+	}
+}
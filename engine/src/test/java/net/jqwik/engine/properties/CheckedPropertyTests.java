@@ -1,13 +1,19 @@
 package net.jqwik.engine.properties;
 
+import java.io.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import org.junit.platform.engine.reporting.*;
 import org.opentest4j.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.api.coverage.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
@@ -404,6 +410,24 @@ class CheckedPropertyTests {
 				assertThat(allGeneratedParameters).containsExactly(Tuple.of(1), Tuple.of(2), Tuple.of(3));
 			}
 
+			@Example
+			@Label("runs more combinations than Integer.MAX_VALUE")
+			void runMoreCombinationsThanMaxInteger() {
+				AtomicInteger countCalls = new AtomicInteger(0);
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"prop2", params -> countCalls.incrementAndGet() < 10, getParametersForMethod("prop2"),
+					p -> Collections.singleton(Arbitraries.integers().between(0, 99_999).asGeneric()),
+					Optional.empty(),
+					aConfig().withGeneration(EXHAUSTIVE).build(),
+					lifecycleContextForMethod("prop2", int.class, int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.generation()).isEqualTo(GenerationMode.EXHAUSTIVE);
+				assertThat(check.checkStatus()).isEqualTo(FAILED);
+				assertThat(check.countAllTries()).isEqualTo(10);
+			}
+
 			@Example
 			@Label("fails if it no exhaustive generators are provided")
 			void failIfNoExhaustiveGeneratorsAreProvided() {
@@ -454,6 +478,64 @@ class CheckedPropertyTests {
 
 		}
 
+		@Group
+		class GuidedProperty {
+
+			@Example
+			@Label("works with GenerationMode.GUIDED")
+			void worksWithGenerationModeGuided() {
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"exhaustiveProperty", params -> true, getParametersForMethod("exhaustiveProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 3)),
+					Optional.empty(),
+					aConfig().withTries(20).withGeneration(GUIDED).build(),
+					lifecycleContextForMethod("exhaustiveProperty", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.generation()).isEqualTo(GenerationMode.GUIDED);
+				assertThat(check.countTries()).isEqualTo(20);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			}
+
+			@Example
+			@Label("runs tries in parallel")
+			void runsTriesInParallel() {
+				Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+				CheckedFunction rememberThread = params -> {
+					threadNames.add(Thread.currentThread().getName());
+					Coverage.reached(params.get(0));
+					return true;
+				};
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"prop1", rememberThread, getParametersForMethod("prop1"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 100)),
+					Optional.empty(),
+					aConfig().withTries(200).withGeneration(GUIDED).withParallelism(4).build(),
+					lifecycleContextForMethod("prop1", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(check.countTries()).isEqualTo(200);
+				assertThat(threadNames).hasSizeGreaterThan(1);
+			}
+
+			@Example
+			@Label("fails if it has @FromData annotation")
+			void failIfItHasFromData() {
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"dataDrivenProperty", params -> true, getParametersForMethod("dataDrivenProperty"),
+					p -> Collections.emptySet(),
+					Optional.of(Table.of(Tuple.of(1, "1"))),
+					aConfig().withGeneration(GUIDED).build(),
+					lifecycleContextForMethod("dataDrivenProperty", int.class, String.class)
+				);
+
+				assertThatThrownBy(() -> checkedProperty.check(new Reporting[0])).isInstanceOf(JqwikException.class);
+			}
+		}
+
 		@Group
 		class WithSample {
 
@@ -495,6 +577,305 @@ class CheckedPropertyTests {
 				assertThat(check.falsifiedParameters()).isEmpty();
 			}
 		}
+
+		@Group
+		class ParallelTries {
+
+			@Example
+			void allTriesAreRun() {
+				AtomicInteger countCalls = new AtomicInteger(0);
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"prop1", params -> countCalls.incrementAndGet() > 0, getParametersForMethod("prop1"),
+					p -> Collections.singleton(Arbitraries.integers().asGeneric()),
+					Optional.empty(),
+					aConfig().withTries(500).withGeneration(RANDOMIZED).withParallelism(4).build(),
+					lifecycleContextForMethod("prop1", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(check.countTries()).isEqualTo(500);
+				assertThat(countCalls.get()).isEqualTo(500);
+				assertThat(check.edgeCases().tried()).isLessThanOrEqualTo(check.edgeCases().total());
+			}
+
+			@Example
+			void exhaustiveGenerationRunsAllCombinationsOnce() {
+				Set<Integer> generated = ConcurrentHashMap.newKeySet();
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"prop1", params -> generated.add((int) params.get(0)), getParametersForMethod("prop1"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 99).asGeneric()),
+					Optional.empty(),
+					aConfig().withGeneration(EXHAUSTIVE).withParallelism(4).build(),
+					lifecycleContextForMethod("prop1", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(check.countTries()).isEqualTo(99);
+				assertThat(generated).hasSize(99);
+			}
+
+			@Example
+			void parallelExhaustiveGenerationFindsFirstFailingCombination() {
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"prop1", params -> ((int) params.get(0)) < 50, getParametersForMethod("prop1"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 99).asGeneric()),
+					Optional.empty(),
+					aConfig().withGeneration(EXHAUSTIVE).withParallelism(3).build(),
+					lifecycleContextForMethod("prop1", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.checkStatus()).isEqualTo(FAILED);
+				assertThat(check.originalSample().get().parameters()).containsExactly(50);
+			}
+
+			@Example
+			void flatMappedArbitrariesCanBeGeneratedInParallel() {
+				AtomicInteger countCalls = new AtomicInteger(0);
+				Arbitrary<Integer> flatMapped =
+					Arbitraries.integers().between(1, 1000)
+							   .flatMap(max -> Arbitraries.integers().between(0, max).map(n -> max - n));
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"prop1", params -> countCalls.incrementAndGet() > 0 && ((int) params.get(0)) >= 0, getParametersForMethod("prop1"),
+					p -> Collections.singleton(flatMapped.asGeneric()),
+					Optional.empty(),
+					aConfig().withTries(5000).withGeneration(RANDOMIZED).withParallelism(4).build(),
+					lifecycleContextForMethod("prop1", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(check.countTries()).isEqualTo(5000);
+				assertThat(countCalls.get()).isEqualTo(5000);
+			}
+
+			@Example
+			void sameSeedAndParallelismFindTheSameOriginalSample() {
+				Function<String, List<Object>> runWithSeed = seed -> {
+					CheckedProperty checkedProperty = createCheckedProperty(
+						"prop1", params -> ((int) params.get(0)) < 1000, getParametersForMethod("prop1"),
+						p -> Collections.singleton(Arbitraries.integers().between(0, 100_000).withoutEdgeCases().asGeneric()),
+						Optional.empty(),
+						aConfig().withSeed(seed).withTries(1000).withGeneration(RANDOMIZED).withParallelism(3).build(),
+						lifecycleContextForMethod("prop1", int.class)
+					);
+					PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+					assertThat(check.checkStatus()).isEqualTo(FAILED);
+					return check.originalSample().get().parameters();
+				};
+
+				assertThat(runWithSeed.apply("42")).isEqualTo(runWithSeed.apply("42"));
+			}
+		}
+	}
+
+	@Group
+	class Campaigns {
+
+		private final Path checkpoints;
+
+		Campaigns() throws IOException {
+			checkpoints = Files.createTempDirectory("jqwik-checkpoints");
+		}
+
+		@AfterExample
+		void deleteCheckpoints() throws IOException {
+			try (Stream<Path> files = Files.list(checkpoints)) {
+				for (Path file : files.collect(Collectors.toList())) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(checkpoints);
+		}
+
+		@Example
+		void resumedRunContinuesWhereDyingRunStopped() throws IOException {
+			List<Integer> uninterrupted = new ArrayList<>();
+			runCampaign(null, params -> uninterrupted.add((int) params.get(0)));
+
+			List<Integer> dying = new ArrayList<>();
+			assertThatThrownBy(() -> runCampaign(checkpoints.toString(), params -> {
+				if (dying.size() == 50) {
+					throw new OutOfMemoryError("JVM is dying");
+				}
+				return dying.add((int) params.get(0));
+			})).isInstanceOf(OutOfMemoryError.class);
+
+			List<Integer> resumed = new ArrayList<>();
+			PropertyCheckResult check = runCampaign(checkpoints.toString(), params -> resumed.add((int) params.get(0)));
+
+			assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			assertThat(check.countTries()).isEqualTo(100);
+			assertThat(check.countChecks()).isEqualTo(100);
+			assertThat(dying).isEqualTo(uninterrupted.subList(0, 50));
+			assertThat(resumed).isEqualTo(uninterrupted.subList(50, 100));
+			try (Stream<Path> files = Files.list(checkpoints)) {
+				assertThat(files).isEmpty();
+			}
+		}
+
+		@Example
+		void finishedRunLeavesNoCheckpoint() throws IOException {
+			PropertyCheckResult check = runCampaign(checkpoints.toString(), params -> true);
+
+			assertThat(check.countTries()).isEqualTo(100);
+			try (Stream<Path> files = Files.list(checkpoints)) {
+				assertThat(files).isEmpty();
+			}
+		}
+
+		@Example
+		void resumedExhaustiveRunContinuesWithNextCombination() throws IOException {
+			List<Integer> dying = new ArrayList<>();
+			assertThatThrownBy(() -> runExhaustiveCampaign(1, params -> {
+				if (dying.size() == 50) {
+					throw new OutOfMemoryError("JVM is dying");
+				}
+				return dying.add((int) params.get(0));
+			})).isInstanceOf(OutOfMemoryError.class);
+
+			List<Integer> resumed = new ArrayList<>();
+			PropertyCheckResult check = runExhaustiveCampaign(1, params -> resumed.add((int) params.get(0)));
+
+			assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			assertThat(check.countTries()).isEqualTo(100);
+			assertThat(check.countChecks()).isEqualTo(100);
+			assertThat(dying).containsExactlyElementsOf(IntStream.rangeClosed(1, 50).boxed().collect(Collectors.toList()));
+			assertThat(resumed).containsExactlyElementsOf(IntStream.rangeClosed(51, 100).boxed().collect(Collectors.toList()));
+			try (Stream<Path> files = Files.list(checkpoints)) {
+				assertThat(files).isEmpty();
+			}
+		}
+
+		@Example
+		void resumedParallelExhaustiveRunCoversAllCombinations() throws IOException {
+			// Value 61 is generated by the first worker which also writes the checkpoints
+			Set<Integer> dying = ConcurrentHashMap.newKeySet();
+			assertThatThrownBy(() -> runExhaustiveCampaign(3, params -> {
+				if ((int) params.get(0) == 61) {
+					throw new OutOfMemoryError("JVM is dying");
+				}
+				return dying.add((int) params.get(0));
+			})).isInstanceOf(OutOfMemoryError.class);
+
+			Set<Integer> resumed = ConcurrentHashMap.newKeySet();
+			PropertyCheckResult check = runExhaustiveCampaign(3, params -> resumed.add((int) params.get(0)));
+
+			assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			assertThat(check.countTries()).isEqualTo(100);
+			assertThat(dying).contains(1);
+			assertThat(resumed).contains(61).doesNotContain(1);
+			Set<Integer> all = new HashSet<>(dying);
+			all.addAll(resumed);
+			assertThat(all).hasSize(100);
+			try (Stream<Path> files = Files.list(checkpoints)) {
+				assertThat(files).isEmpty();
+			}
+		}
+
+		@Example
+		void resumedParallelExhaustiveRunCountsChecksOfCompletedTriesOnly() {
+			// Every tenth value is rejected so that checks and tries differ
+			assertThatThrownBy(() -> runExhaustiveCampaign(3, params -> {
+				int value = (int) params.get(0);
+				if (value == 61) {
+					throw new OutOfMemoryError("JVM is dying");
+				}
+				Assume.that(value % 10 != 0);
+				return true;
+			})).isInstanceOf(OutOfMemoryError.class);
+
+			PropertyCheckResult check = runExhaustiveCampaign(3, params -> {
+				Assume.that((int) params.get(0) % 10 != 0);
+				return true;
+			});
+
+			assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			assertThat(check.countAllTries()).isEqualTo(100);
+			assertThat(check.countAllChecks()).isEqualTo(90);
+		}
+
+		@Example
+		void checkpointOfOtherFixedSeedIsDiscarded() {
+			List<Integer> uninterrupted = new ArrayList<>();
+			runCampaign(null, "43", EdgeCasesMode.MIXIN, params -> uninterrupted.add((int) params.get(0)));
+
+			List<Integer> dying = new ArrayList<>();
+			assertThatThrownBy(() -> runCampaign(checkpoints.toString(), "42", EdgeCasesMode.MIXIN, params -> {
+				if (dying.size() == 50) {
+					throw new OutOfMemoryError("JVM is dying");
+				}
+				return dying.add((int) params.get(0));
+			})).isInstanceOf(OutOfMemoryError.class);
+
+			List<Integer> rerun = new ArrayList<>();
+			PropertyCheckResult check = runCampaign(checkpoints.toString(), "43", EdgeCasesMode.MIXIN, params -> rerun.add((int) params.get(0)));
+
+			assertThat(check.randomSeed()).isEqualTo("43");
+			assertThat(check.countTries()).isEqualTo(100);
+			assertThat(rerun).isEqualTo(uninterrupted);
+		}
+
+		@Example
+		void checkpointOfOtherEdgeCasesModeIsDiscarded() {
+			List<Integer> uninterrupted = new ArrayList<>();
+			runCampaign(null, "42", EdgeCasesMode.NONE, params -> uninterrupted.add((int) params.get(0)));
+
+			List<Integer> dying = new ArrayList<>();
+			assertThatThrownBy(() -> runCampaign(checkpoints.toString(), "42", EdgeCasesMode.MIXIN, params -> {
+				if (dying.size() == 50) {
+					throw new OutOfMemoryError("JVM is dying");
+				}
+				return dying.add((int) params.get(0));
+			})).isInstanceOf(OutOfMemoryError.class);
+
+			List<Integer> rerun = new ArrayList<>();
+			PropertyCheckResult check = runCampaign(checkpoints.toString(), "42", EdgeCasesMode.NONE, params -> rerun.add((int) params.get(0)));
+
+			assertThat(check.countTries()).isEqualTo(100);
+			assertThat(rerun).isEqualTo(uninterrupted);
+		}
+
+		private PropertyCheckResult runExhaustiveCampaign(int parallelism, CheckedFunction checkedFunction) {
+			CheckedProperty checkedProperty = createCheckedProperty(
+				"prop1", checkedFunction, getParametersForMethod("prop1"),
+				p -> Collections.singleton(Arbitraries.integers().between(1, 100).asGeneric()),
+				Optional.empty(),
+				aConfig().withGeneration(EXHAUSTIVE)
+						 .withParallelism(parallelism)
+						 .withCampaignCheckpoints(checkpoints.toString(), 0)
+						 .build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+			return checkedProperty.check(new Reporting[0]);
+		}
+
+		private PropertyCheckResult runCampaign(String checkpointsPath, CheckedFunction checkedFunction) {
+			return runCampaign(checkpointsPath, "42", EdgeCasesMode.MIXIN, checkedFunction);
+		}
+
+		private PropertyCheckResult runCampaign(
+			String checkpointsPath,
+			String seed,
+			EdgeCasesMode edgeCasesMode,
+			CheckedFunction checkedFunction
+		) {
+			PropertyConfigurationBuilder configuration =
+				aConfig().withSeed(seed).withTries(100).withGeneration(RANDOMIZED).withEdgeCases(edgeCasesMode);
+			if (checkpointsPath != null) {
+				configuration.withCampaignCheckpoints(checkpointsPath, 0);
+			}
+			CheckedProperty checkedProperty = createCheckedProperty(
+				"prop1", checkedFunction, getParametersForMethod("prop1"),
+				p -> Collections.singleton(Arbitraries.integers().between(0, 1_000_000).asGeneric()),
+				Optional.empty(),
+				configuration.build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+			return checkedProperty.check(new Reporting[0]);
+		}
 	}
 
 	private CheckedProperty createCheckedProperty(
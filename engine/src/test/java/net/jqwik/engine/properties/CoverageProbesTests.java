@@ -0,0 +1,41 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.coverage.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CoverageProbesTests {
+
+	@Example
+	void onlyProbesReachedForTheFirstTimeAreCounted() {
+		int before = CoverageProbes.countNewProbesOfCurrentThread();
+
+		Coverage.reached("first");
+		Coverage.reached("first");
+		assertThat(CoverageProbes.countNewProbesOfCurrentThread()).isEqualTo(before + 1);
+
+		Coverage.reached("second");
+		assertThat(CoverageProbes.countNewProbesOfCurrentThread()).isEqualTo(before + 2);
+	}
+
+	@Example
+	void probesReachedOutsideOfTryAreIgnored() {
+		Set<Object> previousProbes = CoverageProbes.startTry(null);
+		try {
+			int before = CoverageProbes.countNewProbesOfCurrentThread();
+			Coverage.reached("outside");
+			assertThat(CoverageProbes.countNewProbesOfCurrentThread()).isEqualTo(before);
+		} finally {
+			CoverageProbes.finishTry(previousProbes);
+		}
+		assertThat(CoverageProbes.ofCurrentProperty()).doesNotContain("outside");
+	}
+
+	@Example
+	void nullProbeIsRejected() {
+		assertThatThrownBy(() -> Coverage.reached(null)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
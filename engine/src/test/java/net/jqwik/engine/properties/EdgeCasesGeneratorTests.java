@@ -0,0 +1,54 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EdgeCasesGeneratorTests {
+
+	@Example
+	void noEdgeCasesForNoParameters() {
+		assertThat(new EdgeCasesGenerator(Collections.emptyList()).hasNext()).isFalse();
+	}
+
+	@Example
+	void noEdgeCasesIfOneParameterHasNone() {
+		List<EdgeCases<Object>> edgeCases = Arrays.asList(
+			Arbitraries.of(1, 2, 3).asGeneric().edgeCases(),
+			EdgeCases.none()
+		);
+		assertThat(new EdgeCasesGenerator(edgeCases).hasNext()).isFalse();
+	}
+
+	@Example
+	void partitionedEdgeCasesGeneratorsShareAllCombinations() {
+		List<EdgeCases<Object>> edgeCases = Arrays.asList(
+			Arbitraries.of(1, 2, 3).asGeneric().edgeCases(),
+			Arbitraries.of("a", "b").asGeneric().edgeCases()
+		);
+
+		List<List<Object>> all = values(new EdgeCasesGenerator(edgeCases, 0, 1));
+		assertThat(all).containsExactly(
+			Arrays.asList(1, "a"), Arrays.asList(1, "b"),
+			Arrays.asList(3, "a"), Arrays.asList(3, "b")
+		);
+
+		List<List<Object>> partitioned = new ArrayList<>();
+		for (int partition = 0; partition < 3; partition++) {
+			partitioned.addAll(values(new EdgeCasesGenerator(edgeCases, partition, 3)));
+		}
+		assertThat(partitioned).containsExactlyInAnyOrderElementsOf(all);
+	}
+
+	private List<List<Object>> values(EdgeCasesGenerator generator) {
+		List<List<Object>> values = new ArrayList<>();
+		while (generator.hasNext()) {
+			List<Object> sample = new ArrayList<>();
+			generator.next().forEach(shrinkable -> sample.add(shrinkable.value()));
+			values.add(sample);
+		}
+		return values;
+	}
+}
@@ -61,6 +61,88 @@ class ExhaustiveShrinkablesGeneratorTests {
 		assertThat(shrinkablesGenerator.hasNext()).isFalse();
 	}
 
+	@Example
+	void partitionsGenerateDisjointCombinationsInOrder() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+
+		ExhaustiveShrinkablesGenerator partition0 = shrinkablesGenerator.partition(0, 4);
+		assertThat(partition0).toIterable().containsExactly(
+			asList(Shrinkable.unshrinkable(1), Shrinkable.unshrinkable(4)),
+			asList(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(4))
+		);
+
+		ExhaustiveShrinkablesGenerator partition1 = shrinkablesGenerator.partition(1, 4);
+		assertThat(partition1).toIterable().containsExactly(
+			asList(Shrinkable.unshrinkable(1), Shrinkable.unshrinkable(5)),
+			asList(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(5))
+		);
+
+		ExhaustiveShrinkablesGenerator partition3 = shrinkablesGenerator.partition(3, 4);
+		assertThat(partition3).toIterable().containsExactly(
+			asList(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(5))
+		);
+	}
+
+	@Example
+	void skippedCombinationsAreNotGenerated() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+		shrinkablesGenerator.skipCombinations(4);
+
+		assertThat(shrinkablesGenerator).toIterable().containsExactly(
+			asList(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(4)),
+			asList(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(5))
+		);
+
+		ExhaustiveShrinkablesGenerator resumed = createGenerator("intFrom1to3And4to5");
+		resumed.skipCombinations(1);
+		assertThat(resumed.partition(1, 2)).toIterable().containsExactly(
+			asList(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(4)),
+			asList(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(4))
+		);
+	}
+
+	@Example
+	void parametersWithManyValuesAreNotCached() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("manyIntsAndBoolean");
+		assertThat(shrinkablesGenerator.maxCount()).isEqualTo(40_000);
+
+		List<List<Shrinkable<Object>>> all = new ArrayList<>();
+		shrinkablesGenerator.forEachRemaining(all::add);
+		assertThat(all).hasSize(40_000);
+		assertThat(all.get(0)).containsExactly(Shrinkable.unshrinkable(0), Shrinkable.unshrinkable(true));
+		assertThat(all.get(39_999)).containsExactly(Shrinkable.unshrinkable(19_999), Shrinkable.unshrinkable(false));
+
+		ExhaustiveShrinkablesGenerator partition = createGenerator("booleanAndManyInts").partition(2, 3);
+		assertThat(partition.next()).containsExactly(Shrinkable.unshrinkable(true), Shrinkable.unshrinkable(2));
+		assertThat(partition.next()).containsExactly(Shrinkable.unshrinkable(true), Shrinkable.unshrinkable(5));
+
+		List<List<Shrinkable<Object>>> rest = new ArrayList<>();
+		partition.forEachRemaining(rest::add);
+		assertThat(rest).hasSize(13_331);
+		assertThat(rest.get(rest.size() - 1)).containsExactly(Shrinkable.unshrinkable(false), Shrinkable.unshrinkable(19_998));
+	}
+
+	@Example
+	void filteredParametersAreCombinedByActualNumberOfValues() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("booleanAndEvenInts");
+		assertThat(shrinkablesGenerator.maxCount()).isEqualTo(12);
+
+		assertThat(shrinkablesGenerator).toIterable().containsExactly(
+			asList(Shrinkable.unshrinkable(true), Shrinkable.unshrinkable(0)),
+			asList(Shrinkable.unshrinkable(true), Shrinkable.unshrinkable(2)),
+			asList(Shrinkable.unshrinkable(true), Shrinkable.unshrinkable(4)),
+			asList(Shrinkable.unshrinkable(false), Shrinkable.unshrinkable(0)),
+			asList(Shrinkable.unshrinkable(false), Shrinkable.unshrinkable(2)),
+			asList(Shrinkable.unshrinkable(false), Shrinkable.unshrinkable(4))
+		);
+	}
+
+	@Example
+	void maxCountDoesNotOverflow() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("threeHugeIntRanges");
+		assertThat(shrinkablesGenerator.maxCount()).isEqualTo(Long.MAX_VALUE);
+	}
+
 	@Example
 	void noExhaustiveGenerator() {
 		Assertions.assertThatThrownBy(() -> createGenerator("doubles")).isInstanceOf(JqwikException.class);
@@ -97,5 +179,22 @@ class ExhaustiveShrinkablesGeneratorTests {
 		public void iterables(@ForAll @Size(2) Iterable<@IntRange(min = 0, max = 1) Integer> iterable) {}
 
 		public void doubles(@ForAll double aDouble) {}
+
+		public void manyIntsAndBoolean(@ForAll @IntRange(min = 0, max = 19_999) int anInt, @ForAll boolean aBoolean) {}
+
+		public void booleanAndManyInts(@ForAll boolean aBoolean, @ForAll @IntRange(min = 0, max = 19_999) int anInt) {}
+
+		public void booleanAndEvenInts(@ForAll boolean aBoolean, @ForAll("evenInts") int anInt) {}
+
+		public void threeHugeIntRanges(
+			@ForAll @IntRange(min = 0, max = Integer.MAX_VALUE - 1) int int1,
+			@ForAll @IntRange(min = 0, max = Integer.MAX_VALUE - 1) int int2,
+			@ForAll @IntRange(min = 0, max = Integer.MAX_VALUE - 1) int int3
+		) {}
+
+		@Provide
+		Arbitrary<Integer> evenInts() {
+			return Arbitraries.integers().between(0, 5).filter(anInt -> anInt % 2 == 0);
+		}
 	}
 }
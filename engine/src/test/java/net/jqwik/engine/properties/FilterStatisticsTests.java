@@ -0,0 +1,147 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FilterStatisticsTests {
+
+	@Example
+	void countTriesAndAcceptedValues(@ForAll Random random) {
+		RandomGenerator<Integer> generator = Arbitraries.integers().between(1, 100).generator(1000);
+		RandomGenerator<Integer> filtered = generator.filter(i -> i % 2 == 0);
+
+		for (int i = 0; i < 100; i++) {
+			filtered.next(random);
+		}
+
+		List<FilterStatistics> statistics = FilterStatistics.ofCurrentProperty();
+		assertThat(statistics).hasSize(1);
+		FilterStatistics filterStatistics = statistics.get(0);
+		assertThat(filterStatistics.accepted()).isEqualTo(100);
+		assertThat(filterStatistics.tries()).isGreaterThanOrEqualTo(100);
+		assertThat(filterStatistics.acceptanceRate()).isBetween(0.2, 0.8);
+		assertThat(filterStatistics.filterLabel()).isEqualTo("filter in FilterStatisticsTests");
+	}
+
+	@Example
+	void generatorsOfSameFilteredArbitraryShareStatistics(@ForAll Random random) {
+		Arbitrary<Integer> evens = Arbitraries.integers().between(0, 100).filter(i -> i % 2 == 0);
+		Arbitrary<Integer> flatMapped = Arbitraries.integers().between(10, 100).flatMap(ignore -> evens);
+		RandomGenerator<Integer> generator = flatMapped.generator(1000);
+
+		for (int i = 0; i < 20; i++) {
+			generator.next(random).value();
+		}
+
+		List<FilterStatistics> statistics = FilterStatistics.ofCurrentProperty();
+		assertThat(statistics).hasSize(1);
+		assertThat(statistics.get(0).accepted()).isEqualTo(20);
+	}
+
+	@Example
+	void samePredicateOnDifferentArbitrariesHasSeparateStatistics(@ForAll Random random) {
+		Predicate<Integer> isEven = i -> i % 2 == 0;
+		Arbitraries.integers().between(0, 10).filter(isEven).generator(1000).next(random);
+		Arbitraries.integers().between(10, 20).filter(isEven).generator(1000).next(random);
+
+		assertThat(FilterStatistics.ofCurrentProperty())
+			.extracting(FilterStatistics::filterLabel)
+			.containsExactly("filter in FilterStatisticsTests", "filter #2 in FilterStatisticsTests");
+	}
+
+	@Example
+	void lambdasCapturingDifferentValuesHaveSeparateStatistics(@ForAll Random random) {
+		RandomGenerator<Integer> generator = Arbitraries.integers().between(1, 100).generator(1000);
+		for (int divisor = 2; divisor <= 4; divisor++) {
+			int captured = divisor;
+			generator.filter(i -> i % captured == 0).next(random);
+		}
+
+		assertThat(FilterStatistics.ofCurrentProperty()).hasSize(3);
+	}
+
+	@Example
+	void filtersDefinedInSameClassAreNumbered(@ForAll Random random) {
+		Arbitraries.integers().generator(1000).filter(i -> i % 2 == 0).next(random);
+		Arbitraries.integers().generator(1000).filter(i -> i % 3 == 0).next(random);
+
+		assertThat(FilterStatistics.ofCurrentProperty())
+			.extracting(FilterStatistics::filterLabel)
+			.containsExactly("filter in FilterStatisticsTests", "filter #2 in FilterStatisticsTests");
+	}
+
+	@Example
+	void unusedFiltersAreNotReported() {
+		RandomGenerator<Integer> generator = Arbitraries.integers().generator(1000);
+		generator.filter(i -> i % 2 == 0);
+
+		assertThat(FilterStatistics.ofCurrentProperty()).isEmpty();
+	}
+
+	@Example
+	void pathologicalFilterFailsFastWithMeasuredRate(@ForAll Random random) {
+		RandomGenerator<Integer> filtered = oneIn2000Accepted();
+
+		FilterStatistics.failFast(true);
+		try {
+			assertThatThrownBy(() -> {
+				for (int i = 0; i < 20; i++) {
+					filtered.next(random);
+				}
+			}).isInstanceOf(TooManyFilterMissesException.class)
+			  .hasMessageContaining("only accepted");
+		} finally {
+			FilterStatistics.failFast(false);
+		}
+
+		FilterStatistics statistics = FilterStatistics.ofCurrentProperty().get(0);
+		assertThat(statistics.tries()).isLessThan(20L * 2000);
+	}
+
+	@Example
+	void pathologicalFilterDoesNotFailFastByDefault(@ForAll Random random) {
+		assertThat(FilterStatistics.isFailFast()).isFalse();
+		RandomGenerator<Integer> filtered = oneIn2000Accepted();
+
+		for (int i = 0; i < 20; i++) {
+			filtered.next(random);
+		}
+
+		FilterStatistics statistics = FilterStatistics.ofCurrentProperty().get(0);
+		assertThat(statistics.tries()).isEqualTo(20L * 2000);
+		assertThat(statistics.acceptanceRate()).isLessThan(FilterStatistics.MIN_ACCEPTANCE_RATE);
+	}
+
+	private RandomGenerator<Integer> oneIn2000Accepted() {
+		AtomicInteger counter = new AtomicInteger(0);
+		RandomGenerator<Integer> generator = Arbitraries.randomValue(r -> counter.incrementAndGet()).generator(1000);
+		return generator.filter(i -> i % 2000 == 0);
+	}
+
+	@Example
+	void acceptanceRateIsNotJudgedBeforeMinTries() {
+		FilterStatistics statistics = new FilterStatistics("filter");
+		statistics.record(FilterStatistics.MIN_TRIES_FOR_ACCEPTANCE_RATE - 1, false);
+		statistics.checkAcceptanceRate();
+
+		statistics.record(1, false);
+		assertThatThrownBy(statistics::checkAcceptanceRate)
+			.isInstanceOf(TooManyFilterMissesException.class)
+			.hasMessageContaining("0 of 10000")
+			.hasMessageContaining("0.0%");
+	}
+
+	@Example
+	void acceptanceRateString() {
+		FilterStatistics statistics = new FilterStatistics("filter");
+		assertThat(statistics.acceptanceRateString()).isEqualTo("100.0%");
+
+		statistics.record(20, true);
+		assertThat(statistics.acceptanceRateString()).isEqualTo("5.0%");
+	}
+}
@@ -501,6 +501,97 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ParallelTries {
+
+		@Example
+		void allTriesAreRunAndCounted() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			List<ParametersGenerator> generators = tryIndexGenerators(4);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, generators, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(forAllFunction.countCalls()).isEqualTo(100);
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+			assertThat(result.edgeCases().total()).isEqualTo(4);
+			assertThat(result.edgeCases().tried()).isEqualTo(4);
+		}
+
+		@Example
+		void failingSampleWithSmallestTryIndexIsReported() {
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < 10;
+			List<ParametersGenerator> generators = tryIndexGenerators(3);
+
+			PropertyConfiguration configuration = aConfig().withTries(1000).withShrinking(OFF).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, generators, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters()).isPresent();
+			assertThat(result.falsifiedParameters().get()).containsExactly(10);
+			assertThat(result.countTries()).isGreaterThanOrEqualTo(11);
+			assertThat(result.countTries()).isLessThan(1000);
+		}
+
+		@Example
+		void unexpectedThrowableFailsWithoutShrinking() {
+			CheckedFunction forAllFunction = args -> {
+				if (((int) args.get(0)) == 7) {
+					throw new Error();
+				}
+				return true;
+			};
+			List<ParametersGenerator> generators = tryIndexGenerators(4);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, generators, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters().get()).containsExactly(7);
+			assertThat(result.shrunkSample()).isEmpty();
+		}
+
+		// Worker i generates try indexes i, i + workers, i + 2 * workers...
+		// Each worker also reports a single edge case
+		private List<ParametersGenerator> tryIndexGenerators(int workers) {
+			List<ParametersGenerator> generators = new ArrayList<>();
+			for (int i = 0; i < workers; i++) {
+				AtomicInteger nextIndex = new AtomicInteger(i);
+				generators.add(new ParametersGenerator() {
+					@Override
+					public boolean hasNext() {
+						return true;
+					}
+
+					@Override
+					public List<Shrinkable<Object>> next(TryLifecycleContext tryLifecycleContext) {
+						int index = nextIndex.getAndAdd(workers);
+						return Collections.singletonList(Shrinkable.unshrinkable(index));
+					}
+
+					@Override
+					public int edgeCasesTotal() {
+						return workers;
+					}
+
+					@Override
+					public int edgeCasesTried() {
+						return 1;
+					}
+				});
+			}
+			return generators;
+		}
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
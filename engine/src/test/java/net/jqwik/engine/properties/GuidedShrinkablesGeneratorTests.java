@@ -0,0 +1,130 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.support.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GuidedShrinkablesGeneratorTests {
+
+	@Example
+	void withoutGrowingCoverageCorpusStaysEmpty(@ForAll Random random) {
+		GuidedShrinkablesGenerator generator = createGenerator(random, () -> 0);
+
+		for (int i = 0; i < 100; i++) {
+			generator.next();
+		}
+
+		assertThat(generator.corpusSize()).isEqualTo(0);
+	}
+
+	@Example
+	void sampleIsAddedToCorpusWhenCoverageHasGrownDuringItsTry(@ForAll Random random) {
+		AtomicInteger coverage = new AtomicInteger(0);
+		GuidedShrinkablesGenerator generator = createGenerator(random, coverage::get);
+
+		generator.next();
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(0);
+
+		coverage.incrementAndGet();
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(1);
+
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(1);
+	}
+
+	@Example
+	void mutantsDifferFromCorpusSampleInOneParameterAtMost(@ForAll Random random) {
+		AtomicInteger coverage = new AtomicInteger(0);
+		GuidedShrinkablesGenerator generator = createGenerator(random, coverage::get);
+
+		List<Object> interesting = values(generator.next());
+		coverage.incrementAndGet();
+
+		int mutants = 0;
+		for (int i = 0; i < 200; i++) {
+			List<Object> sample = values(generator.next());
+			int differences = 0;
+			for (int index = 0; index < sample.size(); index++) {
+				if (!Objects.equals(sample.get(index), interesting.get(index))) {
+					differences++;
+				}
+			}
+			if (differences <= 1) {
+				mutants++;
+			}
+		}
+		assertThat(mutants).isGreaterThanOrEqualTo(50);
+	}
+
+	@Example
+	void mutationsWithShrinkCandidatesDoNotGenerateFreshParameters(@ForAll Random random) {
+		AtomicInteger coverage = new AtomicInteger(0);
+		AtomicInteger freshParameters = new AtomicInteger(0);
+		ForAllParametersGenerator randomized = createRandomizedGenerator(random);
+		ForAllParametersGenerator counting = new ForAllParametersGenerator() {
+			@Override
+			public boolean hasNext() {
+				return randomized.hasNext();
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				freshParameters.incrementAndGet();
+				return randomized.next();
+			}
+		};
+		GuidedShrinkablesGenerator generator = new GuidedShrinkablesGenerator(counting, coverage::get, random);
+
+		generator.next();
+		coverage.incrementAndGet();
+		freshParameters.set(0);
+
+		for (int i = 0; i < 200; i++) {
+			generator.next();
+		}
+		assertThat(freshParameters.get()).isLessThan(200);
+	}
+
+	@Example
+	void corpusSizeIsLimited(@ForAll Random random) {
+		AtomicInteger coverage = new AtomicInteger(0);
+		GuidedShrinkablesGenerator generator = createGenerator(random, coverage::incrementAndGet);
+
+		for (int i = 0; i < GuidedShrinkablesGenerator.MAX_CORPUS_SIZE + 100; i++) {
+			generator.next();
+		}
+
+		assertThat(generator.corpusSize()).isEqualTo(GuidedShrinkablesGenerator.MAX_CORPUS_SIZE);
+	}
+
+	private List<Object> values(List<Shrinkable<Object>> shrinkables) {
+		return shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+	}
+
+	private GuidedShrinkablesGenerator createGenerator(Random random, IntSupplier coverage) {
+		return new GuidedShrinkablesGenerator(createRandomizedGenerator(random), coverage, random);
+	}
+
+	private RandomizedShrinkablesGenerator createRandomizedGenerator(Random random) {
+		PropertyMethodDescriptor methodDescriptor =
+			TestHelper.createPropertyMethodDescriptor(MyProperties.class, "threeParameters", "0", 1000, 5, ShrinkingMode.FULL);
+		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
+		ArbitraryResolver arbitraryResolver = parameter -> Collections.singleton(Arbitraries.integers().between(0, 1_000_000));
+		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000, EdgeCasesMode.NONE);
+	}
+
+	private static class MyProperties {
+
+		public void threeParameters(@ForAll int a, @ForAll int b, @ForAll int c) {}
+	}
+}
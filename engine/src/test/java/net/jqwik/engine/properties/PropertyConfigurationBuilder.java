@@ -24,6 +24,9 @@ class PropertyConfigurationBuilder {
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
 	private FixedSeedMode fixedSeedMode = null;
+	private Integer parallelism = null;
+	private String campaignCheckpointsPath = TestHelper.DEFAULT_CAMPAIGN_CHECKPOINTS_PATH;
+	private int campaignCheckpointSeconds = TestHelper.DEFAULT_CAMPAIGN_CHECKPOINT_SECONDS;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -75,6 +78,17 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	public PropertyConfigurationBuilder withParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withCampaignCheckpoints(String checkpointsPath, int checkpointSeconds) {
+		this.campaignCheckpointsPath = checkpointsPath;
+		this.campaignCheckpointSeconds = checkpointSeconds;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -85,12 +99,13 @@ class PropertyConfigurationBuilder {
 			edgeCasesMode,
 			null,
 			seed,
-			fixedSeedMode
+			fixedSeedMode,
+			parallelism
 		);
 
 		return new PropertyConfiguration(
 			propertyAttributes,
-			TestHelper.propertyAttributesDefaults(),
+			TestHelper.propertyAttributesDefaults(campaignCheckpointsPath, campaignCheckpointSeconds),
 			previousSeed, falsifiedSample, seed,
 			tries,
 			generationMode
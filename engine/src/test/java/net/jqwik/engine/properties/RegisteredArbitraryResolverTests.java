@@ -99,6 +99,71 @@ class RegisteredArbitraryResolverTests {
 		assertThat(arbitraries).containsOnly(highestPriorityArbitrary1, highestPriorityArbitrary2, highestPriorityArbitrary3);
 	}
 
+	@Example
+	void providerWithProvidedRawTypesIsOnlyAskedForAssignableTargetTypes() {
+		Arbitrary<?> defaultIntegerArbitrary = new DefaultIntegerArbitrary();
+		List<TypeUsage> askedFor = new ArrayList<>();
+		ArbitraryProvider provider = new ArbitraryProvider() {
+			@Override
+			public boolean canProvideFor(TypeUsage targetType) {
+				askedFor.add(targetType);
+				return targetType.isAssignableFrom(Integer.class);
+			}
+
+			@Override
+			public Set<Class<?>> providedRawTypes() {
+				return Collections.singleton(Integer.class);
+			}
+
+			@Override
+			public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+				return Collections.singleton(defaultIntegerArbitrary);
+			}
+		};
+		RegisteredArbitraryResolver resolver = new RegisteredArbitraryResolver(asList(provider));
+
+		assertThat(resolver.resolve(TypeUsage.of(String.class), noSubtypes())).isEmpty();
+		assertThat(resolver.resolve(TypeUsage.of(Number.class), noSubtypes())).containsOnly(defaultIntegerArbitrary);
+		assertThat(resolver.resolve(TypeUsage.of(int.class), noSubtypes())).containsOnly(defaultIntegerArbitrary);
+
+		assertThat(askedFor).containsExactly(TypeUsage.of(Number.class), TypeUsage.of(int.class));
+	}
+
+	@Example
+	void fittingProvidersAreMemoizedPerTargetType() {
+		Arbitrary<?> defaultIntegerArbitrary = new DefaultIntegerArbitrary();
+		List<TypeUsage> askedFor = new ArrayList<>();
+		ArbitraryProvider provider = new ArbitraryProvider() {
+			@Override
+			public boolean canProvideFor(TypeUsage targetType) {
+				askedFor.add(targetType);
+				return targetType.isOfType(Integer.class);
+			}
+
+			@Override
+			public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+				return Collections.singleton(defaultIntegerArbitrary);
+			}
+		};
+		RegisteredArbitraryResolver resolver = new RegisteredArbitraryResolver(asList(provider));
+
+		assertThat(resolver.resolve(TypeUsage.of(Integer.class), noSubtypes())).containsOnly(defaultIntegerArbitrary);
+		assertThat(resolver.resolve(TypeUsage.of(Integer.class), noSubtypes())).containsOnly(defaultIntegerArbitrary);
+
+		assertThat(askedFor).containsExactly(TypeUsage.of(Integer.class));
+	}
+
+	@Example
+	void sharedResolverIsReusedForSameProviders() {
+		List<ArbitraryProvider> providers = asList(
+			createProvider(TypeUsage.of(Integer.class), 0, new DefaultIntegerArbitrary())
+		);
+
+		RegisteredArbitraryResolver resolver = RegisteredArbitraryResolver.shared(providers);
+		assertThat(RegisteredArbitraryResolver.shared(new ArrayList<>(providers))).isSameAs(resolver);
+		assertThat(RegisteredArbitraryResolver.shared(Collections.emptyList())).isNotSameAs(resolver);
+	}
+
 	private SubtypeProvider noSubtypes() {
 		return ignore -> Collections.emptySet();
 	}
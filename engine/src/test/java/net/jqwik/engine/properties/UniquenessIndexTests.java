@@ -0,0 +1,105 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class UniquenessIndexTests {
+
+	private final FeatureExtractor<Integer> modulo10 = i -> i % 10;
+
+	@Example
+	void valuesWithSameFeatureAreNotUnique() {
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10), asList(1, 2, 3));
+
+		assertThat(index.isUnique(4)).isTrue();
+		assertThat(index.isUnique(12)).isFalse();
+	}
+
+	@Example
+	void allExtractorsAreChecked() {
+		FeatureExtractor<Integer> modulo7 = i -> i % 7;
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10, modulo7), asList(1, 2));
+
+		assertThat(index.isUnique(8)).isFalse();
+		assertThat(index.isUnique(3)).isTrue();
+	}
+
+	@Example
+	void nullFeaturesAreIndexed() {
+		UniquenessIndex<String> index = UniquenessIndex.of(asList(String::length), asList("a", null));
+
+		assertThat(index.isUnique(null)).isFalse();
+		assertThat(index.isUnique("bb")).isTrue();
+	}
+
+	@Example
+	void uniqueInOthersIgnoresReplacedValue() {
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10), asList(1, 2, 3));
+
+		assertThat(index.isUniqueInOthers(2, 12)).isTrue();
+		assertThat(index.isUniqueInOthers(2, 13)).isFalse();
+	}
+
+	@Example
+	void uniqueInOthersWithDuplicatesInIndex() {
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10), asList(1, 11, 2));
+
+		assertThat(index.isUniqueInOthers(2, 3)).isTrue();
+		assertThat(index.isUniqueInOthers(1, 21)).isFalse();
+	}
+
+	@Example
+	void uniqueWithReplacedValues() {
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10), asList(1, 2, 3, 4));
+
+		assertThat(index.areUniqueWithReplaced(asList(1, 2), asList(12, 11))).isTrue();
+		assertThat(index.areUniqueWithReplaced(asList(1, 2), asList(5, 15))).isFalse();
+		assertThat(index.areUniqueWithReplaced(asList(1, 2), asList(5, 13))).isFalse();
+	}
+
+	@Example
+	void replacingDuplicatesMakesValuesUnique() {
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo10), asList(1, 11, 2));
+
+		assertThat(index.areUniqueWithReplaced(asList(2), asList(3))).isFalse();
+		assertThat(index.areUniqueWithReplaced(asList(11), asList(3))).isTrue();
+	}
+
+	@Property
+	void sameResultAsUniquenessChecker(
+		@ForAll("lists") List<Integer> values,
+		@ForAll("indices") int first,
+		@ForAll("indices") int second,
+		@ForAll int replacement1,
+		@ForAll int replacement2
+	) {
+		Assume.that(first < values.size() && second < values.size() && first != second);
+		List<FeatureExtractor<Integer>> extractors = asList(modulo10);
+		UniquenessIndex<Integer> index = UniquenessIndex.of(extractors, values);
+
+		List<Integer> others = new ArrayList<>(values);
+		others.remove(first);
+		assertThat(index.isUniqueInOthers(values.get(first), replacement1))
+			.isEqualTo(UniquenessChecker.checkValueUniqueIn(extractors, replacement1, others));
+
+		List<Integer> replaced = new ArrayList<>(values);
+		replaced.set(first, replacement1);
+		replaced.set(second, replacement2);
+		assertThat(index.areUniqueWithReplaced(asList(values.get(first), values.get(second)), asList(replacement1, replacement2)))
+			.isEqualTo(UniquenessChecker.checkUniquenessOfValues(extractors, replaced));
+	}
+
+	@Provide
+	Arbitrary<List<Integer>> lists() {
+		return Arbitraries.integers().between(0, 30).list().ofMinSize(2).ofMaxSize(8);
+	}
+
+	@Provide
+	Arbitrary<Integer> indices() {
+		return Arbitraries.integers().between(0, 7);
+	}
+}
@@ -111,6 +111,18 @@ class DefaultTypeArbitraryTests {
 			);
 		}
 
+		@Example
+		void useFactoryMethodWithVarargs() throws NoSuchMethodException {
+			TypeArbitrary<String> typeArbitrary =
+				new DefaultTypeArbitrary<>(String.class)
+					.use(Samples.class.getDeclaredMethod("stringFromStrings", String[].class));
+
+			assertAllGenerated(
+				typeArbitrary.generator(1000, true),
+				aString -> {return aString.startsWith("strings:");}
+			);
+		}
+
 		@SuppressWarnings("unchecked")
 		@Example
 		void reusingCreatorsIsIgnored() throws NoSuchMethodException {
@@ -382,6 +394,10 @@ class DefaultTypeArbitraryTests {
 			return "a string";
 		}
 
+		private static String stringFromStrings(String... strings) {
+			return "strings:" + String.join(",", strings);
+		}
+
 		private String nonStaticMethod() {
 			return "a string";
 		}
@@ -51,6 +51,34 @@ public class RandomDistributionProperties {
 		Assertions.assertThat(value1).isEqualTo(value2);
 	}
 
+	@Property(tries = 100, edgeCases = EdgeCasesMode.MIXIN)
+	void longGeneratorsGenerateSameValuesAsBigIntegerGenerators(
+		@ForAll("longDistributions") RandomDistribution distribution,
+		@ForAll @IntRange(min = 1, max = 10000) int genSize,
+		@ForAll("distributionConfigValues") Tuple3<BigInteger, BigInteger, BigInteger> minMaxCenter,
+		@ForAll long randomSeed
+	) {
+		BigInteger min = minMaxCenter.get1();
+		BigInteger max = minMaxCenter.get2();
+		BigInteger center = minMaxCenter.get3();
+
+		RandomNumericGenerator generator = distribution.createGenerator(genSize, min, max, center);
+		LongNumericGenerator longGenerator = ((LongRandomDistribution) distribution).createLongGenerator(
+			genSize, min.longValueExact(), max.longValueExact(), center.longValueExact()
+		);
+
+		Random random = new Random(randomSeed);
+		Random sameRandom = new Random(randomSeed);
+		for (int i = 0; i < 50; i++) {
+			Assertions.assertThat(longGenerator.next(sameRandom)).isEqualTo(generator.next(random).longValueExact());
+		}
+	}
+
+	@Provide
+	Arbitrary<RandomDistribution> longDistributions() {
+		return Arbitraries.of(RandomDistribution.uniform(), RandomDistribution.biased());
+	}
+
 	@Provide
 	Arbitrary<RandomDistribution> distributions() {
 		return Arbitraries.oneOf(
@@ -0,0 +1,135 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+
+@Label("CompactShrinkableList")
+class CompactShrinkableListTests {
+
+	@Example
+	void creation() {
+		Shrinkable<List<Integer>> shrinkable = createCompactList(repeat(asList(0, 1, 2, 3), 500), 0);
+		assertThat(shrinkable.value()).isEqualTo(repeat(asList(0, 1, 2, 3), 500));
+		// 500 times (0 + 1 + 2 + 3)
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(2000, 3000));
+	}
+
+	@Example
+	void shrinkingCutsAreRegularShrinkableListsWhenShortEnough() {
+		Shrinkable<List<Integer>> shrinkable = createCompactList(repeat(asList(1), 1500), 0);
+
+		List<Shrinkable<List<Integer>>> candidates = shrinkable.shrink().collect(Collectors.toList());
+		assertThat(candidates).anyMatch(candidate -> candidate instanceof ShrinkableList);
+		assertThat(candidates).anyMatch(candidate -> candidate instanceof CompactShrinkableList);
+		assertThat(candidates).allMatch(candidate -> candidate.distance().compareTo(shrinkable.distance()) < 0);
+	}
+
+	@Example
+	void shrinkDownToMinSize() {
+		Shrinkable<List<Integer>> shrinkable = createCompactList(repeat(asList(5, 6, 7), 2000), 3);
+		List<Integer> shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+		assertThat(shrunkValue).containsExactly(0, 0, 0);
+	}
+
+	@Example
+	void shrinkElementsOfLongList() {
+		Shrinkable<List<Integer>> shrinkable = createCompactList(repeat(asList(3), 2000), 0);
+		TestingFalsifier<List<Integer>> falsifier = aList -> aList.size() < 1500;
+		List<Integer> shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).hasSize(1500);
+		assertThat(shrunkValue.subList(0, 5)).containsOnly(0);
+	}
+
+	@Example
+	void growingElements() {
+		Shrinkable<List<Integer>> shrinkable = createCompactList(repeat(asList(1), 2000), 0);
+
+		Optional<List<Integer>> firstGrown = shrinkable.grow().map(Shrinkable::value).findFirst();
+		assertThat(firstGrown).isPresent();
+		assertThat(firstGrown.get().get(0)).isEqualTo(2);
+		assertThat(firstGrown.get().subList(1, 2000)).containsOnly(1);
+	}
+
+	@Example
+	void growingByElementsRemovedFromOtherCompactList() {
+		Shrinkable<List<Integer>> shrinkable = createCompactList(repeat(asList(0), 2000), 0, 3000);
+		Shrinkable<List<Integer>> before = createCompactList(concat(repeat(asList(0), 1500), asList(42)), 0);
+		Shrinkable<List<Integer>> after = createCompactList(repeat(asList(0), 1500), 0);
+
+		Optional<Shrinkable<List<Integer>>> grown = shrinkable.grow(before, after);
+		assertThat(grown).isPresent();
+		assertThat(grown.get().value()).isEqualTo(concat(asList(42), repeat(asList(0), 2000)));
+	}
+
+	@Example
+	void equalityIsBasedOnValue() {
+		Shrinkable<List<Integer>> shrinkable = createCompactList(repeat(asList(1), 2000), 0);
+		assertThat(shrinkable).isEqualTo(createCompactList(repeat(asList(1), 2000), 0));
+		assertThat(shrinkable).isNotEqualTo(createCompactList(repeat(asList(2), 2000), 0));
+	}
+
+	@Property(tries = 10)
+	void longIntegralListsAreGeneratedInCompactForm(@ForAll Random random) {
+		assertThat(Arbitraries.integers().list().ofSize(5000).generator(1000).next(random))
+			.isInstanceOf(CompactShrinkableList.class);
+		assertThat(Arbitraries.longs().list().ofSize(5000).generator(1000).next(random))
+			.isInstanceOf(CompactShrinkableList.class);
+		assertThat(Arbitraries.bytes().list().ofSize(5000).generator(1000).next(random))
+			.isInstanceOf(CompactShrinkableList.class);
+
+		Shrinkable<List<Integer>> shrinkable = Arbitraries.integers().between(0, 10).list().ofSize(5000).generator(1000, true).next(random);
+		assertThat(shrinkable.value()).hasSize(5000);
+		assertThat(shrinkable.value()).allMatch(anInt -> anInt >= 0 && anInt <= 10);
+	}
+
+	@Property(tries = 10)
+	void otherListsAreNotGeneratedInCompactForm(@ForAll Random random) {
+		assertThat(Arbitraries.integers().list().ofSize(5000).uniqueElements().generator(1000).next(random))
+			.isInstanceOf(ShrinkableList.class);
+		assertThat(Arbitraries.integers().map(i -> i).list().ofSize(5000).generator(1000).next(random))
+			.isInstanceOf(ShrinkableList.class);
+		assertThat(Arbitraries.strings().list().ofSize(5000).generator(1000).next(random))
+			.isInstanceOf(ShrinkableList.class);
+		assertThat(Arbitraries.integers().list().ofMaxSize(1000).generator(1000).next(random))
+			.isInstanceOf(ShrinkableList.class);
+	}
+
+	private static Shrinkable<List<Integer>> createCompactList(List<Integer> values, int minSize) {
+		return createCompactList(values, minSize, values.size());
+	}
+
+	private static Shrinkable<List<Integer>> createCompactList(List<Integer> values, int minSize, int maxSize) {
+		Map<Integer, Shrinkable<Integer>> shrinkableElements = new HashMap<>();
+		for (Integer value : values) {
+			shrinkableElements.computeIfAbsent(value, OneStepShrinkable::new);
+		}
+		return new CompactShrinkableList<>(values.toArray(), shrinkableElements, minSize, maxSize);
+	}
+
+	private static List<Integer> repeat(List<Integer> values, int times) {
+		List<Integer> repeated = new ArrayList<>();
+		for (int i = 0; i < times; i++) {
+			repeated.addAll(values);
+		}
+		return repeated;
+	}
+
+	private static List<Integer> asList(Integer... values) {
+		return Arrays.asList(values);
+	}
+
+	private static List<Integer> concat(List<Integer> first, List<Integer> second) {
+		List<Integer> concatenated = new ArrayList<>(first);
+		concatenated.addAll(second);
+		return concatenated;
+	}
+}
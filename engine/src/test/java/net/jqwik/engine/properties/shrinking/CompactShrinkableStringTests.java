@@ -0,0 +1,115 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+
+@Label("CompactShrinkableString")
+class CompactShrinkableStringTests {
+
+	@Example
+	void creation() {
+		Shrinkable<String> shrinkable = createCompactString(repeat("abcd", 500), 0);
+		assertThat(shrinkable.value()).isEqualTo(repeat("abcd", 500));
+		// 500 times (0 + 1 + 2 + 3)
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(2000, 3000));
+	}
+
+	@Example
+	void shrinkingCutsAreRegularShrinkableStringsWhenShortEnough() {
+		Shrinkable<String> shrinkable = createCompactString(repeat("b", 1500), 0);
+
+		List<Shrinkable<String>> candidates = shrinkable.shrink().collect(Collectors.toList());
+		assertThat(candidates).anyMatch(candidate -> candidate instanceof ShrinkableString);
+		assertThat(candidates).anyMatch(candidate -> candidate instanceof CompactShrinkableString);
+		assertThat(candidates).allMatch(candidate -> candidate.distance().compareTo(shrinkable.distance()) < 0);
+	}
+
+	@Example
+	void shrinkDownToMinSize() {
+		Shrinkable<String> shrinkable = createCompactString(repeat("xyz", 2000), 3);
+		String shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+		assertThat(shrunkValue).isEqualTo("aaa");
+	}
+
+	@Example
+	void shrinkCharactersOfLongString() {
+		Shrinkable<String> shrinkable = createCompactString(repeat("c", 2000), 0);
+		TestingFalsifier<String> falsifier = aString -> aString.length() < 1500;
+		String shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).hasSize(1500);
+		assertThat(shrunkValue).startsWith("aaaaa");
+	}
+
+	@Example
+	void equalityIsBasedOnValue() {
+		Shrinkable<String> shrinkable = createCompactString(repeat("a", 2000), 0);
+		assertThat(shrinkable).isEqualTo(createCompactString(repeat("a", 2000), 0));
+		assertThat(shrinkable).isNotEqualTo(createCompactString(repeat("b", 2000), 0));
+	}
+
+	@Example
+	void growingCharacters() {
+		Shrinkable<String> shrinkable = createCompactString(repeat("b", 2000), 0);
+
+		List<String> grownValues = shrinkable.grow().map(Shrinkable::value).limit(2).collect(Collectors.toList());
+		assertThat(grownValues).containsExactly(
+			"c" + repeat("b", 1999),
+			"b" + "c" + repeat("b", 1998)
+		);
+	}
+
+	@Example
+	void growingByElementsRemovedFromOtherCompactString() {
+		Shrinkable<String> shrinkable = createCompactString(repeat("a", 2000), 0, 3000);
+		Shrinkable<String> before = createCompactString(repeat("a", 1500) + "x", 0);
+		Shrinkable<String> after = createCompactString(repeat("a", 1500), 0);
+
+		Optional<Shrinkable<String>> grown = shrinkable.grow(before, after);
+		assertThat(grown).isPresent();
+		assertThat(grown.get().value()).isEqualTo("x" + repeat("a", 2000));
+	}
+
+	@Property(tries = 10)
+	void longStringsAreGeneratedInCompactForm(@ForAll Random random) {
+		RandomGenerator<String> generator = Arbitraries.strings().alpha().ofLength(100_000).generator(1000);
+		Shrinkable<String> shrinkable = generator.next(random);
+
+		assertThat(shrinkable).isInstanceOf(CompactShrinkableString.class);
+		assertThat(shrinkable.value()).hasSize(100_000);
+	}
+
+	@Property(tries = 10)
+	void shortStringsAreNotGeneratedInCompactForm(@ForAll Random random) {
+		RandomGenerator<String> generator = Arbitraries.strings().alpha().ofMaxLength(2000).generator(1000);
+		Shrinkable<String> shrinkable = generator.next(random);
+
+		if (shrinkable.value().length() <= CompactShrinkableString.COMPACT_THRESHOLD) {
+			assertThat(shrinkable).isInstanceOf(ShrinkableString.class);
+		}
+	}
+
+	private static Shrinkable<String> createCompactString(String aString, int minSize) {
+		return createCompactString(aString, minSize, aString.length());
+	}
+
+	private static Shrinkable<String> createCompactString(String aString, int minSize, int maxSize) {
+		Map<Character, Shrinkable<Character>> shrinkableChars = new HashMap<>();
+		for (char aChar : aString.toCharArray()) {
+			shrinkableChars.computeIfAbsent(aChar, c -> new OneStepShrinkable(c, 'a', 'z').map(anInt -> (char) (int) anInt));
+		}
+		return new CompactShrinkableString(aString.toCharArray(), shrinkableChars, minSize, maxSize);
+	}
+
+	private static String repeat(String aString, int times) {
+		return String.join("", Collections.nCopies(times, aString));
+	}
+}
@@ -0,0 +1,117 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FalsificationCacheTests {
+
+	@Example
+	void equalSamplesAreOnlyFalsifiedOnce() {
+		FalsificationCache cache = new FalsificationCache(100);
+		AtomicInteger executions = new AtomicInteger(0);
+
+		for (int i = 0; i < 3; i++) {
+			TryExecutionResult result = cache.computeIfAbsent(key(1, "hello"), params -> {
+				executions.incrementAndGet();
+				return TryExecutionResult.falsified(null);
+			});
+			assertThat(result.isFalsified()).isTrue();
+		}
+
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(cache.statistics().hits()).isEqualTo(2);
+		assertThat(cache.statistics().misses()).isEqualTo(1);
+		assertThat(cache.statistics().hitRate()).isCloseTo(2.0 / 3, offset(0.001));
+	}
+
+	@Example
+	void samplesWithSameFingerprintAreDistinguishedByEquality() {
+		FalsificationCache cache = new FalsificationCache(100);
+		// Values nested deeper than the fingerprint's maximum depth do not contribute to it
+		List<Object> deeplyNested1 = asList(asList(asList(asList(1))));
+		List<Object> deeplyNested2 = asList(asList(asList(asList(2))));
+		assertThat(key(deeplyNested1).hashCode()).isEqualTo(key(deeplyNested2).hashCode());
+
+		cache.putIfAbsent(key(deeplyNested1), TryExecutionResult.falsified(null));
+
+		assertThat(cache.get(key(deeplyNested2))).isNull();
+		assertThat(cache.get(key(deeplyNested1))).isNotNull();
+	}
+
+	@Example
+	void samplesOfSameSizeHaveDifferentFingerprints() {
+		List<Integer> list = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+		Set<Integer> fingerprints = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			List<Integer> withoutElement = new ArrayList<>(list);
+			withoutElement.remove(i);
+			fingerprints.add(key(withoutElement, withoutElement.toString()).hashCode());
+		}
+
+		assertThat(fingerprints).hasSizeGreaterThan(990);
+	}
+
+	@Example
+	void leastRecentlyUsedEntriesAreEvicted() {
+		FalsificationCache cache = new FalsificationCache(2);
+		cache.putIfAbsent(key(1), TryExecutionResult.satisfied());
+		cache.putIfAbsent(key(2), TryExecutionResult.satisfied());
+		cache.get(key(1));
+		cache.putIfAbsent(key(3), TryExecutionResult.satisfied());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.statistics().evictions()).isEqualTo(1);
+		assertThat(cache.get(key(2))).isNull();
+		assertThat(cache.get(key(1))).isNotNull();
+		assertThat(cache.get(key(3))).isNotNull();
+	}
+
+	@Example
+	void largeSamplesWeighMore() {
+		FalsificationCache cache = new FalsificationCache(9);
+		cache.putIfAbsent(key(1), TryExecutionResult.satisfied());
+		cache.putIfAbsent(key(2), TryExecutionResult.satisfied());
+		cache.putIfAbsent(key(asList(1, 2, 3, 4, 5, 6, 7)), TryExecutionResult.satisfied());
+
+		// weight of list sample is 8 which leaves room for one single value sample
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(key(1))).isNull();
+
+		cache.putIfAbsent(key(IntStream.range(0, 10).boxed().collect(Collectors.toList())), TryExecutionResult.satisfied());
+		assertThat(cache.size()).as("sample heavier than max size is not cached").isEqualTo(2);
+	}
+
+	@Example
+	void nestedElementsWeighAsWell() {
+		FalsificationCache cache = new FalsificationCache(9);
+		cache.putIfAbsent(key(asList(asList("abc", "de"), asList("f"))), TryExecutionResult.satisfied());
+
+		// weight is 1 + 2 lists + 3 strings + 6 characters
+		assertThat(cache.size()).as("sample heavier than max size is not cached").isEqualTo(0);
+	}
+
+	@Example
+	void sizeZeroSwitchesCachingOff() {
+		FalsificationCache cache = new FalsificationCache(0);
+		cache.putIfAbsent(key(1), TryExecutionResult.satisfied());
+
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.get(key(1))).isNull();
+	}
+
+	@Example
+	void negativeSizeIsRejected() {
+		assertThatThrownBy(() -> new FalsificationCache(-1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private FalsificationCache.Key key(Object... values) {
+		return FalsificationCache.key(asList(values));
+	}
+}
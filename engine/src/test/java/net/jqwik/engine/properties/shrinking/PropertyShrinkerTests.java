@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -282,6 +283,102 @@ class PropertyShrinkerTests {
 		}
 	}
 
+	@Group
+	class ParallelShrinking {
+
+		@Example
+		void shrinksToSameSampleAsSequentialShrinking() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10, 10);
+			FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer i1, Integer i2) -> i1 + i2 < 7);
+
+			ShrunkFalsifiedSample sequential = createShrinker(originalSample, ShrinkingMode.FULL).shrink(falsifier);
+			ShrunkFalsifiedSample parallel = createShrinker(originalSample, ShrinkingMode.FULL, 10, 4).shrink(falsifier);
+
+			assertThat(parallel.parameters()).isEqualTo(sequential.parameters());
+			assertThat(parallel.countShrinkingSteps()).isEqualTo(sequential.countShrinkingSteps());
+		}
+
+		@Example
+		void countsSameShrinkingAttemptsAsSequentialShrinking() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10, 10);
+			FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer i1, Integer i2) -> i1 + i2 < 7);
+
+			AtomicInteger sequentialAttempts = new AtomicInteger();
+			createShrinker(originalSample, ShrinkingMode.FULL)
+				.shrink(falsifier, ignore -> {}, ignore -> sequentialAttempts.incrementAndGet());
+			AtomicInteger parallelAttempts = new AtomicInteger();
+			createShrinker(originalSample, ShrinkingMode.FULL, 10, 4)
+				.shrink(falsifier, ignore -> {}, ignore -> parallelAttempts.incrementAndGet());
+
+			assertThat(parallelAttempts.get()).isEqualTo(sequentialAttempts.get());
+		}
+
+		@Example
+		void candidatesAreEvaluatedOnShrinkingThreads() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(5, 10);
+			Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 2);
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer integer1, Integer integer2) -> {
+				threadNames.add(Thread.currentThread().getName());
+				if (integer1 == 0) return true;
+				return integer2 <= 1;
+			});
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(1, 2));
+			assertThat(threadNames).isNotEmpty();
+			assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-shrinking-"));
+		}
+
+		@Example
+		void errorsInFalsifierArePropagated() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(5);
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 2);
+			Falsifier<List<Object>> falsifier = ignore -> {
+				throw new IllegalStateException("falsifier broken");
+			};
+
+			assertThatThrownBy(() -> shrinker.shrink(falsifier)).isInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	@Group
+	class FalsificationCaching {
+
+		@Example
+		void cacheStatisticsAreReportedWithShrinkingResult() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(5, 10);
+			FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer i1, Integer i2) -> i1 + i2 < 7);
+
+			ShrunkFalsifiedSample sample = createShrinker(originalSample, ShrinkingMode.FULL).shrink(falsifier);
+
+			FalsificationCache.Statistics statistics = ((ShrunkFalsifiedSampleImpl) sample).falsificationCacheStatistics();
+			assertThat(statistics.misses()).isGreaterThan(0);
+			assertThat(statistics.hits()).isGreaterThan(0);
+		}
+
+		@Example
+		void switchedOffCacheShrinksToSameSample() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10, 10);
+			FalsifiedSample originalSample = toFalsifiedSample(shrinkables, null);
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer i1, Integer i2) -> i1 + i2 < 7);
+
+			ShrunkFalsifiedSample cached = createShrinker(originalSample, ShrinkingMode.FULL).shrink(falsifier);
+			PropertyShrinker uncachedShrinker = new PropertyShrinker(
+				originalSample, ShrinkingMode.FULL, 10, 1, 0, falsifiedSampleReporter, null
+			);
+			ShrunkFalsifiedSample uncached = uncachedShrinker.shrink(falsifier);
+
+			assertThat(uncached.parameters()).isEqualTo(cached.parameters());
+			assertThat(((ShrunkFalsifiedSampleImpl) uncached).falsificationCacheStatistics().hits()).isEqualTo(0);
+		}
+	}
+
 	@Group
 	class FalsifiedSampleReporting {
 
@@ -494,6 +591,22 @@ class PropertyShrinkerTests {
 		);
 	}
 
+	private PropertyShrinker createShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int shrinkingParallelism
+	) {
+		return new PropertyShrinker(
+			originalSample,
+			shrinkingMode,
+			boundedShrinkingSeconds,
+			shrinkingParallelism,
+			falsifiedSampleReporter,
+			null
+		);
+	}
+
 	private FalsifiedSample toFalsifiedSample(List<Shrinkable<Object>> shrinkables, Throwable originalError) {
 		List<Object> parameters = shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
 		return new FalsifiedSampleImpl(parameters, shrinkables, Optional.ofNullable(originalError));
@@ -0,0 +1,59 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingFalsifier.*;
+
+@Label("ShrinkableByteArray")
+class ShrinkableByteArrayTests {
+
+	@Example
+	void creation() {
+		Shrinkable<byte[]> shrinkable = new ShrinkableByteArray(new byte[]{1, -2, 3}, 0);
+		assertThat(shrinkable.value()).containsExactly(1, -2, 3);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(3, 6));
+	}
+
+	@Example
+	void allCandidatesAreSmaller() {
+		Shrinkable<byte[]> shrinkable = new ShrinkableByteArray(new byte[]{1, -2, 3, 0, 127}, 0);
+
+		List<Shrinkable<byte[]>> candidates = shrinkable.shrink().collect(Collectors.toList());
+		assertThat(candidates).isNotEmpty();
+		assertThat(candidates).allMatch(candidate -> candidate.distance().compareTo(shrinkable.distance()) < 0);
+	}
+
+	@Example
+	void shrinkDownToMinSize() {
+		Shrinkable<byte[]> shrinkable = new ShrinkableByteArray(new byte[]{1, 2, 3, 4, 5}, 2);
+		byte[] shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+		assertThat(shrunkValue).containsExactly(0, 0);
+	}
+
+	@Example
+	void shrinkLargeArrayQuickly() {
+		byte[] bytes = new byte[1_000_000];
+		new Random(42).nextBytes(bytes);
+		Shrinkable<byte[]> shrinkable = new ShrinkableByteArray(bytes, 0);
+
+		TestingFalsifier<byte[]> falsifier = aValue -> aValue.length < 1000;
+		byte[] shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).hasSize(1000);
+		assertThat(shrunkValue).containsOnly(0);
+	}
+
+	@Example
+	void equalityIsBasedOnValue() {
+		byte[] bytes = {1, 2, 3};
+		assertThat(new ShrinkableByteArray(bytes, 0)).isEqualTo(new ShrinkableByteArray(new byte[]{1, 2, 3}, 0));
+		assertThat(new ShrinkableByteArray(bytes, 0).hashCode()).isEqualTo(new ShrinkableByteArray(new byte[]{1, 2, 3}, 0).hashCode());
+		assertThat(new ShrinkableByteArray(bytes, 0)).isNotEqualTo(new ShrinkableByteArray(new byte[]{1, 2}, 0));
+	}
+}
@@ -208,6 +208,24 @@ class ShrinkableListTests {
 			List<Integer> shrunkValue = shrink(shrinkable, falsifier(List::isEmpty), null);
 			assertThat(shrunkValue).hasSize(1);
 		}
+
+		@Example
+		void candidatesOfVeryLongListReplaceSingleElements() {
+			List<Shrinkable<Integer>> elementShrinkables =
+					IntStream.range(0, 100_000)
+							 .mapToObj(OneStepShrinkable::new)
+							 .collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(elementShrinkables, 100_000, 100_000);
+			List<Integer> original = shrinkable.value();
+
+			List<List<Integer>> candidates = shrinkable.shrink().limit(100).map(Shrinkable::value).collect(Collectors.toList());
+
+			assertThat(candidates).hasSize(100);
+			assertThat(candidates).allMatch(candidate -> {
+				long differences = IntStream.range(0, original.size()).filter(i -> !candidate.get(i).equals(original.get(i))).count();
+				return candidate.size() == original.size() && differences == 1;
+			});
+		}
 	}
 
 	@Group
@@ -0,0 +1,114 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Group
+@Label("ShrinkableLong")
+class ShrinkableLongTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(25, -100, 100, 0);
+		assertThat(shrinkable.value()).isEqualTo(25L);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(() -> new ShrinkableLong(25, 50, 100, 50)).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void cannotCreateForRangeLargerThanLong() {
+		assertThat(ShrinkableLong.isApplicable(Long.MIN_VALUE, -1)).isTrue();
+		assertThat(ShrinkableLong.isApplicable(Long.MIN_VALUE, 0)).isFalse();
+		assertThatThrownBy(() -> new ShrinkableLong(0, Long.MIN_VALUE, Long.MAX_VALUE, 0)).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceWithExplicitShrinkingTarget() {
+		assertThat(new ShrinkableLong(25, -100, 100, 100).distance()).isEqualTo(ShrinkingDistance.of(75));
+		assertThat(new ShrinkableLong(-25, -100, 100, 100).distance()).isEqualTo(ShrinkingDistance.of(125));
+	}
+
+	@Example
+	void shrinkToTarget() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(Long.MAX_VALUE, 0, Long.MAX_VALUE, 0);
+		Long shrunkValue = shrink(shrinkable, (TestingFalsifier<Long>) aLong -> aLong < 1000, null);
+		assertThat(shrunkValue).isEqualTo(1000L);
+	}
+
+	@Example
+	void shrinkNegativeToPositive() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(-1000, -10000, 10000, 0);
+		Long shrunkValue = shrink(shrinkable, (TestingFalsifier<Long>) aLong -> Math.abs(aLong) < 100, null);
+		assertThat(shrunkValue).isEqualTo(100L);
+	}
+
+	@Property
+	void shrinksLikeShrinkableBigInteger(@ForAll("valueInRange") Tuple.Tuple4<Long, Long, Long, Long> valueRangeTarget) {
+		long value = valueRangeTarget.get1();
+		long min = valueRangeTarget.get2();
+		long max = valueRangeTarget.get3();
+		long target = valueRangeTarget.get4();
+
+		Shrinkable<Long> shrinkable = new ShrinkableLong(value, min, max, target);
+		Shrinkable<BigInteger> bigShrinkable = new ShrinkableBigInteger(
+			BigInteger.valueOf(value), Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max)), BigInteger.valueOf(target)
+		);
+
+		assertThat(shrinkable.distance()).isEqualTo(bigShrinkable.distance());
+		assertThat(values(shrinkable.shrink())).isEqualTo(values(bigShrinkable.shrink()));
+		assertThat(values(shrinkable.grow())).isEqualTo(values(bigShrinkable.grow()));
+	}
+
+	@Property
+	void growsLikeShrinkableBigInteger(
+		@ForAll("valueInRange") Tuple.Tuple4<Long, Long, Long, Long> valueRangeTarget,
+		@ForAll int before,
+		@ForAll int after
+	) {
+		long value = valueRangeTarget.get1();
+		long min = valueRangeTarget.get2();
+		long max = valueRangeTarget.get3();
+		long target = valueRangeTarget.get4();
+
+		Shrinkable<Long> shrinkable = new ShrinkableLong(value, min, max, target);
+		Shrinkable<BigInteger> bigShrinkable = new ShrinkableBigInteger(
+			BigInteger.valueOf(value), Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max)), BigInteger.valueOf(target)
+		);
+
+		Optional<Long> grown = shrinkable.grow(Shrinkable.unshrinkable(before), Shrinkable.unshrinkable(after)).map(Shrinkable::value);
+		Optional<Long> bigGrown = bigShrinkable.grow(Shrinkable.unshrinkable(before), Shrinkable.unshrinkable(after))
+											   .map(s -> s.value().longValueExact());
+		assertThat(grown).isEqualTo(bigGrown);
+	}
+
+	@Provide
+	Arbitrary<Tuple.Tuple4<Long, Long, Long, Long>> valueInRange() {
+		return Arbitraries.longs().between(Long.MIN_VALUE / 2, Long.MAX_VALUE / 2).flatMap(
+			// max - min must not overflow
+			min -> Arbitraries.longs().between(min, min <= 0 ? min + Long.MAX_VALUE : Long.MAX_VALUE).flatMap(
+				max -> Combinators.combine(
+					Arbitraries.longs().between(min, max),
+					Arbitraries.longs().between(min, max)
+				).as((value, target) -> Tuple.of(value, min, max, target))
+			)
+		);
+	}
+
+	private List<Long> values(Stream<? extends Shrinkable<? extends Number>> shrinkables) {
+		return shrinkables.map(s -> s.value().longValue()).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,99 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.EdgeCasesMode.*;
+import static net.jqwik.api.GenerationMode.*;
+
+class CampaignCheckpointsTests {
+
+	private final Path directory;
+
+	CampaignCheckpointsTests() throws IOException {
+		directory = Files.createTempDirectory("jqwik-checkpoints");
+	}
+
+	@AfterExample
+	void deleteDirectory() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.collect(Collectors.toList())) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	@Example
+	void savedCheckpointCanBeLoaded() {
+		Map<String, Map<List<Object>, Integer>> statistics = new HashMap<>();
+		statistics.put("label", Collections.singletonMap(asList("even", 2), 42));
+		CampaignCheckpoint checkpoint = new CampaignCheckpoint("[property:1]", "4242", RANDOMIZED, MIXIN, 1000, 17L, 500, 490, 12, statistics);
+
+		new CampaignCheckpoints(directory).save(checkpoint);
+
+		CampaignCheckpoint loaded = new CampaignCheckpoints(directory).load("[property:1]").get();
+		assertThat(loaded.propertyId()).isEqualTo("[property:1]");
+		assertThat(loaded.seed()).isEqualTo("4242");
+		assertThat(loaded.generationMode()).isEqualTo(RANDOMIZED);
+		assertThat(loaded.edgeCasesMode()).isEqualTo(MIXIN);
+		assertThat(loaded.maxTries()).isEqualTo(1000);
+		assertThat(loaded.randomState()).isEqualTo(17L);
+		assertThat(loaded.countTries()).isEqualTo(500);
+		assertThat(loaded.countChecks()).isEqualTo(490);
+		assertThat(loaded.edgeCasesTried()).isEqualTo(12);
+		assertThat(loaded.statisticsCounts()).isEqualTo(statistics);
+	}
+
+	@Example
+	void laterCheckpointReplacesEarlierOne() {
+		CampaignCheckpoints checkpoints = new CampaignCheckpoints(directory);
+		checkpoints.save(new CampaignCheckpoint("[property:1]", "4242", RANDOMIZED, MIXIN, 1000, 17L, 100, 100, 0, Collections.emptyMap()));
+		checkpoints.save(new CampaignCheckpoint("[property:1]", "4242", RANDOMIZED, MIXIN, 1000, 18L, 200, 200, 0, Collections.emptyMap()));
+
+		assertThat(checkpoints.load("[property:1]").get().countTries()).isEqualTo(200);
+		assertThat(checkpoints.load("[property:2]")).isNotPresent();
+	}
+
+	@Example
+	void statisticsThatCannotBeSerializedAreLeftOut() {
+		Map<String, Map<List<Object>, Integer>> statistics = new HashMap<>();
+		statistics.put("label", Collections.singletonMap(asList(new Object()), 1));
+		CampaignCheckpoints checkpoints = new CampaignCheckpoints(directory);
+		checkpoints.save(new CampaignCheckpoint("[property:1]", "4242", RANDOMIZED, MIXIN, 1000, 17L, 100, 100, 0, statistics));
+
+		CampaignCheckpoint loaded = checkpoints.load("[property:1]").get();
+		assertThat(loaded.countTries()).isEqualTo(100);
+		assertThat(loaded.statisticsCounts()).isEmpty();
+	}
+
+	@Example
+	void deletedCheckpointIsGone() {
+		CampaignCheckpoints checkpoints = new CampaignCheckpoints(directory);
+		checkpoints.save(new CampaignCheckpoint("[property:1]", "4242", RANDOMIZED, MIXIN, 1000, 17L, 100, 100, 0, Collections.emptyMap()));
+
+		checkpoints.delete("[property:1]");
+
+		assertThat(checkpoints.load("[property:1]")).isNotPresent();
+	}
+
+	@Example
+	void corruptCheckpointIsIgnored() throws IOException {
+		CampaignCheckpoints checkpoints = new CampaignCheckpoints(directory);
+		checkpoints.save(new CampaignCheckpoint("[property:1]", "4242", RANDOMIZED, MIXIN, 1000, 17L, 100, 100, 0, Collections.emptyMap()));
+		try (Stream<Path> files = Files.list(directory)) {
+			Path checkpointFile = files.findFirst().get();
+			Files.write(checkpointFile, new byte[]{1, 2, 3});
+		}
+
+		assertThat(checkpoints.load("[property:1]")).isNotPresent();
+	}
+}
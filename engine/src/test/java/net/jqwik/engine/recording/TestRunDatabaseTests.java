@@ -0,0 +1,167 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class TestRunDatabaseTests {
+
+	private final Path databasePath;
+
+	TestRunDatabaseTests() throws IOException {
+		databasePath = Files.createTempFile("jqwik-database", ".tmp");
+		Files.delete(databasePath);
+	}
+
+	@AfterExample
+	void deleteDatabase() throws IOException {
+		Files.deleteIfExists(databasePath);
+	}
+
+	@Example
+	void recordedRunsCanBeReadByNextDatabase() {
+		record(
+			new TestRun(uniqueId("failing"), Status.FAILED, "4242", asList(1, "two")),
+			new TestRun(uniqueId("successful"), Status.SUCCESSFUL, "4343", null)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		TestRun failing = previousRun.byUniqueId(uniqueId("failing")).get();
+		assertThat(failing.getStatus()).isEqualTo(Status.FAILED);
+		assertThat(failing.randomSeed()).hasValue("4242");
+		assertThat(failing.falsifiedSample()).hasValue(asList(1, "two"));
+
+		TestRun successful = previousRun.byUniqueId(uniqueId("successful")).get();
+		assertThat(successful.getStatus()).isEqualTo(Status.SUCCESSFUL);
+		assertThat(successful.falsifiedSample()).isNotPresent();
+
+		assertThat(previousRun.byUniqueId(uniqueId("unknown"))).isNotPresent();
+	}
+
+	@Example
+	void laterRunsReplaceEarlierOnes() {
+		record(new TestRun(uniqueId("aProperty"), Status.FAILED, "1", asList(1)));
+		record(new TestRun(uniqueId("aProperty"), Status.SUCCESSFUL, "2", null));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		TestRun testRun = previousRun.byUniqueId(uniqueId("aProperty")).get();
+		assertThat(testRun.getStatus()).isEqualTo(Status.SUCCESSFUL);
+		assertThat(testRun.randomSeed()).hasValue("2");
+		assertThat(previousRun.allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void runsOfPropertiesNotExecutedAgainAreKept() {
+		record(new TestRun(uniqueId("first"), Status.FAILED, "1", null));
+		record(new TestRun(uniqueId("second"), Status.FAILED, "2", null));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		Set<UniqueId> failures = previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId).collect(Collectors.toSet());
+		assertThat(failures).containsExactlyInAnyOrder(uniqueId("first"), uniqueId("second"));
+	}
+
+	@Example
+	void nonSerializableSampleIsDropped() {
+		record(new TestRun(uniqueId("aProperty"), Status.FAILED, "42", asList(new Object())));
+
+		TestRun testRun = new TestRunDatabase(databasePath).previousRun().byUniqueId(uniqueId("aProperty")).get();
+
+		assertThat(testRun.randomSeed()).hasValue("42");
+		assertThat(testRun.falsifiedSample()).isNotPresent();
+	}
+
+	@Example
+	void incompleteLastRecordIsIgnoredAndOverwritten() throws IOException {
+		record(
+			new TestRun(uniqueId("first"), Status.FAILED, "1", null),
+			new TestRun(uniqueId("second"), Status.FAILED, "2", null)
+		);
+		long size = Files.size(databasePath);
+		try (RandomAccessFile file = new RandomAccessFile(databasePath.toFile(), "rw")) {
+			file.setLength(size - 3);
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(uniqueId("first"))).isPresent();
+		assertThat(database.previousRun().byUniqueId(uniqueId("second"))).isNotPresent();
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(uniqueId("third"), Status.FAILED, "3", null));
+		}
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(uniqueId("first"))).isPresent();
+		assertThat(previousRun.byUniqueId(uniqueId("third"))).isPresent();
+	}
+
+	@Example
+	void databaseInUnknownFormatIsRecreated() throws IOException {
+		try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(databasePath))) {
+			out.writeObject(new TestRun(uniqueId("aProperty"), Status.FAILED, "1", null));
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(uniqueId("aProperty"))).isNotPresent();
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(uniqueId("aProperty"), Status.FAILED, "2", null));
+		}
+
+		TestRun testRun = new TestRunDatabase(databasePath).previousRun().byUniqueId(uniqueId("aProperty")).get();
+		assertThat(testRun.randomSeed()).hasValue("2");
+	}
+
+	@Example
+	void databaseIsCompactedWhenMostRecordsAreSuperseded() throws IOException {
+		for (int i = 0; i < 5; i++) {
+			record(new TestRun(uniqueId("aProperty"), Status.FAILED, Integer.toString(i), null));
+		}
+		long sizeBeforeCompaction = Files.size(databasePath);
+
+		record(new TestRun(uniqueId("anotherProperty"), Status.SUCCESSFUL, "42", null));
+
+		assertThat(Files.size(databasePath)).isLessThan(sizeBeforeCompaction);
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(uniqueId("aProperty")).flatMap(TestRun::randomSeed)).hasValue("4");
+		assertThat(previousRun.byUniqueId(uniqueId("anotherProperty"))).isPresent();
+	}
+
+	@Example
+	void previousRunStaysReadableAfterDatabaseHasBeenCompacted() {
+		for (int i = 0; i < 5; i++) {
+			record(new TestRun(uniqueId("aProperty"), Status.FAILED, Integer.toString(i), null));
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(uniqueId("anotherProperty"), Status.SUCCESSFUL, "42", null));
+		}
+
+		assertThat(database.previousRun().byUniqueId(uniqueId("aProperty")).flatMap(TestRun::randomSeed)).hasValue("4");
+	}
+
+	private void record(TestRun... testRuns) {
+		try (TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+
+	private UniqueId uniqueId(String propertyName) {
+		return UniqueId.forEngine("jqwik").append("class", "AContainer").append("property", propertyName + "()");
+	}
+}
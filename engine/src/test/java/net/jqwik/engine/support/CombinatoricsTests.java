@@ -27,6 +27,19 @@ class CombinatoricsTests {
 		assertThat(iterator.hasNext()).isFalse();
 	}
 
+	@Example
+	@Label("distinctPairs(int)")
+	void distinctPairs() {
+		assertThat(Combinatorics.distinctPairs(1)).isEmpty();
+		assertThat(Combinatorics.distinctPairs(4)).containsExactly(
+			Tuple.of(0, 1), Tuple.of(0, 2), Tuple.of(0, 3),
+			Tuple.of(1, 2), Tuple.of(1, 3),
+			Tuple.of(2, 3)
+		);
+		// Would not fit into memory if pairs were not created lazily
+		assertThat(Combinatorics.distinctPairs(1_000_000).skip(999_999).findFirst()).hasValue(Tuple.of(1, 2));
+	}
+
 	@Group
 	@Label("listCombinations")
 	class CombineList {
@@ -163,6 +163,9 @@ class JqwikReflectionSupportTests {
 		assertThat(JqwikReflectionSupport.isFunctionalType(Iterable.class)).isTrue();
 		assertThat(JqwikReflectionSupport.isFunctionalType(Closeable.class)).isTrue();
 
+		// Redeclared methods of Object do not count
+		assertThat(JqwikReflectionSupport.isFunctionalType(Comparator.class)).isTrue();
+
 		// No method
 		assertThat(JqwikReflectionSupport.isFunctionalType(Serializable.class)).isFalse();
 
@@ -179,6 +182,9 @@ class JqwikReflectionSupportTests {
 		assertThat(method).isPresent();
 		assertThat(method.get().getName()).isEqualTo("apply");
 
+		Optional<Method> comparatorMethod = JqwikReflectionSupport.getFunctionMethod(Comparator.class);
+		assertThat(comparatorMethod.get().getName()).isEqualTo("compare");
+
 		assertThat(JqwikReflectionSupport.getFunctionMethod(DataOutput.class)).isNotPresent();
 	}
 
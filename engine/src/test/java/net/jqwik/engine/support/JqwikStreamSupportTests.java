@@ -33,6 +33,19 @@ class JqwikStreamSupportTests {
 		assertThat(countCalls.get()).isEqualTo(2);
 	}
 
+	@Example
+	void concatenateManyStreamsLazily() {
+		AtomicInteger createdStreams = new AtomicInteger(0);
+		Stream<Integer> stream = JqwikStreamSupport.concat(100_000, index -> {
+			createdStreams.incrementAndGet();
+			return index % 2 == 0 ? Stream.empty() : Stream.of(index, index);
+		});
+
+		assertThat(stream.skip(2).findFirst()).hasValue(3);
+		assertThat(createdStreams.get()).isEqualTo(4);
+		assertThat(JqwikStreamSupport.concat(100_000, Stream::of).count()).isEqualTo(100_000);
+	}
+
 	@Example
 	void takeWhile() {
 		Stream<Integer> s1 = Stream.of(1, 2, 3, 4, 5, 6, 7);
@@ -0,0 +1,78 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class PersistentListTests {
+
+	@Property
+	void hasSameElementsAsOriginal(@ForAll @Size(max = 2000) List<Integer> original) {
+		PersistentList<Integer> list = PersistentList.of(original);
+		assertThat(list).isEqualTo(original);
+		assertThat(list.hashCode()).isEqualTo(original.hashCode());
+	}
+
+	@Property
+	void withReplacesOnlyOneElementAndLeavesOriginalUnchanged(
+		@ForAll @Size(min = 1, max = 2000) List<Integer> original,
+		@ForAll int anInt,
+		@ForAll Random random
+	) {
+		int index = random.nextInt(original.size());
+		PersistentList<Integer> list = PersistentList.of(original);
+
+		PersistentList<Integer> replaced = list.with(index, anInt);
+
+		List<Integer> expected = new ArrayList<>(original);
+		expected.set(index, anInt);
+		assertThat(replaced).isEqualTo(expected);
+		assertThat(list).isEqualTo(original);
+	}
+
+	@Property
+	void subListsCanBeModifiedAndSlicedAgain(@ForAll @Size(min = 2, max = 2000) List<Integer> original, @ForAll Random random) {
+		int from = random.nextInt(original.size() / 2);
+		int to = from + 1 + random.nextInt(original.size() - from - 1);
+		PersistentList<Integer> subList = PersistentList.of(original).subList(from, to);
+		assertThat(subList).isEqualTo(original.subList(from, to));
+
+		PersistentList<Integer> replaced = subList.with(0, 42).subList(0, 1);
+		assertThat(replaced).containsExactly(42);
+	}
+
+	@Example
+	void ofPersistentListReturnsSameInstance() {
+		PersistentList<Integer> list = PersistentList.of(asList(1, 2, 3));
+		assertThat(PersistentList.of(list)).isSameAs(list);
+	}
+
+	@Example
+	void emptyList() {
+		PersistentList<Object> list = PersistentList.of(Collections.emptyList());
+		assertThat(list).isEmpty();
+		assertThat(list.subList(0, 0)).isEmpty();
+	}
+
+	@Example
+	void indexesOutsideListAreRejected() {
+		PersistentList<Integer> list = PersistentList.of(IntStream.range(0, 100).boxed().collect(Collectors.toList())).subList(10, 20);
+
+		assertThatThrownBy(() -> list.get(10)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> list.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> list.with(10, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> list.subList(5, 11)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Example
+	void isImmutable() {
+		PersistentList<Integer> list = PersistentList.of(asList(1, 2, 3));
+		assertThatThrownBy(() -> list.set(0, 42)).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> list.add(42)).isInstanceOf(UnsupportedOperationException.class);
+	}
+}